@@ -23,6 +23,7 @@ import java.beans.*;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -127,6 +128,10 @@ public abstract class ConfigFile implements Map<String,Section> {
 	/**
 	 * Loads this config file object from the persisted file contents.
 	 *
+	 * <p>
+	 * After {@link ConfigFileListener#onLoad(ConfigFile)} is invoked, {@link ConfigFileListener#onChange(ConfigFile, Set)}
+	 * is invoked with the entries that differ from the previously loaded contents.
+	 *
 	 * @return This object (for method chaining).
 	 * @throws IOException If file could not be read, or file is not associated with this object.
 	 * @throws UnsupportedOperationException If config file is read only.
@@ -247,6 +252,29 @@ public abstract class ConfigFile implements Map<String,Section> {
 	 */
 	protected abstract <T> T parse(String s, Parser parser, Type type, Type...args) throws ParseException;
 
+	/**
+	 * Converts the specified entry to an object of the specified type.
+	 *
+	 * <p>
+	 * The default implementation simply calls {@link #parse(String, Parser, Type, Type...)} on the current value.
+	 * Subclasses can override this method to reuse previously-parsed values, but must not hand out the same mutable
+	 * object (e.g. a map, collection, array or bean) to multiple callers.
+	 *
+	 * @param sectionName The section name.
+	 * @param sectionKey The section key.
+	 * @param parser
+	 * 	The parser to use for parsing the object.
+	 * 	If <jk>null</jk>, then uses the predefined parser on the config file.
+	 * @param type The data type to create.
+	 * @param args The generic type arguments if the type is a {@link Collection} or {@link Map}
+	 * @return The parsed object, or <jk>null</jk> if the section or key does not exist.
+	 * @throws ParseException
+	 */
+	protected <T> T parseEntry(String sectionName, String sectionKey, Parser parser, Type type, Type...args)
+			throws ParseException {
+		return parse(get(sectionName, sectionKey), parser, type, args);
+	}
+
 	/**
 	 * Places a read lock on this config file.
 	 */
@@ -379,7 +407,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObject(String key, Parser parser, Type type, Type...args) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "type");
-		return parse(getString(key), parser, type, args);
+		return parseEntry(getSectionName(key), getSectionKey(key), parser, type, args);
 	}
 
 	/**
@@ -437,7 +465,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObject(String key, Parser parser, Class<T> type) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "c");
-		return parse(getString(key), parser, type);
+		return parseEntry(getSectionName(key), getSectionKey(key), parser, type);
 	}
 
 	/**
@@ -472,7 +500,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObjectWithDefault(String key, Parser parser, T def, Class<T> type) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "c");
-		T t = parse(getString(key), parser, type);
+		T t = parseEntry(getSectionName(key), getSectionKey(key), parser, type);
 		return (t == null ? def : t);
 	}
 
@@ -524,7 +552,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObjectWithDefault(String key, Parser parser, T def, Type type, Type...args) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "type");
-		T t = parse(getString(key), parser, type, args);
+		T t = parseEntry(getSectionName(key), getSectionKey(key), parser, type, args);
 		return (t == null ? def : t);
 	}
 
@@ -559,7 +587,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObject(String sectionName, String sectionKey, Parser parser, Class<T> c) throws ParseException {
 		assertFieldNotNull(sectionName, "sectionName");
 		assertFieldNotNull(sectionKey, "sectionKey");
-		return parse(get(sectionName, sectionKey), parser, c);
+		return parseEntry(sectionName, sectionKey, parser, c);
 	}
 
 	/**
@@ -611,7 +639,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 			throws ParseException {
 		assertFieldNotNull(sectionName, "sectionName");
 		assertFieldNotNull(sectionKey, "sectionKey");
-		return parse(get(sectionName, sectionKey), parser, type, args);
+		return parseEntry(sectionName, sectionKey, parser, type, args);
 	}
 
 	/**
@@ -1011,18 +1039,33 @@ public abstract class ConfigFile implements Map<String,Section> {
 		if (! c.isInterface())
 			throw new UnsupportedOperationException("Class passed to getSectionAsInterface is not an interface.");
 
+		// Resolve the getter and setter bindings once instead of on every invocation.
+		final Map<Method,String> getters = new HashMap<>(), setters = new HashMap<>();
+		final Map<Method,Type> types = new HashMap<>();
+		try {
+			for (PropertyDescriptor pd : Introspector.getBeanInfo(c, null).getPropertyDescriptors()) {
+				Method rm = pd.getReadMethod(), wm = pd.getWriteMethod();
+				if (rm != null) {
+					getters.put(rm, pd.getName());
+					types.put(rm, rm.getGenericReturnType());
+				}
+				if (wm != null)
+					setters.put(wm, pd.getName());
+			}
+		} catch (IntrospectionException e) {
+			throw new RuntimeException(e);
+		}
+
 		InvocationHandler h = new InvocationHandler() {
 
 			@Override
 			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-				BeanInfo bi = Introspector.getBeanInfo(c, null);
-				for (PropertyDescriptor pd : bi.getPropertyDescriptors()) {
-					Method rm = pd.getReadMethod(), wm = pd.getWriteMethod();
-					if (method.equals(rm))
-						return ConfigFile.this.getObject(sectionName, pd.getName(), rm.getGenericReturnType());
-					if (method.equals(wm))
-						return ConfigFile.this.put(sectionName, pd.getName(), args[0], null, false, false);
-				}
+				String key = getters.get(method);
+				if (key != null)
+					return ConfigFile.this.getObject(sectionName, key, types.get(method));
+				key = setters.get(method);
+				if (key != null)
+					return ConfigFile.this.put(sectionName, key, args[0], null, false, false);
 				throw new UnsupportedOperationException("Unsupported interface method.  method=[ " + method + " ]");
 			}
 		};
@@ -1101,12 +1144,36 @@ public abstract class ConfigFile implements Map<String,Section> {
 	/**
 	 * Saves this config file to disk.
 	 *
+	 * <p>
+	 * The contents are written to a temporary file in the same directory which is then renamed over the existing
+	 * file, so readers of the file never see partially-written contents.
+	 * If the file is a symbolic link, the file it points to is replaced and the link is kept.
+	 * The POSIX permissions, owner and group of the existing file are carried over to the new file where the file
+	 * system and the privileges of the process allow it.
+	 * Reads of this config file are not blocked while the file is being written.
+	 *
 	 * @return This object (for method chaining).
 	 * @throws IOException If a problem occurred trying to save file to disk, or file is not associated with this object.
 	 * @throws UnsupportedOperationException If config file is read only.
 	 */
 	public abstract ConfigFile save() throws IOException;
 
+	/**
+	 * Saves this config file to disk on a background thread.
+	 *
+	 * <p>
+	 * The save is delayed by the batch window specified through {@link ConfigFileBuilder#batchWindow(long)}, and
+	 * multiple calls made before the save occurs result in a single write of the file.
+	 *
+	 * <p>
+	 * Asynchronous saves of all config files in the JVM are performed one at a time on a single shared daemon thread,
+	 * so a slow file system delays the saves of other config files.
+	 *
+	 * @return A future whose value is this config file once the save has completed.
+	 * @throws UnsupportedOperationException If config file is read only or file is not associated with this object.
+	 */
+	public abstract Future<ConfigFile> saveAsync();
+
 	/**
 	 * Saves this config file to the specified writer as an INI file.
 	 *
@@ -1140,6 +1207,17 @@ public abstract class ConfigFile implements Map<String,Section> {
 	 */
 	public abstract ConfigFile addListener(ConfigFileListener listener);
 
+	/**
+	 * Removes a listener previously added through {@link #addListener(ConfigFileListener)}.
+	 *
+	 * <p>
+	 * Does nothing if the listener isn't registered on this config file.
+	 *
+	 * @param listener The listener to remove.
+	 * @return This object (for method chaining).
+	 */
+	public abstract ConfigFile removeListener(ConfigFileListener listener);
+
 	/**
 	 * Merges the contents of the specified config file into this config file.
 	 *
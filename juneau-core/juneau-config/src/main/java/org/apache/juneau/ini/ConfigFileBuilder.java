@@ -41,6 +41,7 @@ public class ConfigFileBuilder {
 	private ReaderParser parser = JsonParser.DEFAULT;
 	private Encoder encoder = new XorEncoder();
 	private boolean readOnly = false, createIfNotExists = false;
+	private long batchWindow = 0;
 	private Charset charset = Charset.defaultCharset();
 	private List<File> searchPaths = new AList<File>().append(new File("."));
 
@@ -132,6 +133,26 @@ public class ConfigFileBuilder {
 		return this;
 	}
 
+	/**
+	 * Coalesces rapid successive changes to config files.
+	 *
+	 * <p>
+	 * When set, changes made within the specified window are merged into a single
+	 * {@link ConfigFileListener#onChange(ConfigFile, Set)} notification delivered from a background thread, and calls
+	 * to {@link ConfigFile#saveAsync()} made within the window result in a single write of the file.
+	 *
+	 * <p>
+	 * The default value for this setting is <code>0</code> which causes listeners to be notified immediately on the
+	 * thread making the change.
+	 *
+	 * @param batchWindow The batch window in milliseconds.
+	 * @return This object (for method chaining).
+	 */
+	public ConfigFileBuilder batchWindow(long batchWindow) {
+		this.batchWindow = batchWindow;
+		return this;
+	}
+
 	/**
 	 * Create config files if they cannot be found on the file system.
 	 *
@@ -154,7 +175,7 @@ public class ConfigFileBuilder {
 	 * @throws FileNotFoundException If config file could not be found.
 	 */
 	public ConfigFile build(String path) throws IOException {
-		return new ConfigFileImpl(resolve(path), readOnly, encoder, serializer, parser, charset);
+		return new ConfigFileImpl(resolve(path), readOnly, encoder, serializer, parser, charset, batchWindow);
 	}
 
 	/**
@@ -164,7 +185,7 @@ public class ConfigFileBuilder {
 	 * @throws IOException
 	 */
 	public ConfigFile build() throws IOException {
-		return new ConfigFileImpl(null, false, encoder, serializer, parser, charset);
+		return new ConfigFileImpl(null, false, encoder, serializer, parser, charset, batchWindow);
 	}
 
 	/**
@@ -178,7 +199,7 @@ public class ConfigFileBuilder {
 	 * @throws IOException
 	 */
 	public ConfigFile build(File f) throws IOException {
-		return new ConfigFileImpl(f, false, encoder, serializer, parser, charset);
+		return new ConfigFileImpl(f, false, encoder, serializer, parser, charset, batchWindow);
 	}
 
 	/**
@@ -189,7 +210,7 @@ public class ConfigFileBuilder {
 	 * @throws IOException
 	 */
 	public ConfigFile build(Reader r) throws IOException {
-		return new ConfigFileImpl(null, false, encoder, serializer, parser, charset).load(r);
+		return new ConfigFileImpl(null, false, encoder, serializer, parser, charset, batchWindow).load(r);
 	}
 
 	private File resolve(String path) throws IOException {
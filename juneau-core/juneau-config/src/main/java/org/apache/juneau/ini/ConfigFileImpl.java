@@ -18,8 +18,12 @@ import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
 import java.lang.reflect.*;
+import java.math.*;
 import java.nio.charset.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.locks.*;
 
 import org.apache.juneau.*;
@@ -41,9 +45,16 @@ public final class ConfigFileImpl extends ConfigFile {
 	private final ReaderParser parser;
 	private final BeanSession pBeanSession;
 	private final Charset charset;
-	final List<ConfigFileListener> listeners = Collections.synchronizedList(new ArrayList<ConfigFileListener>());
+	// Copy-on-write so that listeners can be notified while others are being added or removed.
+	final List<ConfigFileListener> listeners = new CopyOnWriteArrayList<>();
 
-	Map<String,Section> sections;  // The actual data.
+	// Parsed immutable values keyed by full key, then by parser and type.
+	private final ConcurrentHashMap<String,ConcurrentHashMap<List<Object>,ParsedValue>> parsedValues =
+		new ConcurrentHashMap<>();
+
+	// The actual data.
+	// Never modified once published.  Writers replace it with a modified copy so that readers don't need to lock.
+	volatile Map<String,Section> sections;
 
 	private static final String DEFAULT = "default";
 
@@ -52,7 +63,17 @@ public final class ConfigFileImpl extends ConfigFile {
 	volatile boolean hasBeenModified = false;
 	private ReadWriteLock lock = new ReentrantReadWriteLock();
 
-	long modifiedTimestamp;
+	volatile long modifiedTimestamp;
+
+	// Coalescing of change notifications and asynchronous saves.
+	private final long batchWindow;
+	private final Object batchLock = new Object();
+	private final Lock saveLock = new ReentrantLock();
+	private Set<String> pendingChanges;
+	private ScheduledFuture<ConfigFile> pendingSave;
+
+	// Shared by all config files in the JVM, so asynchronous saves of different files are serialized.
+	private static volatile ScheduledExecutorService executor;
 
 	/**
 	 * Constructor.
@@ -85,11 +106,59 @@ public final class ConfigFileImpl extends ConfigFile {
 	 */
 	public ConfigFileImpl(File file, boolean readOnly, Encoder encoder, WriterSerializer serializer, ReaderParser parser,
 			Charset charset) throws IOException {
+		this(file, readOnly, encoder, serializer, parser, charset, 0);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Same as {@link #ConfigFileImpl(File, boolean, Encoder, WriterSerializer, ReaderParser, Charset)} but allows
+	 * rapid successive changes to be coalesced.
+	 *
+	 * @param file
+	 * 	The INI file on disk.
+	 * 	If <jk>null</jk>, create an in-memory config file.
+	 * @param readOnly
+	 * 	Make this configuration file read-only.
+	 * 	Attempting to set any values on this config file will cause {@link UnsupportedOperationException} to be thrown.
+	 * @param encoder
+	 * 	The encoder to use for encoding sensitive values in this configuration file.
+	 * 	If <jk>null</jk>, defaults to {@link XorEncoder#INSTANCE}.
+	 * @param serializer
+	 * 	The serializer to use for serializing POJOs in the {@link #put(String, Object)} method.
+	 * 	If <jk>null</jk>, defaults to {@link JsonSerializer#DEFAULT}.
+	 * @param parser
+	 * 	The parser to use for parsing POJOs in the {@link #getObject(String,Class)} method.
+	 * 	If <jk>null</jk>, defaults to {@link JsonParser#DEFAULT}.
+	 * @param charset
+	 * 	The charset on the files.
+	 * 	If <jk>null</jk>, defaults to {@link Charset#defaultCharset()}.
+	 * @param batchWindow
+	 * 	The number of milliseconds to wait for further changes before notifying listeners and before performing saves
+	 * 	requested through {@link #saveAsync()}.
+	 * 	If <code>0</code>, listeners are notified immediately on the thread making the change.
+	 * @throws IOException
+	 */
+	public ConfigFileImpl(File file, boolean readOnly, Encoder encoder, WriterSerializer serializer, ReaderParser parser,
+			Charset charset, long batchWindow) throws IOException {
 		this.file = file;
+		this.batchWindow = batchWindow;
 		this.encoder = encoder == null ? XorEncoder.INSTANCE : encoder;
 		this.serializer = serializer == null ? JsonSerializer.DEFAULT : serializer;
 		this.parser = parser == null ? JsonParser.DEFAULT : parser;
 		this.charset = charset == null ? Charset.defaultCharset() : charset;
+		this.listeners.add(new ConfigFileListener() {
+			@Override /* ConfigFileListener */
+			public void onLoad(ConfigFile cf) {
+				parsedValues.clear();
+			}
+			@Override /* ConfigFileListener */
+			public void onChange(ConfigFile cf, Set<String> changes) {
+				for (String k : changes)
+					parsedValues.remove(k);
+			}
+		});
 		load();
 		this.readOnly = readOnly;
 		if (readOnly) {
@@ -152,56 +221,87 @@ public final class ConfigFileImpl extends ConfigFile {
 	@Override /* ConfigFile */
 	public ConfigFileImpl load(Reader r) throws IOException {
 		assertFieldNotNull(r, "r");
+		Map<String,Section> prevSections = this.sections;
+		Set<String> changes = null;
 		writeLock();
 		try {
-			this.sections = Collections.synchronizedMap(new LinkedHashMap<String,Section>());
+			// Parse into a new map and publish it in one step so that readers never see a partially-loaded file.
+			Map<String,Section> m = new LinkedHashMap<>();
 			try (BufferedReader in = new BufferedReader(r)) {
-				writeLock();
 				hasBeenModified = false;
-				try {
-					sections.clear();
-					String line = null;
-					Section section = getSection(null, true);
-					ArrayList<String> lines = new ArrayList<>();
-					boolean canAppend = false;
-					while ((line = in.readLine()) != null) {
-						if (isSection(line)) {
-							section.addLines(null, lines.toArray(new String[lines.size()]));
-							lines.clear();
-							canAppend = false;
-							String sn = replaceUnicodeSequences(line.substring(line.indexOf('[')+1, line.indexOf(']')).trim());
-							section = getSection(sn, true).addHeaderComments(section.removeTrailingComments());
-						} else {
-							char c = line.isEmpty() ? 0 : line.charAt(0);
-							if ((c == ' ' || c == '\t') && canAppend && ! (isComment(line) || isAssignment(line)))
-								lines.add(lines.remove(lines.size()-1) + '\n' + line.substring(1));
-							else {
-								lines.add(line);
-								if (isAssignment(line))
-									canAppend = true;
-								else
-									canAppend = canAppend && ! (StringUtils.isEmpty(line) || isComment(line));
-							}
+				String line = null;
+				Section section = newSection(m, null);
+				ArrayList<String> lines = new ArrayList<>();
+				boolean canAppend = false;
+				while ((line = in.readLine()) != null) {
+					if (isSection(line)) {
+						section.addLines(null, lines.toArray(new String[lines.size()]));
+						lines.clear();
+						canAppend = false;
+						String sn = replaceUnicodeSequences(line.substring(line.indexOf('[')+1, line.indexOf(']')).trim());
+						section = newSection(m, sn).addHeaderComments(section.removeTrailingComments());
+					} else {
+						char c = line.isEmpty() ? 0 : line.charAt(0);
+						if ((c == ' ' || c == '\t') && canAppend && ! (isComment(line) || isAssignment(line)))
+							lines.add(lines.remove(lines.size()-1) + '\n' + line.substring(1));
+						else {
+							lines.add(line);
+							if (isAssignment(line))
+								canAppend = true;
+							else
+								canAppend = canAppend && ! (StringUtils.isEmpty(line) || isComment(line));
 						}
 					}
-					section.addLines(null, lines.toArray(new String[lines.size()]));
-					in.close();
-					if (hasBeenModified)  // Set when values need to be encoded.
-						save();
-					if (file != null)
-						modifiedTimestamp = file.lastModified();
-				} finally {
-					writeUnlock();
 				}
+				section.addLines(null, lines.toArray(new String[lines.size()]));
+			}
+			this.sections = m;
+			if (hasBeenModified)  // Set when values need to be encoded.
+				save();
+			if (file != null)
+				modifiedTimestamp = file.lastModified();
+
+			// When reloading, report the entries that differ from the previous contents.
+			if (prevSections != null) {
+				changes = createChanges();
+				for (Map.Entry<String,Section> e : prevSections.entrySet())
+					findChanges(changes, e.getValue(), sections.get(e.getKey()));
+				for (Map.Entry<String,Section> e : sections.entrySet())
+					if (! prevSections.containsKey(e.getKey()))
+						findChanges(changes, null, e.getValue());
 			}
 		} finally {
 			writeUnlock();
 		}
 		for (ConfigFileListener l : listeners)
 			l.onLoad(this);
+		signalChanges(changes);
 		return this;
 	}
 
+	private Section newSection(Map<String,Section> m, String name) {
+		if (StringUtils.isEmpty(name))
+			name = DEFAULT;
+		Section s = m.get(name);
+		if (s == null) {
+			s = new Section().setParent(this).setName(name);
+			m.put(name, s);
+		}
+		return s;
+	}
+
+	/*
+	 * Replaces the sections map with a copy containing the specified change.
+	 * If the section is null, the named section is removed.
+	 * Must be called while holding the write lock.
+	 */
+	private Section replaceSection(String name, Section section) {
+		Map<String,Section> m = new LinkedHashMap<>(sections);
+		Section prev = (section == null ? m.remove(name) : m.put(name, section));
+		sections = m;
+		return prev;
+	}
+
 	@Override /* ConfigFile */
 	protected String serialize(Object value, Serializer serializer, boolean newline) throws SerializeException {
 		if (value == null)
@@ -245,6 +345,64 @@ public final class ConfigFileImpl extends ConfigFile {
 		return parser.parse(s, type, args);
 	}
 
+	@Override /* ConfigFile */
+	@SuppressWarnings({ "unchecked" })
+	protected <T> T parseEntry(String sectionName, String sectionKey, Parser parser, Type type, Type...args)
+			throws ParseException {
+		String s = get(sectionName, sectionKey);
+		if (StringUtils.isEmpty(s) || type == String.class)
+			return parse(s, parser, type, args);
+
+		if (parser == null)
+			parser = this.parser;
+
+		String fullKey = getFullKey(StringUtils.isEmpty(sectionName) ? DEFAULT : sectionName, sectionKey);
+		List<Object> typeKey = new ArrayList<>(args.length + 2);
+		typeKey.add(parser);
+		typeKey.add(type);
+		Collections.addAll(typeKey, args);
+
+		ConcurrentHashMap<List<Object>,ParsedValue> m = parsedValues.get(fullKey);
+		if (m != null) {
+			ParsedValue v = m.get(typeKey);
+			// The raw value check guards against a change that happened while the value was being parsed.
+			if (v != null && v.raw.equals(s))
+				return (T)v.value;
+		} else {
+			m = new ConcurrentHashMap<>();
+			ConcurrentHashMap<List<Object>,ParsedValue> m2 = parsedValues.putIfAbsent(fullKey, m);
+			if (m2 != null)
+				m = m2;
+		}
+
+		T t = parse(s, parser, type, args);
+		if (isImmutable(t))
+			m.put(typeKey, new ParsedValue(s, t));
+		return t;
+	}
+
+	/*
+	 * Only immutable values are cached, since cached values are handed out to every caller.
+	 */
+	private static boolean isImmutable(Object o) {
+		if (o == null)
+			return false;
+		Class<?> c = o.getClass();
+		return c == String.class || c == Integer.class || c == Long.class || c == Short.class || c == Byte.class
+			|| c == Double.class || c == Float.class || c == Boolean.class || c == Character.class
+			|| c == BigInteger.class || c == BigDecimal.class || o instanceof Enum;
+	}
+
+	private static final class ParsedValue {
+		final String raw;
+		final Object value;
+
+		ParsedValue(String raw, Object value) {
+			this.raw = raw;
+			this.value = value;
+		}
+	}
+
 	private static boolean isSimpleType(Type t) {
 		if (! (t instanceof Class))
 			return false;
@@ -268,12 +426,7 @@ public final class ConfigFileImpl extends ConfigFile {
 	public Section get(Object key) {
 		if (StringUtils.isEmpty(key))
 			key = DEFAULT;
-		readLock();
-		try {
-			return sections.get(key);
-		} finally {
-			readUnlock();
-		}
+		return sections.get(key);
 	}
 
 	@Override /* Map */
@@ -289,7 +442,7 @@ public final class ConfigFileImpl extends ConfigFile {
 			key = DEFAULT;
 		writeLock();
 		try {
-			Section prev = sections.put(key, section);
+			Section prev = replaceSection(key, section);
 			findChanges(changes, prev, section);
 			return prev;
 		} finally {
@@ -315,9 +468,9 @@ public final class ConfigFileImpl extends ConfigFile {
 		Set<String> changes = createChanges();
 		writeLock();
 		try {
-			for (Section s : values())
+			for (Section s : sections.values())
 				findChanges(changes, s, null);
-			sections.clear();
+			sections = new LinkedHashMap<>();
 		} finally {
 			writeUnlock();
 		}
@@ -360,10 +513,7 @@ public final class ConfigFileImpl extends ConfigFile {
 
 					@Override /* Iterator */
 					public void remove() {
-						Set<String> changes = createChanges();
-						findChanges(changes, i2.getValue(), null);
-						i.remove();
-						signalChanges(changes);
+						ConfigFileImpl.this.remove(i2.getKey());
 					}
 				};
 			}
@@ -404,10 +554,7 @@ public final class ConfigFileImpl extends ConfigFile {
 
 					@Override /* Iterator */
 					public void remove() {
-						Set<String> changes = createChanges();
-						findChanges(changes, sections.get(i2), null);
-						i.remove();
-						signalChanges(changes);
+						ConfigFileImpl.this.remove(i2);
 					}
 				};
 			}
@@ -430,8 +577,8 @@ public final class ConfigFileImpl extends ConfigFile {
 			@Override /* Collection */
 			public Iterator<Section> iterator() {
 				return new Iterator<Section>() {
-					Iterator<Section> i = sections.values().iterator();
-					Section i2;
+					Iterator<Map.Entry<String,Section>> i = sections.entrySet().iterator();
+					Map.Entry<String,Section> i2;
 
 					@Override /* Iterator */
 					public boolean hasNext() {
@@ -441,15 +588,12 @@ public final class ConfigFileImpl extends ConfigFile {
 					@Override /* Iterator */
 					public Section next() {
 						i2 = i.next();
-						return i2;
+						return i2.getValue();
 					}
 
 					@Override /* Iterator */
 					public void remove() {
-						Set<String> changes = createChanges();
-						findChanges(changes, i2, null);
-						i.remove();
-						signalChanges(changes);
+						ConfigFileImpl.this.remove(i2.getKey());
 					}
 				};
 			}
@@ -469,10 +613,13 @@ public final class ConfigFileImpl extends ConfigFile {
 	}
 
 	private Section remove(Object key, Set<String> changes) {
+		if (StringUtils.isEmpty(key))
+			key = DEFAULT;
 		writeLock();
 		try {
-			Section prev = sections.remove(key);
-			findChanges(changes, prev, null);
+			Section prev = replaceSection(key.toString(), null);
+			if (prev != null)
+				findChanges(changes, prev, null);
 			return prev;
 		} finally {
 			writeUnlock();
@@ -567,14 +714,19 @@ public final class ConfigFileImpl extends ConfigFile {
 		if (StringUtils.isEmpty(name))
 			name = DEFAULT;
 		Section s = sections.get(name);
-		if (s != null)
+		if (s != null || ! create)
 			return s;
-		if (create) {
-			s = new Section().setParent(this).setName(name);
-			sections.put(name, s);
+		writeLock();
+		try {
+			s = sections.get(name);
+			if (s == null) {
+				s = new Section().setParent(this).setName(name);
+				replaceSection(name, s);
+			}
 			return s;
+		} finally {
+			writeUnlock();
 		}
-		return null;
 	}
 
 	@Override /* ConfigFile */
@@ -602,14 +754,7 @@ public final class ConfigFileImpl extends ConfigFile {
 	@Override /* ConfigFile */
 	public ConfigFileImpl removeSection(String name) {
 		Set<String> changes = createChanges();
-		writeLock();
-		try {
-			Section prev = sections.remove(name);
-			if (changes != null && prev != null)
-				findChanges(changes, prev, null);
-		} finally {
-			writeUnlock();
-		}
+		remove(StringUtils.isEmpty(name) ? DEFAULT : name, changes);
 		signalChanges(changes);
 		return this;
 	}
@@ -634,23 +779,125 @@ public final class ConfigFileImpl extends ConfigFile {
 
 	@Override /* ConfigFile */
 	public ConfigFileImpl save() throws IOException {
-		writeLock();
+		if (readOnly)
+			throw new UnsupportedOperationException("Cannot modify read-only ConfigFile.");
+		if (file == null)
+			throw new UnsupportedOperationException("No backing file specified for config file.");
+		// The read lock is only held while serializing.
+		// The save lock makes sure concurrent saves reach the file in the order they were serialized.
+		boolean readLocked = true;
+		readLock();
 		try {
-			if (file == null)
-				throw new UnsupportedOperationException("No backing file specified for config file.");
-			try (Writer out = FileWriterBuilder.create(file).charset(charset).build()) {
-				serializeTo(out);
+			saveLock.lock();
+			try {
+				StringWriter sw = new StringWriter();
 				hasBeenModified = false;
+				serializeTo(sw);
+				readUnlock();
+				readLocked = false;
+				// Replace the target of a symbolic link instead of the link itself.
+				Path target = file.toPath();
+				boolean exists = Files.exists(target);
+				if (exists)
+					target = target.toRealPath();
+				File tmp = File.createTempFile(target.getFileName().toString() + '.', ".tmp", target.toAbsolutePath().getParent().toFile());
+				try {
+					try (Writer out = FileWriterBuilder.create(tmp).charset(charset).build()) {
+						out.write(sw.toString());
+					}
+					if (exists)
+						copyPosixAttributes(target, tmp.toPath());
+					try {
+						Files.move(tmp.toPath(), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					} catch (AtomicMoveNotSupportedException e) {
+						Files.move(tmp.toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+					}
+				} finally {
+					tmp.delete();
+				}
 				modifiedTimestamp = file.lastModified();
+			} finally {
+				saveLock.unlock();
 			}
-			for (ConfigFileListener l : listeners)
-				l.onSave(this);
-			return this;
 		} finally {
-			writeUnlock();
+			if (readLocked)
+				readUnlock();
+		}
+		for (ConfigFileListener l : listeners)
+			l.onSave(this);
+		return this;
+	}
+
+	/*
+	 * Copies the permissions, owner and group of the file being replaced onto the new file.
+	 * Changing the owner or group usually requires privileges the process doesn't have, so failures to do so are
+	 * ignored.
+	 */
+	private static void copyPosixAttributes(Path from, Path to) throws IOException {
+		PosixFileAttributes a;
+		try {
+			a = Files.readAttributes(from, PosixFileAttributes.class);
+		} catch (UnsupportedOperationException e) {
+			return;  // Not a POSIX file system.
+		}
+		Files.setPosixFilePermissions(to, a.permissions());
+		PosixFileAttributeView v = Files.getFileAttributeView(to, PosixFileAttributeView.class);
+		try {
+			v.setGroup(a.group());
+		} catch (IOException e) {
+			// Not a member of the group.
+		}
+		try {
+			v.setOwner(a.owner());
+		} catch (IOException e) {
+			// Not privileged.
 		}
 	}
 
+	@Override /* ConfigFile */
+	public Future<ConfigFile> saveAsync() {
+		if (readOnly)
+			throw new UnsupportedOperationException("Cannot modify read-only ConfigFile.");
+		if (file == null)
+			throw new UnsupportedOperationException("No backing file specified for config file.");
+		synchronized(batchLock) {
+			if (pendingSave == null) {
+				pendingSave = getExecutor().schedule(
+					new Callable<ConfigFile>() {
+						@Override /* Callable */
+						public ConfigFile call() throws Exception {
+							synchronized(batchLock) {
+								pendingSave = null;
+							}
+							return save();
+						}
+					}, batchWindow, TimeUnit.MILLISECONDS
+				);
+			}
+			return pendingSave;
+		}
+	}
+
+	private static ScheduledExecutorService getExecutor() {
+		if (executor == null) {
+			synchronized(ConfigFileImpl.class) {
+				if (executor == null) {
+					executor = Executors.newSingleThreadScheduledExecutor(
+						new ThreadFactory() {
+							@Override /* ThreadFactory */
+							public Thread newThread(Runnable r) {
+								Thread t = new Thread(r, "ConfigFileImpl");
+								t.setDaemon(true);
+								return t;
+							}
+						}
+					);
+				}
+			}
+		}
+		return executor;
+	}
+
 	@Override /* ConfigFile */
 	public ConfigFileImpl serializeTo(Writer out, ConfigFileFormat format) throws IOException {
 		readLock();
@@ -694,6 +941,12 @@ public final class ConfigFileImpl extends ConfigFile {
 		}
 	}
 
+	@Override /* ConfigFile */
+	public ConfigFile removeListener(ConfigFileListener listener) {
+		this.listeners.remove(listener);
+		return this;
+	}
+
 	List<ConfigFileListener> getListeners() {
 		return listeners;
 	}
@@ -808,8 +1061,33 @@ public final class ConfigFileImpl extends ConfigFile {
 	}
 
 	final void signalChanges(Set<String> changes) {
-		if (changes != null && ! changes.isEmpty())
+		if (changes == null || changes.isEmpty())
+			return;
+		if (batchWindow <= 0) {
 			for (ConfigFileListener l : listeners)
 				l.onChange(this, changes);
+			return;
+		}
+		// Merge the changes into the pending notification, scheduling one if there isn't one already.
+		synchronized(batchLock) {
+			if (pendingChanges == null) {
+				pendingChanges = new LinkedHashSet<>();
+				getExecutor().schedule(
+					new Runnable() {
+						@Override /* Runnable */
+						public void run() {
+							Set<String> s;
+							synchronized(batchLock) {
+								s = pendingChanges;
+								pendingChanges = null;
+							}
+							for (ConfigFileListener l : listeners)
+								l.onChange(ConfigFileImpl.this, s);
+						}
+					}, batchWindow, TimeUnit.MILLISECONDS
+				);
+			}
+			pendingChanges.addAll(changes);
+		}
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
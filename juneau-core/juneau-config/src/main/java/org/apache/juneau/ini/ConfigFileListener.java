@@ -39,6 +39,10 @@ public class ConfigFileListener {
 	/**
 	 * Signifies that the specified values have changed.
 	 *
+	 * <p>
+	 * Also called by {@link ConfigFile#load()} and {@link ConfigFile#loadIfModified()} with the entries that differ
+	 * from the previous contents of the file.
+	 *
 	 * @param cf The config file being modified.
 	 * @param changes The full keys (e.g. <js>"Section/key"</js>) of entries that have changed in the config file.
 	 */
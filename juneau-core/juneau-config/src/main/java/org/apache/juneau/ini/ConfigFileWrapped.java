@@ -17,6 +17,7 @@ import static org.apache.juneau.internal.ThrowableUtils.*;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
@@ -189,6 +190,11 @@ public final class ConfigFileWrapped extends ConfigFile {
 		return this;
 	}
 
+	@Override /* ConfigFile */
+	public Future<ConfigFile> saveAsync() {
+		return cf.saveAsync();
+	}
+
 	@Override /* ConfigFile */
 	public ConfigFile serializeTo(Writer out, ConfigFileFormat format) throws IOException {
 		cf.serializeTo(out, format);
@@ -223,6 +229,12 @@ public final class ConfigFileWrapped extends ConfigFile {
 		return this;
 	}
 
+	@Override /* ConfigFile */
+	public ConfigFile removeListener(ConfigFileListener listener) {
+		cf.removeListener(listener);
+		return this;
+	}
+
 	@Override /* ConfigFile */
 	public Writable toWritable() {
 		return cf.toWritable();
@@ -32,9 +32,11 @@ public final class Section implements Map<String,String> {
 
 	// The data structures that make up this object.
 	// These must be kept synchronized.
+	// The entries map is never modified once published.  Writers replace it with a modified copy so that reads don't
+	// need to lock.
 	private LinkedList<String> lines = new LinkedList<>();
 	private List<String> headerComments = new LinkedList<>();
-	Map<String,String> entries;
+	volatile Map<String,String> entries;
 
 	private ReadWriteLock lock = new ReentrantReadWriteLock();
 	private boolean readOnly;
@@ -99,7 +101,7 @@ public final class Section implements Map<String,String> {
 			if (changes != null)
 				for (String k : keySet())
 					changes.add(getFullKey(name, k));
-			entries.clear();
+			entries = new LinkedHashMap<>();
 			lines.clear();
 			headerComments.clear();
 		} finally {
@@ -142,17 +144,7 @@ public final class Section implements Map<String,String> {
 
 					@Override /* Iterator */
 					public void remove() {
-						Set<String> changes = createChanges();
-						String key = i2.getKey(), val = i2.getValue();
-						addChange(changes, key, val, null);
-						writeLock();
-						try {
-							i.remove();
-							removeLine(key);
-						} finally {
-							writeUnlock();
-						}
-						signalChanges(changes);
+						Section.this.remove(i2.getKey());
 					}
 				};
 			}
@@ -166,8 +158,7 @@ public final class Section implements Map<String,String> {
 
 	@Override /* Map */
 	public String get(Object key) {
-		String s = entries.get(key);
-		return s;
+		return entries.get(key);
 	}
 
 	@Override /* Map */
@@ -199,18 +190,7 @@ public final class Section implements Map<String,String> {
 
 					@Override /* Iterator */
 					public void remove() {
-						Set<String> changes = createChanges();
-						String key = i2;
-						String val = entries.get(key);
-						addChange(changes, key, val, null);
-						writeLock();
-						try {
-							i.remove();
-							removeLine(key);
-						} finally {
-							writeUnlock();
-						}
-						signalChanges(changes);
+						Section.this.remove(i2);
 					}
 				};
 			}
@@ -246,7 +226,9 @@ public final class Section implements Map<String,String> {
 		writeLock();
 		try {
 			addLine(key, encoded);
-			String prev = entries.put(key, value);
+			Map<String,String> m = new LinkedHashMap<>(entries);
+			String prev = m.put(key, value);
+			entries = m;
 			addChange(changes, key, prev, value);
 			return prev;
 		} finally {
@@ -273,7 +255,12 @@ public final class Section implements Map<String,String> {
 	String remove(Object key, Set<String> changes) {
 		writeLock();
 		try {
-			String prev = entries.remove(key);
+			String prev = null;
+			if (entries.containsKey(key)) {
+				Map<String,String> m = new LinkedHashMap<>(entries);
+				prev = m.remove(key);
+				entries = m;
+			}
 			addChange(changes, key.toString(), prev, null);
 			removeLine(key.toString());
 			return prev;
@@ -471,6 +458,7 @@ public final class Section implements Map<String,String> {
 		try {
 			if (l == null)
 				l = new String[0];
+			Map<String,String> m = new LinkedHashMap<>(entries);
 			for (int i = 0; i < l.length; i++) {
 				String line = l[i];
 				if (line == null)
@@ -490,17 +478,18 @@ public final class Section implements Map<String,String> {
 						else
 							configFile.setHasBeenModified();
 					}
-					if (containsKey(key)) {
-						entries.remove(key);
+					if (m.containsKey(key)) {
+						m.remove(key);
 						lines.remove('*' + key);
 						lines.remove('>' + key);
 					}
 					lines.add((encoded ? '*' : '>') + key);
-					addChange(changes, key, entries.put(key, val), val);
+					addChange(changes, key, m.put(key, val), val);
 				} else {
 					this.lines.add(line);
 				}
 			}
+			entries = m;
 			return this;
 		} finally {
 			writeUnlock();
@@ -562,9 +551,8 @@ public final class Section implements Map<String,String> {
 	}
 
 	void signalChanges(Set<String> changes) {
-		if (changes != null && ! changes.isEmpty())
-			for (ConfigFileListener l : configFile.getListeners())
-				l.onChange(configFile, changes);
+		if (configFile != null)
+			configFile.signalChanges(changes);
 	}
 
 	void addChange(Set<String> changes, String key, String oldVal, String newVal) {
@@ -572,4 +560,4 @@ public final class Section implements Map<String,String> {
 			if (! isEquals(oldVal, newVal))
 				changes.add(getFullKey(name, key));
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
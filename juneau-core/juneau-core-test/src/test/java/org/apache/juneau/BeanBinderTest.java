@@ -0,0 +1,134 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.BeanContext.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.uon.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class BeanBinderTest {
+
+	//====================================================================================================
+	// Values that are instances of the property type are set directly, others are converted.
+	//====================================================================================================
+	@Test
+	public void testSetValues() throws Exception {
+		BeanMap<A> m = BeanContext.DEFAULT.createSession().newBeanMap(A.class);
+		BeanBinder<A> b = m.getMeta().getBinder();
+		assertSame(b, m.getMeta().getBinder());
+
+		b.getProperty("f1").set(m, "f1", 1);
+		b.getProperty("f2").set(m, "f2", "foo");
+		b.getProperty("f3").set(m, "f3", "123");
+		b.getProperty("f4").set(m, "f4", new ObjectList("['1','2']"));
+
+		A a = m.getBean();
+		assertEquals(1, a.f1);
+		assertEquals("foo", a.getF2());
+		assertEquals(123l, a.f3);
+		assertEquals(Arrays.asList(1,2), a.f4);
+
+		b.getProperty("f1").set(m, "f1", null);
+		b.getProperty("f2").set(m, "f2", null);
+		assertEquals(0, a.f1);
+		assertNull(a.getF2());
+
+		assertNull(b.getProperty("xxx"));
+	}
+
+	public static class A {
+		public int f1;
+		private String f2;
+		public long f3;
+		public List<Integer> f4;
+
+		public String getF2() {
+			return f2;
+		}
+
+		public void setF2(String f2) {
+			this.f2 = f2;
+		}
+	}
+
+	//====================================================================================================
+	// Setter exceptions are wrapped unless ignoreInvocationExceptionsOnSetters is enabled.
+	//====================================================================================================
+	@Test
+	public void testSetterExceptions() throws Exception {
+		BeanMap<B> m = BeanContext.DEFAULT.createSession().newBeanMap(B.class);
+		try {
+			m.getMeta().getBinder().getProperty("f1").set(m, "f1", "foo");
+			fail();
+		} catch (BeanRuntimeException e) {
+			assertTrue(e.getLocalizedMessage().endsWith("Error occurred trying to set property 'f1'"));
+		}
+
+		BeanContext bc = PropertyStore.create().setProperty(BEAN_ignoreInvocationExceptionsOnSetters, true).getBeanContext();
+		m = bc.createSession().newBeanMap(B.class);
+		m.getMeta().getBinder().getProperty("f1").set(m, "f1", "foo");
+	}
+
+	public static class B {
+		public String getF1() {
+			return null;
+		}
+
+		public void setF1(String f1) {
+			throw new RuntimeException("Bad setter");
+		}
+	}
+
+	//====================================================================================================
+	// Parsers populate beans through the binder.
+	//====================================================================================================
+	@Test
+	public void testParsers() throws Exception {
+		A a = new A();
+		a.f1 = 1;
+		a.setF2("foo");
+		a.f3 = 2;
+		a.f4 = Arrays.asList(3,4);
+
+		String json = JsonSerializer.DEFAULT_LAX.serialize(a);
+		assertEquals(json, JsonSerializer.DEFAULT_LAX.serialize(JsonParser.DEFAULT.parse(json, A.class)));
+		assertEquals(json, JsonSerializer.DEFAULT_LAX.serialize(UonParser.DEFAULT.parse(UonSerializer.DEFAULT.serialize(a), A.class)));
+		assertEquals(json, JsonSerializer.DEFAULT_LAX.serialize(MsgPackParser.DEFAULT.parse(MsgPackSerializer.DEFAULT.serialize(a), A.class)));
+
+		C c = JsonParser.DEFAULT.parse("{f1:1,f2:2}", C.class);
+		assertEquals(1, c.f1);
+		assertEquals(2, c.f2);
+	}
+
+	public static class C {
+		private final int f1;
+		public int f2;
+
+		@BeanConstructor(properties="f1")
+		public C(int f1) {
+			this.f1 = f1;
+		}
+
+		public int getF1() {
+			return f1;
+		}
+	}
+}
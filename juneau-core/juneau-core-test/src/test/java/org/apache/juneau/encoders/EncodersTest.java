@@ -0,0 +1,202 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class EncodersTest {
+
+	private static final byte[][] INPUTS = {
+		new byte[0],
+		"a".getBytes(),
+		"Hello world!".getBytes(),
+		repeat("The quick brown fox jumps over the lazy dog. ", 5000),
+		random(100000, 1),
+		random(70000, 256),
+		repeat("a", 300000),
+	};
+
+	private static byte[] repeat(String s, int count) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < count; i++)
+			sb.append(s);
+		return sb.toString().getBytes();
+	}
+
+	private static byte[] random(int size, int range) {
+		Random r = new Random(size);
+		byte[] b = new byte[size];
+		for (int i = 0; i < size; i++)
+			b[i] = (byte)r.nextInt(range);
+		return b;
+	}
+
+	private static byte[] encode(Encoder e, byte[] b) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream os = e.getOutputStream(baos)) {
+			// Write in odd-sized chunks to exercise buffering.
+			for (int i = 0; i < b.length; i += 1000)
+				os.write(b, i, Math.min(1000, b.length - i));
+		}
+		return baos.toByteArray();
+	}
+
+	private static byte[] decode(Encoder e, byte[] b) throws Exception {
+		try (InputStream is = e.getInputStream(new ByteArrayInputStream(b))) {
+			return IOUtils.readBytes(is, 1024);
+		}
+	}
+
+	//====================================================================================================
+	// Round-trip tests.
+	//====================================================================================================
+	@Test
+	public void testGzip() throws Exception {
+		Encoder e = new GzipEncoder();
+		for (byte[] b : INPUTS) {
+			byte[] c = encode(e, b);
+			assertArrayEquals(b, decode(e, c));
+			assertArrayEquals(b, IOUtils.readBytes(new GZIPInputStream(new ByteArrayInputStream(c)), 1024));
+		}
+	}
+
+	@Test
+	public void testGzipLevels() throws Exception {
+		byte[] b = INPUTS[3];
+		byte[] c0 = encode(new GzipEncoder(Deflater.NO_COMPRESSION, 512), b);
+		byte[] c9 = encode(new GzipEncoder(Deflater.BEST_COMPRESSION, 512), b);
+		assertTrue(c0.length > b.length);
+		assertTrue(c9.length < b.length / 10);
+		assertArrayEquals(b, decode(new GzipEncoder(), c0));
+		assertArrayEquals(b, decode(new GzipEncoder(), c9));
+	}
+
+	@Test
+	public void testDeflate() throws Exception {
+		Encoder e = new DeflateEncoder();
+		for (byte[] b : INPUTS) {
+			byte[] c = encode(e, b);
+			assertArrayEquals(b, decode(e, c));
+			assertArrayEquals(b, IOUtils.readBytes(new InflaterInputStream(new ByteArrayInputStream(c)), 1024));
+		}
+	}
+
+	@Test
+	public void testLz4() throws Exception {
+		for (Encoder e : new Encoder[]{new Lz4Encoder(), new Lz4Encoder(256*1024)}) {
+			for (byte[] b : INPUTS) {
+				byte[] c = encode(e, b);
+				assertArrayEquals(b, decode(e, c));
+			}
+		}
+		assertTrue(encode(new Lz4Encoder(), INPUTS[3]).length < INPUTS[3].length / 10);
+	}
+
+	@Test
+	public void testLz4FrameHeader() throws Exception {
+		byte[] c = encode(new Lz4Encoder(), new byte[0]);
+		// Magic number, FLG, BD, header checksum, end mark.
+		assertEquals("04224D18604082" + "00000000", StringUtils.toHex(c));
+		// Header checksum of the common FLG=0x64 (content checksum) layout.
+		assertEquals(0xA7, (Lz4Encoder.xxHash32(new byte[]{0x64, 0x40}, 0, 2, 0) >> 8) & 0xFF);
+	}
+
+	@Test
+	public void testLz4LinkedBlocks() throws Exception {
+		// Frame in the default layout of the lz4 command-line tool (linked blocks, content checksum) with 64KB blocks.
+		// The second block is a 16-byte match against the first block followed by 5 literals.
+		byte[] c = StringUtils.fromHex(
+			"04224D18" + "44" + "40" + "5E"
+			+ "10000080" + StringUtils.toHex("abcdefghijklmnop".getBytes())
+			+ "09000000" + "0C1000" + "50" + StringUtils.toHex("qrstu".getBytes())
+			+ "00000000"
+			+ "8D714DAA"
+		);
+		assertEquals("abcdefghijklmnopabcdefghijklmnopqrstu", new String(decode(new Lz4Encoder(), c)));
+
+		// A match at the maximum offset reaches back across a full 64KB block.
+		byte[] b1 = random(65536, 256);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		baos.write(StringUtils.fromHex("04224D18" + "40" + "40" + "C0" + "00000180"));
+		baos.write(b1);
+		baos.write(StringUtils.fromHex("04000000" + "0CFFFF" + "00" + "00000000"));
+		byte[] expected = Arrays.copyOf(b1, 65536 + 16);
+		System.arraycopy(b1, 1, expected, 65536, 16);
+		assertArrayEquals(expected, decode(new Lz4Encoder(), baos.toByteArray()));
+	}
+
+	@Test
+	public void testLz4InvalidBlockSize() throws Exception {
+		try {
+			new Lz4Encoder(1000);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid LZ4 block size: 1000", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testLz4Malformed() throws Exception {
+		byte[] c = encode(new Lz4Encoder(), INPUTS[3]);
+		c[12] = (byte)0xFF;
+		try {
+			decode(new Lz4Encoder(), c);
+			fail();
+		} catch (IOException e) {
+			// Expected.
+		}
+	}
+
+	//====================================================================================================
+	// Pooled deflaters must not leak state between streams.
+	//====================================================================================================
+	@Test
+	public void testPooledDeflaterReuse() throws Exception {
+		Encoder e = new GzipEncoder();
+		byte[] c1 = encode(e, INPUTS[3]);
+		for (int i = 0; i < 10; i++)
+			assertArrayEquals(c1, encode(e, INPUTS[3]));
+
+		// Writing after close must fail rather than corrupt a reused deflater.
+		OutputStream os = e.getOutputStream(new ByteArrayOutputStream());
+		os.close();
+		os.close();
+		try {
+			os.write(1);
+			fail();
+		} catch (IOException e2) {
+			assertEquals("Stream closed", e2.getMessage());
+		}
+	}
+
+	//====================================================================================================
+	// Minimum compression size is carried through builders.
+	//====================================================================================================
+	@Test
+	public void testMinCompressionSize() throws Exception {
+		EncoderGroup g = EncoderGroup.create().append(GzipEncoder.class).build();
+		assertEquals(0, g.getMinCompressionSize());
+		g = EncoderGroup.create().append(GzipEncoder.class).minCompressionSize(1024).build();
+		assertEquals(1024, g.getMinCompressionSize());
+		g = g.builder().append(Lz4Encoder.class).build();
+		assertEquals(1024, g.getMinCompressionSize());
+	}
+}
@@ -19,6 +19,8 @@ import static org.apache.juneau.internal.FileUtils.*;
 
 import java.io.*;
 import java.net.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -957,6 +959,44 @@ public class ConfigFileTest {
 		}
 	}
 
+	//====================================================================================================
+	// testRemoveListener
+	//====================================================================================================
+	@Test
+	public void testRemoveListener() throws Exception {
+		ConfigFile[] cff = {
+			configFileBuilder.build().addLines(null, "a1=1"),
+			configFileBuilder.build().addLines(null, "a1=1").getResolving(VarResolver.DEFAULT)
+		};
+
+		for (final ConfigFile cf : cff) {
+			final List<String> changes = new ArrayList<String>();
+
+			// Listeners can add and remove listeners while being notified.
+			final ConfigFileListener l2 = new EntryListener("a1") {
+				@Override /* EntryListener */
+				public void onChange(ConfigFile f) {
+					changes.add("l2=" + f.getString("a1"));
+				}
+			};
+			ConfigFileListener l1 = new EntryListener("a1") {
+				@Override /* EntryListener */
+				public void onChange(ConfigFile f) {
+					changes.add("l1=" + f.getString("a1"));
+					cf.removeListener(this);
+					cf.addListener(l2);
+				}
+			};
+			cf.addListener(l1);
+
+			cf.put("a1", "2");
+			cf.put("a1", "3");
+			cf.removeListener(l2);
+			cf.put("a1", "4");
+			assertObjectEquals("['l1=2','l2=3']", changes);
+		}
+	}
+
 	//====================================================================================================
 	// testSectionListener
 	//====================================================================================================
@@ -2153,4 +2193,181 @@ public class ConfigFileTest {
 		assertEquals("a,#b,=c", cf.getString("a"));
 		assertEquals("a,#b,=c", cf.getString("A/a"));
 	}
-}
\ No newline at end of file
+
+	//====================================================================================================
+	// Test that parsed immutable values are reused until the entry changes.
+	//====================================================================================================
+	@Test
+	public void testParsedValueCaching() throws Exception {
+		File f = getFreshFile();
+
+		ConfigFile cf = configFileBuilder.build(f);
+		cf.put("A/a", "123456");
+		cf.put("A/b", "654321");
+
+		Long a1 = cf.getObject("A/a", Long.class);
+		assertTrue(a1 == cf.getObject("A/a", Long.class));
+		assertTrue(a1 == cf.getObject("A", "a", Long.class));
+		assertEquals(123456, cf.getObject("A/a", Integer.class).intValue());
+
+		Long b1 = cf.getObject("A/b", Long.class);
+		assertTrue(b1 == cf.getObject("A/b", Long.class));
+
+		// Changing one entry only invalidates that entry.
+		cf.put("A/a", "789");
+		assertEquals(789L, cf.getObject("A/a", Long.class).longValue());
+		assertTrue(b1 == cf.getObject("A/b", Long.class));
+
+		cf.remove("A", "a");
+		assertNull(cf.getObject("A/a", Long.class));
+
+		// Reloading invalidates everything.
+		cf.save();
+		cf.load();
+		assertTrue(b1 != cf.getObject("A/b", Long.class));
+		assertEquals(654321L, cf.getObject("A/b", Long.class).longValue());
+
+		// Values resolved through variables are never cached.
+		System.setProperty("ConfigFileTest.x", "[1]");
+		cf.put("A/c", "$S{ConfigFileTest.x}");
+		ConfigFile cfw = cf.getResolving(VarResolver.DEFAULT);
+		assertObjectEquals("[1]", cfw.getObject("A/c", int[].class));
+		System.setProperty("ConfigFileTest.x", "[2]");
+		assertObjectEquals("[2]", cfw.getObject("A/c", int[].class));
+		System.clearProperty("ConfigFileTest.x");
+	}
+
+	//====================================================================================================
+	// Test that mutable parsed values are not shared between callers.
+	//====================================================================================================
+	@Test
+	public void testParsedValuesNotShared() throws Exception {
+		ConfigFile cf = configFileBuilder.build(getFreshFile());
+		cf.put("A/a", "[1,2,3]");
+		cf.put("A/b", "{foo:'bar'}");
+		cf.put("A/c", "{a:1}");
+
+		ObjectMap m = cf.getObject("A/b", ObjectMap.class);
+		m.put("foo", "baz");
+		assertObjectEquals("{foo:'bar'}", cf.getObject("A/b", ObjectMap.class));
+
+		int[] a = cf.getObject("A/a", int[].class);
+		a[0] = 9;
+		assertObjectEquals("[1,2,3]", cf.getObject("A/a", int[].class));
+
+		List<Integer> l = cf.getObject("A/a", List.class, Integer.class);
+		l.clear();
+		assertObjectEquals("[1,2,3]", cf.getObject("A/a", List.class, Integer.class));
+
+		A b = cf.getObject("A/c", A.class);
+		b.a = 2;
+		assertEquals(1, cf.getObject("A/c", A.class).a);
+	}
+
+	//====================================================================================================
+	// Test that reloading a config file reports the entries that changed.
+	//====================================================================================================
+	@Test
+	public void testReloadSignalsChanges() throws Exception {
+		File f = getFreshFile();
+		write(f, new StringReader("a = 1\nb = 2\n[S]\nc = 3\n"));
+
+		ConfigFile cf = configFileBuilder.build(f);
+		final Set<String> changes = new TreeSet<String>();
+		cf.addListener(
+			new ConfigFileListener() {
+				@Override /* ConfigFileListener */
+				public void onChange(ConfigFile f, Set<String> ss) {
+					changes.addAll(ss);
+				}
+			}
+		);
+
+		write(f, new StringReader("a = 1\nb = 4\n[S]\nd = 5\n[T]\ne = 6\n"));
+		cf.load();
+		assertObjectEquals("['S/c','S/d','T/e','b']", changes);
+		assertEquals(4, cf.getInt("b"));
+
+		changes.clear();
+		cf.load();
+		assertTrue(changes.isEmpty());
+	}
+
+	//====================================================================================================
+	// Test coalescing of changes and asynchronous saves.
+	//====================================================================================================
+	@Test
+	public void testBatchWindow() throws Exception {
+		File f = getFreshFile();
+
+		ConfigFile cf = new ConfigFileBuilder().batchWindow(500).build(f);
+		final List<Set<String>> notifications = Collections.synchronizedList(new ArrayList<Set<String>>());
+		final int[] saves = new int[1];
+		cf.addListener(
+			new ConfigFileListener() {
+				@Override /* ConfigFileListener */
+				public void onChange(ConfigFile f, Set<String> ss) {
+					notifications.add(new TreeSet<String>(ss));
+				}
+				@Override /* ConfigFileListener */
+				public void onSave(ConfigFile f) {
+					saves[0]++;
+				}
+			}
+		);
+
+		cf.put("a", "1");
+		cf.put("S/b", "2");
+		cf.put("a", "3");
+		Future<ConfigFile> f1 = cf.saveAsync(), f2 = cf.saveAsync();
+		assertTrue(f1 == f2);
+
+		// Values are visible immediately, only the notification and the write are deferred.
+		assertEquals("3", cf.getString("a"));
+		assertTrue(notifications.isEmpty());
+
+		f1.get(5, TimeUnit.SECONDS);
+		assertEquals(1, saves[0]);
+		assertTextEquals("a = 3|[S]|b = 2|", read(f));
+		for (int i = 0; i < 50 && notifications.isEmpty(); i++)
+			Thread.sleep(100);
+		assertObjectEquals("[['S/b','a']]", notifications);
+
+		// Only the config file itself is left behind.
+		assertEquals(1, f.getParentFile().listFiles(
+			new FilenameFilter() {
+				@Override /* FilenameFilter */
+				public boolean accept(File dir, String name) {
+					return name.startsWith("Test.cfg");
+				}
+			}
+		).length);
+	}
+	//====================================================================================================
+	// Test that saving follows symbolic links and keeps file permissions.
+	//====================================================================================================
+	@Test
+	public void testSaveKeepsLinkAndPermissions() throws Exception {
+		Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+		File dir = Files.createTempDirectory("ConfigFileTest").toFile();
+		File target = new File(dir, "target.cfg"), link = new File(dir, "link.cfg");
+		try {
+			write(target, new StringReader("a = 1\n"));
+			Set<PosixFilePermission> perms = PosixFilePermissions.fromString("rw-r-----");
+			Files.setPosixFilePermissions(target.toPath(), perms);
+			Files.createSymbolicLink(link.toPath(), target.toPath());
+
+			ConfigFile cf = configFileBuilder.build(link);
+			cf.put("a", "2");
+			cf.save();
+
+			assertTrue(Files.isSymbolicLink(link.toPath()));
+			assertTextEquals("a = 2|", read(target));
+			assertEquals(perms, Files.getPosixFilePermissions(target.toPath()));
+		} finally {
+			link.delete();
+			target.delete();
+			dir.delete();
+		}
+	}
+}
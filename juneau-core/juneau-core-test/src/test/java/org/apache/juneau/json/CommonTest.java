@@ -292,6 +292,43 @@ public class CommonTest {
 		public R1 r1;
 	}
 
+	//====================================================================================================
+	// Recursion in deep models (past the depth where the stack switches from linear scans to an identity index)
+	//====================================================================================================
+	@Test
+	public void testRecursionDeep() throws Exception {
+		JsonSerializerBuilder s = JsonSerializer.create().simple().detectRecursions(true);
+
+		// Same object referenced by siblings at every level is not recursion.
+		R4 shared = new R4();
+		R4 top = new R4();
+		R4 r = top;
+		for (int i = 0; i < 40; i++) {
+			r.next = new R4();
+			r.sibling = shared;
+			r = r.next;
+		}
+		String json = s.build().serialize(top);
+		assertEquals(41, json.split("next").length);
+
+		// Loop back to the top from deep in the model.
+		r.next = top;
+		try {
+			s.build().serialize(top);
+			fail("Exception expected!");
+		} catch (Exception e) {
+			String msg = e.getLocalizedMessage();
+			assertTrue(msg.contains("->[41]next:org.apache.juneau.json.CommonTest$R4"));
+		}
+
+		s.ignoreRecursions(true);
+		assertEquals(json, s.build().serialize(top));
+	}
+
+	public static class R4 {
+		public R4 next, sibling;
+	}
+
 	//====================================================================================================
 	// Basic bean
 	//====================================================================================================
@@ -0,0 +1,140 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class JsonLinesTest {
+
+	private static final JsonLinesSerializer s = JsonLinesSerializer.DEFAULT_LAX;
+	private static final JsonLinesParser p = JsonLinesParser.DEFAULT;
+
+	//====================================================================================================
+	// Collections and arrays are serialized one record per line.
+	//====================================================================================================
+	@Test
+	public void testSerialize() throws Exception {
+		List<A> l = Arrays.asList(new A().init(1), new A().init(2));
+		assertEquals("{f1:1,f2:'x1'}\n{f1:2,f2:'x2'}\n", s.serialize(l));
+		assertEquals("{f1:1,f2:'x1'}\n{f1:2,f2:'x2'}\n", s.serialize(l.toArray()));
+		assertEquals("{f1:1,f2:'x1'}\n{f1:2,f2:'x2'}\n", s.serialize(l.iterator()));
+		assertEquals("{f1:1,f2:'x1'}\n", s.serialize(l.get(0)));
+		assertEquals("null\n", s.serialize(null));
+
+		// Whitespace is never added.
+		assertEquals("{\"f1\":1,\"f2\":\"x1\"}\n", JsonLinesSerializer.create().ws().build().serialize(l.get(0)));
+	}
+
+	//====================================================================================================
+	// Records are parsed into collections, arrays, or single values.
+	//====================================================================================================
+	@Test
+	public void testParse() throws Exception {
+		String in = "{f1:1,f2:'x1'}\n\n{f1:2,f2:'x2'}\n";
+
+		List<A> l = p.parse(in, List.class, A.class);
+		assertEquals(2, l.size());
+		assertEquals("x2", l.get(1).f2);
+
+		A[] a = p.parse(in, A[].class);
+		assertEquals(2, a[1].f1);
+
+		ObjectList ol = p.parse(in, ObjectList.class);
+		assertEquals("[{f1:1,f2:'x1'},{f1:2,f2:'x2'}]", ol.toString());
+
+		Object o = p.parse(in, Object.class);
+		assertEquals("[{f1:1,f2:'x1'},{f1:2,f2:'x2'}]", o.toString());
+
+		assertEquals(1, p.parse("{f1:1}\n", A.class).f1);
+
+		List<Integer> l2 = new ArrayList<Integer>();
+		p.parseIntoCollection("1\n2\n3", l2, Integer.class);
+		assertEquals("[1, 2, 3]", l2.toString());
+	}
+
+	//====================================================================================================
+	// Each record must be on its own line.
+	//====================================================================================================
+	@Test
+	public void testOneRecordPerLine() throws Exception {
+		try {
+			p.parse("{f1:1}{f1:2}\n", List.class, A.class);
+			fail("Exception expected.");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Expected newline after record"));
+		}
+		try {
+			p.parse("'a' 'b'\n", List.class, String.class);
+			fail("Exception expected.");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Expected newline after record"));
+		}
+
+		// Trailing whitespace and comments are allowed.
+		List<String> l = p.parse("'a' /* x */ \r\n'b' // y\n'c'", List.class, String.class);
+		assertEquals(Arrays.asList("a", "b", "c"), l);
+	}
+
+	//====================================================================================================
+	// Round trip between serializer and parser.
+	//====================================================================================================
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<A> l = new ArrayList<A>();
+		for (int i = 0; i < 100; i++)
+			l.add(new A().init(i));
+		String r = JsonLinesSerializer.DEFAULT.serialize(l);
+		List<A> l2 = p.parse(r, List.class, A.class);
+		assertEquals(100, l2.size());
+		assertEquals("x99", l2.get(99).f2);
+	}
+
+	//====================================================================================================
+	// Records are read incrementally.
+	//====================================================================================================
+	@Test
+	public void testReader() throws Exception {
+		StringReader in = new StringReader("{f1:1}\n{f1:2}\nnull\n{f1:3}\n");
+		try (JsonLinesReader<A> r = p.createReader(in, A.class)) {
+			assertTrue(r.hasNext());
+			assertEquals(1, r.next().f1);
+			assertEquals(2, r.next().f1);
+			assertNull(r.next());
+			assertEquals(3, r.next().f1);
+			assertFalse(r.hasNext());
+			try {
+				r.next();
+				fail("Exception expected.");
+			} catch (NoSuchElementException e) {}
+		}
+	}
+
+	public static class A {
+		public int f1;
+		public String f2;
+
+		A init(int i) {
+			f1 = i;
+			f2 = "x" + i;
+			return this;
+		}
+	}
+}
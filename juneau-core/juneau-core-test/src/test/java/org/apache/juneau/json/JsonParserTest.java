@@ -14,6 +14,8 @@ package org.apache.juneau.json;
 
 import static org.junit.Assert.*;
 
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
@@ -322,4 +324,56 @@ public class JsonParserTest {
 			return "f="+f;
 		}
 	}
+
+	//====================================================================================================
+	// testParseParallel
+	// Parallel parse of large arrays and newline-delimited input returns elements in original order.
+	//====================================================================================================
+	@Test
+	public void testParseParallel() throws Exception {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 1000; i++)
+			sb.append(i == 0 ? "" : ",").append("{fa:'a,]\\'").append(i).append("'}");
+		sb.append("] /* trailing comment */");
+
+		List<A> l = p.parseParallel(sb, A.class);
+		assertEquals(1000, l.size());
+		for (int i = 0; i < 1000; i++)
+			assertEquals("a,]'" + i, l.get(i).fa);
+
+		l = p.parseParallel("{fa:'x'}\n\n{fa:'y'}\n{fa:'z'}\n", A.class);
+		assertEquals(3, l.size());
+		assertEquals("z", l.get(2).fa);
+
+		assertEquals("[1, null, 2]", p.parseParallel("[1,,2]", Integer.class).toString());
+		assertEquals("[]", p.parseParallel(" [ ] ", Integer.class).toString());
+
+		// A '/' inside an unquoted token is part of the value, not the start of a comment.
+		assertEquals(p.parse("[a/b, c]", List.class, String.class), p.parseParallel("[a/b, c]", String.class));
+		assertEquals("[a/b, c]", p.parseParallel("[a/b, c]", String.class).toString());
+		assertEquals(p.parse("[http://x, y]", List.class, String.class), p.parseParallel("[http://x, y]", String.class));
+		assertEquals("[http://x, y]", p.parseParallel("[http://x, y]", String.class).toString());
+		assertEquals("[a, b]", p.parseParallel("[a /* c */, b // d\n]", String.class).toString());
+
+		try {
+			p.parseParallel("[1,2,]", Integer.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unexpected trailing comma in array."));
+		}
+
+		try {
+			sp.parseParallel("[1,,2]", Integer.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Missing value detected."));
+		}
+
+		try {
+			p.parseParallel("[1,x,2]", Integer.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("{element:1,position:3}"));
+		}
+	}
 }
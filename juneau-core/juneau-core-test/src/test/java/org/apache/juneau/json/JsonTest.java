@@ -18,6 +18,7 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.json.annotation.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
@@ -301,4 +302,50 @@ public class JsonTest {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
-}
\ No newline at end of file
+
+	//====================================================================================================
+	// testBeanPropertyTrimming
+	//====================================================================================================
+	@Test
+	public void testBeanPropertyTrimming() throws Exception {
+		JsonSerializer s = JsonSerializer.create().simple().sq().beanDictionary(D.class).build();
+		D d = new D().init();
+		E e = new E();
+		e.f1 = d;
+
+		assertEquals("{_type:'D',f2:[],f3:{},f4:{},f5:[],f6:1}", s.serialize(d));
+		assertEquals("{f1:{_type:'D',f2:[],f3:{},f4:{},f5:[],f6:1}}", s.serialize(e));
+
+		s = s.builder().trimNullProperties(false).build();
+		assertEquals("{_type:'D',f1:null,f2:[],f3:{},f4:{},f5:[],f6:1}", s.serialize(d));
+
+		s = s.builder().trimNullProperties(true).trimEmptyCollections(true).trimEmptyMaps(true).build();
+		assertEquals("{_type:'D',f6:1}", s.serialize(d));
+		assertEquals("{f1:{_type:'D',f6:1}}", s.serialize(e));
+
+		// Reusing the serializer should give the same results.
+		assertEquals("{f1:{_type:'D',f6:1}}", s.serialize(e));
+	}
+
+	@Bean(typeName="D")
+	public static class D {
+		public String f1;
+		public List<String> f2;
+		public Map<String,String> f3;
+		public Object f4, f5;
+		public int f6;
+
+		D init() {
+			f2 = new ArrayList<String>();
+			f3 = new HashMap<String,String>();
+			f4 = new HashMap<String,String>();
+			f5 = new ArrayList<String>();
+			f6 = 1;
+			return this;
+		}
+	}
+
+	public static class E {
+		public Object f1;
+	}
+}
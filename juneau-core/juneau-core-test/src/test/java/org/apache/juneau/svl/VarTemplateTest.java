@@ -0,0 +1,135 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class VarTemplateTest {
+
+	private static VarResolver vr = new VarResolverBuilder().defaultVars().vars(CountingVar.class, RequestDependentVar.class).build();
+
+	public static class CountingVar extends SimpleVar {
+		static int count;
+		public CountingVar() {
+			super("C");
+		}
+		@Override /* Var */
+		public String resolve(VarResolverSession session, String key) {
+			count++;
+			return key.toUpperCase();
+		}
+	}
+
+	public static class RequestDependentVar extends SimpleVar {
+		public RequestDependentVar() {
+			super("RD");
+		}
+		@Override /* Var */
+		public String resolve(VarResolverSession session, String key) {
+			session.markRequestDependent();
+			return key;
+		}
+	}
+
+	//====================================================================================================
+	// Compiled templates produce the same output as resolving the string directly.
+	//====================================================================================================
+	@Test
+	public void testSameAsResolve() throws Exception {
+		System.setProperty("VarTemplateTest.a", "x$C{y}");
+		String[] in = {
+			null, "", "foo", "$C{foo}", "a$C{foo}b", "$C{$C{foo}}", "$X{foo}", "a$X{foo}b", "\\$C{foo}", "$C{foo\\}}",
+			"$", "$C", "$C{", "$C{foo", "a\\", "$S{VarTemplateTest.a}", "a$S{VarTemplateTest.a}", "$IF{true,$C{a},b}",
+			"$SW{foo,f*,$C{x},y}", "$C{a}$C{b}$C{c}", "$ C{a}", "\\\\$C{a}"
+		};
+		VarResolverSession session = vr.createSession();
+		for (String s : in) {
+			VarTemplate t = vr.compile(s);
+			String expected = vr.resolve(s);
+			assertEquals(s, expected, t.resolve(session));
+			if (s != null)
+				assertEquals(s, vr.createSession().resolveTo(s, new StringWriter()).toString(), t.resolveTo(session, new StringWriter()).toString());
+		}
+	}
+
+	//====================================================================================================
+	// Templates are cached, and resolve vars on every call.
+	//====================================================================================================
+	@Test
+	public void testCaching() throws Exception {
+		VarTemplate t = vr.compile("a$C{b}c");
+		assertSame(t, vr.compile("a$C{b}c"));
+		assertFalse(t.isConstant());
+
+		int count = CountingVar.count;
+		VarResolverSession session = vr.createSession();
+		assertEquals("aBc", t.resolve(session));
+		assertEquals("aBc", t.resolve(session));
+		assertEquals(count + 2, CountingVar.count);
+	}
+
+	//====================================================================================================
+	// The template cache is cleared once full, and strings without variables aren't cached.
+	//====================================================================================================
+	@Test
+	public void testCacheEviction() throws Exception {
+		VarResolver vr = new VarResolverBuilder().vars(CountingVar.class).build();
+		VarTemplate t1 = vr.compile("$C{t1}");
+		for (int i = 0; i < VarResolverContext.MAX_TEMPLATES; i++)
+			vr.compile("$C{x" + i + "}");
+		assertNotSame(t1, vr.compile("$C{t1}"));
+
+		// Strings first seen after the cache filled up are still cached.
+		VarTemplate t2 = vr.compile("$C{t2}");
+		assertSame(t2, vr.compile("$C{t2}"));
+
+		assertNotSame(vr.compile("foo"), vr.compile("foo"));
+		assertEquals("foo", vr.compile("foo").resolve(vr.createSession()));
+	}
+
+	//====================================================================================================
+	// Constant vars with constant arguments are resolved at compile time.
+	//====================================================================================================
+	@Test
+	public void testConstantFolding() throws Exception {
+		VarTemplate t = vr.compile("a$IF{true,b,c}$SW{foo,f*,d,e}");
+		assertTrue(t.isConstant());
+		assertEquals("abd", t.resolve(vr.createSession()));
+
+		// Non-constant args are resolved at runtime.
+		t = vr.compile("$IF{$S{VarTemplateTest.b},yes,no}");
+		assertFalse(t.isConstant());
+		System.setProperty("VarTemplateTest.b", "true");
+		assertEquals("yes", t.resolve(vr.createSession()));
+		System.setProperty("VarTemplateTest.b", "false");
+		assertEquals("no", t.resolve(vr.createSession()));
+	}
+
+	//====================================================================================================
+	// Sessions remember whether a request-dependent var was resolved.
+	//====================================================================================================
+	@Test
+	public void testRequestDependent() throws Exception {
+		VarResolverSession session = vr.createSession();
+		assertEquals("aBc", session.resolve("a$C{b}c"));
+		assertFalse(session.isRequestDependent());
+		assertEquals("xyz", session.resolve("x$RD{y}z"));
+		assertTrue(session.isRequestDependent());
+		assertFalse(vr.createSession().isRequestDependent());
+	}
+}
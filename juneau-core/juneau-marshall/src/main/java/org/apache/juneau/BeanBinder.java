@@ -0,0 +1,138 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.internal.ClassUtils.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Precompiled property setters for a bean class.
+ *
+ * <p>
+ * Used by parsers to set bean property values without going through the general-purpose conversion logic in
+ * {@link BeanPropertyMeta#set(BeanMap, String, Object)} when it's not needed.
+ *
+ * <p>
+ * Each simple property (i.e. not a map, collection, or dynamic property, and without {@link org.apache.juneau.transform.PojoSwap PojoSwaps}
+ * that would need to be applied to the value) is compiled into a slot that invokes the setter or sets the field
+ * directly when the value being set is already an instance of the property type.
+ * All other cases fall back to {@link BeanPropertyMeta#set(BeanMap, String, Object)}.
+ *
+ * <p>
+ * Binders are created once per {@link BeanMeta} and retrieved through {@link BeanMeta#getBinder()}.
+ *
+ * @param <T> The bean type.
+ */
+public final class BeanBinder<T> {
+
+	private final Map<String,Property> properties;
+	private final Property dynaProperty;
+	private final boolean ignoreSetterExceptions;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param meta The bean being compiled.
+	 */
+	BeanBinder(BeanMeta<T> meta) {
+		this.ignoreSetterExceptions = meta.ctx.ignoreInvocationExceptionsOnSetters;
+		Map<String,Property> m = new HashMap<>();
+		for (BeanPropertyMeta p : meta.properties.values())
+			m.put(p.getName(), new Property(p));
+		this.properties = m;
+		this.dynaProperty = meta.dynaProperty == null ? null : new Property(meta.dynaProperty);
+	}
+
+	/**
+	 * Returns the compiled setter for the specified property.
+	 *
+	 * @param name The property name.
+	 * @return
+	 * 	The compiled setter, or the dynamic property setter if the bean has a dynamic property and the name isn't
+	 * 	a regular property, or <jk>null</jk> if the property doesn't exist on the bean.
+	 */
+	public Property getProperty(String name) {
+		Property p = properties.get(name);
+		return p == null ? dynaProperty : p;
+	}
+
+	/**
+	 * A compiled setter for a single bean property.
+	 */
+	public final class Property {
+
+		private final BeanPropertyMeta meta;
+		private final Method setter;
+		private final Field field;
+		private final Class<?> type;
+		private final Object primitiveDefault;
+
+		Property(BeanPropertyMeta meta) {
+			this.meta = meta;
+			if (meta.isDirectlySettable()) {
+				ClassMeta<?> cm = meta.getRawClassMeta();
+				this.setter = meta.getSetter();
+				this.field = setter == null ? meta.getField() : null;
+				this.type = getWrapperIfPrimitive(cm.getInnerClass());
+				this.primitiveDefault = cm.isPrimitive() ? cm.getPrimitiveDefault() : null;
+			} else {
+				this.setter = null;
+				this.field = null;
+				this.type = null;
+				this.primitiveDefault = null;
+			}
+		}
+
+		/**
+		 * Returns the metadata on this property.
+		 *
+		 * @return The metadata on this property.
+		 */
+		public BeanPropertyMeta getMeta() {
+			return meta;
+		}
+
+		/**
+		 * Sets the value of this property on the specified bean.
+		 *
+		 * <p>
+		 * Values that are already instances of the property type are assigned directly.
+		 * All other values are converted using {@link BeanPropertyMeta#set(BeanMap, String, Object)}.
+		 *
+		 * @param m The bean map containing the bean being populated.
+		 * @param pName The property name (only used for dynamic properties).
+		 * @param value The value to set.
+		 * @throws BeanRuntimeException If the value could not be set.
+		 */
+		public void set(BeanMap<T> m, String pName, Object value) throws BeanRuntimeException {
+			Object bean = m.bean;
+			if (type == null || bean == null || ! (value == null || type.isInstance(value))) {
+				meta.set(m, pName, value);
+				return;
+			}
+			if (value == null)
+				value = primitiveDefault;
+			try {
+				if (setter != null)
+					setter.invoke(bean, value);
+				else
+					field.set(bean, value);
+			} catch (Exception e) {
+				if (! ignoreSetterExceptions)
+					throw new BeanRuntimeException(meta.getBeanMeta().c, "Error occurred trying to set property ''{0}''", meta.getName()).initCause(e);
+			}
+		}
+	}
+}
@@ -99,6 +99,7 @@ public class BeanMeta<T> {
 	final String notABeanReason;                           // Readable string explaining why this class wasn't a bean.
 	final BeanRegistry beanRegistry;
 	final boolean sortProperties;
+	private volatile BeanBinder<T> binder;                 // Compiled property setters (created on first use).
 
 	/**
 	 * Constructor.
@@ -684,6 +685,23 @@ public class BeanMeta<T> {
 		return extMeta.get(metaDataClass, this);
 	}
 
+	/**
+	 * Returns the compiled property setters for this bean class.
+	 *
+	 * <p>
+	 * The binder is created on first use and reused afterwards.
+	 *
+	 * @return The compiled property setters for this bean class.
+	 */
+	public BeanBinder<T> getBinder() {
+		BeanBinder<T> b = binder;
+		if (b == null) {
+			b = new BeanBinder<>(this);
+			binder = b;
+		}
+		return b;
+	}
+
 	/**
 	 * Returns metadata about the specified property.
 	 *
@@ -403,6 +403,32 @@ public final class BeanPropertyMeta {
 		return typeMeta;
 	}
 
+	/**
+	 * Returns the {@link ClassMeta} of the class of this property before any {@link PojoSwap} is applied.
+	 *
+	 * @return The {@link ClassMeta} of the raw class of this property.
+	 */
+	ClassMeta<?> getRawClassMeta() {
+		return rawTypeMeta;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if values of the raw property type can be assigned through the setter or field as-is.
+	 *
+	 * <p>
+	 * This is the case when this isn't a dyna, map, or collection property, there are no swaps that need to be
+	 * applied to values, and there's a setter or public field defined.
+	 *
+	 * @return <jk>true</jk> if values of the raw property type can be assigned through the setter or field as-is.
+	 */
+	boolean isDirectlySettable() {
+		if (isDyna || swap != null || overrideValue != null || delegateFor != null)
+			return false;
+		if (setter == null && field == null)
+			return false;
+		return ! (rawTypeMeta.isMap() || rawTypeMeta.isCollection() || rawTypeMeta.hasChildPojoSwaps());
+	}
+
 	/**
 	 * Returns the bean dictionary in use for this bean property.
 	 *
@@ -1095,4 +1121,4 @@ public final class BeanPropertyMeta {
 	public String toString() {
 		return name + ": " + this.rawTypeMeta.getInnerClass().getName() + ", field=["+field+"], getter=["+getter+"], setter=["+setter+"]";
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
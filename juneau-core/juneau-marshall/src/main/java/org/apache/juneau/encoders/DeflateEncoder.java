@@ -0,0 +1,78 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * Encoder for handling <js>"deflate"</js> encoding and decoding.
+ *
+ * <p>
+ * Produces the zlib format (RFC 1950) as required by the HTTP <js>"deflate"</js> content coding.
+ * Compression uses pooled {@link Deflater} instances.
+ *
+ * <p>
+ * The compression level and buffer size can be tailored by subclassing and calling the
+ * {@link #DeflateEncoder(int, int)} constructor.
+ */
+public class DeflateEncoder extends Encoder {
+
+	private final int bufferSize;
+	private final DeflaterPool pool;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses the default compression level and an 8KB buffer.
+	 */
+	public DeflateEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION, 8192);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level The compression level (<code>0-9</code> or {@link Deflater#DEFAULT_COMPRESSION}).
+	 * @param bufferSize The size of the compressed output buffer.
+	 */
+	public DeflateEncoder(int level, int bufferSize) {
+		this.bufferSize = bufferSize;
+		this.pool = new DeflaterPool(level, false, Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os) throws IOException {
+		return new DeflaterStream(os, pool, bufferSize, false);
+	}
+
+	@Override /* Encoder */
+	public InputStream getInputStream(InputStream is) throws IOException {
+		return new InflaterInputStream(is, new Inflater(), bufferSize) {
+			@Override /* InputStream */
+			public void close() throws IOException {
+				super.close();
+				inf.end();
+			}
+		};
+	}
+
+	/**
+	 * Returns <code>[<js>"deflate"</js>]</code>.
+	 */
+	@Override /* Encoder */
+	public String[] getCodings() {
+		return new String[]{"deflate"};
+	}
+}
@@ -0,0 +1,68 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+/**
+ * A bounded pool of {@link Deflater} instances with the same compression level and format.
+ *
+ * <p>
+ * Each <code>Deflater</code> holds native memory that is only reclaimed when {@link Deflater#end()} is called or the
+ * object is finalized.
+ * Reusing instances avoids allocating (and later freeing) this memory on every compressed response.
+ */
+final class DeflaterPool {
+
+	private final int level;
+	private final boolean nowrap;
+	private final ArrayBlockingQueue<Deflater> pool;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level The compression level (<code>0-9</code> or {@link Deflater#DEFAULT_COMPRESSION}).
+	 * @param nowrap If <jk>true</jk>, produces raw deflate data without the zlib header and checksum.
+	 * @param maxSize The maximum number of idle instances to keep.
+	 */
+	DeflaterPool(int level, boolean nowrap, int maxSize) {
+		this.level = level;
+		this.nowrap = nowrap;
+		this.pool = new ArrayBlockingQueue<>(maxSize);
+	}
+
+	/**
+	 * Returns an idle deflater, or creates a new one if none are available.
+	 *
+	 * @return A deflater ready for use.
+	 */
+	Deflater acquire() {
+		Deflater d = pool.poll();
+		return d != null ? d : new Deflater(level, nowrap);
+	}
+
+	/**
+	 * Returns a deflater to this pool.
+	 *
+	 * <p>
+	 * If the pool is full, the deflater is ended.
+	 *
+	 * @param d The deflater to release.  Must not be used by the caller afterwards.
+	 */
+	void release(Deflater d) {
+		d.reset();
+		if (! pool.offer(d))
+			d.end();
+	}
+}
@@ -0,0 +1,94 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * A {@link DeflaterOutputStream} that borrows its {@link Deflater} from a {@link DeflaterPool} and returns it when
+ * closed.
+ *
+ * <p>
+ * Optionally writes the GZIP header and trailer so that it can be used in place of {@link GZIPOutputStream}.
+ */
+final class DeflaterStream extends DeflaterOutputStream {
+
+	// Same header as written by GZIPOutputStream.
+	private static final byte[] GZIP_HEADER = {0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+	private final DeflaterPool pool;
+	private final CRC32 crc;
+	private boolean closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The stream to write compressed data to.
+	 * @param pool The pool to borrow the deflater from.
+	 * @param bufferSize The output buffer size.
+	 * @param gzip If <jk>true</jk>, writes the GZIP header and trailer.
+	 *	The pool must contain <code>nowrap</code> deflaters in this case.
+	 * @throws IOException
+	 */
+	DeflaterStream(OutputStream out, DeflaterPool pool, int bufferSize, boolean gzip) throws IOException {
+		super(out, pool.acquire(), bufferSize);
+		this.pool = pool;
+		if (gzip) {
+			crc = new CRC32();
+			out.write(GZIP_HEADER);
+		} else {
+			crc = null;
+		}
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (closed)
+			throw new IOException("Stream closed");
+		super.write(b, off, len);
+		if (crc != null)
+			crc.update(b, off, len);
+	}
+
+	@Override /* DeflaterOutputStream */
+	public void finish() throws IOException {
+		if (closed || def.finished())
+			return;
+		super.finish();
+		if (crc != null) {
+			writeInt(crc.getValue());
+			writeInt(def.getBytesRead());
+		}
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		if (closed)
+			return;
+		try {
+			finish();
+			out.close();
+		} finally {
+			closed = true;
+			pool.release(def);
+		}
+	}
+
+	private void writeInt(long i) throws IOException {
+		out.write((int)(i & 0xFF));
+		out.write((int)((i >> 8) & 0xFF));
+		out.write((int)((i >> 16) & 0xFF));
+		out.write((int)((i >> 24) & 0xFF));
+	}
+}
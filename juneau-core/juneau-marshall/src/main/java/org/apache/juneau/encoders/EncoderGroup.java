@@ -61,6 +61,7 @@ public final class EncoderGroup {
 	private final List<String> encodingsList;
 	private final Encoder[] encodingsEncoders;
 	private final List<Encoder> encoders;
+	private final int minCompressionSize;
 
 	/**
 	 * Instantiates a new clean-slate {@link EncoderGroupBuilder} object.
@@ -89,6 +90,19 @@ public final class EncoderGroup {
 	 * @param encoders The encoders to add to this group.
 	 */
 	public EncoderGroup(Encoder[] encoders) {
+		this(encoders, 0);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param encoders The encoders to add to this group.
+	 * @param minCompressionSize
+	 * 	The minimum response size in bytes before compression is applied.
+	 * 	<br>See {@link #getMinCompressionSize()}.
+	 */
+	public EncoderGroup(Encoder[] encoders, int minCompressionSize) {
+		this.minCompressionSize = minCompressionSize;
 		this.encoders = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(encoders)));
 
 		List<String> lc = new ArrayList<>();
@@ -154,6 +168,20 @@ public final class EncoderGroup {
 		return encodingsList;
 	}
 
+	/**
+	 * Returns the minimum content size in bytes before compression is applied.
+	 *
+	 * <p>
+	 * Compressing small payloads costs CPU time and often makes them larger.
+	 * When this value is greater than zero, callers that produce encoded output (such as the REST server) buffer up
+	 * to this many bytes and send the content unencoded if it ends before the threshold is reached.
+	 *
+	 * @return The minimum content size, or <code>0</code> if content is always compressed.
+	 */
+	public int getMinCompressionSize() {
+		return minCompressionSize;
+	}
+
 	/**
 	 * Returns the encoders in this group.
 	 *
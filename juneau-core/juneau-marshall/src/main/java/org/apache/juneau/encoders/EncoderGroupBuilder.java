@@ -23,6 +23,7 @@ import java.util.*;
 public class EncoderGroupBuilder {
 
 	private final List<Encoder> encoders;
+	private int minCompressionSize;
 
 	/**
 	 * Create an empty encoder group builder.
@@ -39,6 +40,7 @@ public class EncoderGroupBuilder {
 	public EncoderGroupBuilder(EncoderGroup copyFrom) {
 		this.encoders = new ArrayList<>();
 		addReverse(encoders, copyFrom.getEncoders());
+		this.minCompressionSize = copyFrom.getMinCompressionSize();
 	}
 
 	/**
@@ -86,6 +88,18 @@ public class EncoderGroupBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the minimum content size in bytes before compression is applied.
+	 *
+	 * @param minCompressionSize The minimum content size.  <code>0</code> means always compress.
+	 * @return This object (for method chaining).
+	 * @see EncoderGroup#getMinCompressionSize()
+	 */
+	public EncoderGroupBuilder minCompressionSize(int minCompressionSize) {
+		this.minCompressionSize = minCompressionSize;
+		return this;
+	}
+
 	/**
 	 * Creates a new {@link EncoderGroup} object using a snapshot of the settings defined in this builder.
 	 *
@@ -99,6 +113,6 @@ public class EncoderGroupBuilder {
 		for (Object e : encoders)
 			l.add(newInstance(Encoder.class, e));
 		Collections.reverse(l);
-		return new EncoderGroup(l.toArray(new Encoder[l.size()]));
+		return new EncoderGroup(l.toArray(new Encoder[l.size()]), minCompressionSize);
 	}
 }
@@ -17,23 +17,56 @@ import java.util.zip.*;
 
 /**
  * Encoder for handling <js>"gzip"</js> encoding and decoding.
+ *
+ * <p>
+ * Compression uses pooled {@link Deflater} instances so that native compression memory isn't allocated on every
+ * response.
+ *
+ * <p>
+ * The compression level and buffer size can be tailored by subclassing and calling the
+ * {@link #GzipEncoder(int, int)} constructor:
+ * <p class='bcode'>
+ * 	<jk>public class</jk> FastGzipEncoder <jk>extends</jk> GzipEncoder {
+ * 		<jk>public</jk> FastGzipEncoder() {
+ * 			<jk>super</jk>(Deflater.<jsf>BEST_SPEED</jsf>, 8192);
+ * 		}
+ * 	}
+ * </p>
  */
 public class GzipEncoder extends Encoder {
 
+	private final int bufferSize;
+	private final DeflaterPool pool;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses the default compression level and an 8KB buffer.
+	 */
+	public GzipEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION, 8192);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level The compression level (<code>0-9</code> or {@link Deflater#DEFAULT_COMPRESSION}).
+	 * @param bufferSize The size of the compressed output buffer.
+	 */
+	public GzipEncoder(int level, int bufferSize) {
+		this.bufferSize = bufferSize;
+		this.pool = new DeflaterPool(level, true, Runtime.getRuntime().availableProcessors() * 2);
+	}
+
 	@Override /* Encoder */
 	public OutputStream getOutputStream(OutputStream os) throws IOException {
-		return new GZIPOutputStream(os) {
-			@Override /* OutputStream */
-			public final void close() throws IOException {
-				finish();
-				super.close();
-			}
-		};
+		return new DeflaterStream(os, pool, bufferSize, true);
 	}
 
 	@Override /* Encoder */
 	public InputStream getInputStream(InputStream is) throws IOException {
-		return new GZIPInputStream(is);
+		return new GZIPInputStream(is, bufferSize);
 	}
 
 	/**
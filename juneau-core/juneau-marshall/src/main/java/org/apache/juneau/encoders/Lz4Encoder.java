@@ -0,0 +1,475 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Encoder for handling <js>"x-lz4"</js> encoding and decoding.
+ *
+ * <p>
+ * A pure-Java implementation of the LZ4 frame format with independent blocks and no checksums.
+ * LZ4 trades compression ratio for speed, and is intended for service-to-service traffic where CPU time matters more
+ * than bandwidth.
+ * Output can be decoded by any standard LZ4 frame decoder (e.g. <code>lz4 -d</code>).
+ * Input can be any LZ4 frame without a preset dictionary, including frames with linked blocks such as those produced
+ * by default by the <code>lz4</code> command-line tool.
+ *
+ * <p>
+ * The block size can be tailored by subclassing and calling the {@link #Lz4Encoder(int)} constructor.
+ */
+public class Lz4Encoder extends Encoder {
+
+	private static final int MAGIC = 0x184D2204;
+
+	// FLG: version 01, independent blocks, no block/content checksums, no content size, no dictionary.
+	private static final int FLG = 0x60;
+
+	private static final int MIN_MATCH = 4, LAST_LITERALS = 5, MF_LIMIT = 12, MAX_OFFSET = 65535, WINDOW = 64 * 1024;
+	private static final int HASH_LOG = 12;
+
+	private final int blockSize, bd;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses 64KB blocks.
+	 */
+	public Lz4Encoder() {
+		this(64 * 1024);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param blockSize
+	 * 	The maximum uncompressed block size.
+	 * 	<br>Must be one of <code>64KB</code>, <code>256KB</code>, <code>1MB</code> or <code>4MB</code>.
+	 */
+	public Lz4Encoder(int blockSize) {
+		this.blockSize = blockSize;
+		int b = Arrays.asList(0x10000, 0x40000, 0x100000, 0x400000).indexOf(blockSize);
+		if (b == -1)
+			throw new IllegalArgumentException("Invalid LZ4 block size: " + blockSize);
+		this.bd = (b + 4) << 4;
+	}
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os) throws IOException {
+		return new Lz4OutputStream(os, blockSize, bd);
+	}
+
+	@Override /* Encoder */
+	public InputStream getInputStream(InputStream is) throws IOException {
+		return new Lz4InputStream(is);
+	}
+
+	/**
+	 * Returns <code>[<js>"x-lz4"</js>]</code>.
+	 */
+	@Override /* Encoder */
+	public String[] getCodings() {
+		return new String[]{"x-lz4"};
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Streams
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static final class Lz4OutputStream extends OutputStream {
+		private final OutputStream out;
+		private final byte[] buffer, compressed;
+		private final int[] table = new int[1 << HASH_LOG];
+		private int count;
+		private boolean closed;
+
+		Lz4OutputStream(OutputStream out, int blockSize, int bd) throws IOException {
+			this.out = out;
+			this.buffer = new byte[blockSize];
+			this.compressed = new byte[4 + maxCompressedLength(blockSize)];
+			byte[] h = new byte[7];
+			writeIntLE(h, 0, MAGIC);
+			h[4] = (byte)FLG;
+			h[5] = (byte)bd;
+			h[6] = (byte)((xxHash32(h, 4, 2, 0) >> 8) & 0xFF);
+			out.write(h);
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte)b}, 0, 1);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (closed)
+				throw new IOException("Stream closed");
+			while (len > 0) {
+				int n = Math.min(len, buffer.length - count);
+				System.arraycopy(b, off, buffer, count, n);
+				count += n;
+				off += n;
+				len -= n;
+				if (count == buffer.length)
+					writeBlock();
+			}
+		}
+
+		@Override /* OutputStream */
+		public void flush() throws IOException {
+			if (count > 0)
+				writeBlock();
+			out.flush();
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			if (closed)
+				return;
+			if (count > 0)
+				writeBlock();
+			byte[] end = new byte[4];
+			out.write(end);
+			closed = true;
+			out.close();
+		}
+
+		private void writeBlock() throws IOException {
+			int len = compress(buffer, count, compressed, 4, table);
+			if (len >= count) {
+				// Not compressible, so store uncompressed.
+				byte[] h = new byte[4];
+				writeIntLE(h, 0, count | 0x80000000);
+				out.write(h);
+				out.write(buffer, 0, count);
+			} else {
+				writeIntLE(compressed, 0, len);
+				out.write(compressed, 0, 4 + len);
+			}
+			count = 0;
+		}
+	}
+
+	private static final class Lz4InputStream extends InputStream {
+		private final InputStream in;
+		private byte[] block, compressed;
+		private int pos, limit, dict;
+		private boolean blockChecksum, contentChecksum, eof;
+
+		Lz4InputStream(InputStream in) throws IOException {
+			this.in = in;
+			byte[] h = new byte[7];
+			readFully(h, 0, 6);
+			if (readIntLE(h, 0) != MAGIC)
+				throw new IOException("Stream is not in LZ4 frame format.");
+			int flg = h[4] & 0xFF, bd = h[5] & 0xFF;
+			if ((flg >> 6) != 1)
+				throw new IOException("Unsupported LZ4 frame version.");
+			if ((flg & 0x01) != 0)
+				throw new IOException("LZ4 dictionaries are not supported.");
+			blockChecksum = (flg & 0x10) != 0;
+			contentChecksum = (flg & 0x04) != 0;
+			int hl = 2;
+			if ((flg & 0x08) != 0) {
+				h = Arrays.copyOf(h, 15);
+				readFully(h, 6, 8);
+				hl += 8;
+			}
+			readFully(h, 4 + hl, 1);
+			if ((h[4 + hl] & 0xFF) != ((xxHash32(h, 4, hl, 0) >> 8) & 0xFF))
+				throw new IOException("Invalid LZ4 frame header checksum.");
+			int b = (bd >> 4) & 0x07;
+			if (b < 4)
+				throw new IOException("Invalid LZ4 block size.");
+			int blockSize = 1 << (8 + 2 * b);
+
+			// Linked blocks can reference the last 64KB of the previous block, so keep it in front of the next one.
+			if ((flg & 0x20) == 0)
+				dict = WINDOW;
+			block = new byte[dict + blockSize];
+			compressed = new byte[blockSize];
+		}
+
+		@Override /* InputStream */
+		public int read() throws IOException {
+			if (pos == limit && ! nextBlock())
+				return -1;
+			return block[pos++] & 0xFF;
+		}
+
+		@Override /* InputStream */
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0)
+				return 0;
+			if (pos == limit && ! nextBlock())
+				return -1;
+			int n = Math.min(len, limit - pos);
+			System.arraycopy(block, pos, b, off, n);
+			pos += n;
+			return n;
+		}
+
+		@Override /* InputStream */
+		public int available() {
+			return limit - pos;
+		}
+
+		@Override /* InputStream */
+		public void close() throws IOException {
+			in.close();
+		}
+
+		private boolean nextBlock() throws IOException {
+			while (! eof) {
+				byte[] h = new byte[4];
+				readFully(h, 0, 4);
+				int size = readIntLE(h, 0);
+				if (size == 0) {
+					eof = true;
+					if (contentChecksum)
+						readFully(h, 0, 4);
+					return false;
+				}
+				boolean uncompressed = (size & 0x80000000) != 0;
+				size &= 0x7FFFFFFF;
+				if (size > compressed.length)
+					throw new IOException("LZ4 block exceeds maximum block size.");
+				int start = dict;
+				if (dict > 0) {
+					int keep = Math.min(limit, dict);
+					System.arraycopy(block, limit - keep, block, dict - keep, keep);
+					start = dict - keep;
+				}
+				pos = dict;
+				if (uncompressed) {
+					readFully(block, dict, size);
+					limit = dict + size;
+				} else {
+					readFully(compressed, 0, size);
+					limit = dict + decompress(compressed, size, block, dict, start);
+				}
+				if (blockChecksum)
+					readFully(h, 0, 4);
+				if (limit > pos)
+					return true;
+			}
+			return false;
+		}
+
+		private void readFully(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				int n = in.read(b, off, len);
+				if (n < 0)
+					throw new EOFException("Unexpected end of LZ4 stream.");
+				off += n;
+				len -= n;
+			}
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Block format
+	//-----------------------------------------------------------------------------------------------------------------
+
+	static int maxCompressedLength(int len) {
+		return len + len / 255 + 16;
+	}
+
+	/*
+	 * Compresses src[0..len) into dst starting at dstOff.
+	 * Returns the compressed length.
+	 */
+	static int compress(byte[] src, int len, byte[] dst, int dstOff, int[] table) {
+		int anchor = 0, ip = 0, op = dstOff;
+		if (len >= MF_LIMIT + 1) {
+			Arrays.fill(table, -1);
+			int mfLimit = len - MF_LIMIT, matchLimit = len - LAST_LITERALS;
+			while (ip < mfLimit) {
+				int seq = readIntLE(src, ip);
+				int h = hash(seq);
+				int ref = table[h];
+				table[h] = ip;
+				if (ref < 0 || ip - ref > MAX_OFFSET || readIntLE(src, ref) != seq) {
+					ip++;
+					continue;
+				}
+
+				// Extend the match backwards.
+				while (ip > anchor && ref > 0 && src[ip-1] == src[ref-1]) {
+					ip--;
+					ref--;
+				}
+
+				// Extend the match forwards.
+				int matchLen = MIN_MATCH;
+				while (ip + matchLen < matchLimit && src[ip + matchLen] == src[ref + matchLen])
+					matchLen++;
+
+				op = writeSequence(src, anchor, ip - anchor, ip - ref, matchLen, dst, op);
+				ip += matchLen;
+				anchor = ip;
+			}
+		}
+		return writeLastLiterals(src, anchor, len - anchor, dst, op) - dstOff;
+	}
+
+	private static int writeSequence(byte[] src, int anchor, int litLen, int offset, int matchLen, byte[] dst, int op) {
+		int tokenPos = op++;
+		int token;
+		if (litLen >= 15) {
+			token = 0xF0;
+			op = writeLength(litLen - 15, dst, op);
+		} else {
+			token = litLen << 4;
+		}
+		System.arraycopy(src, anchor, dst, op, litLen);
+		op += litLen;
+		dst[op++] = (byte)offset;
+		dst[op++] = (byte)(offset >>> 8);
+		int ml = matchLen - MIN_MATCH;
+		if (ml >= 15) {
+			token |= 0x0F;
+			op = writeLength(ml - 15, dst, op);
+		} else {
+			token |= ml;
+		}
+		dst[tokenPos] = (byte)token;
+		return op;
+	}
+
+	private static int writeLastLiterals(byte[] src, int anchor, int litLen, byte[] dst, int op) {
+		if (litLen >= 15) {
+			dst[op++] = (byte)0xF0;
+			op = writeLength(litLen - 15, dst, op);
+		} else {
+			dst[op++] = (byte)(litLen << 4);
+		}
+		System.arraycopy(src, anchor, dst, op, litLen);
+		return op + litLen;
+	}
+
+	private static int writeLength(int l, byte[] dst, int op) {
+		while (l >= 255) {
+			dst[op++] = (byte)255;
+			l -= 255;
+		}
+		dst[op++] = (byte)l;
+		return op;
+	}
+
+	/*
+	 * Decompresses src[0..len) into dst starting at dstOff.
+	 * Matches may reference the bytes in dst[dictOff..dstOff) left over from the previous linked block.
+	 * Returns the decompressed length.
+	 */
+	static int decompress(byte[] src, int len, byte[] dst, int dstOff, int dictOff) throws IOException {
+		int sp = 0, dp = dstOff;
+		try {
+			while (true) {
+				int token = src[sp++] & 0xFF;
+				int litLen = token >>> 4;
+				if (litLen == 15) {
+					int b;
+					do {
+						b = src[sp++] & 0xFF;
+						litLen += b;
+					} while (b == 255);
+				}
+				if (sp + litLen > len || dp + litLen > dst.length)
+					throw new IOException("Malformed LZ4 block.");
+				System.arraycopy(src, sp, dst, dp, litLen);
+				sp += litLen;
+				dp += litLen;
+				if (sp == len)
+					return dp - dstOff;
+
+				int offset = (src[sp++] & 0xFF) | ((src[sp++] & 0xFF) << 8);
+				int matchLen = token & 0x0F;
+				if (matchLen == 15) {
+					int b;
+					do {
+						b = src[sp++] & 0xFF;
+						matchLen += b;
+					} while (b == 255);
+				}
+				matchLen += MIN_MATCH;
+				if (offset == 0 || offset > dp - dictOff || dp + matchLen > dst.length)
+					throw new IOException("Malformed LZ4 block.");
+				int ref = dp - offset;
+				if (offset >= matchLen) {
+					System.arraycopy(dst, ref, dst, dp, matchLen);
+					dp += matchLen;
+				} else {
+					// Overlapping copy.
+					for (int i = 0; i < matchLen; i++)
+						dst[dp++] = dst[ref++];
+				}
+			}
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new IOException("Malformed LZ4 block.", e);
+		}
+	}
+
+	private static int hash(int i) {
+		return (i * -1640531535) >>> (32 - HASH_LOG);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Utility methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static final int P1 = 0x9E3779B1, P2 = 0x85EBCA77, P3 = 0xC2B2AE3D, P4 = 0x27D4EB2F, P5 = 0x165667B1;
+
+	/*
+	 * XXH32 hash, used for the frame header checksum.
+	 */
+	static int xxHash32(byte[] b, int off, int len, int seed) {
+		int p = off, end = off + len, h;
+		if (len >= 16) {
+			int v1 = seed + P1 + P2, v2 = seed + P2, v3 = seed, v4 = seed - P1;
+			for (int limit = end - 16; p <= limit; p += 16) {
+				v1 = Integer.rotateLeft(v1 + readIntLE(b, p) * P2, 13) * P1;
+				v2 = Integer.rotateLeft(v2 + readIntLE(b, p+4) * P2, 13) * P1;
+				v3 = Integer.rotateLeft(v3 + readIntLE(b, p+8) * P2, 13) * P1;
+				v4 = Integer.rotateLeft(v4 + readIntLE(b, p+12) * P2, 13) * P1;
+			}
+			h = Integer.rotateLeft(v1, 1) + Integer.rotateLeft(v2, 7) + Integer.rotateLeft(v3, 12) + Integer.rotateLeft(v4, 18);
+		} else {
+			h = seed + P5;
+		}
+		h += len;
+		for (; p + 4 <= end; p += 4)
+			h = Integer.rotateLeft(h + readIntLE(b, p) * P3, 17) * P4;
+		for (; p < end; p++)
+			h = Integer.rotateLeft(h + (b[p] & 0xFF) * P5, 11) * P1;
+		h ^= h >>> 15;
+		h *= P2;
+		h ^= h >>> 13;
+		h *= P3;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	private static int readIntLE(byte[] b, int i) {
+		return (b[i] & 0xFF) | ((b[i+1] & 0xFF) << 8) | ((b[i+2] & 0xFF) << 16) | ((b[i+3] & 0xFF) << 24);
+	}
+
+	private static void writeIntLE(byte[] b, int i, int v) {
+		b[i] = (byte)v;
+		b[i+1] = (byte)(v >>> 8);
+		b[i+2] = (byte)(v >>> 16);
+		b[i+3] = (byte)(v >>> 24);
+	}
+}
@@ -0,0 +1,302 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Performs a fast structural scan of JSON text to locate the boundaries of top-level elements.
+ *
+ * <p>
+ * The scan only tracks nesting depth, string literals and comments.
+ * It does not validate the contents of the elements themselves, which is left to the parser that consumes them.
+ *
+ * <p>
+ * Two input layouts are supported:
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		A JSON array (<js>"[...]"</js>) whose elements are separated by commas.
+ * 	<li>
+ * 		Newline-delimited values (e.g. one JSON object per line).
+ * </ul>
+ */
+final class JsonArraySplitter {
+
+	private final CharSequence in;
+	private final int len;
+	private final boolean strict;
+
+	// Whether each nesting level is an object, and whether the scan is inside an unquoted token or an object key.
+	private boolean[] objects = new boolean[16];
+	private boolean inToken, inKey;
+
+	// Start/end offsets of each element, stored as pairs.
+	private int[] bounds = new int[32];
+	private int count;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param in The input to scan.
+	 * @param strict Whether strict mode is enabled (disallows comments and trailing commas).
+	 */
+	JsonArraySplitter(CharSequence in, boolean strict) {
+		this.in = in;
+		this.len = in.length();
+		this.strict = strict;
+	}
+
+	/**
+	 * Scans the input and records the element boundaries.
+	 *
+	 * @return This object (for method chaining).
+	 * @throws ParseException If the input is not structurally well-formed.
+	 */
+	JsonArraySplitter split() throws ParseException {
+		int i = skipCommentsAndSpace(0);
+		if (i < len && in.charAt(i) == '[')
+			splitArray(i+1);
+		else
+			splitLines(i);
+		return this;
+	}
+
+	/**
+	 * Returns the number of elements found.
+	 *
+	 * @return The number of elements found.
+	 */
+	int size() {
+		return count;
+	}
+
+	/**
+	 * Returns the start offset (inclusive) of the specified element.
+	 *
+	 * @param index The element index.
+	 * @return The start offset.
+	 */
+	int start(int index) {
+		return bounds[index*2];
+	}
+
+	/**
+	 * Returns the end offset (exclusive) of the specified element.
+	 *
+	 * @param index The element index.
+	 * @return The end offset.
+	 */
+	int end(int index) {
+		return bounds[index*2+1];
+	}
+
+	private void splitArray(int i) throws ParseException {
+		int depth = 0, start = -1, last = -1;
+		boolean sawComma = false;
+		inToken = inKey = false;
+		while (i < len) {
+			char c = in.charAt(i);
+			if (c == '"' || c == '\'') {
+				if (start == -1)
+					start = i;
+				i = skipString(i);
+				last = i-1;
+				inToken = false;
+				continue;
+			} else if (c == '/' && (inKey || ! inToken)) {
+				i = skipComment(i);
+				continue;
+			} else if (c == '{' || c == '[') {
+				depth++;
+			} else if (c == '}' || (c == ']' && depth > 0)) {
+				depth--;
+				if (depth < 0)
+					throw new ParseException(loc(i), "Unbalanced ''{0}'' found in JSON array.", c);
+			} else if (depth == 0 && (c == ',' || c == ']')) {
+				if (start == -1) {
+					if (c == ']' && ! sawComma) {
+						validateEnd(i+1);
+						return;
+					}
+					if (c == ']' || strict)
+						throw new ParseException(loc(i), c == ']' ? "Unexpected trailing comma in array." : "Missing value detected.");
+					add(i, i);
+				} else {
+					add(start, last+1);
+				}
+				if (c == ']') {
+					validateEnd(i+1);
+					return;
+				}
+				sawComma = true;
+				start = -1;
+				track(c, depth);
+				i++;
+				continue;
+			}
+			if (! isWhitespace(c)) {
+				if (start == -1)
+					start = i;
+				last = i;
+			}
+			track(c, depth);
+			i++;
+		}
+		throw new ParseException(loc(i), "Could not find ']' marking end of JSON array.");
+	}
+
+	private void splitLines(int i) throws ParseException {
+		int depth = 0, start = -1, last = -1;
+		inToken = inKey = false;
+		while (i < len) {
+			char c = in.charAt(i);
+			if (c == '"' || c == '\'') {
+				if (start == -1)
+					start = i;
+				i = skipString(i);
+				last = i-1;
+				inToken = false;
+				continue;
+			} else if (c == '/' && (inKey || ! inToken)) {
+				i = skipComment(i);
+				continue;
+			} else if (c == '{' || c == '[') {
+				depth++;
+			} else if (c == '}' || c == ']') {
+				depth--;
+				if (depth < 0)
+					throw new ParseException(loc(i), "Unbalanced ''{0}'' found in JSON input.", c);
+			} else if (depth == 0 && c == '\n') {
+				if (start != -1)
+					add(start, last+1);
+				start = -1;
+			}
+			if (! isWhitespace(c)) {
+				if (start == -1)
+					start = i;
+				last = i;
+			}
+			track(c, depth);
+			i++;
+		}
+		if (depth != 0)
+			throw new ParseException(loc(i), "Unexpected end of input inside JSON element.");
+		if (start != -1)
+			add(start, last+1);
+	}
+
+	private void add(int start, int end) {
+		if (count*2 == bounds.length) {
+			int[] b = new int[bounds.length*2];
+			System.arraycopy(bounds, 0, b, 0, bounds.length);
+			bounds = b;
+		}
+		bounds[count*2] = start;
+		bounds[count*2+1] = end;
+		count++;
+	}
+
+	/*
+	 * Returns the position immediately after the closing quote of the string starting at the specified position.
+	 */
+	private int skipString(int i) throws ParseException {
+		char qc = in.charAt(i);
+		for (int j = i+1; j < len; j++) {
+			char c = in.charAt(j);
+			if (c == '\\')
+				j++;
+			else if (c == qc)
+				return j+1;
+		}
+		throw new ParseException(loc(i), "Could not find expected end character ''{0}''.", qc);
+	}
+
+	/*
+	 * Returns the position immediately after the comment starting at the specified position.
+	 */
+	private int skipComment(int i) throws ParseException {
+		if (strict)
+			throw new ParseException(loc(i), "Javascript comment detected.");
+		char c = i+1 < len ? in.charAt(i+1) : 0;
+		if (c == '*') {
+			for (int j = i+2; j < len-1; j++)
+				if (in.charAt(j) == '*' && in.charAt(j+1) == '/')
+					return j+2;
+		} else if (c == '/') {
+			for (int j = i+2; j < len; j++)
+				if (in.charAt(j) == '\n')
+					return j;
+			return len;
+		}
+		throw new ParseException(loc(i), "Open ended comment.");
+	}
+
+	private int skipCommentsAndSpace(int i) throws ParseException {
+		while (i < len) {
+			char c = in.charAt(i);
+			if (c == '/')
+				i = skipComment(i);
+			else if (isWhitespace(c))
+				i++;
+			else
+				break;
+		}
+		return i;
+	}
+
+	/*
+	 * Makes sure the remainder after the closing ']' consists only of whitespace and comments.
+	 */
+	private void validateEnd(int i) throws ParseException {
+		i = skipCommentsAndSpace(i);
+		if (i < len && in.charAt(i) != ';')
+			throw new ParseException(loc(i), "Remainder after parse: ''{0}''.", in.charAt(i));
+	}
+
+	/*
+	 * Tracks whether the scan is inside an unquoted token and whether the current token is an object key.
+	 * Like the parser, a '/' only starts a comment between tokens or in key position, so it's part of the value in lax
+	 * input such as "[a/b]" or "[http://x]".
+	 * The depth is the nesting depth after the specified character was processed.
+	 */
+	private void track(char c, int depth) {
+		if (c == '{' || c == '[') {
+			if (depth >= objects.length)
+				objects = Arrays.copyOf(objects, depth*2);
+			objects[depth] = inKey = c == '{';
+			inToken = false;
+		} else if (c == '}' || c == ']') {
+			inKey = inToken = false;
+		} else if (c == ',') {
+			inKey = depth > 0 && objects[depth];
+			inToken = false;
+		} else if (c == ':' && inKey) {
+			inKey = inToken = false;
+		} else {
+			inToken = ! isWhitespace(c);
+		}
+	}
+
+	private boolean isWhitespace(char c) {
+		if (strict)
+			return c <= 0x20 && (c == 0x09 || c == 0x0A || c == 0x0D || c == 0x20);
+		return Character.isWhitespace(c);
+	}
+
+	private static ObjectMap loc(int pos) {
+		return new ObjectMap().append("position", pos);
+	}
+}
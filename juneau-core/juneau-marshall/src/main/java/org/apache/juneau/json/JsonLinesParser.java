@@ -0,0 +1,140 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.lang.reflect.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Parses JSON Lines (newline-delimited JSON) into a POJO model.
+ *
+ * <h5 class='section'>Media types:</h5>
+ *
+ * Handles <code>Content-Type</code> types: <code>application/jsonl, application/x-ndjson</code>
+ *
+ * <h5 class='section'>Description:</h5>
+ *
+ * Each line of the input is parsed as a separate JSON value using the same rules as {@link JsonParser}.
+ *
+ * <p>
+ * When parsing into a collection, array, or <code>Object</code>, each record becomes an element of the result.
+ * When parsing into any other type, the input is expected to contain a single record.
+ *
+ * <p>
+ * Records can also be read incrementally (without loading the entire input into memory) using the
+ * {@link #createReader(Object, Type, Type...)} method.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	<jk>try</jk> (JsonLinesReader&lt;MyBean&gt; r = JsonLinesParser.<jsf>DEFAULT</jsf>.createReader(input, MyBean.<jk>class</jk>)) {
+ * 		<jk>while</jk> (r.hasNext())
+ * 			process(r.next());
+ * 	}
+ * </p>
+ */
+public class JsonLinesParser extends JsonParser {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default parser, all default settings.*/
+	public static final JsonLinesParser DEFAULT = new JsonLinesParser(PropertyStore.create());
+
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructor.
+	 *
+	 * @param propertyStore The property store containing all the settings for this object.
+	 */
+	public JsonLinesParser(PropertyStore propertyStore) {
+		super(propertyStore, "application/jsonl", "application/x-ndjson");
+	}
+
+	@Override /* CoreObject */
+	public JsonLinesParserBuilder builder() {
+		return new JsonLinesParserBuilder(propertyStore);
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link JsonLinesParserBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> JsonLinesParserBuilder()</code>.
+	 *
+	 * @return A new {@link JsonLinesParserBuilder} object.
+	 */
+	public static JsonLinesParserBuilder create() {
+		return new JsonLinesParserBuilder();
+	}
+
+	@Override /* Parser */
+	public JsonLinesParserSession createSession(ParserSessionArgs args) {
+		return new JsonLinesParserSession(ctx, args);
+	}
+
+	/**
+	 * Creates a reader for incrementally parsing records from the specified input.
+	 *
+	 * <p>
+	 * The input is only read as far as needed to parse the next record.
+	 * The returned reader must be closed when done.
+	 *
+	 * @param <E> The record class type.
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for supported input types.
+	 * @param type
+	 * 	The record type to create.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType},
+	 * 	{@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the class if it's a collection or map.
+	 * @return A new reader.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	@SuppressWarnings("unchecked")
+	public final <E> JsonLinesReader<E> createReader(Object input, Type type, Type...args) throws ParseException {
+		JsonLinesParserSession session = (JsonLinesParserSession)createSession();
+		ParserPipe pipe = session.createPipe(input);
+		try {
+			return new JsonLinesReader<E>(session, pipe, (ClassMeta<E>)session.getClassMeta(type, args));
+		} catch (Exception e) {
+			pipe.close();
+			if (e instanceof ParseException)
+				throw (ParseException)e;
+			throw new ParseException(e);
+		}
+	}
+
+	/**
+	 * Same as {@link #createReader(Object, Type, Type...)} except optimized for a non-parameterized class.
+	 *
+	 * @param <E> The record class type.
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for supported input types.
+	 * @param type The record type to create.
+	 * @return A new reader.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public final <E> JsonLinesReader<E> createReader(Object input, Class<E> type) throws ParseException {
+		return createReader(input, (Type)type);
+	}
+}
@@ -0,0 +1,135 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link JsonLinesParser}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused against multiple inputs.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public final class JsonLinesParserSession extends JsonParserSession {
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime session arguments.
+	 */
+	protected JsonLinesParserSession(JsonParserContext ctx, ParserSessionArgs args) {
+		super(ctx, args);
+	}
+
+	@Override /* ParserSession */
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
+		try (ParserReader r = pipe.getParserReader()) {
+			if (r == null)
+				return null;
+			if (type.isObject())
+				return (T)parseRecords(r, new ObjectList(this), object());
+			if (type.isCollection()) {
+				Collection c = (type.canCreateNewInstance(getOuter()) ? (Collection)type.newInstance() : new ObjectList(this));
+				return (T)parseRecords(r, c, type.getElementType());
+			}
+			if (type.isArray())
+				return (T)toArray(type, parseRecords(r, new ArrayList(), type.getElementType()));
+			T o = parseAnything(type, r, getOuter(), null);
+			validateEnd(r);
+			return o;
+		}
+	}
+
+	@Override /* ReaderParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws Exception {
+		try (ParserReader r = pipe.getParserReader()) {
+			return parseRecords(r, c, getClassMeta(elementType));
+		}
+	}
+
+	/*
+	 * Parses all remaining records into the specified collection.
+	 */
+	private <E> Collection<E> parseRecords(ParserReader r, Collection<E> c, ClassMeta<?> type) throws Exception {
+		while (hasNextRecord(r))
+			c.add((E)nextRecord(r, type));
+		return c;
+	}
+
+	@Override /* JsonParserSession */
+	boolean isNewlineDelimited() {
+		return true;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if there's another record in the input.
+	 *
+	 * <p>
+	 * Skips over any whitespace, blank lines, and comments preceding the next record.
+	 *
+	 * @param r The input.
+	 * @return <jk>true</jk> if there's another record in the input.
+	 * @throws Exception If thrown from the underlying reader.
+	 */
+	boolean hasNextRecord(ParserReader r) throws Exception {
+		skipCommentsAndSpace(r);
+		return r.peek() != -1;
+	}
+
+	/**
+	 * Parses the next record from the input.
+	 *
+	 * <p>
+	 * The record must be followed by a newline or the end of the input, optionally preceded by whitespace and comments.
+	 *
+	 * @param r The input.
+	 * @param type The record type.
+	 * @return The parsed record.
+	 * @throws Exception If the input contains a syntax error or is malformed.
+	 */
+	<T> T nextRecord(ParserReader r, ClassMeta<T> type) throws Exception {
+		T o = parseAnything(type, r, getOuter(), null);
+		skipToEndOfLine(r);
+		return o;
+	}
+
+	/*
+	 * Moves past the remainder of the line of a record, making sure it consists only of whitespace and comments.
+	 */
+	private void skipToEndOfLine(ParserReader r) throws Exception {
+		int c;
+		while ((c = r.read()) != -1 && c != '\n') {
+			if (c == '/') {
+				if (isStrict())
+					throw new ParseException(loc(r), "Javascript comment detected.");
+				// A "//" comment runs up to and including the newline.
+				boolean lineComment = r.peek() == '/';
+				skipComments(r);
+				if (lineComment)
+					return;
+			} else if (! isWhitespace(c)) {
+				throw new ParseException(loc(r), "Expected newline after record but found ''{0}''.", (char)c);
+			}
+		}
+	}
+}
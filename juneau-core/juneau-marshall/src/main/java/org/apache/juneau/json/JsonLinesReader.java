@@ -0,0 +1,87 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Reads records one at a time from JSON Lines input.
+ *
+ * <p>
+ * Created by {@link JsonLinesParser#createReader(Object, java.lang.reflect.Type, java.lang.reflect.Type...)}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ *
+ * @param <E> The record class type.
+ */
+public final class JsonLinesReader<E> implements Closeable {
+
+	private final JsonLinesParserSession session;
+	private final ParserPipe pipe;
+	private final ParserReader reader;
+	private final ClassMeta<E> type;
+
+	JsonLinesReader(JsonLinesParserSession session, ParserPipe pipe, ClassMeta<E> type) throws Exception {
+		this.session = session;
+		this.pipe = pipe;
+		this.reader = pipe.getParserReader();
+		this.type = type;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if there are more records in the input.
+	 *
+	 * @return <jk>true</jk> if there are more records in the input.
+	 * @throws ParseException If an I/O or syntax error occurred.
+	 */
+	public boolean hasNext() throws ParseException {
+		try {
+			return reader != null && session.hasNextRecord(reader);
+		} catch (ParseException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ParseException(session.getLastLocation(), e);
+		}
+	}
+
+	/**
+	 * Parses and returns the next record in the input.
+	 *
+	 * @return The next record.  Can be <jk>null</jk> if the record was the <js>"null"</js> literal.
+	 * @throws ParseException If an I/O or syntax error occurred.
+	 * @throws NoSuchElementException If there are no more records.
+	 */
+	public E next() throws ParseException {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		try {
+			return session.nextRecord(reader, type);
+		} catch (ParseException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ParseException(session.getLastLocation(), e);
+		}
+	}
+
+	@Override /* Closeable */
+	public void close() throws IOException {
+		if (reader != null)
+			reader.close();
+		pipe.close();
+	}
+}
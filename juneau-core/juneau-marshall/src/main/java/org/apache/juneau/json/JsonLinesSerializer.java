@@ -0,0 +1,119 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Serializes POJO models to JSON Lines (newline-delimited JSON).
+ *
+ * <h5 class='section'>Media types:</h5>
+ *
+ * Handles <code>Accept</code> types: <code>application/jsonl, application/x-ndjson</code>
+ * <p>
+ * Produces <code>Content-Type</code> types: <code>application/jsonl</code>
+ *
+ * <h5 class='section'>Description:</h5>
+ *
+ * Collections, arrays, {@link java.util.Iterator Iterators} and {@link java.util.Enumeration Enumerations} are
+ * serialized as one JSON value per line.
+ * Iterators and enumerations are consumed lazily, so large result sets can be streamed without first being
+ * materialized in memory.
+ * Any other object is serialized as a single line.
+ *
+ * <p>
+ * Whitespace is always disabled since each record must fit on a single line.
+ * All other settings are the same as {@link JsonSerializer}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	<jc>// Produces "{a:1}\n{a:2}\n"</jc>
+ * 	String jsonl = JsonLinesSerializer.<jsf>DEFAULT_LAX</jsf>.serialize(myListOfBeans);
+ * </p>
+ */
+public class JsonLinesSerializer extends JsonSerializer {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default serializer, all default settings.*/
+	public static final JsonLinesSerializer DEFAULT = new JsonLinesSerializer(PropertyStore.create());
+
+	/** Default serializer, single quotes, simple mode. */
+	public static final JsonLinesSerializer DEFAULT_LAX = new Simple(PropertyStore.create());
+
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined subclasses
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default serializer, single quotes, simple mode. */
+	public static class Simple extends JsonLinesSerializer {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param propertyStore The property store containing all the settings for this object.
+		 */
+		public Simple(PropertyStore propertyStore) {
+			super(
+				propertyStore.copy()
+					.append(JSON_simpleMode, true)
+					.append(SERIALIZER_quoteChar, '\'')
+			);
+		}
+	}
+
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructor.
+	 *
+	 * @param propertyStore The property store containing all the settings for this object.
+	 */
+	public JsonLinesSerializer(PropertyStore propertyStore) {
+		super(
+			propertyStore.copy()
+				.append(SERIALIZER_useWhitespace, false),
+			"application/jsonl",
+			"application/jsonl", "application/x-ndjson"
+		);
+	}
+
+	@Override /* CoreObject */
+	public JsonLinesSerializerBuilder builder() {
+		return new JsonLinesSerializerBuilder(propertyStore);
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link JsonLinesSerializerBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> JsonLinesSerializerBuilder()</code>.
+	 *
+	 * @return A new {@link JsonLinesSerializerBuilder} object.
+	 */
+	public static JsonLinesSerializerBuilder create() {
+		return new JsonLinesSerializerBuilder();
+	}
+
+	@Override /* Serializer */
+	public WriterSerializerSession createSession(SerializerSessionArgs args) {
+		return new JsonLinesSerializerSession(ctx, args);
+	}
+}
@@ -0,0 +1,77 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link JsonLinesSerializer}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused within the same thread.
+ */
+public class JsonLinesSerializerSession extends JsonSerializerSession {
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime arguments.
+	 * 	These specify session-level information such as locale and URI context.
+	 * 	It also include session-level properties that override the properties defined on the bean and
+	 * 	serializer contexts.
+	 */
+	protected JsonLinesSerializerSession(JsonSerializerContext ctx, SerializerSessionArgs args) {
+		super(ctx, args);
+	}
+
+	@Override /* SerializerSession */
+	protected boolean isUseWhitespace() {
+		return false;
+	}
+
+	@Override /* SerializerSesssion */
+	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
+		JsonWriter w = getJsonWriter(out);
+		if (o instanceof Collection) {
+			for (Object o2 : sort((Collection<?>)o))
+				serializeLine(w, o2);
+		} else if (o != null && o.getClass().isArray()) {
+			for (Object o2 : toList(o.getClass(), o))
+				serializeLine(w, o2);
+		} else if (o instanceof Iterator) {
+			for (Iterator<?> i = (Iterator<?>)o; i.hasNext();)
+				serializeLine(w, i.next());
+		} else if (o instanceof Enumeration) {
+			for (Enumeration<?> e = (Enumeration<?>)o; e.hasMoreElements();)
+				serializeLine(w, e.nextElement());
+		} else {
+			serializeLine(w, o);
+		}
+	}
+
+	/*
+	 * Serializes a single record followed by a newline.
+	 */
+	private void serializeLine(JsonWriter w, Object o) throws Exception {
+		serializeAnything(w, o, getExpectedRootType(o), "root", null);
+		w.append('\n');
+	}
+}
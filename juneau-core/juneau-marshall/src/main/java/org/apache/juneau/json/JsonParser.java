@@ -12,6 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.json;
 
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
@@ -97,6 +101,14 @@ import org.apache.juneau.parser.*;
  * {@link ObjectMap#ObjectMap(CharSequence) ObjectMap(CharSequence)} or {@link ObjectList#ObjectList(CharSequence)
  * ObjectList(CharSequence)} constructors instead of using this class.
  * The end result should be the same.
+ *
+ * <h5 class='section'>Parallel parsing:</h5>
+ *
+ * <p>
+ * Large in-memory arrays of records (or newline-delimited records) can be parsed in parallel using the
+ * {@link #parseParallel(CharSequence, Class)} methods.
+ * A fast structural scan locates the top-level element boundaries, and the elements are then parsed in batches on a
+ * {@link ForkJoinPool}.
  */
 public class JsonParser extends ReaderParser {
 
@@ -133,7 +145,11 @@ public class JsonParser extends ReaderParser {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final JsonParserContext ctx;
+	/** Minimum number of elements handled by a single parallel parse task. */
+	private static final int MIN_BATCH_SIZE = 16;
+
+	final JsonParserContext ctx;
+	private final boolean strict;
 
 	/**
 	 * Constructor.
@@ -153,6 +169,7 @@ public class JsonParser extends ReaderParser {
 	public JsonParser(PropertyStore propertyStore, String...consumes) {
 		super(propertyStore, consumes);
 		this.ctx = createContext(JsonParserContext.class);
+		this.strict = propertyStore.getProperty(PARSER_strict, boolean.class, false);
 	}
 
 	@Override /* CoreObject */
@@ -180,4 +197,140 @@ public class JsonParser extends ReaderParser {
 	public ReaderParserSession createSession(ParserSessionArgs args) {
 		return new JsonParserSession(ctx, args);
 	}
+
+	/**
+	 * Parses a JSON array or newline-delimited JSON values into a list of POJOs in parallel.
+	 *
+	 * <p>
+	 * Same as calling {@link #parseParallel(CharSequence, Type, ForkJoinPool)} using a shared fork-join pool that's
+	 * created on first use with one thread per available processor.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	List&lt;MyBean&gt; l = JsonParser.<jsf>DEFAULT</jsf>.parseParallel(json, MyBean.<jk>class</jk>);
+	 * </p>
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input containing either a JSON array or newline-delimited JSON values.
+	 * @param elementType The class type of the elements.
+	 * @return The parsed elements in the same order they appear in the input.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
+	 */
+	public final <E> List<E> parseParallel(CharSequence input, Class<E> elementType) throws ParseException {
+		return parseParallel(input, elementType, PoolHolder.POOL);
+	}
+
+	/*
+	 * Lazily creates the pool used by parseParallel(CharSequence,Class).
+	 * ForkJoinPool.commonPool() isn't available on Java 7.
+	 */
+	private static final class PoolHolder {
+		static final ForkJoinPool POOL = new ForkJoinPool();
+	}
+
+	/**
+	 * Parses a JSON array or newline-delimited JSON values into a list of POJOs in parallel.
+	 *
+	 * <p>
+	 * The input is first scanned to locate the boundaries of the top-level elements without building any objects.
+	 * The elements are then divided into batches and parsed on the specified pool, each batch using its own
+	 * {@link ParserSession}.
+	 * Small inputs are parsed on the calling thread.
+	 *
+	 * <p>
+	 * Note that error locations reported for individual elements are relative to the start of the element.
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input containing either a JSON array or newline-delimited JSON values.
+	 * @param elementType
+	 * 	The class type of the elements.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType},
+	 * 	{@link GenericArrayType}
+	 * @param pool The fork-join pool to parse the elements on.
+	 * @return The parsed elements in the same order they appear in the input.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
+	 */
+	@SuppressWarnings("unchecked")
+	public final <E> List<E> parseParallel(CharSequence input, Type elementType, ForkJoinPool pool) throws ParseException {
+		if (input == null)
+			return null;
+		JsonArraySplitter s = new JsonArraySplitter(input, strict).split();
+		ClassMeta<E> type = (ClassMeta<E>)createSession().getClassMeta(elementType);
+		int size = s.size();
+		Object[] results = new Object[size];
+		int batchSize = Math.max(MIN_BATCH_SIZE, size / (pool.getParallelism() * 4));
+		ParseTask task = new ParseTask(input, s, type, results, 0, size, batchSize);
+		try {
+			if (size <= batchSize)
+				task.compute();
+			else
+				pool.invoke(task);
+		} catch (ParallelParseException e) {
+			throw e.getCause();
+		}
+		return (List<E>)Arrays.asList(results);
+	}
+
+	/*
+	 * Parses the elements in a range of the split input, dividing the range in half until it's small enough.
+	 */
+	private final class ParseTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final CharSequence input;
+		private final JsonArraySplitter splitter;
+		private final ClassMeta<?> type;
+		private final Object[] results;
+		private final int from, to, batchSize;
+
+		ParseTask(CharSequence input, JsonArraySplitter splitter, ClassMeta<?> type, Object[] results, int from, int to, int batchSize) {
+			this.input = input;
+			this.splitter = splitter;
+			this.type = type;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+			this.batchSize = batchSize;
+		}
+
+		@Override /* RecursiveAction */
+		protected void compute() {
+			if (to - from > batchSize) {
+				int mid = (from + to) >>> 1;
+				invokeAll(
+					new ParseTask(input, splitter, type, results, from, mid, batchSize),
+					new ParseTask(input, splitter, type, results, mid, to, batchSize)
+				);
+				return;
+			}
+			ParserSession session = createSession();
+			for (int i = from; i < to; i++) {
+				int start = splitter.start(i), end = splitter.end(i);
+				try {
+					results[i] = (start == end ? null : session.parse(input.subSequence(start, end), type));
+				} catch (ParseException e) {
+					throw new ParallelParseException(new ParseException(
+						new ObjectMap().append("element", i).append("position", start), e));
+				}
+			}
+		}
+	}
+
+	/*
+	 * Carries a checked parse exception out of a fork-join task.
+	 */
+	private static final class ParallelParseException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		ParallelParseException(ParseException cause) {
+			super(cause);
+		}
+
+		@Override /* Throwable */
+		public synchronized ParseException getCause() {
+			return (ParseException)super.getCause();
+		}
+	}
 }
@@ -31,7 +31,7 @@ import org.apache.juneau.transform.*;
  * It is typically discarded after one-time use although it can be reused against multiple inputs.
  */
 @SuppressWarnings({ "unchecked", "rawtypes" })
-public final class JsonParserSession extends ReaderParserSession {
+public class JsonParserSession extends ReaderParserSession {
 
 	private static final AsciiSet decChars = new AsciiSet("0123456789");
 
@@ -108,7 +108,7 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
-	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
+	<T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
 			eType = object();
@@ -447,6 +447,7 @@ public final class JsonParserSession extends ReaderParserSession {
 		int S4=4; // Found :, looking for valStart: { [ " ' LITERAL.
 		int S5=5; // Looking for , or }
 
+		BeanBinder<T> binder = m.getMeta().getBinder();
 		int state = S0;
 		String currAttr = "";
 		int c = 0;
@@ -476,7 +477,8 @@ public final class JsonParserSession extends ReaderParserSession {
 					skipCommentsAndSpace(r.unread());
 				} else {
 					if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
-						BeanPropertyMeta pMeta = m.getPropertyMeta(currAttr);
+						BeanBinder<T>.Property bp = binder.getProperty(currAttr);
+						BeanPropertyMeta pMeta = bp == null ? null : bp.getMeta();
 						setCurrentProperty(pMeta);
 						if (pMeta == null) {
 							onUnknownProperty(r.getPipe(), currAttr, m, currAttrLine, currAttrCol);
@@ -485,7 +487,7 @@ public final class JsonParserSession extends ReaderParserSession {
 							ClassMeta<?> cm = pMeta.getClassMeta();
 							Object value = parseAnything(cm, r.unread(), m.getBean(false), pMeta);
 							setName(cm, value, currAttr);
-							pMeta.set(m, currAttr, value);
+							bp.set(m, currAttr, value);
 						}
 						setCurrentProperty(null);
 					}
@@ -590,7 +592,10 @@ public final class JsonParserSession extends ReaderParserSession {
 			throw new ParseException(loc(r), "Could not find expected end character ''{0}''.", (char)qc);
 
 		// Look for concatenated string (i.e. whitespace followed by +).
-		skipCommentsAndSpace(r);
+		if (isNewlineDelimited())
+			skipSpaceOnLine(r);
+		else
+			skipCommentsAndSpace(r);
 		if (r.peek() == '+') {
 			if (isStrict())
 				throw new ParseException(loc(r), "String concatenation detected.");
@@ -616,13 +621,34 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	/*
+	 * Returns true if values are delimited by newlines, in which case a string concatenation can't continue on the
+	 * next line.
+	 */
+	boolean isNewlineDelimited() {
+		return false;
+	}
+
+	/*
+	 * Moves the position beyond any whitespace up to, but not including, the next newline.
+	 */
+	private void skipSpaceOnLine(ParserReader r) throws Exception {
+		int c = 0;
+		while ((c = r.read()) != -1) {
+			if (c == '\n' || ! isWhitespace(c)) {
+				r.unread();
+				return;
+			}
+		}
+	}
+
 	/*
 	 * Doesn't actually parse anything, but moves the position beyond any whitespace or comments.
 	 * If positionOnNext is 'true', then the cursor will be set to the point immediately after
 	 * the comments and whitespace.  Otherwise, the cursor will be set to the last position of
 	 * the comments and whitespace.
 	 */
-	private void skipCommentsAndSpace(ParserReader r) throws Exception {
+	void skipCommentsAndSpace(ParserReader r) throws Exception {
 		int c = 0;
 		while ((c = r.read()) != -1) {
 			if (! isWhitespace(c)) {
@@ -714,7 +740,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Doesn't actually parse anything, but when positioned at the beginning of comment,
 	 * it will move the pointer to the last character in the comment.
 	 */
-	private void skipComments(ParserReader r) throws ParseException, IOException {
+	void skipComments(ParserReader r) throws ParseException, IOException {
 		int c = r.read();
 		//  "/* */" style comments
 		if (c == '*') {
@@ -737,14 +763,14 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Call this method after you've finished a parsing a string to make sure that if there's any
 	 * remainder in the input, that it consists only of whitespace and comments.
 	 */
-	private void validateEnd(ParserReader r) throws Exception {
+	void validateEnd(ParserReader r) throws Exception {
 		skipCommentsAndSpace(r);
 		int c = r.read();
 		if (c != -1 && c != ';')  // var x = {...}; expressions can end with a semicolon.
 			throw new ParseException(loc(r), "Remainder after parse: ''{0}''.", (char)c);
 	}
 
-	private ObjectMap loc(ParserReader r) {
+	ObjectMap loc(ParserReader r) {
 		return getLastLocation().append("line", r.getLine()).append("column", r.getColumn());
 	}
 }
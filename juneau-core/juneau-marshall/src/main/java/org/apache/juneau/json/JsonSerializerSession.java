@@ -188,31 +188,62 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		out.append('{');
 
 		boolean addComma = false;
-		for (BeanPropertyValue p : m.getValues(isTrimNulls(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null)) {
-			BeanPropertyMeta pMeta = p.getMeta();
-			ClassMeta<?> cMeta = p.getClassMeta();
-			String key = p.getName();
-			Object value = p.getValue();
-			Throwable t = p.getThrown();
-			if (t != null)
-				onBeanGetterException(pMeta, t);
-
-			if (canIgnoreValue(cMeta, key, value))
-				continue;
-
-			if (addComma)
-				out.append(',').smi(i);
-
-			out.cr(i).attr(key).append(':').s(i);
-
-			serializeAnything(out, value, cMeta, key, pMeta);
-
-			addComma = true;
+		BeanSerializerPlan plan = getBeanSerializerPlan(m);
+
+		if (plan == null) {
+			for (BeanPropertyValue p : m.getValues(isTrimNulls(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null)) {
+				BeanPropertyMeta pMeta = p.getMeta();
+				ClassMeta<?> cMeta = p.getClassMeta();
+				String key = p.getName();
+				Object value = p.getValue();
+				Throwable t = p.getThrown();
+				if (t != null)
+					onBeanGetterException(pMeta, t);
+
+				if (canIgnoreValue(cMeta, key, value))
+					continue;
+
+				addComma = serializeBeanProperty(out, i, addComma, key, value, cMeta, pMeta);
+			}
+		} else {
+			if (typeName != null) {
+				BeanPropertyMeta pMeta = plan.getTypeProperty();
+				addComma = serializeBeanProperty(out, i, addComma, pMeta.getName(), typeName, pMeta.getClassMeta(), pMeta);
+			}
+			for (int j = 0; j < plan.size(); j++) {
+				BeanPropertyMeta pMeta = plan.getPropertyMeta(j);
+				Object value;
+				try {
+					value = pMeta.get(m, null);
+				} catch (Error e) {
+					// Errors should always be uncaught.
+					throw e;
+				} catch (Throwable t) {
+					onBeanGetterException(pMeta, t);
+					value = null;
+				}
+
+				if (canIgnoreValue(plan, j, value))
+					continue;
+
+				addComma = serializeBeanProperty(out, i, addComma, plan.getName(j), value, plan.getClassMeta(j), pMeta);
+			}
 		}
 		out.cre(i-1).append('}');
 		return out;
 	}
 
+	private boolean serializeBeanProperty(JsonWriter out, int i, boolean addComma, String key, Object value, ClassMeta<?> cMeta, BeanPropertyMeta pMeta) throws Exception {
+		if (addComma)
+			out.append(',').smi(i);
+
+		out.cr(i).attr(key).append(':').s(i);
+
+		serializeAnything(out, value, cMeta, key, pMeta);
+
+		return true;
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonWriter out, Collection c, ClassMeta<?> type) throws Exception {
 
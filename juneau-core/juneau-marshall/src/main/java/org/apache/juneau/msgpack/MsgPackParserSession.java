@@ -113,19 +113,21 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 			} else if (sType.canCreateNewBean(outer)) {
 				if (dt == MAP) {
 					BeanMap m = newBeanMap(outer, sType.getInnerClass());
+					BeanBinder binder = m.getMeta().getBinder();
 					for (int i = 0; i < length; i++) {
 						String pName = parseAnything(string(), is, m.getBean(false), null);
-						BeanPropertyMeta bpm = m.getPropertyMeta(pName);
-						if (bpm == null) {
+						BeanBinder.Property bp = binder.getProperty(pName);
+						if (bp == null) {
 							if (pName.equals(getBeanTypePropertyName(eType)))
 								parseAnything(string(), is, null, null);
 							else
 								onUnknownProperty(is.getPipe(), pName, m, 0, is.getPosition());
 						} else {
+							BeanPropertyMeta bpm = bp.getMeta();
 							ClassMeta<?> cm = bpm.getClassMeta();
 							Object value = parseAnything(cm, is, m.getBean(false), bpm);
 							setName(cm, value, pName);
-							bpm.set(m, pName, value);
+							bp.set(m, pName, value);
 						}
 					}
 					o = m.getBean();
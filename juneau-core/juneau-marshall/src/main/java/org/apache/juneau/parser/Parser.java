@@ -549,6 +549,25 @@ public abstract class Parser extends CoreObject {
 		return createSession().parseArgs(input, argTypes);
 	}
 
+	/**
+	 * Same as {@link #parseArgs(Object, Type[])} except the argument types are specified as an args class meta.
+	 *
+	 * <p>
+	 * The args class meta can be created once through {@link BeanSession#getArgsClassMeta(Type[])} on a session of
+	 * this parser's {@link #getBeanContext() bean context} and reused for every call.
+	 *
+	 * @param input The input.  Subclasses can support different input types.
+	 * @param argsMeta The args class meta specifying the type of objects to create for each entry in the array.
+	 * @return An array of parsed objects.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
+	 */
+	public final Object[] parseArgs(Object input, ClassMeta<Object[]> argsMeta) throws ParseException {
+		if (argsMeta.getArgs().length == 0)
+			return new Object[0];
+		return createSession().parseArgs(input, argsMeta);
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// Other methods
@@ -651,8 +651,26 @@ public abstract class ParserSession extends BeanSession {
 	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
 	 */
 	public final Object[] parseArgs(Object input, Type[] argTypes) throws ParseException {
+		return parseArgs(input, getArgsClassMeta(argTypes));
+	}
+
+	/**
+	 * Same as {@link #parseArgs(Object, Type[])} except the argument types are specified as an args class meta.
+	 *
+	 * <p>
+	 * Used when the same argument types are parsed repeatedly (e.g. the arguments of a remoteable method) so that the
+	 * class meta only has to be created once through {@link #getArgsClassMeta(Type[])}.
+	 * The class meta must have been created by the same bean context as this session.
+	 *
+	 * @param input The input.  Subclasses can support different input types.
+	 * @param argsMeta The args class meta specifying the type of objects to create for each entry in the array.
+	 * @return An array of parsed objects.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
+	 */
+	public final Object[] parseArgs(Object input, ClassMeta<Object[]> argsMeta) throws ParseException {
 		try (ParserPipe pipe = createPipe(input)) {
-			return doParse(pipe, getArgsClassMeta(argTypes));
+			return doParse(pipe, argsMeta);
 		} catch (ParseException e) {
 			throw e;
 		} catch (StackOverflowError e) {
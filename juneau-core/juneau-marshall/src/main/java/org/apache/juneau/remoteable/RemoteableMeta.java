@@ -72,4 +72,13 @@ public class RemoteableMeta {
 	public RemoteableMethodMeta getMethodMeta(Method m) {
 		return methods.get(m);
 	}
+
+	/**
+	 * Returns the metadata about all the methods exposed on this interface proxy.
+	 *
+	 * @return An unmodifiable map of methods to their metadata.  Never <jk>null</jk>.
+	 */
+	public Map<Method,RemoteableMethodMeta> getMethodMetas() {
+		return methods;
+	}
 }
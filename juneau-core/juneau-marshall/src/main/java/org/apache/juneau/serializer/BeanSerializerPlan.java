@@ -0,0 +1,137 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import org.apache.juneau.*;
+
+/**
+ * Precompiled description of how the properties of a bean class are serialized.
+ *
+ * <p>
+ * Plans are built once per bean {@link ClassMeta} by {@link SerializerContext} and reused by every session created
+ * from that context.
+ * They capture everything about a bean class that does not change between serializations (the ordered list of
+ * properties, their types, and whether their values can ever be trimmed as empty) so that serializer sessions can
+ * iterate over bean properties directly instead of materializing a {@link BeanPropertyValue} for every property.
+ *
+ * <p>
+ * Plans are not available for beans with dynamic properties (see {@link BeanProperty#name()}) since the set of
+ * properties on those beans is only known at serialization time.
+ */
+public final class BeanSerializerPlan {
+
+	private final BeanPropertyMeta[] properties;
+	private final String[] names;
+	private final ClassMeta<?>[] types;
+	private final boolean[] trimmable;
+	private final BeanPropertyMeta typeProperty;
+	private final boolean dyna;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cm The bean class being compiled.
+	 */
+	BeanSerializerPlan(ClassMeta<?> cm) {
+		BeanMeta<?> bm = cm.getBeanMeta();
+		int size = bm.getPropertyMetas().size(), i = 0;
+		this.properties = new BeanPropertyMeta[size];
+		this.names = new String[size];
+		this.types = new ClassMeta<?>[size];
+		this.trimmable = new boolean[size];
+		boolean dyna = false;
+		for (BeanPropertyMeta p : bm.getPropertyMetas()) {
+			ClassMeta<?> t = p.getClassMeta();
+			properties[i] = p;
+			names[i] = p.getName();
+			types[i] = t;
+			trimmable[i] = t.isArray() || t.isCollection() || t.isMap() || t.isObject();
+			dyna |= p.isDyna();
+			i++;
+		}
+		this.typeProperty = bm.getTypeProperty();
+		this.dyna = dyna;
+	}
+
+	/**
+	 * Returns the number of properties in this plan.
+	 *
+	 * @return The number of properties in this plan.
+	 */
+	public int size() {
+		return properties.length;
+	}
+
+	/**
+	 * Returns the metadata of the property at the specified index.
+	 *
+	 * @param index The property index.
+	 * @return The property metadata.
+	 */
+	public BeanPropertyMeta getPropertyMeta(int index) {
+		return properties[index];
+	}
+
+	/**
+	 * Returns the name of the property at the specified index.
+	 *
+	 * @param index The property index.
+	 * @return The property name.
+	 */
+	public String getName(int index) {
+		return names[index];
+	}
+
+	/**
+	 * Returns the class type of the property at the specified index.
+	 *
+	 * @param index The property index.
+	 * @return The property class type.
+	 */
+	public ClassMeta<?> getClassMeta(int index) {
+		return types[index];
+	}
+
+	/**
+	 * Returns the synthetic property used to serialize the bean type name (e.g. <js>"_type"</js>).
+	 *
+	 * @return The bean type property.
+	 */
+	public BeanPropertyMeta getTypeProperty() {
+		return typeProperty;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if a non-null value of the property at the specified index could be trimmed as an empty
+	 * collection, array, or map, or could be the target of a recursion check.
+	 *
+	 * <p>
+	 * Non-null values of all other properties (strings, numbers, beans...) never need to go through
+	 * {@link SerializerSession#canIgnoreValue(ClassMeta, String, Object)} unless recursion detection is enabled.
+	 *
+	 * @param index The property index.
+	 * @return <jk>true</jk> if the value may need to be trimmed.
+	 */
+	boolean isTrimmable(int index) {
+		return trimmable[index];
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this bean has a dynamic property.
+	 *
+	 * @return <jk>true</jk> if this bean has a dynamic property.
+	 */
+	boolean isDyna() {
+		return dyna;
+	}
+}
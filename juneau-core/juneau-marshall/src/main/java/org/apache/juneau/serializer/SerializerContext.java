@@ -14,6 +14,8 @@ package org.apache.juneau.serializer;
 
 import static org.apache.juneau.serializer.Serializer.*;
 
+import java.util.concurrent.*;
+
 import org.apache.juneau.*;
 
 /**
@@ -46,6 +48,8 @@ public class SerializerContext extends BeanContext {
 	final UriRelativity uriRelativity;
 	final Class<? extends SerializerListener> listener;
 
+	private final ConcurrentHashMap<ClassMeta<?>,BeanSerializerPlan> beanPlans = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructor.
 	 *
@@ -74,6 +78,26 @@ public class SerializerContext extends BeanContext {
 		listener = ps.getProperty(SERIALIZER_listener, Class.class, null);
 	}
 
+	/**
+	 * Returns the compiled serialization plan for the specified bean class.
+	 *
+	 * <p>
+	 * Plans are built on first use and cached for the lifetime of this context.
+	 *
+	 * @param cm The bean class.
+	 * @return The compiled plan.  Never <jk>null</jk>.
+	 */
+	final BeanSerializerPlan getBeanSerializerPlan(ClassMeta<?> cm) {
+		BeanSerializerPlan p = beanPlans.get(cm);
+		if (p == null) {
+			p = new BeanSerializerPlan(cm);
+			BeanSerializerPlan p2 = beanPlans.putIfAbsent(cm, p);
+			if (p2 != null)
+				p = p2;
+		}
+		return p;
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -65,8 +65,10 @@ public abstract class SerializerSession extends BeanSession {
 	private final char quoteChar;
 	private final UriResolver uriResolver;
 
-	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
-	private final LinkedList<StackElement> stack = new LinkedList<>();              // Contains the current objects in the current branch of the model.
+	private final boolean trackStack;                                               // If 'true', detectRecursions or debug is enabled.
+	private StackElement[] stack;                                                   // Contains the current objects in the current branch of the model.
+	private int stackSize;                                                          // Number of elements in use on the stack.
+	private IdentityHashMap<Object,Object> stackIndex;                              // Identity index of objects on the stack once it gets deeper than LINEAR_SCAN_DEPTH.
 	private final Method javaMethod;                                                // Java method that invoked this serializer.
 
 	// Writable properties
@@ -74,6 +76,10 @@ public abstract class SerializerSession extends BeanSession {
 	private BeanPropertyMeta currentProperty;
 	private ClassMeta<?> currentClass;
 	private final SerializerListener listener;
+	private final SerializerContext ctx;
+
+	// Stack depth up to which recursion checks are done with a linear identity scan instead of a hash lookup.
+	private static final int LINEAR_SCAN_DEPTH = 16;
 
 	/** The current indentation depth into the model. */
 	public int indent;
@@ -96,6 +102,7 @@ public abstract class SerializerSession extends BeanSession {
 		super(ctx != null ? ctx : SerializerContext.DEFAULT, args);
 		if (ctx == null)
 			ctx = SerializerContext.DEFAULT;
+		this.ctx = ctx;
 		this.javaMethod = args.javaMethod;
 		UriResolution uriResolution;
 		UriRelativity uriRelativity;
@@ -125,11 +132,7 @@ public abstract class SerializerSession extends BeanSession {
 		listener = newInstance(SerializerListener.class, listenerClass);
 
 		this.indent = initialDepth;
-		if (detectRecursions || isDebug()) {
-			set = new IdentityHashMap<>();
-		} else {
-			set = Collections.emptyMap();
-		}
+		this.trackStack = detectRecursions || isDebug();
 	}
 
 	@Override /* Session */
@@ -430,16 +433,15 @@ public abstract class SerializerSession extends BeanSession {
 		ClassMeta<?> cm = (eType != null && c == eType.getInnerClass()) ? eType : getClassMeta(c);
 		if (cm.isCharSequence() || cm.isNumber() || cm.isBoolean())
 			return cm;
-		if (detectRecursions || isDebug()) {
-			if (stack.size() > maxDepth)
+		if (trackStack) {
+			if (stackSize > maxDepth)
 				return null;
 			if (willRecurse(attrName, o, cm))
 				return null;
 			isBottom = false;
-			stack.add(new StackElement(stack.size(), attrName, o, cm));
+			pushStack(attrName, o, cm);
 			if (isDebug())
 				getLogger().info(getStack(false));
-			set.put(o, o);
 		}
 		return cm;
 	}
@@ -455,14 +457,14 @@ public abstract class SerializerSession extends BeanSession {
 	 * @throws SerializeException If recursion occurred.
 	 */
 	protected final boolean willRecurse(String attrName, Object o, ClassMeta<?> cm) throws SerializeException {
-		if (! (detectRecursions || isDebug()))
+		if (! trackStack)
 			return false;
-		if (! set.containsKey(o))
+		if (! stackContains(o))
 			return false;
 		if (ignoreRecursions && ! isDebug())
 			return true;
 
-		stack.add(new StackElement(stack.size(), attrName, o, cm));
+		pushStack(attrName, o, cm);
 		throw new SerializeException("Recursion occurred, stack={0}", getStack(true));
 	}
 
@@ -471,16 +473,52 @@ public abstract class SerializerSession extends BeanSession {
 	 */
 	protected final void pop() {
 		indent--;
-		if ((detectRecursions || isDebug()) && ! isBottom)  {
-			Object o = stack.removeLast().o;
-			Object o2 = set.remove(o);
-			if (o2 == null)
+		if (trackStack && ! isBottom)  {
+			StackElement e = stack[--stackSize];
+			Object o = e.o;
+			e.o = null;
+			if (stackIndex != null && stackIndex.remove(o) == null)
 				onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.",
-					o.getClass().getName(), stack);
+					o.getClass().getName(), e.name);
 		}
 		isBottom = false;
 	}
 
+	/*
+	 * Adds an entry to the stack, reusing a previously allocated frame when possible.
+	 * Objects are only added to the identity index once the stack gets deep enough that a linear scan is slower.
+	 */
+	private void pushStack(String attrName, Object o, ClassMeta<?> cm) {
+		if (stack == null)
+			stack = new StackElement[LINEAR_SCAN_DEPTH];
+		else if (stackSize == stack.length)
+			stack = Arrays.copyOf(stack, stackSize * 2);
+		StackElement e = stack[stackSize];
+		if (e == null)
+			e = stack[stackSize] = new StackElement();
+		e.set(stackSize, attrName, o, cm);
+		stackSize++;
+		if (stackIndex != null) {
+			stackIndex.put(o, o);
+		} else if (stackSize > LINEAR_SCAN_DEPTH) {
+			stackIndex = new IdentityHashMap<>();
+			for (int i = 0; i < stackSize; i++)
+				stackIndex.put(stack[i].o, stack[i].o);
+		}
+	}
+
+	/*
+	 * Returns true if the specified object is already on the stack.
+	 */
+	private boolean stackContains(Object o) {
+		if (stackIndex != null)
+			return stackIndex.containsKey(o);
+		for (int i = 0; i < stackSize; i++)
+			if (stack[i].o == o)
+				return true;
+		return false;
+	}
+
 	/**
 	 * Specialized warning when an exception is thrown while executing a bean getter.
 	 *
@@ -591,6 +629,49 @@ public abstract class SerializerSession extends BeanSession {
 		return false;
 	}
 
+	/**
+	 * Same as {@link #canIgnoreValue(ClassMeta, String, Object)} but for a property of a compiled bean plan.
+	 *
+	 * <p>
+	 * Uses the information precomputed in the plan to avoid inspecting the value when it can never be trimmed.
+	 *
+	 * @param plan The compiled bean plan.
+	 * @param index The index of the property in the plan.
+	 * @param value The object being serialized.
+	 * @return <jk>true</jk> if the specified value should not be serialized.
+	 * @throws SerializeException If recursion occurred.
+	 */
+	protected final boolean canIgnoreValue(BeanSerializerPlan plan, int index, Object value) throws SerializeException {
+		if (value == null)
+			return trimNulls;
+		if (! (plan.isTrimmable(index) || (trimNulls && trackStack)))
+			return false;
+		return canIgnoreValue(plan.getClassMeta(index), plan.getName(index), value);
+	}
+
+	/**
+	 * Returns the compiled serialization plan for the specified bean map.
+	 *
+	 * <p>
+	 * Serializers can iterate over the properties of the plan and call
+	 * {@link BeanPropertyMeta#get(BeanMap, String)} directly instead of calling
+	 * {@link BeanMap#getValues(boolean, BeanPropertyValue...)}, which avoids creating a {@link BeanPropertyValue}
+	 * object per property.
+	 *
+	 * @param m The bean map being serialized.
+	 * @return
+	 * 	The compiled plan, or <jk>null</jk> if the bean map cannot be serialized using a plan (e.g. the bean has
+	 * 	dynamic properties, or the bean map only exposes a subset of the bean properties) and {@link BeanMap#getValues(boolean, BeanPropertyValue...)}
+	 * 	should be used instead.
+	 */
+	protected final BeanSerializerPlan getBeanSerializerPlan(BeanMap<?> m) {
+		ClassMeta<?> cm = m.getClassMeta();
+		if (m.getClass() != BeanMap.class || m.getMeta() != cm.getBeanMeta())
+			return null;
+		BeanSerializerPlan p = ctx.getBeanSerializerPlan(cm);
+		return p.isDyna() ? null : p;
+	}
+
 	/**
 	 * Sorts the specified map if {@link SerializerSession#isSortMaps()} returns <jk>true</jk>.
 	 *
@@ -736,12 +817,12 @@ public abstract class SerializerSession extends BeanSession {
 	}
 
 	private static final class StackElement {
-		final int depth;
-		final String name;
-		final Object o;
-		final ClassMeta<?> aType;
+		int depth;
+		String name;
+		Object o;
+		ClassMeta<?> aType;
 
-		StackElement(int depth, String name, Object o, ClassMeta<?> aType) {
+		void set(int depth, String name, Object o, ClassMeta<?> aType) {
 			this.depth = depth;
 			this.name = name;
 			this.o = o;
@@ -760,7 +841,8 @@ public abstract class SerializerSession extends BeanSession {
 
 	private String getStack(boolean full) {
 		StringBuilder sb = new StringBuilder();
-		for (StackElement e : stack) {
+		for (int j = 0; j < stackSize; j++) {
+			StackElement e = stack[j];
 			if (full) {
 				sb.append("\n\t");
 				for (int i = 1; i < e.depth; i++)
@@ -786,8 +868,12 @@ public abstract class SerializerSession extends BeanSession {
 			m.put("currentClass", currentClass);
 		if (currentProperty != null)
 			m.put("currentProperty", currentProperty);
-		if (stack != null && ! stack.isEmpty())
-			m.put("stack", stack);
+		if (stackSize > 0) {
+			List<String> l = new ArrayList<>(stackSize);
+			for (int i = 0; i < stackSize; i++)
+				l.add(stack[i].toString(true));
+			m.put("stack", l);
+		}
 		return m;
 	}
 
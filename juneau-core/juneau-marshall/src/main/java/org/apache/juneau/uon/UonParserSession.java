@@ -456,6 +456,7 @@ public class UonParserSession extends ReaderParserSession {
 		final int S4=4; // Looking for , or }
 		boolean isInEscape = false;
 
+		BeanBinder<T> binder = m.getMeta().getBinder();
 		int state = S1;
 		String currAttr = "";
 		int currAttrLine = -1, currAttrCol = -1;
@@ -489,12 +490,12 @@ public class UonParserSession extends ReaderParserSession {
 				} else if (state == S3) {
 					if (c == -1 || c == ',' || c == ')' || c == AMP) {
 						if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
-							BeanPropertyMeta pMeta = m.getPropertyMeta(currAttr);
-							if (pMeta == null) {
+							BeanBinder<T>.Property bp = binder.getProperty(currAttr);
+							if (bp == null) {
 								onUnknownProperty(r.getPipe(), currAttr, m, currAttrLine, currAttrCol);
 							} else {
-								Object value = convertToType("", pMeta.getClassMeta());
-								pMeta.set(m, currAttr, value);
+								Object value = convertToType("", bp.getMeta().getClassMeta());
+								bp.set(m, currAttr, value);
 							}
 						}
 						if (c == -1 || c == ')' || c == AMP)
@@ -502,16 +503,17 @@ public class UonParserSession extends ReaderParserSession {
 						state = S1;
 					} else {
 						if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
-							BeanPropertyMeta pMeta = m.getPropertyMeta(currAttr);
-							if (pMeta == null) {
+							BeanBinder<T>.Property bp = binder.getProperty(currAttr);
+							if (bp == null) {
 								onUnknownProperty(r.getPipe(), currAttr, m, currAttrLine, currAttrCol);
 								parseAnything(object(), r.unread(), m.getBean(false), false, null); // Read content anyway to ignore it
 							} else {
+								BeanPropertyMeta pMeta = bp.getMeta();
 								setCurrentProperty(pMeta);
 								ClassMeta<?> cm = pMeta.getClassMeta();
 								Object value = parseAnything(cm, r.unread(), m.getBean(false), false, pMeta);
 								setName(cm, value, currAttr);
-								pMeta.set(m, currAttr, value);
+								bp.set(m, currAttr, value);
 								setCurrentProperty(null);
 							}
 						}
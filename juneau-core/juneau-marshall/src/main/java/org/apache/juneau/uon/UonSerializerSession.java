@@ -220,27 +220,47 @@ public class UonSerializerSession extends WriterSerializerSession {
 
 		boolean addComma = false;
 
-		for (BeanPropertyValue p : m.getValues(isTrimNulls(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null)) {
-			BeanPropertyMeta pMeta = p.getMeta();
-			ClassMeta<?> cMeta = p.getClassMeta();
-
-			String key = p.getName();
-			Object value = p.getValue();
-			Throwable t = p.getThrown();
-			if (t != null)
-				onBeanGetterException(pMeta, t);
-
-			if (canIgnoreValue(cMeta, key, value))
-				continue;
-
-			if (addComma)
-				out.append(',');
-
-			out.cr(indent).appendObject(key, false).append('=');
-
-			serializeAnything(out, value, cMeta, key, pMeta);
-
-			addComma = true;
+		BeanSerializerPlan plan = getBeanSerializerPlan(m);
+
+		if (plan == null) {
+			for (BeanPropertyValue p : m.getValues(isTrimNulls(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null)) {
+				BeanPropertyMeta pMeta = p.getMeta();
+				ClassMeta<?> cMeta = p.getClassMeta();
+
+				String key = p.getName();
+				Object value = p.getValue();
+				Throwable t = p.getThrown();
+				if (t != null)
+					onBeanGetterException(pMeta, t);
+
+				if (canIgnoreValue(cMeta, key, value))
+					continue;
+
+				addComma = serializeBeanProperty(out, addComma, key, value, cMeta, pMeta);
+			}
+		} else {
+			if (typeName != null) {
+				BeanPropertyMeta pMeta = plan.getTypeProperty();
+				addComma = serializeBeanProperty(out, addComma, pMeta.getName(), typeName, pMeta.getClassMeta(), pMeta);
+			}
+			for (int j = 0; j < plan.size(); j++) {
+				BeanPropertyMeta pMeta = plan.getPropertyMeta(j);
+				Object value;
+				try {
+					value = pMeta.get(m, null);
+				} catch (Error e) {
+					// Errors should always be uncaught.
+					throw e;
+				} catch (Throwable t) {
+					onBeanGetterException(pMeta, t);
+					value = null;
+				}
+
+				if (canIgnoreValue(plan, j, value))
+					continue;
+
+				addComma = serializeBeanProperty(out, addComma, plan.getName(j), value, plan.getClassMeta(j), pMeta);
+			}
 		}
 
 		if (m.size() > 0)
@@ -251,6 +271,17 @@ public class UonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	private boolean serializeBeanProperty(UonWriter out, boolean addComma, String key, Object value, ClassMeta<?> cMeta, BeanPropertyMeta pMeta) throws Exception {
+		if (addComma)
+			out.append(',');
+
+		out.cr(indent).appendObject(key, false).append('=');
+
+		serializeAnything(out, value, cMeta, key, pMeta);
+
+		return true;
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private SerializerWriter serializeCollection(UonWriter out, Collection c, ClassMeta<?> type) throws Exception {
 
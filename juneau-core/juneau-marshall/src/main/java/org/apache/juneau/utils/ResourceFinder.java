@@ -91,6 +91,31 @@ public final class ResourceFinder {
 		return getResource(name, locale).asInputStream();
 	}
 
+	/**
+	 * Returns the location of the resource with the given name without reading or caching its contents.
+	 *
+	 * <p>
+	 * Uses the same search order as {@link #getResourceAsStream(String)}, so this can be used to stream large
+	 * resources or to access resources residing on the file system directly.
+	 *
+	 * @param name Name of the desired resource.
+	 * @return The resource URL, or <jk>null</jk> if the resource could not be found.
+	 * @throws IOException
+	 */
+	public URL getResourceUrl(String name) throws IOException {
+		for (Class<?> c2 = c; c2 != null; c2 = c2.getSuperclass()) {
+			URL url = c2.getResource(name);
+			if (url != null)
+				return url;
+		}
+		if (name.indexOf("..") == -1) {
+			File f = new File(name);
+			if (f.exists() && f.canRead() && ! f.isAbsolute())
+				return f.toURI().toURL();
+		}
+		return null;
+	}
+
 	/**
 	 * Finds the resource with the given name and converts it to a simple string.
 	 *
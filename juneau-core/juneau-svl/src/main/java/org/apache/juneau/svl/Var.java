@@ -124,6 +124,24 @@ public abstract class Var {
 		return true;
 	}
 
+	/**
+	 * Returns whether this variable always resolves to the same value for the same argument.
+	 *
+	 * <p>
+	 * Constant variables whose arguments don't contain non-constant variables are resolved once when a string is
+	 * compiled through {@link VarResolver#compile(String)}, instead of every time it's resolved.
+	 *
+	 * <p>
+	 * The default implementation of this method always returns <jk>false</jk>.
+	 * Subclasses should only return <jk>true</jk> if the value doesn't depend on session objects (e.g. the HTTP
+	 * request), context objects, or any other state that can change at runtime.
+	 *
+	 * @return <jk>true</jk> if this variable always resolves to the same value for the same argument.
+	 */
+	protected boolean isConstant() {
+		return false;
+	}
+
 	/**
 	 * The method called from {@link VarResolver}.
 	 *
@@ -185,6 +185,21 @@ public class VarResolver {
 		return createSession(null).resolve(s);
 	}
 
+	/**
+	 * Parses the specified string into a template that can be resolved repeatedly without being reparsed.
+	 *
+	 * <p>
+	 * Templates containing variables are cached on this resolver, so compiling the same string twice usually returns the
+	 * same template.
+	 * Variables whose values can't change (see {@link Var#isConstant()}) are resolved once during compilation.
+	 *
+	 * @param s The string to compile.
+	 * @return The compiled template.
+	 */
+	public VarTemplate compile(String s) {
+		return ctx.compile(s);
+	}
+
 	/**
 	 * Resolve variables in the specified string and sends the results to the specified writer.
 	 *
@@ -200,4 +215,4 @@ public class VarResolver {
 	public void resolveTo(String s, Writer w) throws IOException {
 		createSession(null).resolveTo(s, w);
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
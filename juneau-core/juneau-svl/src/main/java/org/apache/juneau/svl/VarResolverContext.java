@@ -31,6 +31,12 @@ public class VarResolverContext {
 	private final Map<String,Var> varMap;
 	private final Map<String,Object> contextObjects;
 
+	/** The maximum number of compiled templates cached by a context. */
+	static final int MAX_TEMPLATES = 1000;
+
+	// Cleared once the limit is reached so that lookups never need a lock.
+	private final ConcurrentHashMap<String,VarTemplate> templates = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructor.
 	 *
@@ -89,4 +95,29 @@ public class VarResolverContext {
 	protected Map<String,Object> getContextObjects() {
 		return contextObjects;
 	}
+
+	/**
+	 * Returns the compiled template for the specified string.
+	 *
+	 * <p>
+	 * Strings containing variables or escapes are cached, up to {@link #MAX_TEMPLATES} templates after which the cache
+	 * is cleared.
+	 *
+	 * @param s The string to compile.
+	 * @return The compiled template.
+	 */
+	VarTemplate compile(String s) {
+		if (s == null || (s.indexOf('$') == -1 && s.indexOf('\\') == -1))
+			return VarTemplate.compile(this, s);
+		VarTemplate t = templates.get(s);
+		if (t == null) {
+			t = VarTemplate.compile(this, s);
+			if (templates.size() >= MAX_TEMPLATES)
+				templates.clear();
+			VarTemplate t2 = templates.putIfAbsent(s, t);
+			if (t2 != null)
+				t = t2;
+		}
+		return t;
+	}
 }
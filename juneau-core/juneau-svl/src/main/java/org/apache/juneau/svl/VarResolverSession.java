@@ -42,6 +42,7 @@ public class VarResolverSession {
 
 	private final VarResolverContext context;
 	private final Map<String,Object> sessionObjects;
+	private boolean requestDependent;
 
 	/**
 	 * Constructor.
@@ -57,6 +58,29 @@ public class VarResolverSession {
 		this.sessionObjects = sessionObjects != null ? sessionObjects : new HashMap<String,Object>();
 	}
 
+	/**
+	 * Flags that a value resolved through this session depends on the current request.
+	 *
+	 * <p>
+	 * Called by variables such as <js>"$R{Header.x}"</js> whose values can differ between requests that otherwise look
+	 * the same, so that callers caching resolved values can tell that the result must not be shared.
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public VarResolverSession markRequestDependent() {
+		requestDependent = true;
+		return this;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if any value resolved through this session so far depends on the current request.
+	 *
+	 * @return <jk>true</jk> if {@link #markRequestDependent()} has been called on this session.
+	 */
+	public boolean isRequestDependent() {
+		return requestDependent;
+	}
+
 	/**
 	 * Adds a session object to this session.
 	 *
@@ -86,35 +110,22 @@ public class VarResolverSession {
 		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
 			return s;
 
-		// Special case where value consists of a single variable with no embedded variables (e.g. "$X{...}").
-		// This is a common case, so we want an optimized solution that doesn't involve string builders.
-		if (isSimpleVar(s)) {
-			String var = s.substring(1, s.indexOf('{'));
-			String val = s.substring(s.indexOf('{')+1, s.length()-1);
-			Var v = getVar(var);
-			if (v != null) {
-				try {
-					if (v.streamed) {
-						StringWriter sw = new StringWriter();
-						v.resolveTo(this, sw, val);
-						return sw.toString();
-					}
-					s = v.doResolve(this, val);
-					if (s == null)
-						s = "";
-					return (v.allowRecurse() ? resolve(s) : s);
-				} catch (Exception e) {
-					return '{' + e.getLocalizedMessage() + '}';
-				}
-			}
-			return s;
-		}
+		return context.compile(s).resolve(this);
+	}
 
-		try {
-			return resolveTo(s, new StringWriter()).toString();
-		} catch (IOException e) {
-			throw new RuntimeException(e); // Never happens.
-		}
+	/**
+	 * Same as {@link #resolve(String)} but doesn't cache the compiled template.
+	 *
+	 * <p>
+	 * Used for values produced by variables, which may come from the request and so are rarely seen twice.
+	 *
+	 * @param s The string to resolve variables in.
+	 * @return The new string with all variables resolved.
+	 */
+	String resolveUncached(String s) {
+		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
+			return s;
+		return VarTemplate.compile(context, s).resolve(this);
 	}
 
 	/**
@@ -203,44 +214,6 @@ public class VarResolverSession {
 		return false;
 	}
 
-	/*
-	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
-	 * This is a common case, and we can avoid using StringWriters.
-	 */
-	private static boolean isSimpleVar(String s) {
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-		int S4 = 4;    // Found }
-
-		int length = s.length();
-		int state = S1;
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (c == '$') {
-					state = S2;
-				} else {
-					return false;
-				}
-			} else if (state == S2) {
-				if (c == '{') {
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
-					return false;
-				}
-			} else if (state == S3) {
-				if (c == '}')
-					state = S4;
-				else if (c == '{' || c == '$')
-					return false;
-			} else if (state == S4) {
-				return false;
-			}
-		}
-		return state == S4;
-	}
-
 	/**
 	 * Resolves variables in the specified string and sends the output to the specified writer.
 	 *
@@ -248,117 +221,17 @@ public class VarResolverSession {
 	 * More efficient than first parsing to a string and then serializing to the writer since this method doesn't need
 	 * to construct a large string.
 	 *
+	 * <p>
+	 * Strings containing variables are compiled into a {@link VarTemplate} that is cached on the resolver, so repeated
+	 * calls with the same string don't reparse it.
+	 *
 	 * @param s The string to resolve variables in.
 	 * @param out The writer to write to.
 	 * @return The same writer.
 	 * @throws IOException
 	 */
 	public Writer resolveTo(String s, Writer out) throws IOException {
-
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-
-		int state = S1;
-		boolean isInEscape = false;
-		boolean hasInternalVar = false;
-		boolean hasInnerEscapes = false;
-		String varType = null;
-		String varVal = null;
-		int x = 0, x2 = 0;
-		int depth = 0;
-		int length = s.length();
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (isInEscape) {
-					if (c == '\\' || c == '$') {
-						out.append(c);
-					} else {
-						out.append('\\').append(c);
-					}
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-				} else if (c == '$') {
-					x = i;
-					x2 = i;
-					state = S2;
-				} else {
-					out.append(c);
-				}
-			} else if (state == S2) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					hasInnerEscapes = true;
-					isInEscape = true;
-				} else if (c == '{') {
-					varType = s.substring(x+1, i);
-					x = i;
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
-					if (hasInnerEscapes)
-						out.append(unEscapeChars(s.substring(x, i+1), new char[]{'\\','{'}));
-					else
-						out.append(s, x, i+1);
-					x = i + 1;
-					state = S1;
-					hasInnerEscapes = false;
-				}
-			} else if (state == S3) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-					hasInnerEscapes = true;
-				} else if (c == '{') {
-					depth++;
-					hasInternalVar = true;
-				} else if (c == '}') {
-					if (depth > 0) {
-						depth--;
-					} else {
-						varVal = s.substring(x+1, i);
-						Var r = getVar(varType);
-						if (r == null) {
-							if (hasInnerEscapes)
-								out.append(unEscapeChars(s.substring(x2, i+1), new char[]{'\\','$','{','}'}));
-							else
-								out.append(s, x2, i+1);
-							x = i+1;
-						} else {
-							varVal = (hasInternalVar && r.allowNested() ? resolve(varVal) : varVal);
-							try {
-								if (r.streamed)
-									r.resolveTo(this, out, varVal);
-								else {
-									String replacement = r.doResolve(this, varVal);
-									if (replacement == null)
-										replacement = "";
-									// If the replacement also contains variables, replace them now.
-									if (replacement.indexOf('$') != -1 && r.allowRecurse())
-										replacement = resolve(replacement);
-									out.append(replacement);
-								}
-							} catch (Exception e) {
-								out.append('{').append(e.getLocalizedMessage()).append('}');
-							}
-							x = i+1;
-						}
-						state = 1;
-						hasInnerEscapes = false;
-					}
-				}
-			}
-		}
-		if (isInEscape)
-			out.append('\\');
-		else if (state == S2)
-			out.append('$').append(unEscapeChars(s.substring(x+1), new char[]{'{', '\\'}));
-		else if (state == S3)
-			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), new char[]{'\\','$','{','}'}));
-		return out;
+		return context.compile(s).resolveTo(this, out);
 	}
 
 
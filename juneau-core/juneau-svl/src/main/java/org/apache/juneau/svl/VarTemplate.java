@@ -0,0 +1,394 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A string containing SVL variables that has been parsed once so that it can be resolved repeatedly.
+ *
+ * <p>
+ * Templates are immutable and thread safe.
+ * They consist of literal segments and variable nodes bound to their {@link Var} instances, so resolving a template
+ * doesn't rescan the string or look up variables by name.
+ *
+ * <p>
+ * Variables whose {@link Var#isConstant()} method returns <jk>true</jk> and whose arguments don't contain
+ * non-constant variables are resolved once when the template is compiled, and folded into the literal segments.
+ *
+ * <p>
+ * Instances are created through the {@link VarResolver#compile(String)} method.
+ * Resolving a template produces exactly the same output as {@link VarResolverSession#resolve(String)}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	VarTemplate t = VarResolver.<jsf>DEFAULT</jsf>.compile(<js>"java.home is set to $S{java.home}"</js>);
+ *
+ * 	<jc>// Resolve many times.</jc>
+ * 	String s = t.resolve(VarResolver.<jsf>DEFAULT</jsf>.createSession());
+ * </p>
+ *
+ * @see org.apache.juneau.svl
+ */
+public final class VarTemplate {
+
+	private final String template;
+	private final Node[] nodes;
+	private final boolean simple;
+
+	private VarTemplate(String template, Node[] nodes, boolean simple) {
+		this.template = template;
+		this.nodes = nodes;
+		this.simple = simple;
+	}
+
+	/**
+	 * Resolves this template.
+	 *
+	 * @param session The session providing the session objects to the variables.
+	 * @return The resolved string.
+	 */
+	public String resolve(VarResolverSession session) {
+		if (nodes.length == 0)
+			return template;
+		if (nodes.length == 1 && nodes[0].var == null)
+			return nodes[0].text;
+		if (simple) {
+			// A single variable with no embedded variables (e.g. "$X{...}").
+			Node n = nodes[0];
+			try {
+				if (n.var.streamed) {
+					StringWriter sw = new StringWriter();
+					n.var.resolveTo(session, sw, n.text);
+					return sw.toString();
+				}
+				String s = n.var.doResolve(session, n.text);
+				if (s == null)
+					s = "";
+				return (n.var.allowRecurse() ? session.resolveUncached(s) : s);
+			} catch (Exception e) {
+				return '{' + e.getLocalizedMessage() + '}';
+			}
+		}
+		try {
+			return resolveTo(session, new StringWriter()).toString();
+		} catch (IOException e) {
+			throw new RuntimeException(e); // Never happens.
+		}
+	}
+
+	/**
+	 * Resolves this template and sends the output to the specified writer.
+	 *
+	 * @param session The session providing the session objects to the variables.
+	 * @param out The writer to write to.
+	 * @return The same writer.
+	 * @throws IOException
+	 */
+	public Writer resolveTo(VarResolverSession session, Writer out) throws IOException {
+		if (nodes.length == 0)
+			return out.append(template);
+		for (Node n : nodes) {
+			if (n.var == null) {
+				out.append(n.text);
+				continue;
+			}
+			Var r = n.var;
+			String varVal = n.arg == null ? n.text : n.arg.resolve(session);
+			try {
+				if (r.streamed)
+					r.resolveTo(session, out, varVal);
+				else {
+					String replacement = r.doResolve(session, varVal);
+					if (replacement == null)
+						replacement = "";
+					// If the replacement also contains variables, replace them now.
+					if (replacement.indexOf('$') != -1 && r.allowRecurse())
+						replacement = session.resolveUncached(replacement);
+					out.append(replacement);
+				}
+			} catch (Exception e) {
+				out.append('{').append(e.getLocalizedMessage()).append('}');
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this template resolves to the same value regardless of session.
+	 *
+	 * @return <jk>true</jk> if this template contains no variables after constant folding.
+	 */
+	public boolean isConstant() {
+		for (Node n : nodes)
+			if (n.var != null)
+				return false;
+		return true;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return template;
+	}
+
+	/*
+	 * Either a literal segment (var == null) or a variable.
+	 * For variables, 'text' is the raw argument and 'arg' is the compiled argument if it contains nested variables.
+	 */
+	private static final class Node {
+		final Var var;
+		final String text;
+		final VarTemplate arg;
+
+		Node(Var var, String text, VarTemplate arg) {
+			this.var = var;
+			this.text = text;
+			this.arg = arg;
+		}
+	}
+
+	/**
+	 * Parses the specified string.
+	 *
+	 * <p>
+	 * Follows the same rules as {@link VarResolverSession#resolveTo(String, Writer)}.
+	 *
+	 * @param context The context providing the variables.
+	 * @param s The string to parse.
+	 * @return The compiled template.
+	 */
+	static VarTemplate compile(VarResolverContext context, String s) {
+
+		if (s == null || s.isEmpty() || (s.indexOf('$') == -1 && s.indexOf('\\') == -1))
+			return new VarTemplate(s, new Node[0], false);
+
+		Map<String,Var> vars = context.getVarMap();
+
+		if (isSimpleVar(s)) {
+			Var v = vars.get(s.substring(1, s.indexOf('{')));
+			if (v == null)
+				return new VarTemplate(s, new Node[0], false);
+			String val = s.substring(s.indexOf('{')+1, s.length()-1);
+			VarTemplate t = new VarTemplate(s, new Node[]{new Node(v, val, null)}, true);
+			return fold(context, t);
+		}
+
+		List<Node> nodes = new ArrayList<>();
+		StringBuilder out = new StringBuilder();
+
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+
+		int state = S1;
+		boolean isInEscape = false;
+		boolean hasInternalVar = false;
+		boolean hasInnerEscapes = false;
+		String varType = null;
+		String varVal = null;
+		int x = 0, x2 = 0;
+		int depth = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (isInEscape) {
+					if (c == '\\' || c == '$') {
+						out.append(c);
+					} else {
+						out.append('\\').append(c);
+					}
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+				} else if (c == '$') {
+					x = i;
+					x2 = i;
+					state = S2;
+				} else {
+					out.append(c);
+				}
+			} else if (state == S2) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					hasInnerEscapes = true;
+					isInEscape = true;
+				} else if (c == '{') {
+					varType = s.substring(x+1, i);
+					x = i;
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
+					if (hasInnerEscapes)
+						out.append(unEscapeChars(s.substring(x, i+1), new char[]{'\\','{'}));
+					else
+						out.append(s, x, i+1);
+					x = i + 1;
+					state = S1;
+					hasInnerEscapes = false;
+				}
+			} else if (state == S3) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+					hasInnerEscapes = true;
+				} else if (c == '{') {
+					depth++;
+					hasInternalVar = true;
+				} else if (c == '}') {
+					if (depth > 0) {
+						depth--;
+					} else {
+						varVal = s.substring(x+1, i);
+						Var r = vars.get(varType);
+						if (r == null) {
+							if (hasInnerEscapes)
+								out.append(unEscapeChars(s.substring(x2, i+1), new char[]{'\\','$','{','}'}));
+							else
+								out.append(s, x2, i+1);
+						} else {
+							if (out.length() > 0) {
+								nodes.add(new Node(null, out.toString(), null));
+								out.setLength(0);
+							}
+							VarTemplate arg = null;
+							if (hasInternalVar && r.allowNested()) {
+								arg = compile(context, varVal);
+								if (arg.isConstant()) {
+									varVal = arg.resolve(null);
+									arg = null;
+								}
+							}
+							nodes.add(new Node(r, varVal, arg));
+						}
+						x = i+1;
+						state = 1;
+						hasInnerEscapes = false;
+					}
+				}
+			}
+		}
+		if (isInEscape)
+			out.append('\\');
+		else if (state == S2)
+			out.append('$').append(unEscapeChars(s.substring(x+1), new char[]{'{', '\\'}));
+		else if (state == S3)
+			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), new char[]{'\\','$','{','}'}));
+		if (out.length() > 0 || nodes.isEmpty())
+			nodes.add(new Node(null, out.toString(), null));
+
+		return fold(context, new VarTemplate(s, nodes.toArray(new Node[nodes.size()]), false));
+	}
+
+	/*
+	 * Resolves constant variables with constant arguments and merges them into the adjacent literal segments.
+	 */
+	private static VarTemplate fold(VarResolverContext context, VarTemplate t) {
+		VarResolverSession session = null;
+		List<Node> l = new ArrayList<>(t.nodes.length);
+		StringBuilder sb = null;
+		boolean changed = false;
+		for (Node n : t.nodes) {
+			String value = null;
+			if (n.var == null) {
+				value = n.text;
+			} else if (n.arg == null && n.var.isConstant()) {
+				if (session == null)
+					session = new VarResolverSession(context, null);
+				value = resolveConstant(session, n, t.simple);
+				changed |= value != null;
+			}
+			if (value == null) {
+				if (sb != null) {
+					l.add(new Node(null, sb.toString(), null));
+					sb = null;
+				}
+				l.add(n);
+			} else {
+				if (sb == null)
+					sb = new StringBuilder();
+				sb.append(value);
+			}
+		}
+		if (! changed)
+			return t;
+		if (sb != null)
+			l.add(new Node(null, sb.toString(), null));
+		return new VarTemplate(t.template, l.toArray(new Node[l.size()]), false);
+	}
+
+	/*
+	 * Resolves a constant variable, or returns null if the value can't be folded.
+	 */
+	private static String resolveConstant(VarResolverSession session, Node n, boolean simple) {
+		try {
+			String s;
+			if (n.var.streamed) {
+				StringWriter sw = new StringWriter();
+				n.var.resolveTo(session, sw, n.text);
+				s = sw.toString();
+			} else {
+				s = n.var.doResolve(session, n.text);
+				if (s == null)
+					s = "";
+				// Values that need further resolution are resolved at runtime.
+				if (n.var.allowRecurse() && (s.indexOf('$') != -1 || (simple && s.indexOf('\\') != -1)))
+					return null;
+			}
+			return s;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
+	 */
+	private static boolean isSimpleVar(String s) {
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+		int S4 = 4;    // Found }
+
+		int length = s.length();
+		int state = S1;
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (c == '$') {
+					state = S2;
+				} else {
+					return false;
+				}
+			} else if (state == S2) {
+				if (c == '{') {
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
+					return false;
+				}
+			} else if (state == S3) {
+				if (c == '}')
+					state = S4;
+				else if (c == '{' || c == '$')
+					return false;
+			} else if (state == S4) {
+				return false;
+			}
+		}
+		return state == S4;
+	}
+}
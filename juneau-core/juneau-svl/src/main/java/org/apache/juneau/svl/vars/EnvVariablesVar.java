@@ -52,4 +52,9 @@ public class EnvVariablesVar extends DefaultingVar {
 		// Note that lookup is case-insensitive on windows.
 		return System.getenv(varVal);
 	}
-}
\ No newline at end of file
+
+	@Override /* Var */
+	protected boolean isConstant() {
+		return true;
+	}
+}
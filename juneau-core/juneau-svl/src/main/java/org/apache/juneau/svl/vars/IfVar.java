@@ -69,4 +69,9 @@ public class IfVar extends MultipartVar {
 			return args[1];
 		return args.length == 2 ? "" : args[2];
 	}
+
+	@Override /* Var */
+	protected boolean isConstant() {
+		return true;
+	}
 }
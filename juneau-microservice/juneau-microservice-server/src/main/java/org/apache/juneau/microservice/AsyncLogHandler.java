@@ -0,0 +1,309 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice;
+
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+import java.util.logging.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Log handler that hands log records off to a single background writer thread.
+ *
+ * <p>
+ * Records are placed in a bounded lock-free ring buffer by the logging threads and are drained in batches by the
+ * writer thread, which publishes them to the wrapped handlers and flushes the handlers once per batch.
+ * Formatting of messages and stack traces and all file I/O therefore happen off the logging threads.
+ *
+ * <p>
+ * When the buffer is full, the {@link OverflowPolicy} determines whether the logging thread waits for room or the
+ * record is discarded.
+ * Discarded records are counted and reported through {@link #getDroppedCount()}.
+ *
+ * <p>
+ * Closing this handler writes out all buffered records and closes the wrapped handlers.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	FileHandler fh = <jk>new</jk> FileHandler(<js>"logs/microservice.%g.log"</js>, 10*1024*1024, 5, <jk>false</jk>);
+ * 	Logger.<jsm>getLogger</jsm>(<js>""</js>).addHandler(<jk>new</jk> AsyncLogHandler(8192, 256, OverflowPolicy.<jsf>DROP_BELOW_WARNING</jsf>, <jk>false</jk>, fh));
+ * </p>
+ */
+public class AsyncLogHandler extends Handler {
+
+	/**
+	 * What to do with a log record when the buffer is full.
+	 */
+	public static enum OverflowPolicy {
+
+		/** Wait until there's room in the buffer. */
+		BLOCK,
+
+		/** Discard the record. */
+		DROP,
+
+		/** Wait for room for {@link Level#WARNING} and {@link Level#SEVERE} records, and discard all others. */
+		DROP_BELOW_WARNING
+	}
+
+	// How long an idle writer thread sleeps before checking the buffer again.
+	private static final long IDLE_NANOS = 100_000_000;
+
+	// How long a blocked logging thread sleeps before trying again.
+	private static final long RETRY_NANOS = 100_000;
+
+	private final Handler[] handlers;
+	private final OverflowPolicy overflowPolicy;
+	private final int batchSize, mask;
+	private final boolean inferCaller;
+
+	// Bounded multi-producer single-consumer ring buffer.
+	// A slot is writable by the producer that claimed position p when its sequence is p, and readable by the writer
+	// thread when its sequence is p+1.
+	private final AtomicReferenceArray<LogRecord> buffer;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private volatile long head;
+
+	private final AtomicLong dropped = new AtomicLong(), written = new AtomicLong();
+	private final AtomicBoolean idle = new AtomicBoolean();
+	private final Thread writer;
+	private volatile boolean closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bufferSize
+	 * 	The maximum number of records to buffer.
+	 * 	Rounded up to the next power of two.
+	 * @param batchSize The maximum number of records to publish between flushes of the wrapped handlers.
+	 * @param overflowPolicy What to do with a log record when the buffer is full.
+	 * @param inferCaller
+	 * 	Resolve the source class and method names of records on the logging thread.
+	 * 	<br>Necessary if the wrapped handlers' formatters make use of them, since they're inferred from the stack of
+	 * 	the thread that reads them.
+	 * @param handlers The handlers to publish records to.
+	 */
+	public AsyncLogHandler(int bufferSize, int batchSize, OverflowPolicy overflowPolicy, boolean inferCaller, Handler...handlers) {
+		int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+		this.handlers = handlers;
+		this.overflowPolicy = overflowPolicy;
+		this.batchSize = Math.max(1, batchSize);
+		this.inferCaller = inferCaller;
+		this.mask = capacity - 1;
+		this.buffer = new AtomicReferenceArray<>(capacity);
+		this.sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++)
+			sequences.set(i, i);
+		this.writer = new Thread("AsyncLogHandler") {
+			@Override /* Thread */
+			public void run() {
+				drain();
+			}
+		};
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	@Override /* Handler */
+	public boolean isLoggable(LogRecord r) {
+		if (r == null || ! super.isLoggable(r))
+			return false;
+		for (Handler h : handlers)
+			if (h.isLoggable(r))
+				return true;
+		return false;
+	}
+
+	@Override /* Handler */
+	public void publish(LogRecord r) {
+		if (closed || ! isLoggable(r))
+			return;
+		if (inferCaller)
+			r.getSourceClassName();
+		if (offer(r))
+			return;
+		if (overflowPolicy == OverflowPolicy.DROP
+				|| (overflowPolicy == OverflowPolicy.DROP_BELOW_WARNING && r.getLevel().intValue() < Level.WARNING.intValue())) {
+			dropped.incrementAndGet();
+			return;
+		}
+		while (! offer(r)) {
+			if (closed) {
+				dropped.incrementAndGet();
+				return;
+			}
+			LockSupport.unpark(writer);
+			LockSupport.parkNanos(RETRY_NANOS);
+		}
+	}
+
+	/*
+	 * Adds the record to the buffer and wakes up the writer thread if necessary.
+	 * Returns false if the buffer is full.
+	 */
+	private boolean offer(LogRecord r) {
+		while (true) {
+			long p = tail.get();
+			int i = (int)p & mask;
+			long d = sequences.get(i) - p;
+			if (d < 0)
+				return false;
+			if (d == 0 && tail.compareAndSet(p, p+1)) {
+				buffer.lazySet(i, r);
+				sequences.set(i, p+1);
+				if (idle.get())
+					LockSupport.unpark(writer);
+				return true;
+			}
+		}
+	}
+
+	/*
+	 * Removes the next record from the buffer.
+	 * Returns null if the buffer is empty or the next record hasn't been completely added yet.
+	 * Only called from the writer thread.
+	 */
+	private LogRecord poll() {
+		long p = head;
+		int i = (int)p & mask;
+		if (sequences.get(i) != p+1)
+			return null;
+		LogRecord r = buffer.get(i);
+		buffer.lazySet(i, null);
+		sequences.set(i, p + mask + 1);
+		head = p+1;
+		return r;
+	}
+
+	/*
+	 * The writer thread loop.
+	 */
+	private void drain() {
+		while (true) {
+			int n = 0;
+			LogRecord r;
+			while (n < batchSize && (r = poll()) != null) {
+				for (Handler h : handlers) {
+					try {
+						h.publish(r);
+					} catch (Exception e) {
+						reportError(null, e, ErrorManager.WRITE_FAILURE);
+					}
+				}
+				n++;
+			}
+			if (n > 0) {
+				written.addAndGet(n);
+				flushHandlers();
+				continue;
+			}
+			if (closed && tail.get() == head)
+				return;
+			idle.set(true);
+			if (tail.get() == head && ! closed)
+				LockSupport.parkNanos(this, IDLE_NANOS);
+			idle.set(false);
+		}
+	}
+
+	private void flushHandlers() {
+		for (Handler h : handlers) {
+			try {
+				h.flush();
+			} catch (Exception e) {
+				reportError(null, e, ErrorManager.FLUSH_FAILURE);
+			}
+		}
+	}
+
+	/**
+	 * Wakes up the writer thread.
+	 *
+	 * <p>
+	 * Buffered records are written asynchronously, so they're not necessarily written when this method returns.
+	 * Use {@link #close()} to wait for all records to be written.
+	 */
+	@Override /* Handler */
+	public void flush() {
+		LockSupport.unpark(writer);
+	}
+
+	/**
+	 * Writes out all buffered records, stops the writer thread, and closes the wrapped handlers.
+	 */
+	@Override /* Handler */
+	public void close() throws SecurityException {
+		if (closed)
+			return;
+		closed = true;
+		LockSupport.unpark(writer);
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		for (Handler h : handlers)
+			h.close();
+	}
+
+	/**
+	 * Returns the number of records that were discarded because the buffer was full.
+	 *
+	 * @return The number of records that were discarded because the buffer was full.
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * Returns the number of records that have been published to the wrapped handlers.
+	 *
+	 * @return The number of records that have been published to the wrapped handlers.
+	 */
+	public long getWrittenCount() {
+		return written.get();
+	}
+
+	/**
+	 * Returns the number of records currently waiting in the buffer.
+	 *
+	 * @return The number of records currently waiting in the buffer.
+	 */
+	public int getPendingCount() {
+		return (int)Math.max(0, tail.get() - head);
+	}
+
+	/**
+	 * Returns the maximum number of records that can be buffered.
+	 *
+	 * @return The maximum number of records that can be buffered.
+	 */
+	public int getCapacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * Returns a summary of the metrics of this handler.
+	 *
+	 * @return A map containing the buffer capacity and the pending, written and dropped record counts.
+	 */
+	public ObjectMap toMap() {
+		return new ObjectMap()
+			.append("capacity", getCapacity())
+			.append("pending", getPendingCount())
+			.append("written", getWrittenCount())
+			.append("dropped", getDroppedCount());
+	}
+}
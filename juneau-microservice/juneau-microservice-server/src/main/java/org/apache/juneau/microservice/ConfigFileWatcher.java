@@ -0,0 +1,97 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+import org.apache.juneau.ini.*;
+
+/**
+ * Watches the file backing a config file and reloads the config file when it's modified externally.
+ *
+ * <p>
+ * Uses a {@link WatchService} on the parent directory instead of polling {@link ConfigFile#loadIfModified()}.
+ * Reloading causes {@link ConfigFileListener#onChange(ConfigFile, java.util.Set)} to be invoked with only the entries
+ * that changed, so listeners can rebind the affected settings.
+ */
+final class ConfigFileWatcher extends Thread implements Closeable {
+
+	// Time to wait for further events so that a single save that causes several events results in a single reload.
+	private static final long SETTLE_MILLIS = 100;
+
+	private final ConfigFile cf;
+	private final Path file;
+	private final WatchService watchService;
+	private final Logger logger;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cf The config file to reload.
+	 * @param file The file backing the config file.
+	 * @param logger The logger to log reload errors to.
+	 * @throws IOException If the directory containing the file could not be watched.
+	 */
+	ConfigFileWatcher(ConfigFile cf, File file, Logger logger) throws IOException {
+		super("ConfigFileWatcher");
+		setDaemon(true);
+		this.cf = cf;
+		this.file = file.getAbsoluteFile().toPath();
+		this.logger = logger;
+		this.watchService = FileSystems.getDefault().newWatchService();
+		this.file.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+	}
+
+	@Override /* Thread */
+	public void run() {
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				boolean modified = isModified(key);
+				while (modified && (key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null)
+					isModified(key);
+				if (modified) {
+					try {
+						cf.loadIfModified();
+					} catch (Exception e) {
+						logger.log(Level.WARNING, "Could not reload config file '" + file + "'.", e);
+					}
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// Watcher was closed.
+		}
+	}
+
+	/*
+	 * Returns true if any of the events on the specified key are for our file, and resets the key.
+	 */
+	private boolean isModified(WatchKey key) {
+		boolean b = false;
+		for (WatchEvent<?> e : key.pollEvents())
+			if (e.kind() == OVERFLOW || file.getFileName().equals(e.context()))
+				b = true;
+		key.reset();
+		return b;
+	}
+
+	@Override /* Closeable */
+	public void close() throws IOException {
+		watchService.close();
+	}
+}
@@ -25,6 +25,7 @@ import java.util.logging.*;
 import org.apache.juneau.*;
 import org.apache.juneau.ini.*;
 import org.apache.juneau.internal.*;
+import org.apache.juneau.microservice.AsyncLogHandler.*;
 import org.apache.juneau.microservice.resources.*;
 import org.apache.juneau.svl.*;
 import org.apache.juneau.svl.vars.*;
@@ -94,6 +95,28 @@ import org.apache.juneau.utils.*;
  * 		{@link #onConfigChange(ConfigFile, Set)} - Gets executed after a config file has been modified.
  * </ul>
  *
+ * <h6 class='topic'>Hot Reloading</h6>
+ *
+ * When the config file contains <code>saveConfigAction = HOT_RELOAD</code>, the config file is watched for external
+ * modifications and changes are applied to the running microservice without restarting it:
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		Changes to the levels and formats in the <cs>[Logging]</cs> section are applied to the existing log handlers.
+ * 		<br>The log file itself isn't reopened, so changes to the log file location, size, or async settings only take
+ * 		effect on restart.
+ * 	<li>
+ * 		Changes in the <cs>[SystemProperties]</cs> section are copied to the system properties.
+ * 	<li>
+ * 		REST resources using the config file re-resolve their static file mappings and discard their cached Swagger
+ * 		documents and responses.
+ * 		<br>HTML doc settings referencing config values through <code>$C</code> variables are resolved per request
+ * 		and pick up the new values automatically.
+ * </ul>
+ *
+ * <p>
+ * The config file is only watched while <code>saveConfigAction</code> is <code>HOT_RELOAD</code>, so changing the
+ * setting at runtime starts or stops watching.
+ *
  * <h6 class='topic'>Other Methods</h6>
  *
  * Subclasses can optionally override the following methods to provide customized behavior:
@@ -114,6 +137,9 @@ public abstract class Microservice {
 	private VarResolver vr;
 
 	private String cfPath;
+	private ConfigFileWatcher configWatcher;
+	private FileHandler logFileHandler;
+	private ConsoleHandler logConsoleHandler;
 
 	/**
 	 * Returns the Microservice instance.  
@@ -575,10 +601,19 @@ public abstract class Microservice {
 			}
 			@Override /* ConfigFileListener */
 			public void onChange(ConfigFile cf, Set<String> changes) {
+				if (changes.contains("saveConfigAction"))
+					updateConfigWatcher();
+				if (isHotReload())
+					applyConfigChanges(changes);
 				onConfigChange(cf, changes);
 			}
 		});
 
+		// --------------------------------------------------------------------------------
+		// Watch the config file for external modifications.
+		// --------------------------------------------------------------------------------
+		updateConfigWatcher();
+
 		// --------------------------------------------------------------------------------
 		// Add exit listeners.
 		// --------------------------------------------------------------------------------
@@ -680,6 +715,23 @@ public abstract class Microservice {
 	 * 	<cc># The default level for the console logger.
 	 * 	# Default is WARNING.</cc>
 	 * 	<ck>consoleLevel</ck> = WARNING
+	 *
+	 * 	<cc># Write log records from a background thread.
+	 * 	# See AsyncLogHandler for details.
+	 * 	# Default is false.</cc>
+	 * 	<ck>async</ck> = true
+	 *
+	 * 	<cc># The maximum number of log records waiting to be written when async is enabled.
+	 * 	# Default is 8192.</cc>
+	 * 	<ck>asyncBufferSize</ck> = 8192
+	 *
+	 * 	<cc># The maximum number of log records written between flushes of the log file.
+	 * 	# Default is 256.</cc>
+	 * 	<ck>asyncBatchSize</ck> = 256
+	 *
+	 * 	<cc># What to do with log records when the buffer is full (BLOCK, DROP, DROP_BELOW_WARNING).
+	 * 	# Default is DROP_BELOW_WARNING.</cc>
+	 * 	<ck>asyncOverflowPolicy</ck> = DROP_BELOW_WARNING
 	 * </p>
 	 *
 	 * @throws Exception
@@ -695,26 +747,133 @@ public abstract class Microservice {
 			boolean append = cf.getBoolean("Logging/append");
 			int limit = cf.getInt("Logging/limit", 1024*1024);
 			int count = cf.getInt("Logging/count", 1);
-			FileHandler fh = new FileHandler(logDir + '/' + logFile, limit, count, append);
-
-			boolean useStackTraceHashes = cf.getBoolean("Logging/useStackTraceHashes");
-			String format = cf.getString("Logging/format", "[{date} {level}] {msg}%n");
-			String dateFormat = cf.getString("Logging/dateFormat", "yyyy.MM.dd hh:mm:ss");
-			fh.setFormatter(new LogEntryFormatter(format, dateFormat, useStackTraceHashes));
-			fh.setLevel(cf.getObjectWithDefault("Logging/fileLevel", Level.INFO, Level.class));
-			logger.addHandler(fh);
+			boolean async = cf.getBoolean("Logging/async");
+			FileHandler fh = async
+				? new BatchFileHandler(logDir + '/' + logFile, limit, count, append)
+				: new FileHandler(logDir + '/' + logFile, limit, count, append);
 
 			ConsoleHandler ch = new ConsoleHandler();
-			ch.setLevel(cf.getObjectWithDefault("Logging/consoleLevel", Level.WARNING, Level.class));
-			ch.setFormatter(new LogEntryFormatter(format, dateFormat, false));
-			logger.addHandler(ch);
+			configureLogHandlers(fh, ch);
+			logFileHandler = fh;
+			logConsoleHandler = ch;
+
+			String format = cf.getString("Logging/format", "[{date} {level}] {msg}%n");
+			if (async) {
+				int bufferSize = cf.getInt("Logging/asyncBufferSize", 8192);
+				int batchSize = cf.getInt("Logging/asyncBatchSize", 256);
+				OverflowPolicy overflowPolicy = cf.getObjectWithDefault("Logging/asyncOverflowPolicy", OverflowPolicy.DROP_BELOW_WARNING, OverflowPolicy.class);
+				boolean inferCaller = format.contains("{class}") || format.contains("{method}");
+				logger.addHandler(new AsyncLogHandler(bufferSize, batchSize, overflowPolicy, inferCaller, fh, ch));
+			} else {
+				logger.addHandler(fh);
+				logger.addHandler(ch);
+			}
 		}
-		ObjectMap loggerLevels = cf.getObject("Logging/levels", ObjectMap.class);
+		configureLoggerLevels();
+	}
+
+	/*
+	 * Applies the levels and formats in the [Logging] section to the specified handlers.
+	 */
+	private void configureLogHandlers(FileHandler fh, ConsoleHandler ch) throws Exception {
+		ConfigFile cf = getConfig();
+		boolean useStackTraceHashes = cf.getBoolean("Logging/useStackTraceHashes");
+		String format = cf.getString("Logging/format", "[{date} {level}] {msg}%n");
+		String dateFormat = cf.getString("Logging/dateFormat", "yyyy.MM.dd hh:mm:ss");
+		fh.setFormatter(new LogEntryFormatter(format, dateFormat, useStackTraceHashes));
+		fh.setLevel(cf.getObjectWithDefault("Logging/fileLevel", Level.INFO, Level.class));
+		ch.setLevel(cf.getObjectWithDefault("Logging/consoleLevel", Level.WARNING, Level.class));
+		ch.setFormatter(new LogEntryFormatter(format, dateFormat, false));
+	}
+
+	/*
+	 * Applies the Logging/levels setting to the loggers.
+	 */
+	private void configureLoggerLevels() throws Exception {
+		ObjectMap loggerLevels = getConfig().getObject("Logging/levels", ObjectMap.class);
 		if (loggerLevels != null)
 			for (String l : loggerLevels.keySet())
 				Logger.getLogger(l).setLevel(loggerLevels.get(l, Level.class));
 	}
 
+	/*
+	 * Reapplies the logging levels and formats after the config file changes.
+	 * The log file handler is kept open so that the log file isn't truncated or rotated.
+	 */
+	private void reloadLogging() throws Exception {
+		if (logFileHandler != null)
+			configureLogHandlers(logFileHandler, logConsoleHandler);
+		configureLoggerLevels();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if changes to the config file should be applied to the running microservice.
+	 *
+	 * <p>
+	 * Enabled by the following value in the config file:
+	 * <p class='bcode'>
+	 * 	<ck>saveConfigAction</ck> = HOT_RELOAD
+	 * </p>
+	 *
+	 * @return <jk>true</jk> if hot reloading is enabled.
+	 */
+	protected boolean isHotReload() {
+		return "HOT_RELOAD".equals(cf.getString("saveConfigAction"));
+	}
+
+	/*
+	 * Starts or stops watching the config file depending on whether hot reloading is enabled.
+	 */
+	private synchronized void updateConfigWatcher() {
+		boolean hotReload = cfPath != null && isHotReload();
+		if (hotReload && configWatcher == null) {
+			try {
+				configWatcher = new ConfigFileWatcher(cf, new File(cfPath), getLogger());
+				configWatcher.start();
+			} catch (IOException e) {
+				getLogger().log(Level.WARNING, "Could not watch config file '" + cfPath + "'.", e);
+			}
+		} else if (! hotReload) {
+			closeConfigWatcher();
+		}
+	}
+
+	private synchronized void closeConfigWatcher() {
+		if (configWatcher != null) {
+			try {
+				configWatcher.close();
+			} catch (IOException e) {
+				getLogger().log(Level.WARNING, "Could not stop watching config file '" + cfPath + "'.", e);
+			}
+			configWatcher = null;
+		}
+	}
+
+	/*
+	 * Rebinds the settings affected by the specified config file changes.
+	 */
+	private void applyConfigChanges(Set<String> changes) {
+		boolean logging = false;
+		for (String key : changes) {
+			if (key.startsWith("Logging/")) {
+				logging = true;
+			} else if (key.startsWith("SystemProperties/")) {
+				String name = key.substring(17), value = cf.get("SystemProperties", name);
+				if (value == null)
+					System.clearProperty(name);
+				else
+					System.setProperty(name, value);
+			}
+		}
+		if (logging) {
+			try {
+				reloadLogging();
+			} catch (Exception e) {
+				getLogger().log(Level.SEVERE, "Could not reload logging settings.", e);
+			}
+		}
+	}
+
 	/**
 	 * Joins the application with the current thread.
 	 * 
@@ -740,10 +899,38 @@ public abstract class Microservice {
 	 * @return This object (for method chaining).
 	 */
 	public Microservice stop() {
+		closeConfigWatcher();
 		onStop();
 		return this;
 	}
 
+	/*
+	 * File handler that leaves flushing to the AsyncLogHandler wrapping it so that records are written in batches.
+	 */
+	private static final class BatchFileHandler extends FileHandler {
+		private boolean publishing;
+
+		BatchFileHandler(String pattern, int limit, int count, boolean append) throws IOException {
+			super(pattern, limit, count, append);
+		}
+
+		@Override /* FileHandler */
+		public synchronized void publish(LogRecord r) {
+			publishing = true;
+			try {
+				super.publish(r);
+			} finally {
+				publishing = false;
+			}
+		}
+
+		@Override /* StreamHandler */
+		public synchronized void flush() {
+			if (! publishing)
+				super.flush();
+		}
+	}
+
 	/**
 	 * Kill the JVM by calling <code>System.exit(2);</code>.
 	 */
@@ -24,9 +24,9 @@ import org.apache.juneau.ini.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.svl.*;
 import org.eclipse.jetty.server.*;
-import org.eclipse.jetty.server.Handler;
-import org.eclipse.jetty.server.handler.*;
 import org.eclipse.jetty.servlet.*;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.thread.*;
 import org.eclipse.jetty.xml.*;
 
 /**
@@ -192,15 +192,9 @@ public class RestMicroservice extends Microservice {
 	 * @return The context path that this microservice is using.
 	 */
 	public String getContextPath() {
-		for (Handler h : getServer().getHandlers()) {
-			if (h instanceof HandlerCollection) {
-				for (Handler h2 : ((HandlerCollection)h).getChildHandlers())
-					if (h2 instanceof ServletContextHandler) 
-						return ((ServletContextHandler)h2).getContextPath();
-			}
-			if (h instanceof ServletContextHandler) 
-				return ((ServletContextHandler)h).getContextPath();
-		}
+		ServletContextHandler h = getServer().getChildHandlerByClass(ServletContextHandler.class);
+		if (h != null)
+			return h.getContextPath();
 		throw new RuntimeException("Could not locate ServletContextHandler in Jetty server.");
 	}
 	
@@ -279,6 +273,43 @@ public class RestMicroservice extends Microservice {
 	 * 	<ck>port</ck> = 10000,0,0,0
 	 * </p>
 	 *
+	 * <p>
+	 * The following optional values override the corresponding settings in the <code>jetty.xml</code> file:
+	 * <p class='bcode'>
+	 * 	<cc># Minimum and maximum number of threads in the request thread pool.</cc>
+	 * 	<ck>minThreads</ck> = 10
+	 * 	<ck>maxThreads</ck> = 100
+	 *
+	 * 	<cc># Time in milliseconds after which idle threads above minThreads are stopped.</cc>
+	 * 	<ck>threadIdleTimeout</ck> = 60000
+	 *
+	 * 	<cc># Maximum number of jobs waiting for a thread.  '0' indicates no limit.</cc>
+	 * 	<ck>maxQueued</ck> = 1000
+	 *
+	 * 	<cc># Number of acceptor and selector threads per connector.  '-1' keeps the jetty.xml settings.</cc>
+	 * 	<ck>acceptors</ck> = 1
+	 * 	<ck>selectors</ck> = 2
+	 *
+	 * 	<cc># Time in milliseconds after which idle connections are closed.</cc>
+	 * 	<ck>idleTimeout</ck> = 30000
+	 *
+	 * 	<cc># Size in bytes of the response output buffer.</cc>
+	 * 	<ck>outputBufferSize</ck> = 32768
+	 *
+	 * 	<cc># Keep connections open between requests.</cc>
+	 * 	<ck>keepAlive</ck> = true
+	 *
+	 * 	<cc># Maximum number of requests processed concurrently.  '0' indicates no limit.
+	 * 	# Requests above the limit are rejected with a 503 and a Retry-After header.</cc>
+	 * 	<ck>maxActiveRequests</ck> = 80
+	 *
+	 * 	<cc># Value in seconds of the Retry-After header on rejected requests.</cc>
+	 * 	<ck>retryAfter</ck> = 1
+	 * </p>
+	 *
+	 * <p>
+	 * The effective settings are available through {@link #getServerSettings()} and are logged when the server starts.
+	 *
 	 * @return The newly-created server.
 	 * @throws Exception
 	 */
@@ -320,11 +351,139 @@ public class RestMicroservice extends Microservice {
 		getLogger().info(xmlConfig);
 		
 		XmlConfiguration config = new XmlConfiguration(new ByteArrayInputStream(xmlConfig.getBytes()));
-		server = (Server)config.configure();
-		
+		int maxQueued = cf.getInt("Jetty/maxQueued", 0);
+		if (maxQueued > 0) {
+			BlockingArrayQueue<Runnable> queue = new BlockingArrayQueue<>(Math.min(maxQueued, 1024), 1024, maxQueued);
+			server = new Server(new QueuedThreadPool(
+				cf.getInt("Jetty/maxThreads", 200),
+				cf.getInt("Jetty/minThreads", 8),
+				cf.getInt("Jetty/threadIdleTimeout", 60000),
+				queue
+			));
+			config.configure(server);
+		} else {
+			server = (Server)config.configure();
+		}
+
+		ThreadPool tp = server.getThreadPool();
+		if (tp instanceof QueuedThreadPool) {
+			QueuedThreadPool qtp = (QueuedThreadPool)tp;
+			qtp.setMinThreads(cf.getInt("Jetty/minThreads", qtp.getMinThreads()));
+			qtp.setMaxThreads(cf.getInt("Jetty/maxThreads", qtp.getMaxThreads()));
+			qtp.setIdleTimeout(cf.getInt("Jetty/threadIdleTimeout", qtp.getIdleTimeout()));
+		}
+
+		Connector[] connectors = server.getConnectors();
+		for (int i = 0; i < connectors.length; i++) {
+			if (connectors[i] instanceof ServerConnector) {
+				ServerConnector sc = (ServerConnector)connectors[i];
+				// Negative values keep the settings from jetty.xml.
+				int acceptors = cf.getInt("Jetty/acceptors", -1), selectors = cf.getInt("Jetty/selectors", -1);
+				if (acceptors < 0)
+					acceptors = sc.getAcceptors();
+				if (selectors < 0)
+					selectors = sc.getSelectorManager().getSelectorCount();
+				if (acceptors != sc.getAcceptors() || selectors != sc.getSelectorManager().getSelectorCount()) {
+					// Acceptor and selector counts can only be set through the constructor.
+					ServerConnector sc2 = new ServerConnector(server, acceptors, selectors, sc.getConnectionFactories().toArray(new ConnectionFactory[0]));
+					sc2.setName(sc.getName());
+					sc2.setHost(sc.getHost());
+					sc2.setPort(sc.getPort());
+					sc2.setIdleTimeout(sc.getIdleTimeout());
+					sc2.setAcceptQueueSize(sc.getAcceptQueueSize());
+					sc2.setReuseAddress(sc.getReuseAddress());
+					connectors[i] = sc = sc2;
+				}
+				sc.setIdleTimeout(cf.getInt("Jetty/idleTimeout", (int)sc.getIdleTimeout()));
+				HttpConnectionFactory hcf = sc.getConnectionFactory(HttpConnectionFactory.class);
+				if (hcf != null) {
+					HttpConfiguration hc = hcf.getHttpConfiguration();
+					hc.setOutputBufferSize(cf.getInt("Jetty/outputBufferSize", hc.getOutputBufferSize()));
+				}
+			}
+		}
+		server.setConnectors(connectors);
+
+		int maxActiveRequests = cf.getInt("Jetty/maxActiveRequests", 0);
+		boolean keepAlive = cf.getBoolean("Jetty/keepAlive", true);
+		if (maxActiveRequests > 0 || ! keepAlive)
+			server.insertHandler(new ThrottlingHandler(maxActiveRequests, cf.getInt("Jetty/retryAfter", 1), keepAlive));
+
 		return server;
 	}
-	
+
+	/**
+	 * Returns the effective settings of the Jetty server.
+	 *
+	 * <p>
+	 * Includes the thread pool settings, the acceptor, selector, idle timeout and output buffer settings of each
+	 * connector, and the keep-alive and request limit settings.
+	 *
+	 * @return The effective settings of the Jetty server.
+	 * @throws RuntimeException if {@link #createServer()} has not previously been called.
+	 */
+	public ObjectMap getServerSettings() {
+		Server server = getServer();
+		ObjectMap m = new ObjectMap();
+
+		ThreadPool tp = server.getThreadPool();
+		if (tp instanceof QueuedThreadPool) {
+			QueuedThreadPool qtp = (QueuedThreadPool)tp;
+			m.append("threadPool", new ObjectMap()
+				.append("minThreads", qtp.getMinThreads())
+				.append("maxThreads", qtp.getMaxThreads())
+				.append("threadIdleTimeout", qtp.getIdleTimeout())
+				.append("threads", qtp.getThreads())
+				.append("idleThreads", qtp.getIdleThreads())
+				.append("queued", qtp.getQueueSize())
+			);
+		}
+
+		List<ObjectMap> l = new ArrayList<>();
+		for (Connector c : server.getConnectors()) {
+			if (c instanceof ServerConnector) {
+				ServerConnector sc = (ServerConnector)c;
+				ObjectMap cm = new ObjectMap()
+					.append("port", sc.getLocalPort() > 0 ? sc.getLocalPort() : sc.getPort())
+					.append("acceptors", sc.getAcceptors())
+					.append("selectors", sc.getSelectorManager().getSelectorCount())
+					.append("idleTimeout", sc.getIdleTimeout());
+				HttpConnectionFactory hcf = sc.getConnectionFactory(HttpConnectionFactory.class);
+				if (hcf != null)
+					cm.append("outputBufferSize", hcf.getHttpConfiguration().getOutputBufferSize());
+				l.add(cm);
+			}
+		}
+		m.append("connectors", l);
+
+		ThrottlingHandler th = server.getChildHandlerByClass(ThrottlingHandler.class);
+		m.append("keepAlive", th == null || th.isKeepAlive());
+		m.append("maxActiveRequests", th == null ? 0 : th.getMaxActiveRequests());
+		if (th != null)
+			m.append("rejectedRequests", th.getRejectedRequests());
+		return m;
+	}
+
+	/*
+	 * Logs the effective server settings and warns about settings that will starve the server of request threads.
+	 */
+	private void checkServerSettings() {
+		getLogger().info("Server settings: " + getServerSettings());
+		ThreadPool tp = server.getThreadPool();
+		if (! (tp instanceof QueuedThreadPool))
+			return;
+		int reserved = 0;
+		for (Connector c : server.getConnectors())
+			if (c instanceof ServerConnector)
+				reserved += ((ServerConnector)c).getAcceptors() + ((ServerConnector)c).getSelectorManager().getSelectorCount();
+		int available = ((QueuedThreadPool)tp).getMaxThreads() - reserved;
+		ThrottlingHandler th = server.getChildHandlerByClass(ThrottlingHandler.class);
+		if (available < 1)
+			getLogger().severe("Jetty/maxThreads leaves no threads for requests after " + reserved + " acceptor and selector threads.");
+		else if (th != null && th.getMaxActiveRequests() > available)
+			getLogger().warning("Jetty/maxActiveRequests=" + th.getMaxActiveRequests() + " exceeds the " + available + " threads available for requests.");
+	}
+
 	/**
 	 * Adds an arbitrary servlet to this microservice.
 	 * 
@@ -334,12 +493,10 @@ public class RestMicroservice extends Microservice {
 	 * @throws RuntimeException if {@link #createServer()} has not previously been called.
 	 */
 	public RestMicroservice addServlet(Servlet servlet, String pathSpec) {
-		for (Handler h : getServer().getHandlers()) {
-			if (h instanceof ServletContextHandler) {
-				ServletHolder sh = new ServletHolder(servlet);
-				((ServletContextHandler)h).addServlet(sh, pathSpec);
-				return this;
-			}
+		ServletContextHandler h = getServer().getChildHandlerByClass(ServletContextHandler.class);
+		if (h != null) {
+			h.addServlet(new ServletHolder(servlet), pathSpec);
+			return this;
 		}
 		throw new RuntimeException("Servlet context handler not found in jetty server.");
 	}
@@ -392,6 +549,7 @@ public class RestMicroservice extends Microservice {
 	protected int startServer() throws Exception {
 		onStartServer();
 		server.start();
+		checkServerSettings();
 		getLogger().warning("Server started on port " + getPort());
 		onPostStartServer();
 		return getPort();
@@ -407,7 +565,8 @@ public class RestMicroservice extends Microservice {
 	 * 	# Possible values:
 	 * 	# 	NOTHING - Don't do anything. (default)
 	 * 	#	RESTART_SERVER - Restart the Jetty server.
-	 * 	#	RESTART_SERVICE - Shutdown and exit with code '3'.</cc>
+	 * 	#	RESTART_SERVICE - Shutdown and exit with code '3'.
+	 * 	#	HOT_RELOAD - Apply changes to the running server without restarting it.</cc>
 	 * 	<ck>saveConfigAction</ck> = RESTART_SERVER
 	 * </p>
 	 */
@@ -0,0 +1,114 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import java.io.*;
+import java.util.concurrent.atomic.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+import org.eclipse.jetty.server.*;
+import org.eclipse.jetty.server.handler.*;
+
+/**
+ * Jetty handler that limits the number of requests being processed concurrently.
+ *
+ * <p>
+ * Requests received while the limit is reached are rejected immediately with a <code>503 Service Unavailable</code>
+ * and a <code>Retry-After</code> header instead of queuing up behind the requests being processed.
+ *
+ * <p>
+ * Also used to disable HTTP keep-alive by adding a <code>Connection: close</code> header to all responses.
+ */
+public class ThrottlingHandler extends HandlerWrapper {
+
+	private final int maxActiveRequests, retryAfter;
+	private final boolean keepAlive;
+	private final AtomicInteger active = new AtomicInteger();
+	private final AtomicLong rejected = new AtomicLong();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxActiveRequests The maximum number of concurrent requests, or <code>0</code> for no limit.
+	 * @param retryAfter The value of the <code>Retry-After</code> header on rejected requests in seconds.
+	 * @param keepAlive If <jk>false</jk>, connections are closed after each response.
+	 */
+	public ThrottlingHandler(int maxActiveRequests, int retryAfter, boolean keepAlive) {
+		this.maxActiveRequests = maxActiveRequests;
+		this.retryAfter = retryAfter;
+		this.keepAlive = keepAlive;
+	}
+
+	@Override /* Handler */
+	public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException, ServletException {
+		if (! keepAlive)
+			response.setHeader("Connection", "close");
+		if (maxActiveRequests <= 0) {
+			super.handle(target, baseRequest, request, response);
+			return;
+		}
+		if (active.incrementAndGet() > maxActiveRequests) {
+			active.decrementAndGet();
+			rejected.incrementAndGet();
+			baseRequest.setHandled(true);
+			response.setStatus(SC_SERVICE_UNAVAILABLE);
+			response.setHeader("Retry-After", String.valueOf(retryAfter));
+			return;
+		}
+		try {
+			super.handle(target, baseRequest, request, response);
+		} finally {
+			active.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of concurrent requests.
+	 *
+	 * @return The maximum number of concurrent requests, or <code>0</code> if there's no limit.
+	 */
+	public int getMaxActiveRequests() {
+		return maxActiveRequests;
+	}
+
+	/**
+	 * Returns the number of requests currently being processed.
+	 *
+	 * @return The number of requests currently being processed.
+	 */
+	public int getActiveRequests() {
+		return active.get();
+	}
+
+	/**
+	 * Returns the number of requests that were rejected because the limit was reached.
+	 *
+	 * @return The number of requests that were rejected because the limit was reached.
+	 */
+	public long getRejectedRequests() {
+		return rejected.get();
+	}
+
+	/**
+	 * Returns whether HTTP keep-alive is enabled.
+	 *
+	 * @return <jk>false</jk> if connections are closed after each response.
+	 */
+	public boolean isKeepAlive() {
+		return keepAlive;
+	}
+}
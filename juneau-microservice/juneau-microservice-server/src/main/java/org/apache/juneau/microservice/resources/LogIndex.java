@@ -0,0 +1,448 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.text.*;
+import java.util.*;
+import java.util.concurrent.locks.*;
+import java.util.regex.*;
+import java.util.zip.*;
+
+/**
+ * Compact index over a log file used by {@link LogParser} to skip the parts of the file that can't contain matching
+ * entries.
+ *
+ * <p>
+ * The log file is divided into blocks of roughly {@link #BLOCK_SIZE} bytes that always start at the beginning of a
+ * log record.
+ * For each block, the index stores the byte offset, the range of timestamps, and bitmaps of the severities and
+ * loggers of the records in the block.
+ *
+ * <p>
+ * The index is persisted in a sidecar file next to the log file (<js>"&lt;log-file&gt;.idx"</js>) and is extended
+ * incrementally as the log file grows.
+ * It's rebuilt from scratch if the log file was replaced (e.g. by log rotation) or the log format changed.
+ *
+ * <p>
+ * Instances are thread safe.
+ * Readers that can't wait for a refresh in progress can use
+ * {@link #getCurrentRanges(Date, Date, Set, Set)}.
+ */
+public final class LogIndex {
+
+	/** Target size in bytes of an indexed block. */
+	static final int BLOCK_SIZE = 64 * 1024;
+
+	private static final int MAGIC = 0x4A4C4958, VERSION = 1;
+	private static final int MAX_LOGGERS = 63;
+	private static final long OTHER_LOGGERS = 1L << MAX_LOGGERS;
+	private static final int CRC_SIZE = 4096;
+	private static final List<String> SEVERITIES = Arrays.asList("SEVERE","WARNING","INFO","CONFIG","FINE","FINER","FINEST");
+
+	private final File file, indexFile;
+	private final LogEntryFormatter formatter;
+	private final String pattern;
+
+	// The blocks, stored in parallel arrays.
+	// The last block is open and is extended on the next refresh.
+	private int count;
+	private long[] offsets = new long[16], minDates = new long[16], maxDates = new long[16], loggerMasks = new long[16];
+	private int[] severityMasks = new int[16];
+
+	private List<String> loggers = new ArrayList<>();
+	private long indexedLength, crc;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param formatter The formatter that produced the log file.
+	 * @param file The log file.
+	 */
+	public LogIndex(LogEntryFormatter formatter, File file) {
+		this.formatter = formatter;
+		this.file = file;
+		this.indexFile = getIndexFile(file);
+		this.pattern = formatter.getLogEntryPattern().pattern();
+	}
+
+	/**
+	 * Returns the sidecar file holding the index of the specified log file.
+	 *
+	 * @param file The log file.
+	 * @return The index file.
+	 */
+	public static File getIndexFile(File file) {
+		return new File(file.getPath() + ".idx");
+	}
+
+	/**
+	 * Brings this index up-to-date with the log file.
+	 *
+	 * <p>
+	 * Loads the sidecar file if this index hasn't been loaded yet, indexes any data appended to the log file since it
+	 * was last indexed, and saves the sidecar file if anything changed.
+	 *
+	 * @throws IOException If the log file could not be read.
+	 */
+	public void refresh() throws IOException {
+		lock.lock();
+		try {
+			long length = file.length();
+			if (count == 0)
+				load();
+			if (count > 0 && ! isCurrent(length))
+				clear();
+			if (count > 0 && length == indexedLength)
+				return;
+			index();
+			try {
+				save();
+			} catch (IOException e) {
+				// The log directory may not be writable.  The index is still usable from memory.
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the byte ranges of the log file that can contain entries matching the specified filters.
+	 *
+	 * <p>
+	 * Adjacent ranges are merged.
+	 * The last range always extends to the end of the file so that entries written since the last refresh are included.
+	 *
+	 * @param start Entries before this date are not needed, or <jk>null</jk>.
+	 * @param end Entries after this date are not needed, or <jk>null</jk>.
+	 * @param loggerFilter The simple logger names to include, or <jk>null</jk> for all.
+	 * @param severityFilter The severities to include, or <jk>null</jk> for all.
+	 * @return A list of <code>[start,end)</code> byte offsets.  The end of the last range is {@link Long#MAX_VALUE}.
+	 */
+	public List<long[]> getRanges(Date start, Date end, Set<String> loggerFilter, Set<String> severityFilter) {
+		lock.lock();
+		try {
+			return ranges(start, end, loggerFilter, severityFilter);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Same as {@link #getRanges(Date, Date, Set, Set)}, but only if the index can be used right away.
+	 *
+	 * <p>
+	 * Never waits for a refresh in progress and never indexes the log file.
+	 * Data appended since the last refresh is still covered by the last range, but if the log file was replaced or
+	 * truncated since then, or hasn't been indexed yet, the index can't be used.
+	 *
+	 * @param start Entries before this date are not needed, or <jk>null</jk>.
+	 * @param end Entries after this date are not needed, or <jk>null</jk>.
+	 * @param loggerFilter The simple logger names to include, or <jk>null</jk> for all.
+	 * @param severityFilter The severities to include, or <jk>null</jk> for all.
+	 * @return
+	 * 	A list of <code>[start,end)</code> byte offsets, or <jk>null</jk> if the index is being refreshed or is out of
+	 * 	date.
+	 */
+	public List<long[]> getCurrentRanges(Date start, Date end, Set<String> loggerFilter, Set<String> severityFilter) {
+		if (! lock.tryLock())
+			return null;
+		try {
+			if (count == 0)
+				load();
+			if (count == 0 || ! isCurrent(file.length()))
+				return null;
+			return ranges(start, end, loggerFilter, severityFilter);
+		} catch (IOException e) {
+			return null;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private List<long[]> ranges(Date start, Date end, Set<String> loggerFilter, Set<String> severityFilter) {
+		long loggerMask = -1L;
+		if (loggerFilter != null) {
+			loggerMask = loggers.size() == MAX_LOGGERS ? OTHER_LOGGERS : 0;
+			for (String l : loggerFilter) {
+				int i = loggers.indexOf(l);
+				if (i != -1)
+					loggerMask |= 1L << i;
+			}
+		}
+		int severityMask = -1;
+		if (severityFilter != null) {
+			severityMask = 0;
+			for (String s : severityFilter)
+				severityMask |= severityBit(s);
+		}
+		long startTime = start == null ? Long.MIN_VALUE : start.getTime(), endTime = end == null ? Long.MAX_VALUE : end.getTime();
+
+		List<long[]> l = new ArrayList<>();
+		long[] run = null;
+		for (int i = 0; i < count; i++) {
+			boolean last = i == count-1;
+			boolean hasDates = minDates[i] <= maxDates[i];
+			boolean matches = last || (
+				(! hasDates || (maxDates[i] >= startTime && minDates[i] <= endTime))
+				&& (loggerMasks[i] & loggerMask) != 0
+				&& (severityMasks[i] & severityMask) != 0
+			);
+			long blockEnd = last ? Long.MAX_VALUE : offsets[i+1];
+			if (! matches)
+				run = null;
+			else if (run == null)
+				l.add(run = new long[]{offsets[i], blockEnd});
+			else
+				run[1] = blockEnd;
+		}
+		if (count == 0)
+			l.add(new long[]{0, Long.MAX_VALUE});
+		return l;
+	}
+
+	/**
+	 * Returns the number of blocks in this index.
+	 *
+	 * @return The number of blocks in this index.
+	 */
+	public int getBlockCount() {
+		lock.lock();
+		try {
+			return count;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/*
+	 * Returns true if the indexed part of the log file hasn't been replaced or truncated.
+	 */
+	private boolean isCurrent(long length) throws IOException {
+		return length >= indexedLength && crc == crc(indexedLength);
+	}
+
+	private void clear() {
+		count = 0;
+		loggers = new ArrayList<>();
+		indexedLength = 0;
+	}
+
+	/*
+	 * Indexes the log file from the start of the open block up to the last complete line.
+	 */
+	private void index() throws IOException {
+		long pos = count == 0 ? 0 : offsets[--count];
+		if (count == 0)
+			loggers = new ArrayList<>();
+		Pattern p = formatter.getLogEntryPattern();
+		DateFormat df = (DateFormat)formatter.getDateFormat().clone();
+		Charset cs = Charset.defaultCharset();
+		boolean open = false;
+		try (FileChannel fc = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+				LineReader r = new LineReader(Channels.newInputStream(fc.position(pos)), pos)) {
+			byte[] line;
+			while ((line = r.readLine()) != null) {
+				long lineStart = r.lineStart;
+				Matcher m = p.matcher(new String(line, 0, r.lineLength, cs));
+				if (! m.matches())
+					continue;
+				if (! open || lineStart - offsets[count-1] >= BLOCK_SIZE) {
+					addBlock(lineStart);
+					open = true;
+				}
+				int b = count-1;
+				String date = formatter.getField("date", m);
+				if (date != null) {
+					try {
+						long t = df.parse(date).getTime();
+						minDates[b] = Math.min(minDates[b], t);
+						maxDates[b] = Math.max(maxDates[b], t);
+					} catch (ParseException e) {
+						// Leave the dates of the block unchanged.
+					}
+				}
+				severityMasks[b] |= severityBit(formatter.getField("level", m));
+				loggerMasks[b] |= loggerBit(formatter.getField("logger", m));
+			}
+			indexedLength = r.pos;
+		}
+		if (! open)
+			addBlock(pos);
+		crc = crc(indexedLength);
+	}
+
+	private void addBlock(long offset) {
+		if (count == offsets.length) {
+			int n = count * 2;
+			offsets = Arrays.copyOf(offsets, n);
+			minDates = Arrays.copyOf(minDates, n);
+			maxDates = Arrays.copyOf(maxDates, n);
+			loggerMasks = Arrays.copyOf(loggerMasks, n);
+			severityMasks = Arrays.copyOf(severityMasks, n);
+		}
+		offsets[count] = offset;
+		minDates[count] = Long.MAX_VALUE;
+		maxDates[count] = Long.MIN_VALUE;
+		loggerMasks[count] = 0;
+		severityMasks[count] = 0;
+		count++;
+	}
+
+	private static int severityBit(String s) {
+		int i = SEVERITIES.indexOf(s);
+		return 1 << (i == -1 ? SEVERITIES.size() : i);
+	}
+
+	private long loggerBit(String l) {
+		if (l == null)
+			return OTHER_LOGGERS;
+		if (l.indexOf('.') > -1)
+			l = l.substring(l.lastIndexOf('.')+1);
+		int i = loggers.indexOf(l);
+		if (i == -1) {
+			if (loggers.size() == MAX_LOGGERS)
+				return OTHER_LOGGERS;
+			i = loggers.size();
+			loggers.add(l);
+		}
+		return 1L << i;
+	}
+
+	/*
+	 * Computes a checksum of the beginning of the log file to detect when it's been replaced.
+	 */
+	private long crc(long length) throws IOException {
+		int n = (int)Math.min(CRC_SIZE, length);
+		ByteBuffer bb = ByteBuffer.allocate(n);
+		try (FileChannel fc = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			while (bb.hasRemaining() && fc.read(bb, bb.position()) > 0) {}
+		}
+		CRC32 c = new CRC32();
+		c.update(bb.array(), 0, bb.position());
+		return c.getValue();
+	}
+
+	private void load() {
+		if (! indexFile.exists())
+			return;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || ! in.readUTF().equals(pattern))
+				return;
+			long il = in.readLong(), c = in.readLong();
+			int nl = in.readInt();
+			List<String> ll = new ArrayList<>(nl);
+			for (int i = 0; i < nl; i++)
+				ll.add(in.readUTF());
+			int n = in.readInt();
+			for (int i = 0; i < n; i++) {
+				addBlock(in.readLong());
+				minDates[i] = in.readLong();
+				maxDates[i] = in.readLong();
+				loggerMasks[i] = in.readLong();
+				severityMasks[i] = in.readInt();
+			}
+			indexedLength = il;
+			crc = c;
+			loggers = ll;
+		} catch (IOException e) {
+			clear();
+		}
+	}
+
+	private void save() throws IOException {
+		File tmp = new File(indexFile.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeUTF(pattern);
+			out.writeLong(indexedLength);
+			out.writeLong(crc);
+			out.writeInt(loggers.size());
+			for (String l : loggers)
+				out.writeUTF(l);
+			out.writeInt(count);
+			for (int i = 0; i < count; i++) {
+				out.writeLong(offsets[i]);
+				out.writeLong(minDates[i]);
+				out.writeLong(maxDates[i]);
+				out.writeLong(loggerMasks[i]);
+				out.writeInt(severityMasks[i]);
+			}
+		}
+		try {
+			Files.move(tmp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			tmp.delete();
+		}
+	}
+
+	/*
+	 * Reads newline-terminated lines while keeping track of their byte offsets.
+	 * A trailing line without a newline is not returned since it may still be being written.
+	 */
+	private static final class LineReader implements Closeable {
+		private final InputStream is;
+		private final byte[] buf = new byte[64 * 1024];
+		private int bufPos, bufLen;
+		private byte[] line = new byte[256];
+		long pos, lineStart;
+		int lineLength;
+
+		LineReader(InputStream is, long pos) {
+			this.is = is;
+			this.pos = pos;
+		}
+
+		byte[] readLine() throws IOException {
+			int n = 0;
+			while (true) {
+				if (bufPos == bufLen) {
+					bufLen = is.read(buf);
+					bufPos = 0;
+					if (bufLen <= 0) {
+						bufLen = 0;
+						return null;
+					}
+				}
+				int i = bufPos;
+				while (i < bufLen && buf[i] != '\n')
+					i++;
+				int len = i - bufPos;
+				if (n + len > line.length)
+					line = Arrays.copyOf(line, Math.max(line.length * 2, n + len));
+				System.arraycopy(buf, bufPos, line, n, len);
+				n += len;
+				bufPos = i;
+				if (i < bufLen) {
+					bufPos++;
+					lineStart = pos;
+					pos += n + 1;
+					lineLength = n > 0 && line[n-1] == '\r' ? n-1 : n;
+					return line;
+				}
+			}
+		}
+
+		@Override /* Closeable */
+		public void close() throws IOException {
+			is.close();
+		}
+	}
+}
@@ -13,7 +13,10 @@
 package org.apache.juneau.microservice.resources;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.nio.charset.*;
+import java.nio.file.*;
 import java.text.*;
 import java.util.*;
 import java.util.regex.*;
@@ -24,6 +27,10 @@ import java.util.regex.*;
  * <p>
  * Provides the capability of returning splices of log files based on dates and filtering based on thread and logger 
  * names.
+ * 
+ * <p>
+ * When constructed with a {@link LogIndex}, blocks of the log file that the index shows can't contain matching entries
+ * are skipped without being read.
  */
 public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.Entry>, Closeable {
 	private BufferedReader br;
@@ -46,7 +53,29 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 	 * @throws IOException
 	 */
 	public LogParser(LogEntryFormatter formatter, File f, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
-		br = new BufferedReader(new InputStreamReader(new FileInputStream(f), Charset.defaultCharset()));
+		this(formatter, f, null, start, end, thread, loggers, severity);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * If an index is specified, only the parts of the file that the index says can contain matching entries are read,
+	 * using a memory-mapped view of the file.
+	 * The index is only used if it's up-to-date and not being refreshed (see
+	 * {@link LogIndex#getCurrentRanges(Date, Date, Set, Set)}).  Otherwise the entire file is read.
+	 *
+	 * @param formatter The log entry formatter.
+	 * @param f The log file.
+	 * @param index The index of the log file, or <jk>null</jk> to read the entire file.
+	 * @param start Don't return rows before this date.  If <jk>null</jk>, start from the beginning of the file.
+	 * @param end Don't return rows after this date.  If <jk>null</jk>, go to the end of the file.
+	 * @param thread Only return log entries with this thread name.
+	 * @param loggers Only return log entries produced by these loggers (simple class names).
+	 * @param severity Only return log entries with the specified severity.
+	 * @throws IOException
+	 */
+	public LogParser(LogEntryFormatter formatter, File f, LogIndex index, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
 		this.formatter = formatter;
 		this.start = start;
 		this.end = end;
@@ -55,6 +84,9 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 			this.loggerFilter = new HashSet<>(Arrays.asList(loggers));
 		if (severity != null)
 			this.severityFilter = new HashSet<>(Arrays.asList(severity));
+		List<long[]> ranges = index == null ? null : index.getCurrentRanges(start, end, loggerFilter, severityFilter);
+		InputStream is = ranges == null ? new FileInputStream(f) : new MappedInputStream(f, ranges);
+		br = new BufferedReader(new InputStreamReader(is, Charset.defaultCharset()));
 
 		// Find the first line.
 		String line;
@@ -215,6 +247,67 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 		}
 	}
 
+	/*
+	 * Reads the specified byte ranges of a file through memory-mapped windows of the file.
+	 */
+	private static final class MappedInputStream extends InputStream {
+		private static final int WINDOW_SIZE = 16 * 1024 * 1024;
+
+		private final FileChannel fc;
+		private final Iterator<long[]> ranges;
+		private long pos, end;
+		private ByteBuffer window;
+
+		MappedInputStream(File f, List<long[]> ranges) throws IOException {
+			this.fc = FileChannel.open(f.toPath(), StandardOpenOption.READ);
+			this.ranges = ranges.iterator();
+		}
+
+		/*
+		 * Returns the current window, mapping the next part of the file if the current window is exhausted.
+		 * Returns null at the end of the last range.
+		 */
+		private ByteBuffer window() throws IOException {
+			while (window == null || ! window.hasRemaining()) {
+				if (pos >= end) {
+					if (! ranges.hasNext())
+						return null;
+					long[] r = ranges.next();
+					pos = r[0];
+					end = Math.min(r[1], fc.size());
+					continue;
+				}
+				int len = (int)Math.min(WINDOW_SIZE, end - pos);
+				window = fc.map(FileChannel.MapMode.READ_ONLY, pos, len);
+				pos += len;
+			}
+			return window;
+		}
+
+		@Override /* InputStream */
+		public int read() throws IOException {
+			ByteBuffer bb = window();
+			return bb == null ? -1 : bb.get() & 0xFF;
+		}
+
+		@Override /* InputStream */
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0)
+				return 0;
+			ByteBuffer bb = window();
+			if (bb == null)
+				return -1;
+			len = Math.min(len, bb.remaining());
+			bb.get(b, off, len);
+			return len;
+		}
+
+		@Override /* InputStream */
+		public void close() throws IOException {
+			fc.close();
+		}
+	}
+
 	static final String toHtml(String s) {
 		if (s.indexOf('<') != -1)
 			return s.replaceAll("<", "&lt;");//$NON-NLS-2$
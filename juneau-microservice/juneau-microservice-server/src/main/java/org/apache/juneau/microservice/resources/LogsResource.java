@@ -22,6 +22,8 @@ import java.io.*;
 import java.net.URI;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -36,6 +38,14 @@ import org.apache.juneau.transforms.*;
 
 /**
  * REST resource for viewing and accessing log files.
+ *
+ * <p>
+ * Log files are indexed in the background by {@link LogIndex} so that queries filtered by date, logger, or severity
+ * only read the parts of the log files that can contain matching entries.
+ * The interval between indexing runs is specified in seconds by the <js>"Logging/indexInterval"</js> config value
+ * (default <code>60</code>, <code>0</code> to only index log files when they're queried).
+ * Requests never wait for indexing.  Log files whose index is out of date (e.g. after log rotation) or being
+ * refreshed are read in full.
  */
 @RestResource(
 	path="/logs",
@@ -56,6 +66,9 @@ public class LogsResource extends Resource {
 
 	private File logDir;
 	private LogEntryFormatter leFormatter;
+	private final ConcurrentHashMap<String,LogIndex> indexes = new ConcurrentHashMap<>();
+	private ScheduledExecutorService indexer;
+	private int indexInterval;
 
 	private final FileFilter filter = new FileFilter() {
 		@Override /* FileFilter */
@@ -80,6 +93,66 @@ public class LogsResource extends Resource {
 			cf.getString("Logging/dateFormat", "yyyy.MM.dd hh:mm:ss"),
 			cf.getBoolean("Logging/useStackTraceHashes")
 		);
+
+		indexer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override /* ThreadFactory */
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "LogsResource.indexer");
+				t.setDaemon(true);
+				t.setPriority(Thread.MIN_PRIORITY);
+				return t;
+			}
+		});
+		indexInterval = cf.getInt("Logging/indexInterval", 60);
+		if (indexInterval > 0) {
+			indexer.scheduleWithFixedDelay(new Runnable() {
+				@Override /* Runnable */
+				public void run() {
+					indexAll(logDir);
+				}
+			}, 0, indexInterval, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Stops the background indexer.
+	 */
+	@RestHook(DESTROY)
+	public void destroy() {
+		if (indexer != null)
+			indexer.shutdownNow();
+	}
+
+	/*
+	 * Brings the indexes of all log files in the specified directory up-to-date.
+	 */
+	void indexAll(File dir) {
+		File[] files = dir.listFiles(filter);
+		if (files == null)
+			return;
+		for (File f : files) {
+			if (Thread.currentThread().isInterrupted())
+				return;
+			if (f.isDirectory())
+				indexAll(f);
+			else {
+				try {
+					getLogIndex(f).refresh();
+				} catch (Exception e) {
+					log(Level.WARNING, e, "Could not index log file ''{0}''.", f);
+				}
+			}
+		}
+	}
+
+	private LogIndex getLogIndex(File f) {
+		String key = f.getAbsolutePath();
+		LogIndex i = indexes.get(key);
+		if (i == null) {
+			indexes.putIfAbsent(key, new LogIndex(leFormatter, f));
+			i = indexes.get(key);
+		}
+		return i;
 	}
 
 	/**
@@ -272,6 +345,9 @@ public class LogsResource extends Resource {
 			if (! f.delete())
 				throw new RestException(SC_FORBIDDEN, "Could not delete file.");
 
+		indexes.remove(f.getAbsolutePath());
+		LogIndex.getIndexFile(f).delete();
+
 		return new Redirect(path + "/..");
 	}
 
@@ -331,7 +407,24 @@ public class LogsResource extends Resource {
 		return getLogParser(f, start, end, thread, loggers, severity);
 	}
 
-	private LogParser getLogParser(File f, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
-		return new LogParser(leFormatter, f, start, end, thread, loggers, severity);
+	private LogParser getLogParser(final File f, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
+		if (start == null && end == null && loggers == null && severity == null)
+			return new LogParser(leFormatter, f, start, end, thread, loggers, severity);
+		final LogIndex index = getLogIndex(f);
+
+		// Without periodic indexing, bring the index up-to-date in the background for the next query.
+		if (indexInterval <= 0) {
+			indexer.execute(new Runnable() {
+				@Override /* Runnable */
+				public void run() {
+					try {
+						index.refresh();
+					} catch (Exception e) {
+						log(Level.WARNING, e, "Could not index log file ''{0}''.", f);
+					}
+				}
+			});
+		}
+		return new LogParser(leFormatter, f, index, start, end, thread, loggers, severity);
 	}
 }
@@ -0,0 +1,97 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import java.util.logging.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.microservice.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * Shows the latency, throughput and error metrics of all REST resources in this microservice.
+ *
+ * <p>
+ * Metrics are collected by {@link RestMetrics} on each resource.
+ * Latencies are reported in microseconds.
+ *
+ * <p>
+ * If the microservice logs asynchronously through an {@link AsyncLogHandler}, the metrics of the handler are shown
+ * in the <js>"logging"</js> entry.
+ */
+@RestResource(
+	path="/metrics",
+	title="Metrics",
+	description="Request latency, throughput and error metrics.",
+	htmldoc=@HtmlDoc(
+		navlinks={
+			"up: request:/..",
+			"reset: servlet:/reset?method=POST",
+			"options: servlet:/?method=OPTIONS"
+		}
+	),
+	allowMethodParam="OPTIONS,POST"
+)
+public class MetricsResource extends Resource {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * [GET /] - Shows the metrics of all resources.
+	 *
+	 * @param req The HTTP request.
+	 * @return The metrics of all resources keyed by resource path.
+	 */
+	@RestMethod(name=GET, path="/", description="Show the metrics of all resources.")
+	public ObjectMap getMetrics(RestRequest req) {
+		ObjectMap m = new ObjectMap();
+		addMetrics(getRoot(req.getContext()), m);
+		for (Handler h : Logger.getLogger("").getHandlers())
+			if (h instanceof AsyncLogHandler)
+				m.put("logging", ((AsyncLogHandler)h).toMap());
+		return m;
+	}
+
+	/**
+	 * [POST /reset] - Clears the metrics of all resources.
+	 *
+	 * @param req The HTTP request.
+	 * @return The string <js>"OK"</js>.
+	 */
+	@RestMethod(name=POST, path="/reset", description="Clear the metrics of all resources.")
+	public String reset(RestRequest req) {
+		reset(getRoot(req.getContext()));
+		return "OK";
+	}
+
+	private static RestContext getRoot(RestContext c) {
+		while (c.getParentContext() != null)
+			c = c.getParentContext();
+		return c;
+	}
+
+	private static void addMetrics(RestContext c, ObjectMap m) {
+		String path = c.getPath();
+		m.put(path.startsWith("/") ? path : "/" + path, c.getMetrics().toMap());
+		for (RestContext c2 : c.getChildResources().values())
+			addMetrics(c2, m);
+	}
+
+	private static void reset(RestContext c) {
+		c.getMetrics().reset();
+		for (RestContext c2 : c.getChildResources().values())
+			reset(c2);
+	}
+}
@@ -22,7 +22,7 @@ import org.apache.juneau.rest.annotation.*;
 	path="/",
 	title="Sample Root Resource",
 	description="This is a sample router page",
-	children={ConfigResource.class,LogsResource.class}
+	children={ConfigResource.class,LogsResource.class,MetricsResource.class}
 )
 public class SampleRootResource extends ResourceGroup {
 	private static final long serialVersionUID = 1L;
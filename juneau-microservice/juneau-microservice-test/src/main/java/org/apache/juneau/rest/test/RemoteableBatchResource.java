@@ -0,0 +1,85 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.remoteable.*;
+
+/**
+ * JUnit automated testcase resource.
+ * Validates batched calls on remoteable proxies.
+ */
+@RestResource(
+	path="/testRemoteableBatch"
+)
+public class RemoteableBatchResource extends RemoteableServlet {
+	private static final long serialVersionUID = 1L;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	public interface Calculator {
+		int add(int x, int y);
+		String echo(String s);
+		List<Integer> range(int n);
+		void fail(String message);
+		int sum(List<Integer> l);
+		String thread(int millis) throws InterruptedException;
+	}
+
+	@Override /* RemoteableServlet */
+	protected Map<Class<?>,Object> getServiceMap() throws Exception {
+		Map<Class<?>,Object> m = new LinkedHashMap<>();
+		m.put(Calculator.class, new Calculator() {
+			@Override
+			public int add(int x, int y) {
+				return x + y;
+			}
+			@Override
+			public String echo(String s) {
+				return s;
+			}
+			@Override
+			public List<Integer> range(int n) {
+				List<Integer> l = new ArrayList<>();
+				for (int i = 0; i < n; i++)
+					l.add(i);
+				return l;
+			}
+			@Override
+			public void fail(String message) {
+				throw new IllegalArgumentException(message);
+			}
+			@Override
+			public int sum(List<Integer> l) {
+				int sum = 0;
+				for (int i : l)
+					sum += i;
+				return sum;
+			}
+			@Override
+			public String thread(int millis) throws InterruptedException {
+				Thread.sleep(millis);
+				return Thread.currentThread().getName();
+			}
+		});
+		return m;
+	}
+
+	@Override /* RemoteableServlet */
+	protected ExecutorService getBatchExecutorService() {
+		return executor;
+	}
+}
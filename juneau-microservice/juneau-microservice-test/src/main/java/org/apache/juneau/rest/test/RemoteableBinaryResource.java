@@ -0,0 +1,140 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import java.io.*;
+import java.util.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+import org.apache.juneau.remoteable.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.remoteable.*;
+
+/**
+ * JUnit automated testcase resource.
+ * Validates calls on remoteable proxies made using MessagePack.
+ */
+@RestResource(
+	path="/testRemoteableBinary"
+)
+public class RemoteableBinaryResource extends RemoteableServlet {
+	private static final long serialVersionUID = 1L;
+
+	@Remoteable(methodPaths="SIGNATURE")
+	public interface Echo {
+		int add(int x, int y);
+		String echo(String s);
+		Bean echoBean(Bean b);
+		List<Bean> echoBeans(List<Bean> l);
+		Map<String,List<Integer>> echoMap(Map<String,List<Integer>> m);
+		int count();
+		void fail(String message);
+	}
+
+	/** Interface without a service object. */
+	@Remoteable(methodPaths="SIGNATURE")
+	public interface Unavailable {
+		String hello(String name);
+	}
+
+	public static class Bean {
+		public String s;
+		public int i;
+		public double d;
+		public boolean b;
+		public List<String> l;
+		public Map<String,Integer> m;
+
+		public Bean init(int x) {
+			s = "s" + x + "é中";
+			i = x;
+			d = x + 0.5;
+			b = x % 2 == 0;
+			l = Arrays.asList("a" + x, "b" + x);
+			m = new LinkedHashMap<>();
+			m.put("k" + x, x);
+			return this;
+		}
+	}
+
+	@Override /* RemoteableServlet */
+	protected Map<Class<?>,Object> getServiceMap() throws Exception {
+		Map<Class<?>,Object> m = new LinkedHashMap<>();
+		m.put(Echo.class, new Echo() {
+			int count;
+			@Override
+			public int add(int x, int y) {
+				return x + y;
+			}
+			@Override
+			public String echo(String s) {
+				return s;
+			}
+			@Override
+			public Bean echoBean(Bean b) {
+				return b;
+			}
+			@Override
+			public List<Bean> echoBeans(List<Bean> l) {
+				return l;
+			}
+			@Override
+			public Map<String,List<Integer>> echoMap(Map<String,List<Integer>> m) {
+				return m;
+			}
+			@Override
+			public synchronized int count() {
+				return ++count;
+			}
+			@Override
+			public void fail(String message) {
+				throw new IllegalArgumentException(message);
+			}
+		});
+		m.put(Unavailable.class, null);
+		return m;
+	}
+
+	/**
+	 * The same services on a servlet that doesn't accept MessagePack request bodies, like a servlet that doesn't have
+	 * the MessagePack parser.
+	 */
+	@RestResource(
+		path="/testRemoteableBinaryNoMsgPack",
+		callHandler=NoMsgPack.CallHandler.class
+	)
+	public static class NoMsgPack extends RemoteableBinaryResource {
+		private static final long serialVersionUID = 1L;
+
+		public static class CallHandler extends RestCallHandler {
+
+			public CallHandler(RestContext context) {
+				super(context);
+			}
+
+			@Override /* RestCallHandler */
+			protected void service(HttpServletRequest r1, HttpServletResponse r2) throws ServletException, IOException {
+				String ct = r1.getContentType();
+				if (ct != null && ct.contains("msgpack"))
+					r2.sendError(SC_UNSUPPORTED_MEDIA_TYPE, "Unsupported media type '" + ct + "'");
+				else
+					super.service(r1, r2);
+			}
+		}
+	}
+}
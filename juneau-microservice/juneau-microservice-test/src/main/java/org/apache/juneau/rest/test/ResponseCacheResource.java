@@ -0,0 +1,51 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.microservice.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ * Validates server-side response caching and conditional GET handling.
+ */
+@RestResource(
+	path="/testResponseCache"
+)
+@SuppressWarnings("serial")
+public class ResponseCacheResource extends Resource {
+
+	private final AtomicInteger cached = new AtomicInteger(), uncached = new AtomicInteger(), maxAge = new AtomicInteger();
+
+	@RestMethod(name=GET, path="/cached", cacheTtl=60)
+	public String testCached() {
+		return "cached-" + cached.incrementAndGet();
+	}
+
+	@RestMethod(name=GET, path="/uncached")
+	public String testUncached() {
+		return "uncached-" + uncached.incrementAndGet();
+	}
+
+	@RestMethod(name=GET, path="/maxAge")
+	public ObjectMap testMaxAge(RestResponse res) {
+		res.setHeader("Cache-Control", "max-age=60");
+		return new ObjectMap().append("count", maxAge.incrementAndGet());
+	}
+}
@@ -24,6 +24,7 @@ import org.apache.juneau.rest.labels.*;
 	children={
 		DebugResource.class,
 		LogsResource.class,
+		MetricsResource.class,
 		AcceptCharsetResource.class,
 		BeanContextPropertiesResource.class,
 		BpiResource.class,
@@ -66,7 +67,11 @@ import org.apache.juneau.rest.labels.*;
 		PathVariablesResource.class,
 		PropertiesResource.class,
 		QueryResource.class,
+		RemoteableBatchResource.class,
+		RemoteableBinaryResource.class,
+		RemoteableBinaryResource.NoMsgPack.class,
 		RequestBeanProxyResource.class,
+		ResponseCacheResource.class,
 		RestClient2Resource.class,
 		RestHooksInitResource.class,
 		RestHooksResource.class,
@@ -85,4 +90,4 @@ public class Root extends RestServletDefault {
 	public ChildResourceDescriptions doGet(RestRequest req) {
 		return new ChildResourceDescriptions(getContext(), req);
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,214 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+import org.apache.juneau.microservice.*;
+import org.apache.juneau.microservice.AsyncLogHandler.*;
+import org.junit.*;
+
+public class AsyncLogHandlerTest {
+
+	/*
+	 * Handler that collects published records, and optionally blocks the writer thread until released.
+	 */
+	private static class CollectingHandler extends Handler {
+		final List<LogRecord> records = Collections.synchronizedList(new ArrayList<LogRecord>());
+		final CountDownLatch entered = new CountDownLatch(1), released;
+		volatile boolean closed;
+
+		CollectingHandler(boolean blocked) {
+			released = new CountDownLatch(blocked ? 1 : 0);
+		}
+
+		@Override /* Handler */
+		public void publish(LogRecord r) {
+			entered.countDown();
+			try {
+				released.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			records.add(r);
+		}
+
+		@Override /* Handler */
+		public void flush() {}
+
+		@Override /* Handler */
+		public void close() {
+			closed = true;
+		}
+	}
+
+	private static LogRecord record(Level level, String msg) {
+		return new LogRecord(level, msg);
+	}
+
+	/*
+	 * Creates a handler with a buffer of 4 whose writer thread is stuck publishing the first record, then fills the
+	 * buffer.
+	 */
+	private static AsyncLogHandler createFull(CollectingHandler ch, OverflowPolicy policy) throws Exception {
+		AsyncLogHandler h = new AsyncLogHandler(4, 16, policy, false, ch);
+		h.publish(record(Level.INFO, "first"));
+		assertTrue(ch.entered.await(10, TimeUnit.SECONDS));
+		for (int i = 0; i < 4; i++)
+			h.publish(record(Level.INFO, "buffered" + i));
+		assertEquals(4, h.getPendingCount());
+		return h;
+	}
+
+	//====================================================================================================
+	// Records from each producer are written in the order they were logged.
+	//====================================================================================================
+	@Test
+	public void testOrderingConcurrentProducers() throws Exception {
+		final int threads = 4, count = 5000;
+		CollectingHandler ch = new CollectingHandler(false);
+		final AsyncLogHandler h = new AsyncLogHandler(64, 16, OverflowPolicy.BLOCK, false, ch);
+		List<Thread> l = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			final int tt = t;
+			Thread th = new Thread() {
+				@Override /* Thread */
+				public void run() {
+					for (int i = 0; i < count; i++)
+						h.publish(record(Level.INFO, tt + ":" + i));
+				}
+			};
+			th.start();
+			l.add(th);
+		}
+		for (Thread th : l)
+			th.join();
+		h.close();
+
+		assertEquals(threads * count, ch.records.size());
+		assertEquals(threads * count, h.getWrittenCount());
+		assertEquals(0, h.getDroppedCount());
+		int[] next = new int[threads];
+		for (LogRecord r : ch.records) {
+			String[] s = r.getMessage().split(":");
+			int t = Integer.parseInt(s[0]), i = Integer.parseInt(s[1]);
+			assertEquals(next[t]++, i);
+		}
+	}
+
+	//====================================================================================================
+	// DROP discards all records when the buffer is full.
+	//====================================================================================================
+	@Test
+	public void testDrop() throws Exception {
+		CollectingHandler ch = new CollectingHandler(true);
+		AsyncLogHandler h = createFull(ch, OverflowPolicy.DROP);
+		h.publish(record(Level.INFO, "dropped1"));
+		h.publish(record(Level.SEVERE, "dropped2"));
+		assertEquals(2, h.getDroppedCount());
+
+		ch.released.countDown();
+		h.close();
+		assertEquals(5, h.getWrittenCount());
+		assertEquals(2, h.getDroppedCount());
+	}
+
+	//====================================================================================================
+	// DROP_BELOW_WARNING discards only records below WARNING when the buffer is full.
+	//====================================================================================================
+	@Test
+	public void testDropBelowWarning() throws Exception {
+		CollectingHandler ch = new CollectingHandler(true);
+		final AsyncLogHandler h = createFull(ch, OverflowPolicy.DROP_BELOW_WARNING);
+		h.publish(record(Level.INFO, "dropped1"));
+		h.publish(record(Level.FINE, "dropped2"));
+		assertEquals(2, h.getDroppedCount());
+
+		Thread t = new Thread() {
+			@Override /* Thread */
+			public void run() {
+				h.publish(record(Level.WARNING, "kept"));
+			}
+		};
+		t.start();
+		t.join(200);
+		assertTrue(t.isAlive());
+
+		ch.released.countDown();
+		t.join(10000);
+		assertFalse(t.isAlive());
+		h.close();
+		assertEquals(6, h.getWrittenCount());
+		assertEquals(2, h.getDroppedCount());
+		assertEquals("kept", ch.records.get(5).getMessage());
+	}
+
+	//====================================================================================================
+	// BLOCK makes logging threads wait until there's room in the buffer.
+	//====================================================================================================
+	@Test
+	public void testBlock() throws Exception {
+		CollectingHandler ch = new CollectingHandler(true);
+		final AsyncLogHandler h = createFull(ch, OverflowPolicy.BLOCK);
+		Thread t = new Thread() {
+			@Override /* Thread */
+			public void run() {
+				for (int i = 0; i < 10; i++)
+					h.publish(record(Level.FINEST, "blocked" + i));
+			}
+		};
+		t.start();
+		t.join(200);
+		assertTrue(t.isAlive());
+		assertEquals(4, h.getPendingCount());
+
+		ch.released.countDown();
+		t.join(10000);
+		assertFalse(t.isAlive());
+		h.close();
+		assertEquals(15, h.getWrittenCount());
+		assertEquals(0, h.getDroppedCount());
+	}
+
+	//====================================================================================================
+	// close() writes out all pending records before closing the wrapped handlers.
+	//====================================================================================================
+	@Test
+	public void testCloseDrains() throws Exception {
+		final CollectingHandler ch = new CollectingHandler(true);
+		AsyncLogHandler h = createFull(ch, OverflowPolicy.BLOCK);
+		new Thread() {
+			@Override /* Thread */
+			public void run() {
+				try {
+					Thread.sleep(100);
+				} catch (InterruptedException e) {}
+				ch.released.countDown();
+			}
+		}.start();
+		h.close();
+
+		assertEquals(0, h.getPendingCount());
+		assertEquals(5, ch.records.size());
+		assertEquals("buffered3", ch.records.get(4).getMessage());
+		assertTrue(ch.closed);
+
+		// Records logged after closing are ignored.
+		h.publish(record(Level.SEVERE, "ignored"));
+		assertEquals(5, ch.records.size());
+	}
+}
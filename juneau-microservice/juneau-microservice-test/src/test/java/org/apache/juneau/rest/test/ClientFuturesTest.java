@@ -15,6 +15,7 @@ package org.apache.juneau.rest.test;
 import static org.apache.juneau.rest.test.TestUtils.*;
 import static org.junit.Assert.*;
 
+import java.util.*;
 import java.util.concurrent.*;
 
 import org.apache.juneau.*;
@@ -41,4 +42,51 @@ public class ClientFuturesTest extends RestTestcase {
 		Future<String> f3 = client.doGet(URL).getResponseAsStringFuture();
 		assertObjectEquals("'{\"foo\":\"bar\"}'", f3.get());
 	}
-}
\ No newline at end of file
+
+	//====================================================================================================
+	// Callbacks
+	//====================================================================================================
+	@Test
+	public void testCallbacks() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT;
+		final BlockingQueue<Object> q = new LinkedBlockingQueue<>();
+		RestCallback<ObjectMap> cb = new RestCallback<ObjectMap>() {
+			@Override /* RestCallback */
+			public void onSuccess(ObjectMap result) {
+				q.add(result);
+			}
+			@Override /* RestCallback */
+			public void onFailure(Exception e) {
+				q.add(e);
+			}
+		};
+
+		client.doGet(URL).getResponseFuture(ObjectMap.class, cb).get();
+		assertObjectEquals("{foo:'bar'}", q.take());
+
+		try {
+			client.doGet(URL + "/bad").getResponseFuture(ObjectMap.class, cb).get();
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof RestCallException);
+		}
+		assertEquals(404, ((RestCallException)q.take()).getResponseCode());
+	}
+
+	//====================================================================================================
+	// Pooled clients run futures concurrently.
+	//====================================================================================================
+	@Test
+	public void testFanOut() throws Exception {
+		RestClient client = TestMicroservice.client().pooled().setMaxConnTotal(10).setMaxConnPerRoute(10).build();
+		try {
+			List<Future<ObjectMap>> l = new ArrayList<>();
+			for (int i = 0; i < 50; i++)
+				l.add(client.doGet(URL).getResponseFuture(ObjectMap.class));
+			for (Future<ObjectMap> f : l)
+				assertObjectEquals("{foo:'bar'}", f.get());
+		} finally {
+			client.closeQuietly();
+		}
+	}
+}
@@ -0,0 +1,62 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+public class ClientResponseCacheTest extends RestTestcase {
+
+	private static String URL = "/testResponseCache";
+
+	//====================================================================================================
+	// Fresh responses are served from the cache along with the previously parsed POJO.
+	//====================================================================================================
+	@Test
+	public void testMaxAge() throws Exception {
+		RestClient client = TestMicroservice.client().responseCache(new RestResponseCache(10)).build();
+		try {
+			ObjectMap m1 = client.doGet(URL + "/maxAge").getResponse(ObjectMap.class);
+			ObjectMap m2 = client.doGet(URL + "/maxAge").getResponse(ObjectMap.class);
+			assertSame(m1, m2);
+
+			// Bypassed when the request asks for revalidation.
+			ObjectMap m3 = client.doGet(URL + "/maxAge").header("Cache-Control", "no-cache").getResponse(ObjectMap.class);
+			assertFalse(m1.getInt("count").equals(m3.getInt("count")));
+		} finally {
+			client.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// Responses with only an ETag are revalidated with If-None-Match.
+	//====================================================================================================
+	@Test
+	public void testRevalidate() throws Exception {
+		RestClient client = TestMicroservice.client().responseCache(new RestResponseCache(10)).build();
+		try {
+			String url = URL + "/cached?client=true";
+			String r1 = client.doGet(url).getResponseAsString();
+			assertEquals(r1, client.doGet(url).getResponseAsString());
+
+			// Conditional requests made by the caller are not answered from the cache.
+			String etag = client.doGet(url).getResponse().getFirstHeader("ETag").getValue();
+			assertEquals(304, client.doGet(url).ifNoneMatch(etag).run());
+		} finally {
+			client.closeQuietly();
+		}
+	}
+}
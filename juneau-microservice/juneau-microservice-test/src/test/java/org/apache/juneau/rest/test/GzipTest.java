@@ -293,6 +293,10 @@ public class GzipTest extends RestTestcase {
 		r = c.doPut(url, compress("foo")).header("Content-Encoding", "mycoding");
 		assertEquals("foo", r.getResponseAsString());
 
+		// Compressed while being streamed to the server.
+		r = c.doPut(url, new StringReader("foo")).inputEncoder(new GzipResource.MyEncoder());
+		assertEquals("foo", r.getResponseAsString());
+
 		c.closeQuietly(); // We want to close our client because we created the HttpClient in this method.
 	}
 
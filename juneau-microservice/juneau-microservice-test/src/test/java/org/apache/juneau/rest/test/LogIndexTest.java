@@ -0,0 +1,294 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+
+import org.apache.juneau.microservice.resources.*;
+import org.junit.*;
+
+public class LogIndexTest {
+
+	private static final long T0 = 1500000000000L;
+	private static final LogEntryFormatter FORMATTER = new LogEntryFormatter("[{date} {level}] {logger} - {msg}%n", "yyyy.MM.dd HH:mm:ss", false);
+
+	private File dir, log;
+
+	@Before
+	public void before() throws Exception {
+		dir = Files.createTempDirectory("LogIndexTest").toFile();
+		log = new File(dir, "test.log");
+	}
+
+	@After
+	public void after() {
+		for (File f : dir.listFiles())
+			f.delete();
+		dir.delete();
+	}
+
+	private static LogRecord record(int second, Level level, String logger, String msg) {
+		LogRecord r = new LogRecord(level, msg);
+		r.setMillis(T0 + second * 1000L);
+		r.setLoggerName(logger);
+		return r;
+	}
+
+	private static Date date(int second) {
+		return new Date(T0 + second * 1000L);
+	}
+
+	private static void write(File f, boolean append, List<LogRecord> records) throws IOException {
+		try (Writer w = new OutputStreamWriter(new FileOutputStream(f, append), Charset.defaultCharset())) {
+			for (LogRecord r : records)
+				w.write(FORMATTER.format(r));
+		}
+	}
+
+	/*
+	 * Writes 'count' INFO records one second apart starting at 'first', all from the same logger.
+	 */
+	private static List<LogRecord> records(int first, int count, String logger) {
+		List<LogRecord> l = new ArrayList<>();
+		for (int i = first; i < first + count; i++)
+			l.add(record(i, Level.INFO, logger, "Message number " + i));
+		return l;
+	}
+
+	private static Set<String> set(String...s) {
+		return s.length == 0 ? null : new HashSet<>(Arrays.asList(s));
+	}
+
+	/*
+	 * Returns the number of bytes of the log file covered by the specified ranges.
+	 */
+	private long covered(List<long[]> ranges) {
+		long n = 0, len = log.length();
+		for (long[] r : ranges)
+			n += Math.max(0, Math.min(r[1], len) - r[0]);
+		return n;
+	}
+
+	private List<String> parse(LogIndex index, Date start, Date end, String[] loggers, String[] severity) throws Exception {
+		List<String> l = new ArrayList<>();
+		try (LogParser p = new LogParser(FORMATTER, log, index, start, end, null, loggers, severity)) {
+			for (LogParser.Entry e : p)
+				l.add(e.date.getTime() + "|" + e.severity + "|" + e.logger + "|" + e.getText());
+		}
+		return l;
+	}
+
+	/*
+	 * Parses the log file with and without the index and checks that both return the same entries.
+	 */
+	private List<String> assertSameEntries(LogIndex index, Date start, Date end, String[] loggers, String[] severity) throws Exception {
+		List<String> expected = parse(null, start, end, loggers, severity);
+		assertEquals(expected, parse(index, start, end, loggers, severity));
+		return expected;
+	}
+
+	//====================================================================================================
+	// Blocks that can't contain matching entries are skipped.
+	//====================================================================================================
+	@Test
+	public void testFiltering() throws Exception {
+		List<LogRecord> l = records(0, 3000, "org.apache.Alpha");
+		l.add(record(3000, Level.SEVERE, "org.apache.Alpha", "Something bad happened"));
+		l.addAll(records(3001, 3000, "org.apache.Beta"));
+		write(log, false, l);
+
+		LogIndex index = new LogIndex(FORMATTER, log);
+		index.refresh();
+		assertTrue(index.getBlockCount() > 4);
+		long len = log.length();
+
+		assertEquals(len, covered(index.getRanges(null, null, null, null)));
+
+		List<long[]> r = index.getRanges(date(5000), null, null, null);
+		assertTrue(r.get(0)[0] > 0);
+		assertTrue(covered(r) < len / 2);
+		r = index.getRanges(null, date(1000), null, null);
+		assertEquals(0, r.get(0)[0]);
+		assertTrue(covered(r) < len / 2);
+
+		r = index.getRanges(null, null, set("Alpha"), null);
+		assertEquals(0, r.get(0)[0]);
+		assertTrue(covered(r) < len);
+		r = index.getRanges(null, null, set("Beta"), null);
+		assertTrue(r.get(0)[0] > 0);
+		assertTrue(covered(r) < len);
+
+		r = index.getRanges(null, null, null, set("SEVERE"));
+		assertTrue(covered(r) < len / 2);
+
+		// Nothing matches, but the open last block is always read.
+		r = index.getRanges(null, null, set("Gamma"), set("FINEST"));
+		assertEquals(1, r.size());
+		assertEquals(Long.MAX_VALUE, r.get(0)[1]);
+
+		assertEquals(1001, assertSameEntries(index, date(5000), null, null, null).size());
+		assertEquals(1001, assertSameEntries(index, null, date(1000), null, null).size());
+		assertEquals(3001, assertSameEntries(index, null, null, new String[]{"Alpha"}, null).size());
+		assertEquals(3000, assertSameEntries(index, null, null, new String[]{"Beta"}, null).size());
+		assertEquals(1, assertSameEntries(index, null, null, null, new String[]{"SEVERE"}).size());
+		assertEquals(11, assertSameEntries(index, date(2995), date(3005), new String[]{"Alpha","Beta"}, new String[]{"INFO","SEVERE"}).size());
+		assertEquals(0, assertSameEntries(index, null, null, new String[]{"Gamma"}, null).size());
+	}
+
+	//====================================================================================================
+	// Data appended to the log file is indexed incrementally.
+	//====================================================================================================
+	@Test
+	public void testAppend() throws Exception {
+		write(log, false, records(0, 3000, "Alpha"));
+		LogIndex index = new LogIndex(FORMATTER, log);
+		index.refresh();
+		int blocks = index.getBlockCount();
+		long len = log.length();
+
+		write(log, true, records(3000, 3000, "Beta"));
+
+		// Still usable before the next refresh.  The appended data is covered by the open last block.
+		List<long[]> r = index.getCurrentRanges(null, null, set("Beta"), null);
+		assertNotNull(r);
+		assertTrue(r.get(r.size()-1)[0] < len);
+		assertEquals(3000, assertSameEntries(index, null, null, new String[]{"Beta"}, null).size());
+
+		index.refresh();
+		assertTrue(index.getBlockCount() > blocks);
+		r = index.getCurrentRanges(null, null, set("Beta"), null);
+		assertTrue(r.get(0)[0] >= len - 64*1024);
+		assertEquals(3000, assertSameEntries(index, null, null, new String[]{"Beta"}, null).size());
+		assertEquals(3000, assertSameEntries(index, null, null, new String[]{"Alpha"}, null).size());
+
+		// A trailing partial line is left for the next refresh, but is still read through the open last block.
+		try (Writer w = new OutputStreamWriter(new FileOutputStream(log, true), Charset.defaultCharset())) {
+			w.write(FORMATTER.format(record(6000, Level.WARNING, "Gamma", "Partial")).trim());
+		}
+		index.refresh();
+		assertEquals(1, assertSameEntries(index, null, null, null, new String[]{"WARNING"}).size());
+		try (Writer w = new OutputStreamWriter(new FileOutputStream(log, true), Charset.defaultCharset())) {
+			w.write(String.format("%n"));
+		}
+		index.refresh();
+		assertEquals(1, assertSameEntries(index, null, null, new String[]{"Gamma"}, new String[]{"WARNING"}).size());
+
+		// The sidecar file is reused by new instances.
+		LogIndex index2 = new LogIndex(FORMATTER, log);
+		assertNotNull(index2.getCurrentRanges(null, null, null, null));
+		assertEquals(index.getBlockCount(), index2.getBlockCount());
+	}
+
+	//====================================================================================================
+	// A replaced or truncated log file is detected by the checksum and reindexed.
+	//====================================================================================================
+	@Test
+	public void testRotation() throws Exception {
+		write(log, false, records(0, 3000, "Alpha"));
+		LogIndex index = new LogIndex(FORMATTER, log);
+		index.refresh();
+		assertTrue(LogIndex.getIndexFile(log).exists());
+
+		// Replaced by a longer file with different content.
+		write(log, false, records(10000, 4000, "Beta"));
+		assertNull(index.getCurrentRanges(null, null, set("Beta"), null));
+		assertEquals(4000, assertSameEntries(index, null, null, new String[]{"Beta"}, null).size());
+		assertEquals(0, assertSameEntries(index, null, null, new String[]{"Alpha"}, null).size());
+
+		index.refresh();
+		List<long[]> r = index.getCurrentRanges(date(13500), null, null, null);
+		assertNotNull(r);
+		assertTrue(r.get(0)[0] > 0);
+		assertEquals(500, assertSameEntries(index, date(13500), null, null, null).size());
+		assertEquals(4000, assertSameEntries(index, null, null, new String[]{"Beta"}, null).size());
+
+		// A new instance doesn't trust the sidecar file of a replaced log file either.
+		write(log, false, records(20000, 4000, "Gamma"));
+		assertNull(new LogIndex(FORMATTER, log).getCurrentRanges(null, null, null, null));
+
+		// Truncated.
+		write(log, false, records(30000, 100, "Delta"));
+		assertNull(index.getCurrentRanges(null, null, null, null));
+		index.refresh();
+		assertEquals(1, index.getBlockCount());
+		assertNotNull(index.getCurrentRanges(null, null, null, null));
+		assertEquals(100, assertSameEntries(index, null, null, new String[]{"Delta"}, null).size());
+		assertEquals(0, assertSameEntries(index, null, null, new String[]{"Beta"}, null).size());
+	}
+
+	//====================================================================================================
+	// Loggers beyond the first 63 share a single bit and are still found.
+	//====================================================================================================
+	@Test
+	public void testLoggerOverflow() throws Exception {
+		List<LogRecord> l = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			l.addAll(records(i * 100, 100, "org.apache.Logger" + i));
+		write(log, false, l);
+
+		LogIndex index = new LogIndex(FORMATTER, log);
+		index.refresh();
+		long len = log.length();
+
+		assertTrue(covered(index.getRanges(null, null, set("Logger10"), null)) < len);
+		assertTrue(covered(index.getRanges(null, null, set("Logger80"), null)) < len);
+		assertTrue(covered(index.getRanges(null, null, set("Logger10","Logger80"), null)) < len);
+
+		assertEquals(100, assertSameEntries(index, null, null, new String[]{"Logger10"}, null).size());
+		assertEquals(100, assertSameEntries(index, null, null, new String[]{"Logger63"}, null).size());
+		assertEquals(100, assertSameEntries(index, null, null, new String[]{"Logger80"}, null).size());
+		assertEquals(100, assertSameEntries(index, null, null, new String[]{"Logger99"}, null).size());
+		assertEquals(200, assertSameEntries(index, null, null, new String[]{"Logger0","Logger99"}, null).size());
+		assertEquals(0, assertSameEntries(index, null, null, new String[]{"Logger100"}, null).size());
+	}
+
+	//====================================================================================================
+	// Multi-line records that extend past the end of a block are returned in full.
+	//====================================================================================================
+	@Test
+	public void testStackTraceAcrossBlocks() throws Exception {
+		Exception ex = new Exception("Big stack trace");
+		StackTraceElement[] st = new StackTraceElement[3000];
+		for (int i = 0; i < st.length; i++)
+			st[i] = new StackTraceElement("org.apache.juneau.SomeClass" + i, "someMethod", "SomeClass.java", i);
+		ex.setStackTrace(st);
+
+		List<LogRecord> l = records(0, 1000, "Alpha");
+		LogRecord r = record(1000, Level.SEVERE, "Beta", "Failure");
+		r.setThrown(ex);
+		l.add(r);
+		l.addAll(records(1001, 3000, "Alpha"));
+		write(log, false, l);
+
+		LogIndex index = new LogIndex(FORMATTER, log);
+		index.refresh();
+		List<long[]> ranges = index.getRanges(null, null, null, set("SEVERE"));
+		assertTrue(covered(ranges) < log.length());
+
+		List<String> e = assertSameEntries(index, null, null, null, new String[]{"SEVERE"});
+		assertEquals(1, e.size());
+		assertTrue(e.get(0).contains("Big stack trace"));
+		assertTrue(e.get(0).contains("SomeClass0.someMethod"));
+		assertTrue(e.get(0).contains("SomeClass2999.someMethod"));
+
+		assertEquals(11, assertSameEntries(index, date(995), date(1005), null, null).size());
+		assertEquals(1, assertSameEntries(index, null, null, new String[]{"Beta"}, null).size());
+		assertEquals(2001, assertSameEntries(index, date(2000), null, new String[]{"Alpha"}, null).size());
+	}
+}
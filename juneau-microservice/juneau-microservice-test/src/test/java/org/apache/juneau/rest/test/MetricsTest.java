@@ -0,0 +1,54 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+public class MetricsTest extends RestTestcase {
+
+	//====================================================================================================
+	// Calls are counted per resource and per Java method.
+	//====================================================================================================
+	@Test
+	public void testMetrics() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT;
+
+		client.doPost("/metrics/reset").run();
+		for (int i = 0; i < 3; i++)
+			TestMicroservice.DEFAULT_CLIENT_PLAINTEXT.doGet("/testResponseCache/uncached").run();
+		try {
+			TestMicroservice.DEFAULT_CLIENT_PLAINTEXT.doGet("/testResponseCache/bad").run();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(404, e.getResponseCode());
+		}
+
+		ObjectMap m = client.doGet("/metrics").getResponse(ObjectMap.class).getObjectMap("/testResponseCache");
+
+		ObjectMap totals = m.getObjectMap("totals");
+		assertEquals(4, totals.getInt("calls").intValue());
+		assertEquals(1, totals.getInt("errors").intValue());
+		assertEquals(4, totals.getObjectMap("total").getInt("count").intValue());
+		assertEquals(3, totals.getObjectMap("serialize").getInt("count").intValue());
+
+		ObjectMap method = m.getObjectMap("methods").getObjectMap("GET /uncached");
+		assertEquals(3, method.getInt("calls").intValue());
+		assertEquals(0, method.getInt("errors").intValue());
+		for (String phase : new String[]{"total","routing","params","invoke","serialize"})
+			assertEquals(3, method.getObjectMap(phase).getInt("count").intValue());
+	}
+}
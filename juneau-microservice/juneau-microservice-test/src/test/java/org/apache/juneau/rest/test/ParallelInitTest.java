@@ -0,0 +1,188 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.rest.annotation.HookEvent.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import javax.servlet.*;
+
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+import org.junit.*;
+
+/**
+ * Validates the behavior of the @RestResource(parallelInit) annotation.
+ */
+public class ParallelInitTest {
+
+	/*
+	 * Minimal servlet config for initializing resources outside of a servlet container.
+	 */
+	private static ServletConfig servletConfig(final String name) {
+		return new ServletConfig() {
+			@Override /* ServletConfig */
+			public String getServletName() {
+				return name;
+			}
+			@Override /* ServletConfig */
+			public ServletContext getServletContext() {
+				return null;
+			}
+			@Override /* ServletConfig */
+			public String getInitParameter(String name) {
+				return null;
+			}
+			@Override /* ServletConfig */
+			public Enumeration<String> getInitParameterNames() {
+				return Collections.emptyEnumeration();
+			}
+		};
+	}
+
+	static final List<String> INITIALIZED = Collections.synchronizedList(new ArrayList<String>());
+
+	/*
+	 * Child whose INIT hook takes longer the earlier it's declared, so that children finish out of order when
+	 * initialized in parallel.
+	 */
+	public abstract static class Child extends RestServlet {
+		private static final long serialVersionUID = 1L;
+
+		@RestHook(INIT)
+		public void initChild(RestConfig config) throws Exception {
+			String name = getClass().getSimpleName();
+			Thread.sleep(10 * (7 - Integer.parseInt(name.substring(1))));
+			INITIALIZED.add(name);
+		}
+	}
+
+	@RestResource(path="/c1") public static class C1 extends Child { private static final long serialVersionUID = 1L; }
+	@RestResource(path="/c2") public static class C2 extends Child { private static final long serialVersionUID = 1L; }
+	@RestResource(path="/c3") public static class C3 extends Child { private static final long serialVersionUID = 1L; }
+	@RestResource(path="/c4") public static class C4 extends Child { private static final long serialVersionUID = 1L; }
+	@RestResource(path="/c5") public static class C5 extends Child { private static final long serialVersionUID = 1L; }
+	@RestResource(path="/c6") public static class C6 extends Child { private static final long serialVersionUID = 1L; }
+
+	@RestResource(
+		path="/parent",
+		parallelInit="true",
+		children={C1.class,C2.class,C3.class,C4.class,C5.class}
+	)
+	public static class Parent extends RestServlet {
+		private static final long serialVersionUID = 1L;
+		List<String> childrenAtPostInit, initializedAtPostInit;
+
+		@RestHook(INIT)
+		public void init(RestConfig config) {
+			// Pairs of path and resource, including one pointing back to this resource that must be ignored.
+			config.addChildResource("custom", C6.class);
+			config.addChildResource("self", getClass());
+		}
+
+		@RestHook(POST_INIT)
+		public void postInit(RestContext context) {
+			childrenAtPostInit = new ArrayList<>(context.getChildResources().keySet());
+			initializedAtPostInit = new ArrayList<>(INITIALIZED);
+		}
+
+		Map<String,RestContext> getChildResources() {
+			return getContext().getChildResources();
+		}
+	}
+
+	//====================================================================================================
+	// Children are added in declaration order and POST_INIT runs after all of them exist.
+	//====================================================================================================
+	@Test
+	public void testChildOrder() throws Exception {
+		INITIALIZED.clear();
+		Parent p = new Parent();
+		p.init(servletConfig("parent"));
+
+		List<String> expected = Arrays.asList("c1","c2","c3","c4","c5","custom");
+		assertEquals(expected, new ArrayList<>(p.getChildResources().keySet()));
+		assertEquals(expected, p.childrenAtPostInit);
+		assertEquals(6, p.initializedAtPostInit.size());
+		assertTrue(p.initializedAtPostInit.containsAll(Arrays.asList("C1","C2","C3","C4","C5","C6")));
+		assertEquals("parent/custom", p.getChildResources().get("custom").getPath());
+	}
+
+	//====================================================================================================
+	// The same children initialized sequentially end up in the same order.
+	//====================================================================================================
+	@RestResource(parallelInit="false")
+	public static class SequentialParent extends Parent {
+		private static final long serialVersionUID = 1L;
+	}
+
+	@Test
+	public void testSequential() throws Exception {
+		INITIALIZED.clear();
+		SequentialParent p = new SequentialParent();
+		p.init(servletConfig("parent"));
+
+		List<String> expected = Arrays.asList("c1","c2","c3","c4","c5","custom");
+		assertEquals(expected, new ArrayList<>(p.getChildResources().keySet()));
+		assertEquals(Arrays.asList("C1","C2","C3","C4","C5","C6"), INITIALIZED);
+	}
+
+	//====================================================================================================
+	// An exception thrown while initializing a child fails the initialization of the parent.
+	//====================================================================================================
+	@RestResource(path="/d1") public static class D1 extends RestServlet { private static final long serialVersionUID = 1L; }
+	@RestResource(path="/d2") public static class D2 extends RestServlet { private static final long serialVersionUID = 1L; }
+
+	@RestResource(path="/failing")
+	public static class FailingChild extends RestServlet {
+		private static final long serialVersionUID = 1L;
+
+		@RestHook(INIT)
+		public void initFailing() {
+			throw new IllegalStateException("Child failed");
+		}
+	}
+
+	@RestResource(
+		path="/failingParent",
+		parallelInit="true",
+		children={D1.class,FailingChild.class,D2.class}
+	)
+	public static class FailingParent extends RestServlet {
+		private static final long serialVersionUID = 1L;
+		boolean postInitCalled;
+
+		@RestHook(POST_INIT)
+		public void postInit() {
+			postInitCalled = true;
+		}
+	}
+
+	@Test
+	public void testFailingChild() throws Exception {
+		FailingParent p = new FailingParent();
+		try {
+			p.init(servletConfig("failingParent"));
+			fail("Exception expected.");
+		} catch (ServletException e) {
+			Throwable t = e;
+			while (t != null && ! (t instanceof IllegalStateException))
+				t = t.getCause();
+			assertNotNull("Exception from child not found in cause chain.", t);
+			assertEquals("Child failed", t.getMessage());
+		}
+		assertFalse(p.postInitCalled);
+	}
+}
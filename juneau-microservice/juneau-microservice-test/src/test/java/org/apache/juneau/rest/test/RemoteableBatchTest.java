@@ -0,0 +1,155 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.rest.test.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.test.RemoteableBatchResource.*;
+import org.junit.*;
+
+public class RemoteableBatchTest extends RestTestcase {
+
+	private static String URL = "/testRemoteableBatch";
+
+	//====================================================================================================
+	// Explicit batches are sent when executed or when a result is waited on.
+	//====================================================================================================
+	@Test
+	public void testExplicit() throws Exception {
+		RemoteableBatch batch = TestMicroservice.DEFAULT_CLIENT.createRemoteableBatch(URL);
+		Calculator c = batch.getProxy(Calculator.class);
+
+		Future<Integer> f1 = batch.future(c.add(1, 2));
+		Future<String> f2 = batch.future(c.echo("foo"));
+		Future<List<Integer>> f3 = batch.future(c.range(3));
+		c.fail("bar");
+		Future<Void> f4 = batch.future(null);
+		assertEquals(4, batch.getPendingCount());
+
+		assertEquals(3, f1.get().intValue());
+		assertEquals(0, batch.getPendingCount());
+		assertEquals("foo", f2.get());
+		assertObjectEquals("[0,1,2]", f3.get());
+		try {
+			f4.get();
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof RestCallException);
+		}
+
+		// Nothing pending.
+		batch.execute();
+	}
+
+	//====================================================================================================
+	// Calls in a batch are run in parallel on the executor service of the servlet.
+	//====================================================================================================
+	@Test
+	public void testParallel() throws Exception {
+		RemoteableBatch batch = TestMicroservice.DEFAULT_CLIENT.createRemoteableBatch(URL);
+		Calculator c = batch.getProxy(Calculator.class);
+
+		// Arguments of all the calls are converted at the same time.
+		List<Future<Integer>> sums = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			sums.add(batch.future(c.sum(Arrays.asList(i, i, i))));
+		List<Future<String>> threads = new ArrayList<>();
+		for (int i = 0; i < 8; i++)
+			threads.add(batch.future(c.thread(100)));
+		batch.execute();
+
+		for (int i = 0; i < 100; i++)
+			assertEquals(i*3, sums.get(i).get().intValue());
+		Set<String> names = new HashSet<>();
+		for (Future<String> f : threads)
+			names.add(f.get());
+		assertTrue(names.toString(), names.size() > 1);
+	}
+
+	//====================================================================================================
+	// Windowed batches combine calls from multiple threads.
+	//====================================================================================================
+	@Test
+	public void testWindowed() throws Exception {
+		RestClient client = TestMicroservice.client().pooled().build();
+		try {
+			final Calculator c = client.createRemoteableBatch(URL, 20).getProxy(Calculator.class);
+			ExecutorService es = Executors.newFixedThreadPool(10);
+			try {
+				List<Future<Integer>> l = new ArrayList<>();
+				for (int i = 0; i < 10; i++) {
+					final int x = i;
+					l.add(es.submit(new Callable<Integer>() {
+						@Override
+						public Integer call() throws Exception {
+							return c.add(x, x);
+						}
+					}));
+				}
+				for (int i = 0; i < 10; i++)
+					assertEquals(i*2, l.get(i).get().intValue());
+			} finally {
+				es.shutdown();
+			}
+
+			// Server-side exceptions are rethrown on the calling thread.
+			try {
+				c.fail("baz");
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertEquals("baz", e.getMessage());
+			}
+		} finally {
+			client.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// Windowed batches don't depend on the executor service of the client.
+	//====================================================================================================
+	@Test
+	public void testWindowedOnClientExecutor() throws Exception {
+		// Calls made from the only thread of the client executor must not wait on a flush queued behind them.
+		final ExecutorService es = Executors.newSingleThreadExecutor();
+		RestClient client = TestMicroservice.client().executorService(es, true).build();
+		try {
+			final Calculator c = client.createRemoteableBatch(URL, 20).getProxy(Calculator.class);
+			Future<Integer> f = es.submit(new Callable<Integer>() {
+				@Override
+				public Integer call() throws Exception {
+					return c.add(1, 2);
+				}
+			});
+			assertEquals(3, f.get(10, TimeUnit.SECONDS).intValue());
+		} finally {
+			client.closeQuietly();
+		}
+
+		// Calls still work when the executor service rejects tasks.
+		ExecutorService es2 = Executors.newSingleThreadExecutor();
+		es2.shutdown();
+		client = TestMicroservice.client().executorService(es2, false).build();
+		try {
+			Calculator c = client.createRemoteableBatch(URL, 20).getProxy(Calculator.class);
+			assertEquals(3, c.add(1, 2));
+			assertEquals(5, c.add(2, 3));
+		} finally {
+			client.closeQuietly();
+		}
+	}
+}
@@ -0,0 +1,169 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.rest.test.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.http.*;
+import org.apache.http.protocol.*;
+import org.apache.juneau.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.test.RemoteableBinaryResource.*;
+import org.junit.*;
+
+public class RemoteableBinaryTest extends RestTestcase {
+
+	private static String URL = "/testRemoteableBinary", URL_NO_MSGPACK = "/testRemoteableBinaryNoMsgPack";
+
+	/*
+	 * Creates a client that uses MessagePack for remoteable calls and records the content types of the request bodies.
+	 */
+	private static RestClient binaryClient(final List<String> contentTypes) {
+		return TestMicroservice.client()
+			.remoteableBinary(true)
+			.addInterceptorLast(new HttpRequestInterceptor() {
+				@Override
+				public void process(HttpRequest r, HttpContext c) throws HttpException, IOException {
+					Header h = r.getFirstHeader("Content-Type");
+					if (h != null)
+						contentTypes.add(h.getValue());
+				}
+			})
+			.build();
+	}
+
+	//====================================================================================================
+	// Arguments and results round trip through RemoteableServlet as MessagePack.
+	//====================================================================================================
+	@Test
+	public void testBinaryRoundTrip() throws Exception {
+		List<String> contentTypes = Collections.synchronizedList(new ArrayList<String>());
+		RestClient client = binaryClient(contentTypes);
+		try {
+			Echo e = client.getRemoteableProxy(Echo.class, URL + "/" + Echo.class.getName());
+
+			assertEquals(3, e.add(1, 2));
+			assertEquals("foo é中", e.echo("foo é中"));
+			assertNull(e.echo(null));
+			assertObjectEquals("{s:'s1é中',i:1,d:1.5,b:false,l:['a1','b1'],m:{k1:1}}", e.echoBean(new Bean().init(1)));
+			assertObjectEquals("[{s:'s2é中',i:2,d:2.5,b:true,l:['a2','b2'],m:{k2:2}},{s:'s3é中',i:3,d:3.5,b:false,l:['a3','b3'],m:{k3:3}}]", e.echoBeans(Arrays.asList(new Bean().init(2), new Bean().init(3))));
+
+			Map<String,List<Integer>> m = new LinkedHashMap<>();
+			m.put("a", Arrays.asList(1, 2));
+			m.put("b", Collections.<Integer>emptyList());
+			assertObjectEquals("{a:[1,2],b:[]}", e.echoMap(m));
+
+			assertTrue(e.count() > 0);
+
+			// Server-side exceptions are rethrown on the client.
+			try {
+				e.fail("bar");
+				fail();
+			} catch (IllegalArgumentException x) {
+				assertEquals("bar", x.getMessage());
+			}
+
+			assertFalse(contentTypes.isEmpty());
+			for (String ct : contentTypes)
+				assertTrue(ct, ct.contains("msgpack"));
+		} finally {
+			client.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// Proxies fall back to the text format against servlets that reject MessagePack.
+	//====================================================================================================
+	@Test
+	public void testFallback() throws Exception {
+		List<String> contentTypes = Collections.synchronizedList(new ArrayList<String>());
+		RestClient client = binaryClient(contentTypes);
+		try {
+			Echo e = client.getRemoteableProxy(Echo.class, URL_NO_MSGPACK + "/" + Echo.class.getName());
+
+			assertEquals(3, e.add(1, 2));
+			assertEquals(2, contentTypes.size());
+			assertTrue(contentTypes.get(0), contentTypes.get(0).contains("msgpack"));
+			assertTrue(contentTypes.get(1), contentTypes.get(1).contains("json"));
+
+			// The proxy doesn't retry MessagePack after the server rejected it.
+			assertObjectEquals("{s:'s1é中',i:1,d:1.5,b:false,l:['a1','b1'],m:{k1:1}}", e.echoBean(new Bean().init(1)));
+			assertEquals(3, contentTypes.size());
+			assertTrue(contentTypes.get(2), contentTypes.get(2).contains("json"));
+		} finally {
+			client.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// Batches can be posted as MessagePack.
+	//====================================================================================================
+	@Test
+	public void testBatchAsMsgPack() throws Exception {
+		RestClient client = TestMicroservice.client(MsgPackSerializer.class, MsgPackParser.class).build();
+		try {
+			String i = Echo.class.getName();
+			List<ObjectMap> calls = Arrays.asList(
+				new ObjectMap().append("interface", i).append("method", "add(int,int)").append("args", Arrays.asList(1, 2)),
+				new ObjectMap().append("interface", i).append("method", "echo(java.lang.String)").append("args", Arrays.asList("foo")),
+				new ObjectMap().append("interface", i).append("method", "echoBean(org.apache.juneau.rest.test.RemoteableBinaryResource$Bean)").append("args", Arrays.asList(new Bean().init(1))),
+				new ObjectMap().append("interface", i).append("method", "fail(java.lang.String)").append("args", Arrays.asList("bar")),
+				new ObjectMap().append("interface", Unavailable.class.getName()).append("method", "hello(java.lang.String)").append("args", Arrays.asList("baz"))
+			);
+			List<ObjectMap> r = client.doPost(URL, calls).getResponse(List.class, ObjectMap.class);
+
+			assertEquals(5, r.size());
+			assertEquals(3, r.get(0).getInt("result").intValue());
+			assertEquals("foo", r.get(1).getString("result"));
+			assertObjectEquals("{s:'s1é中',i:1,d:1.5,b:false,l:['a1','b1'],m:{k1:1}}", r.get(2).get("result"));
+			assertEquals("bar", r.get(3).getObjectMap("error").getString("message"));
+			assertEquals(404, r.get(4).getObjectMap("error").getInt("status").intValue());
+		} finally {
+			client.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// Interfaces mapped to null still list their methods, but can't be invoked.
+	//====================================================================================================
+	@Test
+	public void testNullService() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT;
+		String url = URL + "/" + Unavailable.class.getName();
+
+		List<String> l = client.doGet(url).getResponse(List.class, String.class);
+		assertEquals(1, l.size());
+		assertTrue(l.get(0), l.get(0).startsWith("hello"));
+
+		try {
+			client.doPost(url + "/hello(java.lang.String)", new Object[]{"foo"}).getResponseAsString();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(404, e.getResponseCode());
+			assertTrue(e.getMessage(), e.getMessage().contains("Service not found"));
+		}
+
+		try {
+			client.doGet(URL + "/java.lang.Runnable").getResponseAsString();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(404, e.getResponseCode());
+			assertTrue(e.getMessage(), e.getMessage().contains("Interface class not found"));
+		}
+	}
+}
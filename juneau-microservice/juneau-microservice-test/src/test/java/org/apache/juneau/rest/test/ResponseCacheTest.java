@@ -0,0 +1,114 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import org.apache.http.*;
+import org.apache.http.util.*;
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+public class ResponseCacheTest extends RestTestcase {
+
+	private static String URL = "/testResponseCache";
+
+	//====================================================================================================
+	// Cached method is only invoked once per distinct request.
+	//====================================================================================================
+	@Test
+	public void testCached() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT_PLAINTEXT;
+		String url = URL + "/cached";
+
+		String r1 = client.doGet(url).getResponseAsString();
+		assertEquals(r1, client.doGet(url).getResponseAsString());
+
+		// Different query string is a different cache entry.
+		assertFalse(r1.equals(client.doGet(url + "?foo=bar").getResponseAsString()));
+		assertEquals(r1, client.doGet(url).getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Uncached method is invoked on every request.
+	//====================================================================================================
+	@Test
+	public void testUncached() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT_PLAINTEXT;
+		String url = URL + "/uncached";
+
+		String r1 = client.doGet(url).getResponseAsString();
+		assertFalse(r1.equals(client.doGet(url).getResponseAsString()));
+	}
+
+	//====================================================================================================
+	// Conditional GET using ETag and Last-Modified validators.
+	//====================================================================================================
+	@Test
+	public void testConditionalGet() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT_PLAINTEXT;
+		String url = URL + "/cached?conditional=true";
+
+		HttpResponse r = run(client.doGet(url));
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		String etag = r.getFirstHeader("ETag").getValue();
+		String lastModified = r.getFirstHeader("Last-Modified").getValue();
+
+		r = run(client.doGet(url).header("If-None-Match", etag));
+		assertEquals(304, r.getStatusLine().getStatusCode());
+		assertEquals(etag, r.getFirstHeader("ETag").getValue());
+
+		r = run(client.doGet(url).header("If-None-Match", "\"xxx\", " + etag));
+		assertEquals(304, r.getStatusLine().getStatusCode());
+
+		r = run(client.doGet(url).header("If-None-Match", "\"xxx\""));
+		assertEquals(200, r.getStatusLine().getStatusCode());
+
+		r = run(client.doGet(url).header("If-Modified-Since", lastModified));
+		assertEquals(304, r.getStatusLine().getStatusCode());
+
+		r = run(client.doGet(url).header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT"));
+		assertEquals(200, r.getStatusLine().getStatusCode());
+	}
+
+	//====================================================================================================
+	// OPTIONS pages are rendered once and served with validators.
+	//====================================================================================================
+	@Test
+	public void testOptions() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT;
+
+		HttpResponse r = run(client.doOptions(URL));
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		String etag = r.getFirstHeader("ETag").getValue();
+
+		r = run(client.doOptions(URL));
+		assertEquals(etag, r.getFirstHeader("ETag").getValue());
+
+		r = run(client.doOptions(URL).header("If-None-Match", etag));
+		assertEquals(304, r.getStatusLine().getStatusCode());
+
+		// Different locale is a different document.
+		r = run(client.doOptions(URL).header("Accept-Language", "ja"));
+		assertEquals(200, r.getStatusLine().getStatusCode());
+	}
+
+	/*
+	 * Runs the call and reads the body so that the connection is released before the headers are checked.
+	 */
+	private static HttpResponse run(RestCall rc) throws Exception {
+		HttpResponse r = rc.getResponse();
+		EntityUtils.consume(r.getEntity());
+		return r;
+	}
+}
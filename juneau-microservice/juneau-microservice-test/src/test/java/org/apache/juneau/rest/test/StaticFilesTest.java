@@ -14,6 +14,8 @@ package org.apache.juneau.rest.test;
 
 import static org.junit.Assert.*;
 
+import org.apache.http.*;
+import org.apache.http.util.*;
 import org.apache.juneau.rest.client.*;
 import org.junit.*;
 
@@ -50,4 +52,58 @@ public class StaticFilesTest extends RestTestcase {
 			assertEquals(404, e.getResponseCode());
 		}
 	}
+
+	//====================================================================================================
+	// Tests ETag/Last-Modified validators on static files.
+	//====================================================================================================
+	@Test
+	public void testConditionalGet() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT_PLAINTEXT;
+		String url = URL + "/xdocs/test.txt";
+
+		HttpResponse r = run(client.doGet(url));
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		String etag = r.getFirstHeader("ETag").getValue();
+		String lastModified = r.getFirstHeader("Last-Modified").getValue();
+
+		r = run(client.doGet(url).header("If-None-Match", etag));
+		assertEquals(304, r.getStatusLine().getStatusCode());
+
+		r = run(client.doGet(url).header("If-Modified-Since", lastModified));
+		assertEquals(304, r.getStatusLine().getStatusCode());
+
+		r = run(client.doGet(url).header("If-None-Match", "\"xxx\""));
+		assertEquals(200, r.getStatusLine().getStatusCode());
+	}
+
+	//====================================================================================================
+	// Tests Range requests on static files.
+	//====================================================================================================
+	@Test
+	public void testRange() throws Exception {
+		RestClient client = TestMicroservice.DEFAULT_CLIENT_PLAINTEXT;
+		String url = URL + "/xdocs/test.txt";
+
+		assertEquals("OK-1", client.doGet(url).header("Range", "bytes=-4").getResponseAsString());
+
+		HttpResponse r = run(client.doGet(url).header("Range", "bytes=0-1"));
+		assertEquals(206, r.getStatusLine().getStatusCode());
+		assertTrue(r.getFirstHeader("Content-Range").getValue().startsWith("bytes 0-1/"));
+
+		try {
+			client.doGet(url + "?noTrace=true").header("Range", "bytes=999999-").connect();
+			fail("416 exception expected");
+		} catch (RestCallException e) {
+			assertEquals(416, e.getResponseCode());
+		}
+	}
+
+	/*
+	 * Runs the call and reads the body so that the connection is released before the headers are checked.
+	 */
+	private static HttpResponse run(RestCall rc) throws Exception {
+		HttpResponse r = rc.getResponse();
+		EntityUtils.consume(r.getEntity());
+		return r;
+	}
 }
@@ -0,0 +1,137 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.concurrent.*;
+
+import javax.servlet.http.*;
+
+import org.apache.juneau.microservice.*;
+import org.eclipse.jetty.server.*;
+import org.eclipse.jetty.servlet.*;
+import org.junit.*;
+
+public class ThrottlingHandlerTest {
+
+	private static final CountDownLatch entered = new CountDownLatch(1), released = new CountDownLatch(1);
+
+	/*
+	 * Servlet whose "/block" path doesn't return until released.
+	 */
+	@SuppressWarnings("serial")
+	public static class BlockingServlet extends HttpServlet {
+		@Override /* HttpServlet */
+		protected void doGet(HttpServletRequest req, HttpServletResponse res) throws IOException {
+			if ("/block".equals(req.getPathInfo())) {
+				entered.countDown();
+				try {
+					released.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			res.getWriter().write("OK");
+		}
+	}
+
+	/*
+	 * Creates a server the same way RestMicroservice.createServer() wraps the handlers from jetty.xml.
+	 */
+	private static Server createServer(ThrottlingHandler th) {
+		Server server = new Server();
+		ServerConnector sc = new ServerConnector(server);
+		sc.setPort(0);
+		server.addConnector(sc);
+		ServletContextHandler ctx = new ServletContextHandler();
+		ctx.setContextPath("/");
+		ctx.addServlet(BlockingServlet.class, "/*");
+		server.setHandler(ctx);
+		server.insertHandler(th);
+		return server;
+	}
+
+	private static HttpURLConnection get(Server server, String path) throws Exception {
+		URL url = new URL("http://localhost:" + ((ServerConnector)server.getConnectors()[0]).getLocalPort() + path);
+		HttpURLConnection c = (HttpURLConnection)url.openConnection();
+		c.setReadTimeout(10000);
+		return c;
+	}
+
+	//====================================================================================================
+	// Requests over the limit are rejected with a 503 and a Retry-After header.
+	//====================================================================================================
+	@Test
+	public void testMaxActiveRequests() throws Exception {
+		ThrottlingHandler th = new ThrottlingHandler(1, 5, true);
+		final Server server = createServer(th);
+		server.start();
+		try {
+			FutureTask<Integer> blocked = new FutureTask<>(new Callable<Integer>() {
+				@Override /* Callable */
+				public Integer call() throws Exception {
+					return get(server, "/block").getResponseCode();
+				}
+			});
+			new Thread(blocked).start();
+			assertTrue(entered.await(10, TimeUnit.SECONDS));
+			assertEquals(1, th.getActiveRequests());
+
+			HttpURLConnection c = get(server, "/other");
+			assertEquals(503, c.getResponseCode());
+			assertEquals("5", c.getHeaderField("Retry-After"));
+			assertEquals(1, th.getRejectedRequests());
+
+			released.countDown();
+			assertEquals(200, (int)blocked.get(10, TimeUnit.SECONDS));
+
+			c = get(server, "/other");
+			assertEquals(200, c.getResponseCode());
+			assertNull(c.getHeaderField("Retry-After"));
+			assertEquals(0, th.getActiveRequests());
+			assertEquals(1, th.getRejectedRequests());
+		} finally {
+			released.countDown();
+			server.stop();
+		}
+	}
+
+	//====================================================================================================
+	// keepAlive=false closes connections after each response.
+	//====================================================================================================
+	@Test
+	public void testKeepAlive() throws Exception {
+		Server server = createServer(new ThrottlingHandler(0, 1, false));
+		server.start();
+		try {
+			HttpURLConnection c = get(server, "/other");
+			assertEquals(200, c.getResponseCode());
+			assertEquals("close", c.getHeaderField("Connection"));
+		} finally {
+			server.stop();
+		}
+
+		server = createServer(new ThrottlingHandler(0, 1, true));
+		server.start();
+		try {
+			HttpURLConnection c = get(server, "/other");
+			assertEquals(200, c.getResponseCode());
+			assertNull(c.getHeaderField("Connection"));
+		} finally {
+			server.stop();
+		}
+	}
+}
@@ -25,10 +25,12 @@ import org.junit.runners.Suite.*;
 @RunWith(Suite.class)
 @SuiteClasses({
 	AcceptCharsetTest.class,
+	AsyncLogHandlerTest.class,
 	BeanContextPropertiesTest.class,
 	CallbackStringsTest.class,
 	CharsetEncodingsTest.class,
 	ClientFuturesTest.class,
+	ClientResponseCacheTest.class,
 	ClientVersionTest.class,
 	ConfigTest.class,
 	ContentTest.class,
@@ -44,7 +46,9 @@ import org.junit.runners.Suite.*;
 	InterfaceProxyTest.class,
 	JacocoDummyTest.class,
 	LargePojosTest.class,
+	LogIndexTest.class,
 	MessagesTest.class,
+	MetricsTest.class,
 	NlsPropertyTest.class,
 	NlsTest.class,
 	NoParserInputTest.class,
@@ -52,6 +56,7 @@ import org.junit.runners.Suite.*;
 	OnPreCallTest.class,
 	OptionsWithoutNlsTest.class,
 	OverlappingMethodsTest.class,
+	ParallelInitTest.class,
 	ParamsTest.class,
 	ParsersTest.class,
 	PathsTest.class,
@@ -59,12 +64,16 @@ import org.junit.runners.Suite.*;
 	PathVariableTest.class,
 	PropertiesTest.class,
 	QueryTest.class,
+	RemoteableBatchTest.class,
+	RemoteableBinaryTest.class,
 	RequestBeanProxyTest.class,
+	ResponseCacheTest.class,
 	RestClientTest.class,
 	RestUtilsTest.class,
 	SerializersTest.class,
 	StaticFilesTest.class,
 	ThirdPartyProxyTest.class,
+	ThrottlingHandlerTest.class,
 	TransformsTest.class,
 	UrisTest.class,
 	UrlContentTest.class,
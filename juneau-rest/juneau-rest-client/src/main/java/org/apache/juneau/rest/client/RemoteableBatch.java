@@ -0,0 +1,320 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.internal.ClassUtils.*;
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.lang.reflect.*;
+import java.lang.reflect.Proxy;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.http.message.*;
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.remoteable.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Combines multiple calls on remoteable proxies into a single HTTP request.
+ *
+ * <p>
+ * Calls are sent to the batch endpoint (<code>POST /</code>) of a <code>RemoteableServlet</code>, which invokes each
+ * one and returns all the results in a single response.
+ * A failure in one call does not affect the others.
+ *
+ * <p>
+ * Batches operate in one of two modes:
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		<b>Explicit</b> - Created through {@link RestClient#createRemoteableBatch(Object)}.
+ * 		<br>Calls on the proxy are recorded and return <jk>null</jk> (or the default value for primitive return
+ * 		types).
+ * 		The result of a call is retrieved through {@link #future(Object)}, and all recorded calls are sent when
+ * 		{@link #execute()} is called or the first time one of the futures is waited on.
+ * 	<li>
+ * 		<b>Windowed</b> - Created through {@link RestClient#createRemoteableBatch(Object, long)}.
+ * 		<br>Calls on the proxy block and return their results like a regular proxy, but all calls made from any
+ * 		thread within the same time window are sent together.
+ * 		<br>The window is timed and sent by the thread that made its first call, so no executor threads are used
+ * 		and proxy calls can safely be made from within future callbacks.
+ * </ul>
+ *
+ * <p>
+ * Only methods whose arguments are all serialized into the request body are batchable (i.e. methods invoked through
+ * <code>POST /{javaInterface}/{javaMethod}</code> without <ja>@Path</ja>, <ja>@Query</ja>, <ja>@FormData</ja>,
+ * <ja>@Header</ja>, <ja>@Body</ja> or <ja>@RequestBean</ja> arguments).
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	RemoteableBatch batch = client.createRemoteableBatch(<js>"http://localhost/remoteable"</js>);
+ * 	AddressBook ab = batch.getProxy(AddressBook.<jk>class</jk>);
+ *
+ * 	Future&lt;Person&gt; p1 = batch.future(ab.findPerson(<js>"John"</js>));
+ * 	Future&lt;Person&gt; p2 = batch.future(ab.findPerson(<js>"Jane"</js>));
+ *
+ * 	<jc>// Both calls are sent in a single request.</jc>
+ * 	batch.execute();
+ * </p>
+ */
+public final class RemoteableBatch {
+
+	private final RestClient client;
+	private final String url;
+	private final long window;
+	private final Serializer serializer;
+	private final Parser parser;
+	private final ThreadLocal<Call> lastCall = new ThreadLocal<>();
+	private final Map<Class<?>,RemoteableMeta> metas = new ConcurrentHashMap<>();
+
+	private List<Call> pending = new ArrayList<>();  // Guarded by this.
+	private boolean flushScheduled;                  // Guarded by this.
+
+	RemoteableBatch(RestClient client, String url, long window, Serializer serializer, Parser parser) {
+		this.client = client;
+		this.url = url;
+		this.window = window;
+		this.serializer = serializer;
+		this.parser = parser;
+	}
+
+	/**
+	 * Creates a proxy whose calls are added to this batch.
+	 *
+	 * @param interfaceClass The interface to create a proxy for.
+	 * @return The new proxy interface.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getProxy(final Class<T> interfaceClass) {
+		final RemoteableMeta rm = getMeta(interfaceClass);
+		return (T)Proxy.newProxyInstance(
+			interfaceClass.getClassLoader(),
+			new Class<?>[] { interfaceClass },
+			new InvocationHandler() {
+				@Override /* InvocationHandler */
+				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+					RemoteableMethodMeta rmm = rm.getMethodMeta(method);
+					if (rmm == null)
+						throw new RuntimeException("Method is not exposed as a remoteable method.");
+					if (! isBatchable(method, rmm))
+						throw new RemoteableMetadataException(method, "Method cannot be batched.  Only POST methods whose arguments are all serialized into the request body can be batched.");
+
+					Call c = new Call(interfaceClass.getName(), getMethodSignature(method), method, args == null ? new Object[0] : args);
+					boolean first = add(c);
+
+					if (window <= 0) {
+						lastCall.set(c);
+						Class<?> rt = method.getReturnType();
+						return rt.isPrimitive() ? getPrimitiveDefault(rt) : null;
+					}
+
+					// The first caller of a window waits it out and sends the batch.
+					if (first) {
+						try {
+							Thread.sleep(window);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						execute();
+					}
+
+					try {
+						return c.get();
+					} catch (ExecutionException e) {
+						Throwable t = e.getCause();
+						if (t instanceof RestCallException) {
+							// Try to throw original exception if possible.
+							((RestCallException)t).throwServerException(interfaceClass.getClassLoader());
+						}
+						throw new RuntimeException(t);
+					}
+				}
+			}
+		);
+	}
+
+	/**
+	 * Returns the future result of the last call made on a proxy of this batch by the current thread.
+	 *
+	 * <p>
+	 * Intended to wrap proxy calls in explicit batches:
+	 * <p class='bcode'>
+	 * 	Future&lt;Person&gt; p = batch.future(proxy.findPerson(<js>"John"</js>));
+	 * </p>
+	 *
+	 * <p>
+	 * If the call failed on the server, {@link Future#get()} throws an {@link ExecutionException} whose cause is a
+	 * {@link RestCallException}.
+	 *
+	 * @param value The value returned by the proxy call.  Ignored.
+	 * @return The future result of the call.
+	 * @throws IllegalStateException If no call was made on a proxy of this batch by the current thread.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Future<T> future(T value) {
+		Call c = lastCall.get();
+		if (c == null)
+			throw new IllegalStateException("No call was made on a proxy of this batch by the current thread.");
+		lastCall.remove();
+		return (Future<T>)c;
+	}
+
+	/**
+	 * Sends all pending calls in a single request and completes their futures.
+	 *
+	 * <p>
+	 * Does nothing if there are no pending calls.
+	 * If the request itself fails, all the pending calls fail with the same exception.
+	 */
+	public void execute() {
+		List<Call> calls;
+		synchronized(this) {
+			calls = pending;
+			pending = new ArrayList<>();
+			flushScheduled = false;
+		}
+		if (calls.isEmpty())
+			return;
+
+		try {
+			List<ObjectMap> body = new ArrayList<>(calls.size());
+			for (Call c : calls)
+				body.add(new ObjectMap().append("interface", c.javaInterface).append("method", c.javaMethod).append("args", c.args));
+
+			URI uri = client.toURI(url);
+			RestCall rc = client.doPost(uri, body);
+			if (serializer != null)
+				rc.serializer(serializer);
+			if (parser != null)
+				rc.parser(parser);
+			List<ObjectMap> results = rc.getResponse(List.class, ObjectMap.class);
+
+			if (results == null || results.size() != calls.size())
+				throw new RestCallException("Batch response contained " + (results == null ? 0 : results.size()) + " results, but " + calls.size() + " were expected.");
+
+			for (int i = 0; i < calls.size(); i++) {
+				Call c = calls.get(i);
+				ObjectMap r = results.get(i);
+				ObjectMap error = r.getObjectMap("error");
+				if (error != null)
+					c.fail(toException(error, uri));
+				else
+					c.complete(r.get("result", c.method.getGenericReturnType()));
+			}
+		} catch (Throwable t) {
+			for (Call c : calls)
+				c.fail(t);
+		}
+	}
+
+	/**
+	 * Returns the number of calls that have not been sent yet.
+	 *
+	 * @return The number of calls that have not been sent yet.
+	 */
+	public synchronized int getPendingCount() {
+		return pending.size();
+	}
+
+	/*
+	 * Adds a call to the pending calls.
+	 * Returns true if this is the first call of a new window in windowed mode.
+	 */
+	private synchronized boolean add(Call c) {
+		pending.add(c);
+		if (window > 0 && ! flushScheduled)
+			return flushScheduled = true;
+		return false;
+	}
+
+	private RemoteableMeta getMeta(Class<?> c) {
+		RemoteableMeta rm = metas.get(c);
+		if (rm == null) {
+			rm = new RemoteableMeta(c, trimSlashes(url) + '/' + c.getName());
+			metas.put(c, rm);
+		}
+		return rm;
+	}
+
+	private static boolean isBatchable(Method m, RemoteableMethodMeta rmm) {
+		RemoteMethod rm = m.getAnnotation(RemoteMethod.class);
+		return rmm.getHttpMethod().equals("POST")
+			&& rmm.getReturns() == ReturnValue.BODY
+			&& (rm == null || rm.path().isEmpty())
+			&& rmm.getBodyArg() == null
+			&& rmm.getPathArgs().length == 0
+			&& rmm.getQueryArgs().length == 0
+			&& rmm.getFormDataArgs().length == 0
+			&& rmm.getHeaderArgs().length == 0
+			&& rmm.getRequestBeanArgs().length == 0;
+	}
+
+	private static RestCallException toException(ObjectMap error, URI uri) {
+		int status = error.getInt("status", 500);
+		String message = error.getString("message");
+		RestCallException e = new RestCallException(status, message, "POST", uri, message);
+		e.setServerException(
+			new BasicHeader("Exception-Name", error.getString("exceptionName")),
+			message == null ? null : new BasicHeader("Exception-Message", message),
+			null
+		);
+		return e;
+	}
+
+	/**
+	 * A single call recorded in a batch.
+	 */
+	private final class Call extends FutureTask<Object> {
+		final String javaInterface, javaMethod;
+		final Method method;
+		final Object[] args;
+
+		Call(String javaInterface, String javaMethod, Method method, Object[] args) {
+			super(new Runnable() {
+				@Override /* Runnable */
+				public void run() {}
+			}, null);
+			this.javaInterface = javaInterface;
+			this.javaMethod = javaMethod;
+			this.method = method;
+			this.args = args;
+		}
+
+		void complete(Object o) {
+			if (o == null && method.getReturnType().isPrimitive())
+				o = getPrimitiveDefault(method.getReturnType());
+			set(o);
+		}
+
+		void fail(Throwable t) {
+			setException(t);
+		}
+
+		@Override /* Future */
+		public Object get() throws InterruptedException, ExecutionException {
+			// In explicit mode, waiting on a call sends the batch it belongs to.
+			if (window <= 0 && ! isDone())
+				execute();
+			return super.get();
+		}
+
+		@Override /* Future */
+		public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			if (window <= 0 && ! isDone())
+				execute();
+			return super.get(timeout, unit);
+		}
+	}
+}
@@ -0,0 +1,255 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.rest.client.RestClient.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.remoteable.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * The precomputed request-building plan of a method on a remoteable proxy.
+ *
+ * <p>
+ * Everything about a call that doesn't depend on the argument values is resolved once when the proxy is created, so
+ * that invoking a method only has to serialize its arguments.
+ * The annotations on the properties of {@link RequestBean @RequestBean} arguments and the part names and serializers
+ * they resolve to are resolved the first time a bean of a given type is passed in.
+ */
+final class RemoteableMethodPlan {
+
+	final RemoteableMethodMeta meta;
+	final String httpMethod, url;
+	final boolean hasContent, returnsStatus, binaryCapable;
+	final Class<?> returnType;
+	final Type genericReturnType;
+	final Object returnDefault;
+	final RemoteMethodArg[] pathArgs, queryArgs, formDataArgs, headerArgs;
+	final RequestBeanArg[] requestBeanArgs;
+	final Integer bodyArg;
+	final int[] otherArgs;
+
+	RemoteableMethodPlan(Method m, RemoteableMethodMeta meta) {
+		this.meta = meta;
+		this.httpMethod = meta.getHttpMethod();
+		this.url = meta.getUrl();
+		this.hasContent = httpMethod.equals("POST") || httpMethod.equals("PUT");
+		this.returnsStatus = meta.getReturns() == ReturnValue.HTTP_STATUS;
+		this.returnType = m.getReturnType();
+		this.genericReturnType = m.getGenericReturnType();
+		this.returnDefault = returnType.isPrimitive() ? ClassUtils.getPrimitiveDefault(returnType) : null;
+		this.pathArgs = meta.getPathArgs();
+		this.queryArgs = meta.getQueryArgs();
+		this.formDataArgs = meta.getFormDataArgs();
+		this.headerArgs = meta.getHeaderArgs();
+		this.bodyArg = meta.getBodyArg();
+
+		Integer[] oa = meta.getOtherArgs();
+		this.otherArgs = new int[oa.length];
+		for (int i = 0; i < oa.length; i++)
+			otherArgs[i] = oa[i];
+
+		RemoteMethodArg[] rba = meta.getRequestBeanArgs();
+		this.requestBeanArgs = new RequestBeanArg[rba.length];
+		for (int i = 0; i < rba.length; i++)
+			requestBeanArgs[i] = new RequestBeanArg(rba[i]);
+
+		// Methods whose arguments are all passed in the request body can be sent in the remoteable binary format.
+		// Methods without arguments don't send a body, so there's nothing to negotiate.
+		this.binaryCapable = httpMethod.equals("POST")
+			&& ! returnsStatus
+			&& bodyArg == null
+			&& otherArgs.length > 0
+			&& pathArgs.length == 0
+			&& queryArgs.length == 0
+			&& formDataArgs.length == 0
+			&& headerArgs.length == 0
+			&& requestBeanArgs.length == 0;
+	}
+
+	/**
+	 * Adds the path variables, query parameters, form-data parameters, headers, and body built from the arguments to
+	 * the specified call.
+	 *
+	 * @param rc The call.
+	 * @param bc The bean context used to access request beans.
+	 * @param args The method arguments.
+	 * @throws RestCallException
+	 */
+	void addArgs(RestCall rc, BeanContext bc, Object[] args) throws RestCallException {
+		for (RemoteMethodArg a : pathArgs)
+			rc.path(a.name, args[a.index], a.serializer);
+
+		for (RemoteMethodArg a : queryArgs)
+			rc.query(a.name, args[a.index], a.skipIfNE, a.serializer);
+
+		for (RemoteMethodArg a : formDataArgs)
+			rc.formData(a.name, args[a.index], a.skipIfNE, a.serializer);
+
+		for (RemoteMethodArg a : headerArgs)
+			rc.header(a.name, args[a.index], a.skipIfNE, a.serializer);
+
+		if (bodyArg != null)
+			rc.input(args[bodyArg]);
+
+		BeanSession session = requestBeanArgs.length == 0 ? null : bc.createSession();
+		for (RequestBeanArg a : requestBeanArgs) {
+			BeanMap<?> bm = session.toBeanMap(args[a.arg.index]);
+			for (RequestBeanProperty p : a.getProperties(bm.getMeta()))
+				p.addTo(rc, bm);
+		}
+
+		if (otherArgs.length > 0) {
+			Object[] o = new Object[otherArgs.length];
+			for (int i = 0; i < otherArgs.length; i++)
+				o[i] = args[otherArgs[i]];
+			rc.input(o);
+		}
+	}
+
+	/*
+	 * A @RequestBean argument, with the properties of each bean type passed in resolved on first use.
+	 */
+	private static final class RequestBeanArg {
+		final RemoteMethodArg arg;
+		private final ConcurrentHashMap<BeanMeta<?>,RequestBeanProperty[]> properties = new ConcurrentHashMap<>();
+
+		RequestBeanArg(RemoteMethodArg arg) {
+			this.arg = arg;
+		}
+
+		RequestBeanProperty[] getProperties(BeanMeta<?> bm) {
+			RequestBeanProperty[] p = properties.get(bm);
+			if (p == null) {
+				List<RequestBeanProperty> l = new ArrayList<>();
+				for (BeanPropertyMeta pMeta : bm.getPropertyMetas()) {
+					RequestBeanProperty rbp = new RequestBeanProperty(pMeta, arg.serializer);
+					if (rbp.parts.length > 0)
+						l.add(rbp);
+				}
+				p = l.toArray(new RequestBeanProperty[l.size()]);
+				properties.putIfAbsent(bm, p);
+			}
+			return p;
+		}
+	}
+
+	/*
+	 * A request bean property annotated with one or more of the part annotations.
+	 */
+	private static final class RequestBeanProperty {
+		final BeanPropertyMeta meta;
+		final Part[] parts;
+
+		RequestBeanProperty(BeanPropertyMeta pMeta, PartSerializer ps) {
+			this.meta = pMeta;
+			List<Part> l = new ArrayList<>();
+
+			Path p = pMeta.getAnnotation(Path.class);
+			if (p != null)
+				l.add(new Part(PartType.PATH, getName(p.name(), p.value(), pMeta), false, getPartSerializer(p.serializer(), ps)));
+
+			Query q1 = pMeta.getAnnotation(Query.class);
+			if (q1 != null)
+				l.add(new Part(PartType.QUERY, getName(q1.name(), q1.value(), pMeta), q1.skipIfEmpty(), getPartSerializer(q1.serializer(), ps)));
+
+			QueryIfNE q2 = pMeta.getAnnotation(QueryIfNE.class);
+			if (q2 != null)
+				l.add(new Part(PartType.QUERY, getName(q2.name(), q2.value(), pMeta), true, getPartSerializer(q2.serializer(), ps)));
+
+			FormData f1 = pMeta.getAnnotation(FormData.class);
+			if (f1 != null)
+				l.add(new Part(PartType.FORM_DATA, getName(f1.name(), f1.value(), pMeta), f1.skipIfEmpty(), getPartSerializer(f1.serializer(), ps)));
+
+			FormDataIfNE f2 = pMeta.getAnnotation(FormDataIfNE.class);
+			if (f2 != null)
+				l.add(new Part(PartType.FORM_DATA, getName(f2.name(), f2.value(), pMeta), true, getPartSerializer(f2.serializer(), ps)));
+
+			org.apache.juneau.remoteable.Header h1 = pMeta.getAnnotation(org.apache.juneau.remoteable.Header.class);
+			if (h1 != null)
+				l.add(new Part(PartType.HEADER, getName(h1.name(), h1.value(), pMeta), h1.skipIfEmpty(), getPartSerializer(h1.serializer(), ps)));
+
+			HeaderIfNE h2 = pMeta.getAnnotation(HeaderIfNE.class);
+			if (h2 != null)
+				l.add(new Part(PartType.HEADER, getName(h2.name(), h2.value(), pMeta), true, getPartSerializer(h2.serializer(), ps)));
+
+			this.parts = l.toArray(new Part[l.size()]);
+		}
+
+		void addTo(RestCall rc, BeanMap<?> bm) throws RestCallException {
+			if (meta.isDyna()) {
+				Map<String,Object> m = null;
+				try {
+					m = meta.getDynaMap(bm.getBean());
+				} catch (Exception e) {
+					// Properties that can't be read are treated as null.
+				}
+				if (m == null) {
+					addTo(rc, (Object)null);
+					return;
+				}
+				for (String pName : m.keySet())
+					addTo(rc, get(bm, pName));
+			} else {
+				addTo(rc, get(bm, null));
+			}
+		}
+
+		private Object get(BeanMap<?> bm, String pName) {
+			try {
+				return meta.get(bm, pName);
+			} catch (Exception e) {
+				// Properties that can't be read are treated as null.
+				return null;
+			}
+		}
+
+		private void addTo(RestCall rc, Object val) throws RestCallException {
+			for (Part p : parts) {
+				if (p.type == PartType.PATH)
+					rc.path(p.name, val, p.serializer);
+				else if (val == null)
+					continue;
+				else if (p.type == PartType.QUERY)
+					rc.query(p.name, val, p.skipIfEmpty, p.serializer);
+				else if (p.type == PartType.FORM_DATA)
+					rc.formData(p.name, val, p.skipIfEmpty, p.serializer);
+				else
+					rc.header(p.name, val, p.skipIfEmpty, p.serializer);
+			}
+		}
+	}
+
+	/*
+	 * A resolved part annotation on a request bean property.
+	 */
+	private static final class Part {
+		final PartType type;
+		final String name;
+		final boolean skipIfEmpty;
+		final PartSerializer serializer;
+
+		Part(PartType type, String name, boolean skipIfEmpty, PartSerializer serializer) {
+			this.type = type;
+			this.name = name;
+			this.skipIfEmpty = skipIfEmpty;
+			this.serializer = serializer;
+		}
+	}
+}
@@ -92,6 +92,7 @@ public final class RestCall {
 	private boolean isFailed = false;
 	private Object input;
 	private boolean hasInput;  // input() was called, even if it's setting 'null'.
+	private Encoder inputEncoder;
 	private Serializer serializer;
 	private Parser parser;
 	private URIBuilder uriBuilder;
@@ -488,6 +489,8 @@ public final class RestCall {
 	 * 		<li>
 	 * 			{@link InputStream} - Raw contents of {@code InputStream} will be serialized to remote resource.
 	 * 		<li>
+	 * 			{@link File} - Raw contents of {@code File} will be serialized to remote resource.
+	 * 		<li>
 	 * 			{@link Object} - POJO to be converted to text using the {@link Serializer} registered with the
 	 * 			{@link RestClient}.
 	 * 		<li>
@@ -495,6 +498,11 @@ public final class RestCall {
 	 * 		<li>
 	 * 			{@link NameValuePairs} - Converted to a URL-encoded FORM post.
 	 * 	</ul>
+	 *
+	 * 	<p>
+	 * 	Bodies are streamed directly to the connection and never buffered in memory.
+	 * 	{@link Reader} and {@link InputStream} inputs can only be sent once and therefore can't be used on retryable
+	 * 	calls.
 	 * @return This object (for method chaining).
 	 * @throws RestCallException If a retry was attempted, but the entity was not repeatable.
 	 */
@@ -505,6 +513,22 @@ public final class RestCall {
 		return this;
 	}
 
+	/**
+	 * Compresses the input of this call using the specified encoder.
+	 *
+	 * <p>
+	 * The body is compressed as it's streamed to the connection, and the <code>Content-Encoding</code> header is set
+	 * to the first coding returned by {@link Encoder#getCodings()}.
+	 * Only applies to inputs serialized by this class (i.e. not {@link HttpEntity} or {@link NameValuePairs} inputs).
+	 *
+	 * @param encoder The encoder to use (e.g. {@link GzipEncoder}).
+	 * @return This object (for method chaining).
+	 */
+	public RestCall inputEncoder(Encoder encoder) {
+		this.inputEncoder = encoder;
+		return this;
+	}
+
 	/**
 	 * Specifies the serializer to use on this call.
 	 *
@@ -1080,6 +1104,8 @@ public final class RestCall {
 				if (e != null && ! e.isRepeatable())
 					throw new RestCallException("Attempt to make call retryable, but entity is not repeatable.");
 				}
+			if (input instanceof InputStream || input instanceof Reader)
+				throw new RestCallException("Attempt to make call retryable, but input is a stream that can only be read once.");
 			}
 		this.retries = retries;
 		this.retryInterval = interval;
@@ -1446,12 +1472,48 @@ public final class RestCall {
 	 * {@link Future Futures}.
 	 */
 	public Future<Integer> runFuture() throws RestCallException {
-		return client.getExecutorService(true).submit(
+		return runFuture(null);
+	}
+
+	/**
+	 * Same as {@link #runFuture()} but notifies the specified callback when the call completes.
+	 *
+	 * @param callback The callback to notify.  Can be <jk>null</jk>.
+	 * @return The HTTP status code.
+	 * @throws RestCallException If the executor service was not defined.
+	 */
+	public Future<Integer> runFuture(RestCallback<Integer> callback) throws RestCallException {
+		return submit(
 			new Callable<Integer>() {
 				@Override /* Callable */
 				public Integer call() throws Exception {
 					return run();
 				}
+			},
+			callback
+		);
+	}
+
+	/*
+	 * Runs the specified call on the client executor service and notifies the callback of the outcome.
+	 */
+	private <T> Future<T> submit(final Callable<T> call, final RestCallback<T> callback) {
+		if (callback == null)
+			return client.getExecutorService(true).submit(call);
+		return client.getExecutorService(true).submit(
+			new Callable<T>() {
+				@Override /* Callable */
+				public T call() throws Exception {
+					T t;
+					try {
+						t = call.call();
+					} catch (Exception e) {
+						callback.onFailure(e);
+						throw e;
+					}
+					callback.onSuccess(t);
+					return t;
+				}
 			}
 		);
 	}
@@ -1496,7 +1558,7 @@ public final class RestCall {
 				else if (input instanceof HttpEntity)
 					entity = (HttpEntity)input;
 				else
-					entity = new RestRequestEntity(input, getSerializer());
+					entity = new RestRequestEntity(input, getSerializer(), inputEncoder);
 
 				if (retries > 1 && ! entity.isRepeatable())
 					throw new RestCallException("Rest call set to retryable, but entity is not repeatable.");
@@ -1509,7 +1571,7 @@ public final class RestCall {
 				retries--;
 				Exception ex = null;
 				try {
-					response = client.execute(request);
+					response = client.responseCache == null ? client.execute(request) : client.responseCache.execute(client, request);
 					sc = (response == null || response.getStatusLine() == null) ? -1 : response.getStatusLine().getStatusCode();
 				} catch (Exception e) {
 					ex = e;
@@ -1758,13 +1820,25 @@ public final class RestCall {
 	 * 	{@link Future Futures}.
 	 */
 	public Future<String> getResponseAsStringFuture() throws RestCallException {
-		return client.getExecutorService(true).submit(
+		return getResponseAsStringFuture(null);
+	}
+
+	/**
+	 * Same as {@link #getResponseAsStringFuture()} but notifies the specified callback when the call completes.
+	 *
+	 * @param callback The callback to notify.  Can be <jk>null</jk>.
+	 * @return The response as a string.
+	 * @throws RestCallException If the executor service was not defined.
+	 */
+	public Future<String> getResponseAsStringFuture(RestCallback<String> callback) throws RestCallException {
+		return submit(
 			new Callable<String>() {
 				@Override /* Callable */
 				public String call() throws Exception {
 					return getResponseAsString();
 				}
-			}
+			},
+			callback
 		);
 	}
 
@@ -1832,14 +1906,30 @@ public final class RestCall {
 	 * 	RestClientBuilder#executorService(ExecutorService, boolean) for defining the executor service for creating
 	 * 	{@link Future Futures}.
 	 */
-	public <T> Future<T> getResponseFuture(final Class<T> type) throws RestCallException {
-		return client.getExecutorService(true).submit(
+	public <T> Future<T> getResponseFuture(Class<T> type) throws RestCallException {
+		return getResponseFuture(type, (RestCallback<T>)null);
+	}
+
+	/**
+	 * Same as {@link #getResponseFuture(Class)} but notifies the specified callback when the call completes.
+	 *
+	 * @param <T>
+	 * 	The class type of the object being created.
+	 * 	See {@link #getResponse(Type, Type...)} for details.
+	 * @param type The object type to create.
+	 * @param callback The callback to notify.  Can be <jk>null</jk>.
+	 * @return The parsed object.
+	 * @throws RestCallException If the executor service was not defined.
+	 */
+	public <T> Future<T> getResponseFuture(final Class<T> type, RestCallback<T> callback) throws RestCallException {
+		return submit(
 			new Callable<T>() {
 				@Override /* Callable */
 				public T call() throws Exception {
 					return getResponse(type);
 				}
-			}
+			},
+			callback
 		);
 	}
 
@@ -1931,14 +2021,38 @@ public final class RestCall {
 	 * 	RestClientBuilder#executorService(ExecutorService, boolean) for defining the executor service for creating
 	 * 	{@link Future Futures}.
 	 */
-	public <T> Future<T> getResponseFuture(final Type type, final Type...args) throws RestCallException {
-		return client.getExecutorService(true).submit(
+	public <T> Future<T> getResponseFuture(Type type, Type...args) throws RestCallException {
+		return getResponseFuture((RestCallback<T>)null, type, args);
+	}
+
+	/**
+	 * Same as {@link #getResponseFuture(Type, Type...)} but notifies the specified callback when the call completes.
+	 *
+	 * @param <T>
+	 * 	The class type of the object being created.
+	 * 	See {@link #getResponse(Type, Type...)} for details.
+	 * @param callback The callback to notify.  Can be <jk>null</jk>.
+	 * @param type
+	 * 	The object type to create.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType},
+	 * 	{@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the class if it's a collection or map.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType},
+	 * 	{@link GenericArrayType}
+	 * 	<br>Ignored if the main type is not a map or collection.
+	 * @return The parsed object.
+	 * @throws RestCallException If the executor service was not defined.
+	 */
+	public <T> Future<T> getResponseFuture(RestCallback<T> callback, final Type type, final Type...args) throws RestCallException {
+		return submit(
 			new Callable<T>() {
 				@Override /* Callable */
 				public T call() throws Exception {
 					return getResponse(type, args);
 				}
-			}
+			},
+			callback
 		);
 	}
 
@@ -1973,7 +2087,7 @@ public final class RestCall {
 		return getResponsePojoRest(ObjectMap.class);
 	}
 
-	<T> T getResponse(ClassMeta<T> type) throws IOException, ParseException {
+	<T> T getResponse(final ClassMeta<T> type) throws IOException, ParseException {
 		try {
 			if (type.getInnerClass().equals(HttpResponse.class))
 				return (T)response;
@@ -1981,10 +2095,19 @@ public final class RestCall {
 				return (T)getReader();
 			if (type.getInnerClass().equals(InputStream.class))
 				return (T)getInputStream();
-			Parser p = getParser();
-			try (Closeable in = p.isReaderParser() ? getReader() : getInputStream()) {
-				return p.parse(in, type);
+			final Parser p = getParser();
+			if (client.responseCache != null)
+				connect();
+			if (response instanceof RestResponseCache.CachedResponse && writers.size() == 0 && outputStreams.size() == 0) {
+				// Reuse the object parsed from a previous hit on the same cache entry.
+				return ((RestResponseCache.CachedResponse)response).entry.getParsed(p, type, new Callable<T>() {
+					@Override /* Callable */
+					public T call() throws Exception {
+						return parse(p, type);
+					}
+				});
 			}
+			return parse(p, type);
 		} catch (ParseException e) {
 			isFailed = true;
 			throw e;
@@ -1996,6 +2119,12 @@ public final class RestCall {
 		}
 	}
 
+	private <T> T parse(Parser p, ClassMeta<T> type) throws IOException, ParseException {
+		try (Closeable in = p.isReaderParser() ? getReader() : getInputStream()) {
+			return p.parse(in, type);
+		}
+	}
+
 	BeanContext getBeanContext() throws RestCallException {
 		BeanContext bc = getParser().getBeanContext();
 		if (bc == null)
@@ -0,0 +1,60 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+/**
+ * Receives the outcome of a REST call run asynchronously through one of the future methods on {@link RestCall}.
+ *
+ * <p>
+ * Callbacks are invoked on the executor thread that ran the call, before the corresponding {@link java.util.concurrent.Future}
+ * completes, so they should not block.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	restClient.doGet(url).getResponseFuture(MyBean.<jk>class</jk>,
+ * 		<jk>new</jk> RestCallback&lt;MyBean&gt;() {
+ * 			<ja>@Override</ja>
+ * 			<jk>public void</jk> onSuccess(MyBean result) {
+ * 				...
+ * 			}
+ * 			<ja>@Override</ja>
+ * 			<jk>public void</jk> onFailure(Exception e) {
+ * 				...
+ * 			}
+ * 		}
+ * 	);
+ * </p>
+ *
+ * @param <T> The result type of the call.
+ */
+public interface RestCallback<T> {
+
+	/**
+	 * Called when the call completes successfully.
+	 *
+	 * <p>
+	 * If this method throws an exception, the future fails with that exception.
+	 *
+	 * @param result The result of the call.
+	 */
+	void onSuccess(T result);
+
+	/**
+	 * Called when the call fails.
+	 *
+	 * @param e
+	 * 	The exception thrown by the call.
+	 * 	<br>Typically a {@link RestCallException}.
+	 */
+	void onFailure(Exception e);
+}
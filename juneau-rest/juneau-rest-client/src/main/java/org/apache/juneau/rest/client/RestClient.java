@@ -79,6 +79,8 @@ public class RestClient extends CoreObject {
 	// These are read directly by RestCall.
 	final Serializer serializer;
 	final Parser parser;
+	final Serializer remoteableBinarySerializer;
+	final Parser remoteableBinaryParser;
 	final RetryOn retryOn;
 	final int retries;
 	final long retryInterval;
@@ -88,6 +90,8 @@ public class RestClient extends CoreObject {
 	// This is lazy-created.
 	private volatile ExecutorService executorService;
 	boolean executorServiceShutdownOnClose = true;
+	private final int executorThreads;
+	final RestResponseCache responseCache;
 
 	/**
 	 * Instantiates a new clean-slate {@link RestClientBuilder} object.
@@ -117,7 +121,11 @@ public class RestClient extends CoreObject {
 			long retryInterval,
 			boolean debug,
 			ExecutorService executorService,
-			boolean executorServiceShutdownOnClose) {
+			boolean executorServiceShutdownOnClose,
+			int executorThreads,
+			RestResponseCache responseCache,
+			Serializer remoteableBinarySerializer,
+			Parser remoteableBinaryParser) {
 		super(propertyStore);
 		this.httpClient = httpClient;
 		this.keepHttpClientOpen = keepHttpClientOpen;
@@ -148,6 +156,10 @@ public class RestClient extends CoreObject {
 
 		this.executorService = executorService;
 		this.executorServiceShutdownOnClose = executorServiceShutdownOnClose;
+		this.executorThreads = Math.max(1, executorThreads);
+		this.responseCache = responseCache;
+		this.remoteableBinarySerializer = remoteableBinarySerializer;
+		this.remoteableBinaryParser = remoteableBinaryParser;
 	}
 
 	/**
@@ -601,7 +613,7 @@ public class RestClient extends CoreObject {
 	 * @return The new proxy interface.
 	 */
 	public <T> T getRemoteableProxy(final Class<T> interfaceClass, final Object restUrl) {
-		return getRemoteableProxy(interfaceClass, restUrl, serializer, parser);
+		return getRemoteableProxy(interfaceClass, restUrl, serializer, parser, remoteableBinarySerializer != null);
 	}
 
 	/**
@@ -613,8 +625,17 @@ public class RestClient extends CoreObject {
 	 * @param parser The parser used to parse POJOs from the body of the HTTP response.
 	 * @return The new proxy interface.
 	 */
-	@SuppressWarnings({ "unchecked" })
 	public <T> T getRemoteableProxy(final Class<T> interfaceClass, Object restUrl, final Serializer serializer, final Parser parser) {
+		return getRemoteableProxy(interfaceClass, restUrl, serializer, parser, false);
+	}
+
+	/*
+	 * If binary is true, methods whose arguments are all passed in the request body are first invoked using the
+	 * remoteable binary serializer and parser, falling back to the specified serializer and parser for good if the
+	 * server rejects the binary request body.
+	 */
+	@SuppressWarnings({ "unchecked" })
+	private <T> T getRemoteableProxy(final Class<T> interfaceClass, Object restUrl, final Serializer serializer, final Parser parser, final boolean binary) {
 
 		if (restUrl == null) {
 			Remoteable r = getAnnotation(Remoteable.class, interfaceClass);
@@ -636,101 +657,34 @@ public class RestClient extends CoreObject {
 				new Class[] { interfaceClass },
 				new InvocationHandler() {
 
-					final RemoteableMeta rm = new RemoteableMeta(interfaceClass, restUrl2);
+					final Map<Method,RemoteableMethodPlan> plans = createPlans(new RemoteableMeta(interfaceClass, restUrl2));
+
+					// Cleared once the server rejects the binary format.
+					volatile boolean useBinary = binary;
 
 					@Override /* InvocationHandler */
 					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-						RemoteableMethodMeta rmm = rm.getMethodMeta(method);
+						RemoteableMethodPlan plan = plans.get(method);
 
-						if (rmm == null)
+						if (plan == null)
 							throw new RuntimeException("Method is not exposed as a remoteable method.");
 
+						boolean isBinary = useBinary && plan.binaryCapable;
+
 						try {
-							String url = rmm.getUrl();
-							String httpMethod = rmm.getHttpMethod();
-							RestCall rc;
-							// this could be a switch at language level 7
-							if (httpMethod.equals("DELETE")) {
-								rc = doDelete(url);
-							} else if (httpMethod.equals("POST")) {
-								rc = doPost(url);
-							} else if (httpMethod.equals("GET")) {
-								rc = doGet(url);
-							} else if (httpMethod.equals("PUT")) {
-								rc = doPut(url);
-							} else throw new RuntimeException("Unsupported method.");
-
-							rc.serializer(serializer).parser(parser);
-
-							for (RemoteMethodArg a : rmm.getPathArgs())
-								rc.path(a.name, args[a.index], a.serializer);
-
-							for (RemoteMethodArg a : rmm.getQueryArgs())
-								rc.query(a.name, args[a.index], a.skipIfNE, a.serializer);
-
-							for (RemoteMethodArg a : rmm.getFormDataArgs())
-								rc.formData(a.name, args[a.index], a.skipIfNE, a.serializer);
-
-							for (RemoteMethodArg a : rmm.getHeaderArgs())
-								rc.header(a.name, args[a.index], a.skipIfNE, a.serializer);
-
-							if (rmm.getBodyArg() != null)
-								rc.input(args[rmm.getBodyArg()]);
-
-							if (rmm.getRequestBeanArgs().length > 0) {
-								BeanSession bs = getBeanContext().createSession();
-								for (RemoteMethodArg rma : rmm.getRequestBeanArgs()) {
-									BeanMap<?> bm = bs.toBeanMap(args[rma.index]); 
-
-									for (BeanPropertyValue bpv : bm.getValues(false)) {
-										BeanPropertyMeta pMeta = bpv.getMeta();
-										Object val = bpv.getValue();
-
-										Path p = pMeta.getAnnotation(Path.class);
-										if (p != null)
-											rc.path(getName(p.name(), p.value(), pMeta), val, getPartSerializer(p.serializer(), rma.serializer));
-
-										if (val != null) {
-											Query q1 = pMeta.getAnnotation(Query.class);
-											if (q1 != null)
-												rc.query(getName(q1.name(), q1.value(), pMeta), val, q1.skipIfEmpty(), getPartSerializer(q1.serializer(), rma.serializer));
-
-											QueryIfNE q2 = pMeta.getAnnotation(QueryIfNE.class);
-											if (q2 != null)
-												rc.query(getName(q2.name(), q2.value(), pMeta), val, true, getPartSerializer(q2.serializer(), rma.serializer));
-
-											FormData f1 = pMeta.getAnnotation(FormData.class);
-											if (f1 != null)
-												rc.formData(getName(f1.name(), f1.value(), pMeta), val, f1.skipIfEmpty(), getPartSerializer(f1.serializer(), rma.serializer));
-
-											FormDataIfNE f2 = pMeta.getAnnotation(FormDataIfNE.class);
-											if (f2 != null)
-												rc.formData(getName(f2.name(), f2.value(), pMeta), val, true, getPartSerializer(f2.serializer(), rma.serializer));
-
-											org.apache.juneau.remoteable.Header h1 = pMeta.getAnnotation(org.apache.juneau.remoteable.Header.class);
-											if (h1 != null)
-												rc.header(getName(h1.name(), h1.value(), pMeta), val, h1.skipIfEmpty(), getPartSerializer(h1.serializer(), rma.serializer));
-
-											HeaderIfNE h2 = pMeta.getAnnotation(HeaderIfNE.class);
-											if (h2 != null)
-												rc.header(getName(h2.name(), h2.value(), pMeta), val, true, getPartSerializer(h2.serializer(), rma.serializer));
-										}
-									}
-								}
-							}
+							RestCall rc = doCall(plan.httpMethod, plan.url, plan.hasContent);
 
-							if (rmm.getOtherArgs().length > 0) {
-								Object[] otherArgs = new Object[rmm.getOtherArgs().length];
-								int i = 0;
-								for (Integer otherArg : rmm.getOtherArgs())
-									otherArgs[i++] = args[otherArg];
-								rc.input(otherArgs);
-							}
+							if (isBinary)
+								rc.serializer(remoteableBinarySerializer).parser(remoteableBinaryParser).accept(remoteableBinaryParser.getPrimaryMediaType().toString());
+							else
+								rc.serializer(serializer).parser(parser);
 
-							if (rmm.getReturns() == ReturnValue.HTTP_STATUS) {
+							plan.addArgs(rc, getBeanContext(), args);
+
+							if (plan.returnsStatus) {
 								rc.ignoreErrors();
 								int returnCode = rc.run();
-								Class<?> rt = method.getReturnType();
+								Class<?> rt = plan.returnType;
 								if (rt == Integer.class || rt == int.class)
 									return returnCode;
 								if (rt == Boolean.class || rt == boolean.class)
@@ -738,12 +692,17 @@ public class RestClient extends CoreObject {
 								throw new RestCallException("Invalid return type on method annotated with @RemoteableMethod(returns=HTTP_STATUS).  Only integer and booleans types are valid.");
 							}
 
-							Object v = rc.getResponse(method.getGenericReturnType());
-							if (v == null && method.getReturnType().isPrimitive())
-								v = ClassUtils.getPrimitiveDefault(method.getReturnType());
+							Object v = rc.getResponse(plan.genericReturnType);
+							if (v == null)
+								v = plan.returnDefault;
 							return v;
 
 						} catch (RestCallException e) {
+							// Only a 415 is safe to retry, since it's raised before the remote method is invoked.
+							if (isBinary && e.getResponseCode() == 415) {
+								useBinary = false;
+								return invoke(proxy, method, args);
+							}
 							// Try to throw original exception if possible.
 							e.throwServerException(interfaceClass.getClassLoader());
 							throw new RuntimeException(e);
@@ -757,6 +716,68 @@ public class RestClient extends CoreObject {
 		}
 	}
 
+	/*
+	 * Creates the request-building plans of all the methods of a proxy.
+	 */
+	private static Map<Method,RemoteableMethodPlan> createPlans(RemoteableMeta rm) {
+		Map<Method,RemoteableMethodPlan> m = new HashMap<>();
+		for (Map.Entry<Method,RemoteableMethodMeta> e : rm.getMethodMetas().entrySet())
+			m.put(e.getKey(), new RemoteableMethodPlan(e.getKey(), e.getValue()));
+		return m;
+	}
+
+	/**
+	 * Creates an explicit batch for combining calls on remoteable proxies into a single HTTP request.
+	 *
+	 * <p>
+	 * Calls on proxies created through {@link RemoteableBatch#getProxy(Class)} are recorded until
+	 * {@link RemoteableBatch#execute()} is called.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	RemoteableBatch batch = client.createRemoteableBatch(<js>"/remoteable"</js>);
+	 * 	AddressBook ab = batch.getProxy(AddressBook.<jk>class</jk>);
+	 *
+	 * 	Future&lt;Person&gt; p1 = batch.future(ab.findPerson(<js>"John"</js>));
+	 * 	Future&lt;Integer&gt; count = batch.future(ab.getPeopleCount());
+	 * 	batch.execute();
+	 * </p>
+	 *
+	 * @param servletUrl
+	 * 	The URL of the <code>RemoteableServlet</code> hosting the interfaces.
+	 * 	<br>Relative URLs are resolved against the root URL of this client.
+	 * @return A new batch.
+	 */
+	public RemoteableBatch createRemoteableBatch(Object servletUrl) {
+		return createRemoteableBatch(servletUrl, 0);
+	}
+
+	/**
+	 * Creates a windowed batch for combining calls on remoteable proxies into a single HTTP request.
+	 *
+	 * <p>
+	 * Calls on proxies created through {@link RemoteableBatch#getProxy(Class)} block and return their results like
+	 * regular proxy calls, but all calls made from any thread within <code>windowMillis</code> milliseconds of the first
+	 * one are sent together.
+	 *
+	 * @param servletUrl
+	 * 	The URL of the <code>RemoteableServlet</code> hosting the interfaces.
+	 * 	<br>Relative URLs are resolved against the root URL of this client.
+	 * @param windowMillis
+	 * 	The time in milliseconds to wait for other calls before sending a batch.
+	 * 	<br>If <code>0</code>, creates an explicit batch.
+	 * @return A new batch.
+	 */
+	public RemoteableBatch createRemoteableBatch(Object servletUrl, long windowMillis) {
+		String url = servletUrl.toString();
+		if (url.indexOf("://") == -1) {
+			if (rootUrl == null)
+				throw new RuntimeException("Root URI has not been specified.  Cannot construct absolute path to remoteable servlet.");
+			url = trimSlashes(rootUrl) + '/' + trimSlashes(url);
+		}
+		return new RemoteableBatch(this, url, windowMillis, serializer, parser);
+	}
+
 	static final String getName(String name1, String name2, BeanPropertyMeta pMeta) {
 		String n = name1.isEmpty() ? name2 : name1;
 		ClassMeta<?> cm = pMeta.getClassMeta();
@@ -814,8 +835,22 @@ public class RestClient extends CoreObject {
 		if (executorService != null || ! create)
 			return executorService;
 		synchronized(this) {
-			if (executorService == null)
-				executorService = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(10));
+			if (executorService == null) {
+				// One thread per connection the connection manager can hand out.  Extra calls wait in the queue.
+				ThreadPoolExecutor e = new ThreadPoolExecutor(executorThreads, executorThreads, 30, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+						private int count;
+						@Override /* ThreadFactory */
+						public synchronized Thread newThread(Runnable r) {
+							Thread t = new Thread(r, "RestClient-" + (++count));
+							t.setDaemon(true);
+							return t;
+						}
+					}
+				);
+				e.allowCoreThreadTimeOut(true);
+				executorService = e;
+			}
 			return executorService;
 		}
 	}
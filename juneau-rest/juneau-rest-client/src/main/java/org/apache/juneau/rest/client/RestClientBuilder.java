@@ -45,6 +45,7 @@ import org.apache.http.protocol.*;
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
 import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.uon.*;
@@ -71,15 +72,21 @@ public class RestClientBuilder extends CoreObjectBuilder {
 
 	private List<RestCallInterceptor> intercepters = new ArrayList<>();
 
+	// The defaults of PoolingHttpClientConnectionManager.
+	private static final int DEFAULT_MAX_CONN_TOTAL = 20, DEFAULT_MAX_CONN_PER_ROUTE = 2;
+
 	private String rootUrl;
 	private SSLOpts sslOpts;
 	private boolean pooled;
+	private int maxConnTotal, maxConnPerRoute;
 
 	private int retries = 1;
 	private long retryInterval = -1;
 	private RetryOn retryOn = RetryOn.DEFAULT;
 	private boolean debug, executorServiceShutdownOnClose;
 	private ExecutorService executorService;
+	private RestResponseCache responseCache;
+	private boolean remoteableBinary;
 
 	/**
 	 * Constructor, default settings.
@@ -157,7 +164,14 @@ public class RestClientBuilder extends CoreObjectBuilder {
 					pf = partSerializerClass.newInstance();
 			}
 
-			return new RestClient(propertyStore, httpClient, keepHttpClientOpen, s, p, us, pf, headers, intercepters, rootUrl, retryOn, retries, retryInterval, debug, executorService, executorServiceShutdownOnClose);
+			Serializer rbs = null;
+			Parser rbp = null;
+			if (remoteableBinary) {
+				rbs = new SerializerBuilder(propertyStore).build(MsgPackSerializer.class);
+				rbp = new ParserBuilder(propertyStore).build(MsgPackParser.class);
+			}
+
+			return new RestClient(propertyStore, httpClient, keepHttpClientOpen, s, p, us, pf, headers, intercepters, rootUrl, retryOn, retries, retryInterval, debug, executorService, executorServiceShutdownOnClose, getExecutorThreads(), responseCache, rbs, rbp);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -245,13 +259,45 @@ public class RestClientBuilder extends CoreObjectBuilder {
 
 					Registry<ConnectionSocketFactory> r = RegistryBuilder.<ConnectionSocketFactory> create().register("https", sf).build();
 
-					return (pooled ? new PoolingHttpClientConnectionManager(r) : new BasicHttpClientConnectionManager(r));
+					return (pooled ? configure(new PoolingHttpClientConnectionManager(r)) : new BasicHttpClientConnectionManager(r));
 				} catch (Throwable t) {}
 			}
 		}
 
 			// Using pooling connection so that this client is threadsafe.
-		return (pooled ? new PoolingHttpClientConnectionManager() : new BasicHttpClientConnectionManager());
+		return (pooled ? configure(new PoolingHttpClientConnectionManager()) : new BasicHttpClientConnectionManager());
+	}
+
+	/*
+	 * Applies the connection limits to a pooling connection manager.
+	 * HttpClientBuilder ignores its own limits when a connection manager is specified.
+	 */
+	private PoolingHttpClientConnectionManager configure(PoolingHttpClientConnectionManager cm) {
+		if (maxConnTotal > 0)
+			cm.setMaxTotal(maxConnTotal);
+		if (maxConnPerRoute > 0)
+			cm.setDefaultMaxPerRoute(maxConnPerRoute);
+		return cm;
+	}
+
+	/*
+	 * The number of threads in the default executor service used for futures.
+	 * A BasicHttpClientConnectionManager only allows one call at a time, so use one thread unless the connections
+	 * are pooled.
+	 * Futures are normally sent to the same host, so a pool only allows as many concurrent calls as its per-route
+	 * limit.  Extra threads would just block waiting for a connection.
+	 */
+	private int getExecutorThreads() {
+		if (httpClientConnectionManager instanceof PoolingHttpClientConnectionManager) {
+			PoolingHttpClientConnectionManager cm = (PoolingHttpClientConnectionManager)httpClientConnectionManager;
+			return Math.max(1, Math.min(cm.getMaxTotal(), cm.getDefaultMaxPerRoute()));
+		}
+		if (pooled && httpClient == null) {
+			int total = maxConnTotal > 0 ? maxConnTotal : DEFAULT_MAX_CONN_TOTAL;
+			int perRoute = maxConnPerRoute > 0 ? maxConnPerRoute : DEFAULT_MAX_CONN_PER_ROUTE;
+			return Math.max(1, Math.min(total, perRoute));
+		}
+		return 1;
 	}
 
 	/**
@@ -479,12 +525,17 @@ public class RestClientBuilder extends CoreObjectBuilder {
 	 * 	<li>{@link RestCall#runFuture()}
 	 * 	<li>{@link RestCall#getResponseFuture(Class)}
 	 * 	<li>{@link RestCall#getResponseFuture(Type,Type...)}
-	 * 	<li>{@link RestCall#getResponseAsString()}
+	 * 	<li>{@link RestCall#getResponseAsStringFuture()}
 	 * </ul>
 	 *
 	 * <p>
-	 * The default executor service is a single-threaded {@link ThreadPoolExecutor} with a 30 second timeout
-	 * and a queue size of 10.
+	 * The default executor service is a {@link ThreadPoolExecutor} with an unbounded queue and daemon threads that
+	 * time out after 30 seconds of inactivity.
+	 * It uses a single thread unless connections are {@link #pooled() pooled}, in which case it uses one thread per
+	 * connection allowed to a single host by {@link #setMaxConnPerRoute(int)} (<code>2</code> by default), capped by
+	 * {@link #setMaxConnTotal(int)}.
+	 * Clients that run futures against several hosts at once should raise the per-route limit or specify their own
+	 * executor service.
 	 *
 	 * @param executorService The executor service.
 	 * @param shutdownOnClose Call {@link ExecutorService#shutdown()} when {@link RestClient#close()} is called.
@@ -496,6 +547,56 @@ public class RestClientBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	/**
+	 * Defines a client-side cache for HTTP <code>GET</code> responses.
+	 *
+	 * <p>
+	 * Responses that are still fresh according to their <code>Cache-Control</code> or <code>Expires</code> headers are
+	 * returned without contacting the server, and stale responses carrying an <code>ETag</code> or
+	 * <code>Last-Modified</code> header are revalidated with a conditional request.
+	 * POJOs parsed from cached responses are kept with the cache entry and returned on subsequent hits without being
+	 * parsed again, so they should be treated as read-only.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	<jc>// Cache up to 1000 responses in memory and on disk.</jc>
+	 * 	RestClient client = RestClient.<jsm>create</jsm>()
+	 * 		.responseCache(<jk>new</jk> RestResponseCache(1000, <jk>new</jk> File(<js>"cache"</js>)))
+	 * 		.build();
+	 * </p>
+	 *
+	 * @param responseCache The response cache, or <jk>null</jk> to disable caching.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder responseCache(RestResponseCache responseCache) {
+		this.responseCache = responseCache;
+		return this;
+	}
+
+	/**
+	 * Use MessagePack for calls made through remoteable proxies.
+	 *
+	 * <p>
+	 * Proxies created through {@link RestClient#getRemoteableProxy(Class)} and
+	 * {@link RestClient#getRemoteableProxy(Class, Object)} send the arguments of methods whose arguments are all passed
+	 * in the request body as <code>octal/msgpack</code>, and ask for the result in the same format.
+	 * This avoids the cost of producing and parsing text on both ends when calling a <code>RemoteableServlet</code>,
+	 * which parses binary arguments directly from the request input stream.
+	 *
+	 * <p>
+	 * If the server rejects the request body with a <code>415</code>, the proxy falls back to the serializer and parser
+	 * of this client for that and all subsequent calls.
+	 * <br>Since the server only rejects the response format after the method has been invoked, a server that can parse
+	 * but not serialize <code>octal/msgpack</code> causes calls to fail with a <code>406</code> instead of being retried.
+	 *
+	 * @param value The new value for this setting.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder remoteableBinary(boolean value) {
+		this.remoteableBinary = value;
+		return this;
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// HTTP headers
@@ -1721,6 +1822,7 @@ public class RestClientBuilder extends CoreObjectBuilder {
 	 * @see HttpClientBuilder#setMaxConnTotal(int)
 	 */
 	public RestClientBuilder setMaxConnTotal(int maxConnTotal) {
+		this.maxConnTotal = maxConnTotal;
 		httpClientBuilder.setMaxConnTotal(maxConnTotal);
 		return this;
 	}
@@ -1731,6 +1833,7 @@ public class RestClientBuilder extends CoreObjectBuilder {
 	 * @see HttpClientBuilder#setMaxConnPerRoute(int)
 	 */
 	public RestClientBuilder setMaxConnPerRoute(int maxConnPerRoute) {
+		this.maxConnPerRoute = maxConnPerRoute;
 		httpClientBuilder.setMaxConnPerRoute(maxConnPerRoute);
 		return this;
 	}
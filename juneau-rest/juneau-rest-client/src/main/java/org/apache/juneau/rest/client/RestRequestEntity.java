@@ -18,72 +18,124 @@ import java.io.*;
 
 import org.apache.http.entity.*;
 import org.apache.http.message.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.utils.*;
 
 /**
  * HttpEntity for serializing POJOs as the body of HTTP requests.
+ *
+ * <p>
+ * The body is never buffered in memory.
+ * POJOs are serialized, and {@link Reader}, {@link InputStream} and {@link File} inputs are piped, directly into the
+ * connection output stream using chunked transfer encoding, optionally compressed using an {@link Encoder}.
+ *
+ * <p>
+ * The entity is repeatable (and therefore usable on retryable calls) only if the input can be replayed.
+ * POJOs and files are replayable since they can simply be serialized or read again.
+ * Readers and input streams can only be consumed once.
  */
 public final class RestRequestEntity extends BasicHttpEntity {
 	final Object output;
 	final Serializer serializer;
-	byte[] outputBytes;
+	final Encoder encoder;
 
 	/**
 	 * Constructor.
 	 *
-	 * @param input The POJO to serialize.  Can also be a {@link Reader} or {@link InputStream}.
+	 * @param input The POJO to serialize.  Can also be a {@link Reader}, {@link InputStream}, or {@link File}.
 	 * @param serializer The serializer to use to serialize this response.
 	 */
 	public RestRequestEntity(Object input, Serializer serializer) {
+		this(input, serializer, null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param input The POJO to serialize.  Can also be a {@link Reader}, {@link InputStream}, or {@link File}.
+	 * @param serializer The serializer to use to serialize this response.
+	 * @param encoder
+	 * 	The encoder to use to compress the body (e.g. {@link GzipEncoder}).
+	 * 	<br>Can be <jk>null</jk> to send the body uncompressed.
+	 */
+	public RestRequestEntity(Object input, Serializer serializer, Encoder encoder) {
 		this.output = input;
 		this.serializer = serializer;
+		this.encoder = encoder;
 		if (serializer != null && serializer.getResponseContentType() != null)
 			setContentType(new BasicHeader("Content-Type", serializer.getResponseContentType().toString()));
+		if (encoder != null)
+			setContentEncoding(encoder.getCodings()[0]);
+		setChunked(true);
 	}
 
 	@Override /* BasicHttpEntity */
 	public void writeTo(OutputStream os) throws IOException {
 		os = new NoCloseOutputStream(os);
-		if (output instanceof InputStream) {
-			IOPipe.create(output, os).run();
-		} else if (output instanceof Reader) {
-			try (OutputStreamWriter osw = new OutputStreamWriter(os, UTF8)) {
-				IOPipe.create(output, osw).run();
-			}
-		} else {
-			try {
-				if (serializer == null) {
-					// If no serializer specified, just close the stream.
-					os.close();
-				} else {
-					SerializerSession session = serializer.createSession();
-					try (Closeable c = session.isWriterSerializer() ? new OutputStreamWriter(os, UTF8) : os) {
-						session.serialize(c, output);
-					}
+		if (encoder != null)
+			os = encoder.getOutputStream(os);
+		// Closing the stream finishes any encoding, but leaves the connection stream open.
+		try (OutputStream os2 = os) {
+			if (output instanceof InputStream) {
+				IOPipe.create(output, os2).run();
+			} else if (output instanceof File) {
+				IOPipe.create(new FileInputStream((File)output), os2).run();
+			} else if (output instanceof Reader) {
+				try (OutputStreamWriter osw = new OutputStreamWriter(os2, UTF8)) {
+					IOPipe.create(output, osw).run();
+				}
+			} else if (serializer != null) {
+				SerializerSession session = serializer.createSession();
+				try (Closeable c = session.isWriterSerializer() ? new OutputStreamWriter(os2, UTF8) : os2) {
+					session.serialize(c, output);
 				}
-			} catch (SerializeException e) {
-				throw new org.apache.juneau.rest.client.RestCallException(e);
 			}
+			// If no serializer specified, just close the stream.
+		} catch (SerializeException e) {
+			throw new org.apache.juneau.rest.client.RestCallException(e);
 		}
 	}
 
+	@Override /* BasicHttpEntity */
+	public long getContentLength() {
+		if (output instanceof File && encoder == null)
+			return ((File)output).length();
+		return -1;
+	}
+
+	@Override /* BasicHttpEntity */
+	public boolean isChunked() {
+		return getContentLength() < 0;
+	}
+
 	@Override /* BasicHttpEntity */
 	public boolean isRepeatable() {
-		return true;
+		return ! (output instanceof InputStream || output instanceof Reader);
 	}
 
+	@Override /* BasicHttpEntity */
+	public boolean isStreaming() {
+		return ! isRepeatable();
+	}
+
+	/**
+	 * Returns the body of this entity as an input stream.
+	 *
+	 * <p>
+	 * This method is not used when sending the request.
+	 * Repeatable entities are serialized into a new buffer on each call.
+	 */
 	@Override /* BasicHttpEntity */
 	public InputStream getContent() {
-		if (outputBytes == null) {
-			try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-				writeTo(baos);
-				outputBytes = baos.toByteArray();
-			} catch (IOException e) {
-				throw new RuntimeException(e);
-			}
+		if (output instanceof InputStream && encoder == null)
+			return (InputStream)output;
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			writeTo(baos);
+			return new ByteArrayInputStream(baos.toByteArray());
+		} catch (IOException e) {
+			throw new RuntimeException(e);
 		}
-		return new ByteArrayInputStream(outputBytes);
 	}
 }
@@ -0,0 +1,423 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.http.*;
+import org.apache.http.client.methods.*;
+import org.apache.http.entity.*;
+import org.apache.http.message.*;
+import org.apache.http.util.*;
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.parser.ParseException;
+
+/**
+ * A client-side cache of HTTP <code>GET</code> responses.
+ *
+ * <p>
+ * Responses are cached based on their <code>Cache-Control</code>, <code>Expires</code>, <code>ETag</code> and
+ * <code>Last-Modified</code> headers:
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		Fresh responses (as determined by <code>Cache-Control: max-age</code> or <code>Expires</code>) are returned
+ * 		without contacting the server.
+ * 	<li>
+ * 		Stale responses with an <code>ETag</code> or <code>Last-Modified</code> header are revalidated using
+ * 		<code>If-None-Match</code> or <code>If-Modified-Since</code>, and a <code>304 Not Modified</code> response
+ * 		returns the cached body.
+ * 	<li>
+ * 		Responses with <code>Cache-Control: no-store</code>, or without any freshness or validator headers, are not
+ * 		cached.
+ * </ul>
+ *
+ * <p>
+ * Entries are keyed on the request URI and the <code>Accept</code>, <code>Accept-Charset</code>,
+ * <code>Accept-Language</code> and <code>Authorization</code> headers.
+ * Keys are stored as digests, so credentials are never written to disk.
+ *
+ * <p>
+ * Objects parsed from a cached response through {@link RestCall#getResponse(Class)} and related methods are kept with
+ * the entry, so subsequent hits skip parsing as well as the network round trip.
+ * These objects are shared between calls and should not be modified.
+ *
+ * <p>
+ * Entries are held in memory in a bounded LRU map, and are optionally written to a directory so that they survive
+ * restarts of the client.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	RestClient client = RestClient.<jsm>create</jsm>()
+ * 		.responseCache(<jk>new</jk> RestResponseCache(1000))
+ * 		.build();
+ * </p>
+ */
+public class RestResponseCache {
+
+	/** Responses larger than this many bytes are not cached. */
+	public static final int MAX_ENTRY_SIZE = 1024 * 1024;
+
+	private static final String[] KEY_HEADERS = {"Accept", "Accept-Charset", "Accept-Language", "Authorization"};
+	private static final Set<String> SKIPPED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+	static {
+		SKIPPED_HEADERS.addAll(Arrays.asList("Content-Length", "Content-Encoding", "Transfer-Encoding", "Connection", "Keep-Alive"));
+	}
+
+	private final File dir;
+	private final Map<String,Entry> entries;
+
+	/**
+	 * Creates an in-memory cache.
+	 *
+	 * @param maxEntries The maximum number of entries to keep in memory.
+	 */
+	public RestResponseCache(int maxEntries) {
+		this(maxEntries, null);
+	}
+
+	/**
+	 * Creates a cache backed by the specified directory.
+	 *
+	 * @param maxEntries The maximum number of entries to keep in memory.
+	 * @param dir
+	 * 	The directory to write entries to.
+	 * 	Entries evicted from memory are reloaded from this directory when requested again.
+	 * 	<br>Can be <jk>null</jk> for an in-memory cache.
+	 */
+	public RestResponseCache(final int maxEntries, File dir) {
+		this.dir = dir;
+		if (dir != null && ! dir.exists() && ! dir.mkdirs())
+			throw new FormattedRuntimeException("Could not create cache directory ''{0}''", dir);
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<String,Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override /* LinkedHashMap */
+			protected boolean removeEldestEntry(Map.Entry<String,RestResponseCache.Entry> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	/**
+	 * Executes the specified request through this cache.
+	 *
+	 * @param client The client to use to execute requests that can't be answered from the cache.
+	 * @param req The HTTP request.
+	 * @return The HTTP response.
+	 * @throws Exception
+	 */
+	HttpResponse execute(RestClient client, HttpRequestBase req) throws Exception {
+		if (! req.getMethod().equals("GET") || hasDirective(req, "no-store"))
+			return client.execute(req);
+
+		// Conditional requests made by the caller are passed through untouched.
+		if (req.containsHeader("If-None-Match") || req.containsHeader("If-Modified-Since"))
+			return client.execute(req);
+
+		String key = getKey(req);
+		Entry e = get(key);
+		if (e != null) {
+			if (e.isFresh() && ! hasDirective(req, "no-cache"))
+				return e.toResponse();
+			if (e.etag != null)
+				req.setHeader("If-None-Match", e.etag);
+			else if (e.lastModified != null)
+				req.setHeader("If-Modified-Since", e.lastModified);
+		}
+
+		HttpResponse res;
+		try {
+			res = client.execute(req);
+		} finally {
+			// Don't leave our validators on the request in case it gets retried.
+			if (e != null) {
+				req.removeHeaders("If-None-Match");
+				req.removeHeaders("If-Modified-Since");
+			}
+		}
+		int sc = res.getStatusLine().getStatusCode();
+
+		if (sc == 304 && e != null) {
+			EntityUtils.consumeQuietly(res.getEntity());
+			e = e.revalidated(res);
+			put(key, e);
+			return e.toResponse();
+		}
+
+		if (sc != 200 || hasDirective(res, "no-store") || res.getEntity() == null)
+			return res;
+		long expires = getExpires(res);
+		String etag = getHeader(res, "ETag"), lastModified = getHeader(res, "Last-Modified");
+		if (expires == 0 && etag == null && lastModified == null)
+			return res;
+		long length = res.getEntity().getContentLength();
+		if (length > MAX_ENTRY_SIZE)
+			return res;
+
+		byte[] body = EntityUtils.toByteArray(res.getEntity());
+		if (body.length > MAX_ENTRY_SIZE) {
+			res.setEntity(new ByteArrayEntity(body));
+			return res;
+		}
+		List<Header> headers = new ArrayList<>();
+		for (Header h : res.getAllHeaders())
+			if (! SKIPPED_HEADERS.contains(h.getName()))
+				headers.add(h);
+		e = new Entry(res.getStatusLine(), headers.toArray(new Header[headers.size()]), body, expires, etag, lastModified);
+		put(key, e);
+		return e.toResponse();
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	public void clear() {
+		entries.clear();
+		if (dir != null) {
+			File[] files = dir.listFiles();
+			if (files != null)
+				for (File f : files)
+					if (f.getName().endsWith(".cache"))
+						f.delete();
+		}
+	}
+
+	/**
+	 * Returns the number of entries held in memory.
+	 *
+	 * @return The number of entries held in memory.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private Entry get(String key) {
+		Entry e = entries.get(key);
+		if (e == null && dir != null) {
+			e = load(key);
+			if (e != null)
+				entries.put(key, e);
+		}
+		return e;
+	}
+
+	private void put(String key, Entry e) {
+		entries.put(key, e);
+		if (dir != null)
+			save(key, e);
+	}
+
+	/*
+	 * Entry file format:  key, status line, expires, etag, last-modified, headers, body.
+	 */
+	private Entry load(String key) {
+		File f = new File(dir, key + ".cache");
+		if (! f.exists())
+			return null;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(f)))) {
+			if (! key.equals(in.readUTF()))
+				return null;
+			StatusLine sl = new BasicStatusLine(new ProtocolVersion(in.readUTF(), in.readInt(), in.readInt()), in.readInt(), in.readUTF());
+			long expires = in.readLong();
+			String etag = readString(in), lastModified = readString(in);
+			Header[] headers = new Header[in.readInt()];
+			for (int i = 0; i < headers.length; i++)
+				headers[i] = new BasicHeader(in.readUTF(), in.readUTF());
+			byte[] body = new byte[in.readInt()];
+			in.readFully(body);
+			return new Entry(sl, headers, body, expires, etag, lastModified);
+		} catch (IOException e) {
+			// Corrupt or partially written entry.
+			f.delete();
+			return null;
+		}
+	}
+
+	private void save(String key, Entry e) {
+		File f = new File(dir, key + ".cache"), tmp = new File(dir, key + ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+				out.writeUTF(key);
+				ProtocolVersion pv = e.statusLine.getProtocolVersion();
+				out.writeUTF(pv.getProtocol());
+				out.writeInt(pv.getMajor());
+				out.writeInt(pv.getMinor());
+				out.writeInt(e.statusLine.getStatusCode());
+				out.writeUTF(e.statusLine.getReasonPhrase() == null ? "" : e.statusLine.getReasonPhrase());
+				out.writeLong(e.expires);
+				writeString(out, e.etag);
+				writeString(out, e.lastModified);
+				out.writeInt(e.headers.length);
+				for (Header h : e.headers) {
+					out.writeUTF(h.getName());
+					out.writeUTF(h.getValue());
+				}
+				out.writeInt(e.body.length);
+				out.write(e.body);
+			}
+			if (! tmp.renameTo(f)) {
+				f.delete();
+				tmp.renameTo(f);
+			}
+		} catch (IOException x) {
+			// The disk cache is best-effort.
+			tmp.delete();
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException {
+		out.writeBoolean(s != null);
+		if (s != null)
+			out.writeUTF(s);
+	}
+
+	private static String getKey(HttpRequestBase req) throws NoSuchAlgorithmException {
+		MessageDigest md = MessageDigest.getInstance("SHA-256");
+		md.update(req.getURI().toString().getBytes(IOUtils.UTF8));
+		for (String h : KEY_HEADERS) {
+			md.update((byte)0);
+			Header h2 = req.getFirstHeader(h);
+			if (h2 != null)
+				md.update(h2.getValue().getBytes(IOUtils.UTF8));
+		}
+		return toHex(md.digest());
+	}
+
+	private static String getHeader(HttpMessage m, String name) {
+		Header h = m.getFirstHeader(name);
+		return h == null ? null : h.getValue();
+	}
+
+	private static boolean hasDirective(HttpMessage m, String directive) {
+		for (Header h : m.getHeaders("Cache-Control"))
+			for (HeaderElement he : h.getElements())
+				if (he.getName().equalsIgnoreCase(directive))
+					return true;
+		return false;
+	}
+
+	/*
+	 * Returns the time the response expires, or 0 if it must be revalidated before use.
+	 */
+	private static long getExpires(HttpResponse res) {
+		if (hasDirective(res, "no-cache"))
+			return 0;
+		for (Header h : res.getHeaders("Cache-Control")) {
+			for (HeaderElement he : h.getElements()) {
+				if (he.getName().equalsIgnoreCase("max-age") && he.getValue() != null) {
+					try {
+						return System.currentTimeMillis() + Long.parseLong(he.getValue().trim()) * 1000;
+					} catch (NumberFormatException e) {
+						return 0;
+					}
+				}
+			}
+		}
+		String expires = getHeader(res, "Expires");
+		if (expires != null) {
+			Date d = DateUtils.parseDate(expires);
+			return d == null ? 0 : d.getTime();
+		}
+		return 0;
+	}
+
+	/**
+	 * A single cached response.
+	 */
+	static final class Entry {
+		final StatusLine statusLine;
+		final Header[] headers;
+		final byte[] body;
+		final long expires;
+		final String etag, lastModified;
+		private final ConcurrentHashMap<List<Object>,Object> parsed = new ConcurrentHashMap<>();
+
+		Entry(StatusLine statusLine, Header[] headers, byte[] body, long expires, String etag, String lastModified) {
+			this.statusLine = statusLine;
+			this.headers = headers;
+			this.body = body;
+			this.expires = expires;
+			this.etag = etag;
+			this.lastModified = lastModified;
+		}
+
+		boolean isFresh() {
+			return expires > System.currentTimeMillis();
+		}
+
+		/*
+		 * Returns a copy of this entry with freshness and validators updated from a 304 response.
+		 * Parsed objects are retained since the body didn't change.
+		 */
+		Entry revalidated(HttpResponse res) {
+			String etag2 = getHeader(res, "ETag"), lastModified2 = getHeader(res, "Last-Modified");
+			Entry e = new Entry(statusLine, headers, body, getExpires(res), etag2 == null ? etag : etag2, lastModified2 == null ? lastModified : lastModified2);
+			e.parsed.putAll(parsed);
+			return e;
+		}
+
+		HttpResponse toResponse() {
+			CachedResponse r = new CachedResponse(statusLine, this);
+			r.setHeaders(headers);
+			ByteArrayEntity entity = new ByteArrayEntity(body);
+			Header ct = r.getFirstHeader("Content-Type");
+			if (ct != null)
+				entity.setContentType(ct);
+			r.setEntity(entity);
+			return r;
+		}
+
+		/**
+		 * Returns the object previously parsed from this entry, or parses and remembers it.
+		 */
+		@SuppressWarnings("unchecked")
+		<T> T getParsed(Parser p, ClassMeta<T> type, Callable<T> parse) throws IOException, ParseException {
+			List<Object> key = Arrays.<Object>asList(p, type);
+			Object o = parsed.get(key);
+			if (o == null) {
+				try {
+					o = parse.call();
+				} catch (IOException | ParseException | RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new IOException(e);
+				}
+				if (o != null)
+					parsed.putIfAbsent(key, o);
+			}
+			return (T)o;
+		}
+	}
+
+	/**
+	 * An HTTP response created from a cached entry.
+	 */
+	static final class CachedResponse extends BasicHttpResponse {
+		final Entry entry;
+
+		CachedResponse(StatusLine statusLine, Entry entry) {
+			super(statusLine);
+			this.entry = entry;
+		}
+	}
+}
@@ -19,6 +19,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import static org.apache.juneau.internal.Utils.*;
 import static org.apache.juneau.rest.annotation.Inherit.*;
 
+import java.io.*;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.util.*;
@@ -65,6 +66,8 @@ class CallMethod implements Comparable<CallMethod>  {
 	private final RestContext context;
 	private final BeanContext beanContext;
 	private final Map<String,Widget> widgets;
+	private final ResponseCache responseCache;
+	private final CallMetrics metrics;
 
 	CallMethod(Object servlet, java.lang.reflect.Method method, RestContext context) throws RestServletException {
 		Builder b = new Builder(servlet, method, context);
@@ -97,6 +100,8 @@ class CallMethod implements Comparable<CallMethod>  {
 		this.parameters = b.parameters;
 		this.responses = b.responses;
 		this.widgets = Collections.unmodifiableMap(b.widgets);
+		this.responseCache = b.responseCache;
+		this.metrics = context.getMetrics().forMethod(httpMethod, pathPattern.getPatternString());
 	}
 
 	private static final class Builder  {
@@ -119,6 +124,7 @@ class CallMethod implements Comparable<CallMethod>  {
 		org.apache.juneau.rest.annotation.Parameter[] parameters;
 		Response[] responses;
 		Map<String,Widget> widgets;
+		ResponseCache responseCache;
 
 		Builder(Object servlet, java.lang.reflect.Method method, RestContext context) throws RestServletException {
 			String sig = method.getDeclaringClass().getName() + '.' + method.getName();
@@ -200,6 +206,9 @@ class CallMethod implements Comparable<CallMethod>  {
 
 				priority = m.priority();
 
+				if (m.cacheTtl() > 0 && (httpMethod.equals("GET") || httpMethod.equals("OPTIONS")))
+					responseCache = new ResponseCache(m.cacheTtl() * 1000L, m.cacheMaxEntries(), m.cacheAuthenticated());
+
 				String p = m.path();
 				converters = new RestConverter[m.converters().length];
 				for (int i = 0; i < converters.length; i++)
@@ -302,7 +311,7 @@ class CallMethod implements Comparable<CallMethod>  {
 				}
 
 				if (m.encoders().length > 0 || ! m.inheritEncoders()) {
-					EncoderGroupBuilder g = EncoderGroup.create();
+					EncoderGroupBuilder g = EncoderGroup.create().minCompressionSize(encoders.getMinCompressionSize());
 					if (m.inheritEncoders())
 						g.append(encoders);
 					else
@@ -740,6 +749,14 @@ class CallMethod implements Comparable<CallMethod>  {
 		return true;
 	}
 
+	/**
+	 * Removes all cached responses for this method.
+	 */
+	void clearResponseCache() {
+		if (responseCache != null)
+			responseCache.clear();
+	}
+
 	/**
 	 * Workhorse method.
 	 *
@@ -782,8 +799,38 @@ class CallMethod implements Comparable<CallMethod>  {
 				return SC_PRECONDITION_FAILED;
 		}
 
+		req.callMetrics = metrics;
+		req.routedTime = System.nanoTime();
+
 		context.preCall(req, res);
 
+		if (responseCache != null && responseCache.isCacheable(req)) {
+			String cacheKey = ResponseCache.getKey(req);
+			if (httpMethod.equals("OPTIONS")) {
+				// The Swagger document depends on which methods the user is allowed to see.
+				String swaggerKey = context.getInfoProvider().getSwaggerCacheKey(req);
+				cacheKey = swaggerKey == null ? null : cacheKey + '\n' + swaggerKey;
+			}
+			ResponseCache.Entry e = cacheKey == null ? null : responseCache.get(cacheKey);
+			if (e == null) {
+				if (cacheKey != null)
+					res.startCapture(responseCache, cacheKey);
+			} else {
+				try {
+					req.resolvedTime = System.nanoTime();
+					for (RestGuard guard : guards)
+						if (! guard.guard(req, res))
+							return SC_OK;
+					context.postCall(req, res);
+					req.invokedTime = System.nanoTime();
+					e.send(req, res);
+				} catch (IOException e2) {
+					throw new RestException(SC_INTERNAL_SERVER_ERROR, e2);
+				}
+				return SC_OK;
+			}
+		}
+
 		Object[] args = new Object[params.length];
 		for (int i = 0; i < params.length; i++) {
 			try {
@@ -798,6 +845,8 @@ class CallMethod implements Comparable<CallMethod>  {
 			}
 		}
 
+		req.resolvedTime = System.nanoTime();
+
 		try {
 
 			for (RestGuard guard : guards)
@@ -817,6 +866,9 @@ class CallMethod implements Comparable<CallMethod>  {
 					output = converter.convert(req, output, beanContext.getClassMetaForObject(output));
 				res.setOutput(output);
 			}
+
+			req.invokedTime = System.nanoTime();
+
 		} catch (IllegalArgumentException e) {
 			throw new RestException(SC_BAD_REQUEST,
 				"Invalid argument type passed to the following method: ''{0}''.\n\tArgument types: {1}",
@@ -0,0 +1,209 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * Call counters and latency histograms for a single Java REST method, or for all calls on a resource.
+ *
+ * <p>
+ * Latencies are broken down into the following phases:
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		<b>routing</b> - From the start of {@link RestCallHandler#service(javax.servlet.http.HttpServletRequest,javax.servlet.http.HttpServletResponse)}
+ * 		until the request has been matched to a Java method and passed its class-level guards and matchers.
+ * 	<li>
+ * 		<b>params</b> - Resolving the Java method arguments (including parsing of the request body).
+ * 	<li>
+ * 		<b>invoke</b> - Invoking the Java method, the {@link HookEvent#POST_CALL} hooks and method-level
+ * 		converters.
+ * 	<li>
+ * 		<b>serialize</b> - Converting, serializing and writing the response.
+ * </ul>
+ *
+ * <p>
+ * Phases are only recorded for calls that reach them.
+ * For example, a call that fails with a parse error while resolving its parameters will record routing and params
+ * times, but not invoke or serialize times.
+ *
+ * <p>
+ * Instances are obtained through {@link RestMetrics}.
+ */
+public final class CallMetrics {
+
+	private final String name;
+	private volatile long startTime = System.currentTimeMillis();
+	private final AtomicLong calls = new AtomicLong(), errors = new AtomicLong();
+	private final LatencyHistogram
+		total = new LatencyHistogram(),
+		routing = new LatencyHistogram(),
+		params = new LatencyHistogram(),
+		invoke = new LatencyHistogram(),
+		serialize = new LatencyHistogram();
+
+	CallMetrics(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Records a completed call.
+	 *
+	 * <p>
+	 * Times are values of {@link System#nanoTime()}.
+	 * A value of <code>0</code> indicates the call did not reach the end of that phase.
+	 *
+	 * @param start When the call started.
+	 * @param routed When the call was matched to a Java method.
+	 * @param resolved When the Java method arguments were resolved.
+	 * @param invoked When the Java method finished.
+	 * @param end When the response was written.
+	 * @param error Whether the call resulted in a <code>4xx</code> or <code>5xx</code> status.
+	 */
+	void record(long start, long routed, long resolved, long invoked, long end, boolean error) {
+		calls.incrementAndGet();
+		if (error)
+			errors.incrementAndGet();
+		total.record(end - start);
+		if (routed == 0)
+			return;
+		routing.record(routed - start);
+		if (resolved == 0)
+			return;
+		params.record(resolved - routed);
+		if (invoked == 0)
+			return;
+		invoke.record(invoked - resolved);
+		serialize.record(end - invoked);
+	}
+
+	/**
+	 * Returns the name of this metric.
+	 *
+	 * @return The name of this metric (e.g. <js>"GET /foo/{bar}"</js>).
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the total number of calls.
+	 *
+	 * @return The total number of calls.
+	 */
+	public long getCalls() {
+		return calls.get();
+	}
+
+	/**
+	 * Returns the number of calls that resulted in a <code>4xx</code> or <code>5xx</code> status.
+	 *
+	 * @return The number of failed calls.
+	 */
+	public long getErrors() {
+		return errors.get();
+	}
+
+	/**
+	 * Returns the average number of calls per second since these metrics were created or last reset.
+	 *
+	 * @return The average number of calls per second.
+	 */
+	public double getThroughput() {
+		long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+		return calls.get() * 1000d / elapsed;
+	}
+
+	/**
+	 * Returns the histogram of end-to-end latencies.
+	 *
+	 * @return The histogram of end-to-end latencies.
+	 */
+	public LatencyHistogram getTotal() {
+		return total;
+	}
+
+	/**
+	 * Returns the histogram of routing latencies.
+	 *
+	 * @return The histogram of routing latencies.
+	 */
+	public LatencyHistogram getRouting() {
+		return routing;
+	}
+
+	/**
+	 * Returns the histogram of parameter resolution latencies.
+	 *
+	 * @return The histogram of parameter resolution latencies.
+	 */
+	public LatencyHistogram getParams() {
+		return params;
+	}
+
+	/**
+	 * Returns the histogram of Java method invocation latencies.
+	 *
+	 * @return The histogram of Java method invocation latencies.
+	 */
+	public LatencyHistogram getInvoke() {
+		return invoke;
+	}
+
+	/**
+	 * Returns the histogram of response serialization latencies.
+	 *
+	 * @return The histogram of response serialization latencies.
+	 */
+	public LatencyHistogram getSerialize() {
+		return serialize;
+	}
+
+	/**
+	 * Clears all counters and histograms.
+	 */
+	public void reset() {
+		startTime = System.currentTimeMillis();
+		calls.set(0);
+		errors.set(0);
+		for (LatencyHistogram h : new LatencyHistogram[]{total, routing, params, invoke, serialize})
+			h.reset();
+	}
+
+	/**
+	 * Returns a summary of these metrics.
+	 *
+	 * @return A map of counters and histogram summaries suitable for serialization.
+	 */
+	public ObjectMap toMap() {
+		long c = getCalls();
+		return new ObjectMap()
+			.append("calls", c)
+			.append("errors", getErrors())
+			.append("errorRate", c == 0 ? 0d : getErrors() / (double)c)
+			.append("throughput", getThroughput())
+			.append("total", total.toMap())
+			.append("routing", routing.toMap())
+			.append("params", params.toMap())
+			.append("invoke", invoke.toMap())
+			.append("serialize", serialize.toMap());
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return name + ": " + toMap();
+	}
+}
@@ -0,0 +1,162 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+
+/**
+ * A lock-free histogram of latencies.
+ *
+ * <p>
+ * Values are recorded in nanoseconds and stored in microsecond buckets using a log-linear layout similar to
+ * HdrHistogram:  values below <code>16&micro;s</code> are counted exactly, and larger values are counted in
+ * buckets whose width is 1/8th of their power of two, giving a worst-case error of 12.5% over the full
+ * range of <jk>long</jk> values in a fixed array of counters.
+ *
+ * <p>
+ * Recording is wait-free apart from tracking the maximum value, and never allocates.
+ * Snapshots taken while values are being recorded are approximate.
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKETS = 8;
+	private static final int NUM_BUCKETS = (64 - 3) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+	private final AtomicLong sum = new AtomicLong(), max = new AtomicLong();
+
+	/**
+	 * Records a single value.
+	 *
+	 * @param nanos The latency in nanoseconds.  Negative values are treated as zero.
+	 */
+	public void record(long nanos) {
+		long micros = Math.max(0, nanos / 1000);
+		buckets.incrementAndGet(index(micros));
+		sum.addAndGet(micros);
+		long m = max.get();
+		while (micros > m && ! max.compareAndSet(m, micros))
+			m = max.get();
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 *
+	 * @return The number of recorded values.
+	 */
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < NUM_BUCKETS; i++)
+			count += buckets.get(i);
+		return count;
+	}
+
+	/**
+	 * Returns the largest recorded value.
+	 *
+	 * @return The largest recorded value in microseconds.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the mean of the recorded values.
+	 *
+	 * @return The mean of the recorded values in microseconds, or <code>0</code> if no values have been recorded.
+	 */
+	public long getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : sum.get() / count;
+	}
+
+	/**
+	 * Returns the value at the specified percentile.
+	 *
+	 * @param percentile The percentile (e.g. <code>99.9</code>).
+	 * @return
+	 * 	The upper bound in microseconds of the bucket containing the specified percentile, or <code>0</code> if no
+	 * 	values have been recorded.
+	 */
+	public long getPercentile(double percentile) {
+		long[] counts = new long[NUM_BUCKETS];
+		long count = 0;
+		for (int i = 0; i < NUM_BUCKETS; i++)
+			count += (counts[i] = buckets.get(i));
+		if (count == 0)
+			return 0;
+		long target = Math.max(1, (long)Math.ceil(Math.min(100, percentile) / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= target)
+				return Math.min(upperBound(i), getMax());
+		}
+		return getMax();
+	}
+
+	/**
+	 * Clears all recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < NUM_BUCKETS; i++)
+			buckets.set(i, 0);
+		sum.set(0);
+		max.set(0);
+	}
+
+	/**
+	 * Returns a summary of this histogram.
+	 *
+	 * @return
+	 * 	A map containing the <js>"count"</js>, <js>"mean"</js>, <js>"p50"</js>, <js>"p90"</js>, <js>"p99"</js>,
+	 * 	<js>"p999"</js> and <js>"max"</js> values.
+	 * 	<br>Latencies are in microseconds.
+	 */
+	public ObjectMap toMap() {
+		return new ObjectMap()
+			.append("count", getCount())
+			.append("mean", getMean())
+			.append("p50", getPercentile(50))
+			.append("p90", getPercentile(90))
+			.append("p99", getPercentile(99))
+			.append("p999", getPercentile(99.9))
+			.append("max", getMax());
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return toMap().toString();
+	}
+
+	/*
+	 * Values below 16 map directly to buckets 0-15.
+	 * Larger values keep their top 4 bits, so each power of two is split into 8 linear sub-buckets.
+	 */
+	static int index(long v) {
+		if (v < SUB_BUCKETS * 2)
+			return (int)v;
+		int shift = 60 - Long.numberOfLeadingZeros(v);
+		return shift * SUB_BUCKETS + (int)(v >>> shift);
+	}
+
+	static long upperBound(int index) {
+		if (index < SUB_BUCKETS * 2)
+			return index;
+		int shift = index / SUB_BUCKETS - 1;
+		long top = index % SUB_BUCKETS + SUB_BUCKETS;
+		return ((top + 1) << shift) - 1;
+	}
+}
@@ -18,6 +18,8 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.lang.reflect.*;
 import java.util.*;
 
+import javax.servlet.http.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
 import org.apache.juneau.http.Date;
@@ -31,6 +33,12 @@ import org.apache.juneau.urlencoding.*;
  *
  * <p>
  * Entries are stored in a case-insensitive map.
+ *
+ * <p>
+ * When created from an {@link HttpServletRequest}, header values are fetched from the servlet request on first access
+ * by name.
+ * All the headers are only copied into this map when the map is iterated, queried for its size, or has entries
+ * removed.
  */
 public class RequestHeaders extends TreeMap<String,String[]> {
 	private static final long serialVersionUID = 1L;
@@ -38,11 +46,17 @@ public class RequestHeaders extends TreeMap<String,String[]> {
 	private UrlEncodingParser parser;
 	private BeanSession beanSession;
 	private RequestQuery queryParams;
+	private transient HttpServletRequest req;  // Source of headers not yet copied into this map.
 
 	RequestHeaders() {
 		super(String.CASE_INSENSITIVE_ORDER);
 	}
 
+	RequestHeaders(HttpServletRequest req) {
+		this();
+		this.req = req;
+	}
+
 	RequestHeaders setParser(UrlEncodingParser parser) {
 		this.parser = parser;
 		return this;
@@ -87,17 +101,268 @@ public class RequestHeaders extends TreeMap<String,String[]> {
 	 * @return This object (for method chaining).
 	 */
 	public RequestHeaders put(String name, Enumeration<String> values) {
-		// Optimized for enumerations of one entry, the most-common case.
-		if (values.hasMoreElements()) {
-			String v = values.nextElement();
-			String[] s = new String[]{v};
-			while (values.hasMoreElements())
-				s = append(s, values.nextElement());
+		String[] s = toArray(values);
+		if (s != null)
 			put(name, s);
-		}
 		return this;
 	}
 
+	private static String[] toArray(Enumeration<String> values) {
+		// Optimized for enumerations of one entry, the most-common case.
+		if (values == null || ! values.hasMoreElements())
+			return null;
+		String v = values.nextElement();
+		String[] s = new String[]{v};
+		while (values.hasMoreElements())
+			s = append(s, values.nextElement());
+		return s;
+	}
+
+	/*
+	 * Copies all the headers from the servlet request into this map.
+	 * Values that were explicitly set on this map take precedence, but header names keep the case they have in the
+	 * request.
+	 */
+	private void load() {
+		if (req == null)
+			return;
+		HttpServletRequest r = req;
+		req = null;
+		Map<String,String[]> explicit = null;
+		if (! super.isEmpty()) {
+			explicit = new LinkedHashMap<>();
+			for (Map.Entry<String,String[]> e : super.entrySet())
+				explicit.put(e.getKey(), e.getValue());
+			super.clear();
+		}
+		for (Enumeration<String> e = r.getHeaderNames(); e.hasMoreElements();) {
+			String name = e.nextElement();
+			String[] v = toArray(r.getHeaders(name));
+			if (v != null)
+				super.put(name, v);
+		}
+		if (explicit != null)
+			for (Map.Entry<String,String[]> e : explicit.entrySet())
+				super.put(e.getKey(), e.getValue());
+	}
+
+	@Override /* Map */
+	public String[] get(Object key) {
+		String[] v = super.get(key);
+		if (v == null && req != null && key instanceof String && ! super.containsKey(key))
+			v = toArray(req.getHeaders((String)key));
+		return v;
+	}
+
+	@Override /* Map */
+	public boolean containsKey(Object key) {
+		return super.containsKey(key) || (req != null && get(key) != null);
+	}
+
+	@Override /* Map */
+	public String[] remove(Object key) {
+		load();
+		return super.remove(key);
+	}
+
+	@Override /* Map */
+	public void clear() {
+		req = null;
+		super.clear();
+	}
+
+	@Override /* Map */
+	public int size() {
+		load();
+		return super.size();
+	}
+
+	@Override /* Map */
+	public boolean isEmpty() {
+		load();
+		return super.isEmpty();
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		load();
+		return super.containsValue(value);
+	}
+
+	@Override /* Map */
+	public Set<String> keySet() {
+		load();
+		return super.keySet();
+	}
+
+	@Override /* Map */
+	public Collection<String[]> values() {
+		load();
+		return super.values();
+	}
+
+	@Override /* Map */
+	public Set<Map.Entry<String,String[]>> entrySet() {
+		load();
+		return super.entrySet();
+	}
+
+	@Override /* NavigableMap */
+	public NavigableSet<String> navigableKeySet() {
+		load();
+		return super.navigableKeySet();
+	}
+
+	@Override /* NavigableMap */
+	public NavigableSet<String> descendingKeySet() {
+		load();
+		return super.descendingKeySet();
+	}
+
+	@Override /* NavigableMap */
+	public NavigableMap<String,String[]> descendingMap() {
+		load();
+		return super.descendingMap();
+	}
+
+	@Override /* SortedMap */
+	public String firstKey() {
+		load();
+		return super.firstKey();
+	}
+
+	@Override /* SortedMap */
+	public String lastKey() {
+		load();
+		return super.lastKey();
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> firstEntry() {
+		load();
+		return super.firstEntry();
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> lastEntry() {
+		load();
+		return super.lastEntry();
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> pollFirstEntry() {
+		load();
+		return super.pollFirstEntry();
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> pollLastEntry() {
+		load();
+		return super.pollLastEntry();
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> lowerEntry(String key) {
+		load();
+		return super.lowerEntry(key);
+	}
+
+	@Override /* NavigableMap */
+	public String lowerKey(String key) {
+		load();
+		return super.lowerKey(key);
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> floorEntry(String key) {
+		load();
+		return super.floorEntry(key);
+	}
+
+	@Override /* NavigableMap */
+	public String floorKey(String key) {
+		load();
+		return super.floorKey(key);
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> ceilingEntry(String key) {
+		load();
+		return super.ceilingEntry(key);
+	}
+
+	@Override /* NavigableMap */
+	public String ceilingKey(String key) {
+		load();
+		return super.ceilingKey(key);
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> higherEntry(String key) {
+		load();
+		return super.higherEntry(key);
+	}
+
+	@Override /* NavigableMap */
+	public String higherKey(String key) {
+		load();
+		return super.higherKey(key);
+	}
+
+	@Override /* NavigableMap */
+	public NavigableMap<String,String[]> subMap(String fromKey, boolean fromInclusive, String toKey, boolean toInclusive) {
+		load();
+		return super.subMap(fromKey, fromInclusive, toKey, toInclusive);
+	}
+
+	@Override /* NavigableMap */
+	public NavigableMap<String,String[]> headMap(String toKey, boolean inclusive) {
+		load();
+		return super.headMap(toKey, inclusive);
+	}
+
+	@Override /* NavigableMap */
+	public NavigableMap<String,String[]> tailMap(String fromKey, boolean inclusive) {
+		load();
+		return super.tailMap(fromKey, inclusive);
+	}
+
+	@Override /* SortedMap */
+	public SortedMap<String,String[]> subMap(String fromKey, String toKey) {
+		load();
+		return super.subMap(fromKey, toKey);
+	}
+
+	@Override /* SortedMap */
+	public SortedMap<String,String[]> headMap(String toKey) {
+		load();
+		return super.headMap(toKey);
+	}
+
+	@Override /* SortedMap */
+	public SortedMap<String,String[]> tailMap(String fromKey) {
+		load();
+		return super.tailMap(fromKey);
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		load();
+		return super.clone();
+	}
+
+	@Override /* Object */
+	public boolean equals(Object o) {
+		load();
+		return super.equals(o);
+	}
+
+	@Override /* Object */
+	public int hashCode() {
+		load();
+		return super.hashCode();
+	}
+
 	/**
 	 * Returns the specified header value, or <jk>null</jk> if the header doesn't exist.
 	 *
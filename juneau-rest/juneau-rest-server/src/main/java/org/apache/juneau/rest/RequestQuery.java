@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest;
 
+import static javax.servlet.http.HttpServletResponse.*;
 import static org.apache.juneau.internal.ArrayUtils.*;
 
 import java.lang.reflect.*;
@@ -29,6 +30,11 @@ import org.apache.juneau.xml.*;
 
 /**
  * Represents the query parameters in an HTTP request.
+ *
+ * <p>
+ * When created from an {@link HttpServletRequest}, parameter values are looked up on the servlet request by name.
+ * The parameters are only copied into this map when the map is iterated, queried for its size, or has entries
+ * removed.
  */
 @SuppressWarnings("unchecked")
 public final class RequestQuery extends LinkedHashMap<String,String[]> {
@@ -36,6 +42,25 @@ public final class RequestQuery extends LinkedHashMap<String,String[]> {
 
 	private UrlEncodingParser parser;
 	private BeanSession beanSession;
+	private transient HttpServletRequest req;           // Source of parameters not yet copied into this map.
+	private transient UrlEncodingParser queryParser;    // If set, parameters are parsed from the raw query string.
+
+	RequestQuery() {}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param req The servlet request to lazily load the parameters from.
+	 * @param queryParser
+	 * 	If not <jk>null</jk>, the parameters are parsed from {@link HttpServletRequest#getQueryString()} using this
+	 * 	parser instead of being retrieved through {@link HttpServletRequest#getParameterValues(String)}.
+	 * 	<br>Used for POST requests to prevent the servlet from processing the HTTP body as URL-Encoded parameters.
+	 */
+	RequestQuery(HttpServletRequest req, UrlEncodingParser queryParser) {
+		this.queryParser = queryParser;
+		if (queryParser == null || req.getQueryString() != null)
+			this.req = req;
+	}
 
 	RequestQuery setParser(UrlEncodingParser parser) {
 		this.parser = parser;
@@ -47,6 +72,128 @@ public final class RequestQuery extends LinkedHashMap<String,String[]> {
 		return this;
 	}
 
+	/*
+	 * Copies all the parameters from the servlet request into this map.
+	 * Values that were explicitly set on this map take precedence, but parameters keep the order they have in the
+	 * request.
+	 */
+	private void load() {
+		if (req == null)
+			return;
+		HttpServletRequest r = req;
+		req = null;
+		Map<String,String[]> explicit = null;
+		if (! super.isEmpty()) {
+			explicit = new LinkedHashMap<>();
+			for (Map.Entry<String,String[]> e : super.entrySet())
+				explicit.put(e.getKey(), e.getValue());
+			super.clear();
+		}
+		try {
+			if (queryParser != null)
+				queryParser.parseIntoSimpleMap(r.getQueryString(), this);
+			else
+				super.putAll(r.getParameterMap());
+		} catch (Exception e) {
+			throw new RestException(SC_BAD_REQUEST, e);
+		}
+		if (explicit != null)
+			super.putAll(explicit);
+	}
+
+	@Override /* Map */
+	public String[] get(Object key) {
+		String[] v = super.get(key);
+		if (v == null && req != null && ! super.containsKey(key)) {
+			if (queryParser != null) {
+				load();
+				return super.get(key);
+			}
+			if (key instanceof String)
+				return req.getParameterValues((String)key);
+		}
+		return v;
+	}
+
+	@Override /* Map */
+	public boolean containsKey(Object key) {
+		if (super.containsKey(key))
+			return true;
+		if (req == null)
+			return false;
+		if (queryParser != null) {
+			load();
+			return super.containsKey(key);
+		}
+		return key instanceof String && req.getParameterValues((String)key) != null;
+	}
+
+	@Override /* Map */
+	public String[] remove(Object key) {
+		load();
+		return super.remove(key);
+	}
+
+	@Override /* Map */
+	public void clear() {
+		req = null;
+		super.clear();
+	}
+
+	@Override /* Map */
+	public int size() {
+		load();
+		return super.size();
+	}
+
+	@Override /* Map */
+	public boolean isEmpty() {
+		load();
+		return super.isEmpty();
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		load();
+		return super.containsValue(value);
+	}
+
+	@Override /* Map */
+	public Set<String> keySet() {
+		load();
+		return super.keySet();
+	}
+
+	@Override /* Map */
+	public Collection<String[]> values() {
+		load();
+		return super.values();
+	}
+
+	@Override /* Map */
+	public Set<Map.Entry<String,String[]>> entrySet() {
+		load();
+		return super.entrySet();
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		load();
+		return super.clone();
+	}
+
+	@Override /* Object */
+	public boolean equals(Object o) {
+		load();
+		return super.equals(o);
+	}
+
+	@Override /* Object */
+	public int hashCode() {
+		load();
+		return super.hashCode();
+	}
+
 	/**
 	 * Create a copy of the request query parameters.
 	 */
@@ -0,0 +1,196 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * Bounded cache of serialized responses for a single {@link RestMethod @RestMethod} GET or OPTIONS method.
+ *
+ * <p>
+ * Entries are keyed on the request URI, query string, and the <code>Accept</code>, <code>Accept-Encoding</code>,
+ * <code>Accept-Charset</code> and <code>Accept-Language</code> headers, and hold the final encoded bytes of the response body along with
+ * generated <code>ETag</code> and <code>Last-Modified</code> validators.
+ *
+ * <p>
+ * Requests containing <code>Authorization</code> or <code>Cookie</code> headers are neither served from nor stored in
+ * the cache unless {@link RestMethod#cacheAuthenticated()} is enabled, since those headers are not part of the key.
+ * All responses served through the cache carry a <code>Vary</code> header naming the headers that are part of the key.
+ *
+ * <p>
+ * Entries expire after {@link RestMethod#cacheTtl()} seconds, and the least-recently-used entry is evicted once
+ * {@link RestMethod#cacheMaxEntries()} is exceeded.
+ */
+final class ResponseCache {
+
+	/** The value of the <code>Vary</code> header sent on cached responses. */
+	static final String VARY = "Accept, Accept-Encoding, Accept-Charset, Accept-Language";
+
+	private final long ttl;
+	private final int maxEntries;
+	private final boolean cacheAuthenticated;
+	private final LinkedHashMap<String,Entry> entries;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ttl The time-to-live of entries in milliseconds.
+	 * @param maxEntries The maximum number of entries to keep in the cache.
+	 * @param cacheAuthenticated Whether requests with <code>Authorization</code> or <code>Cookie</code> headers are
+	 * 	cached.
+	 */
+	ResponseCache(long ttl, final int maxEntries, boolean cacheAuthenticated) {
+		this.ttl = ttl;
+		this.maxEntries = maxEntries;
+		this.cacheAuthenticated = cacheAuthenticated;
+		this.entries = new LinkedHashMap<String,Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override /* LinkedHashMap */
+			protected boolean removeEldestEntry(Map.Entry<String,ResponseCache.Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified request can be served from or stored in this cache.
+	 *
+	 * <p>
+	 * Requests that identify the caller are excluded unless the method has opted in, since the caller identity is not
+	 * part of the cache key.
+	 *
+	 * @param req The HTTP request.
+	 * @return <jk>true</jk> if the request can use this cache.
+	 */
+	boolean isCacheable(RestRequest req) {
+		return cacheAuthenticated || (req.getHeader("Authorization") == null && req.getHeader("Cookie") == null);
+	}
+
+	/**
+	 * Returns the cache key for the specified request.
+	 *
+	 * @param req The HTTP request.
+	 * @return The cache key.
+	 */
+	static String getKey(RestRequest req) {
+		StringBuilder sb = new StringBuilder(req.getRequestURI());
+		String q = req.getQueryString();
+		if (q != null)
+			sb.append('?').append(q);
+		return sb
+			.append('\n').append(req.getHeader("Accept"))
+			.append('\n').append(req.getHeader("Accept-Encoding"))
+			.append('\n').append(req.getHeader("Accept-Charset"))
+			.append('\n').append(req.getHeader("Accept-Language"))
+			.toString();
+	}
+
+	/**
+	 * Returns the unexpired entry with the specified key.
+	 *
+	 * @param key The cache key.
+	 * @return The cached entry, or <jk>null</jk> if not found or expired.
+	 */
+	synchronized Entry get(String key) {
+		Entry e = entries.get(key);
+		if (e != null && e.expires < System.currentTimeMillis()) {
+			entries.remove(key);
+			e = null;
+		}
+		return e;
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Creates and stores a new entry.
+	 *
+	 * @param key The cache key.
+	 * @param contentType The value of the <code>Content-Type</code> header.
+	 * @param headers Any other headers that were set while producing the response.
+	 * @param content The encoded response body.
+	 * @return The new entry.
+	 */
+	Entry put(String key, String contentType, Map<String,String> headers, byte[] content) {
+		long now = System.currentTimeMillis();
+		Entry e = new Entry(contentType, headers, content, now / 1000 * 1000, now + ttl);
+		if (maxEntries > 0) {
+			synchronized(this) {
+				entries.put(key, e);
+			}
+		}
+		return e;
+	}
+
+	/**
+	 * A single cached response.
+	 */
+	static final class Entry {
+		final String contentType, etag, lastModified;
+		final Map<String,String> headers;
+		final byte[] content;
+		final long lastModifiedTime, expires;
+
+		Entry(String contentType, Map<String,String> headers, byte[] content, long lastModifiedTime, long expires) {
+			this.contentType = contentType;
+			this.headers = headers;
+			this.content = content;
+			this.etag = '"' + RestUtils.getEntityTag(content) + '"';
+			this.lastModifiedTime = lastModifiedTime;
+			this.lastModified = DateUtils.formatDate(new Date(lastModifiedTime));
+			this.expires = expires;
+		}
+
+		/**
+		 * Returns <jk>true</jk> if the conditional headers on the request indicate the client already has this
+		 * response.
+		 */
+		boolean isNotModified(RestRequest req) {
+			return RestUtils.isNotModified(req.getHeaders(), etag.substring(1, etag.length()-1), lastModifiedTime);
+		}
+
+		/**
+		 * Writes this entry to the specified response, or sends a <code>304</code> if the client already has it.
+		 *
+		 * @param req The HTTP request.
+		 * @param res The HTTP response.
+		 * @throws IOException
+		 */
+		void send(RestRequest req, RestResponse res) throws IOException {
+			res.setHeader("Vary", VARY);
+			res.setHeader("ETag", etag);
+			res.setHeader("Last-Modified", lastModified);
+			if (isNotModified(req)) {
+				res.setStatus(SC_NOT_MODIFIED);
+				return;
+			}
+			if (contentType != null)
+				res.setContentType(contentType);
+			for (Map.Entry<String,String> e : headers.entrySet())
+				res.setHeader(e.getKey(), e.getValue());
+			res.setContentLength(content.length);
+			res.getOutputStream().write(content);
+		}
+	}
+}
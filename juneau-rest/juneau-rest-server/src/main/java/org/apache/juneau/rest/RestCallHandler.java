@@ -101,7 +101,8 @@ public class RestCallHandler {
 	protected void service(HttpServletRequest r1, HttpServletResponse r2) throws ServletException, IOException {
 
 		logger.log(FINE, "HTTP: {0} {1}", r1.getMethod(), r1.getRequestURI());
-		long startTime = System.currentTimeMillis();
+		long startTime = System.currentTimeMillis(), startNanos = System.nanoTime();
+		RestRequest req = null;
 
 		try {
 			context.checkForInitException();
@@ -133,7 +134,7 @@ public class RestCallHandler {
 
 			context.startCall(r1, r2);
 
-			RestRequest req = createRequest(r1);
+			req = createRequest(r1);
 			RestResponse res = createResponse(req, r2);
 			String method = req.getMethod();
 			String methodUC = method.toUpperCase(Locale.ENGLISH);
@@ -178,6 +179,9 @@ public class RestCallHandler {
 				handleResponse(req, res, output);
 			}
 
+			// If the response was buffered for caching, store it and send it now.
+			res.commitCapture();
+
 			// Make sure our writer in RestResponse gets written.
 			res.flushBuffer();
 
@@ -194,6 +198,8 @@ public class RestCallHandler {
 			handleError(r1, r2, e2);
 		}
 
+		context.getMetrics().record(req, startNanos, r2.getStatus());
+
 		context.finishCall(r1, r2);
 
 		logger.log(FINE, "HTTP: [{0} {1}] finished in {2}ms", r1.getMethod(), r1.getRequestURI(), System.currentTimeMillis()-startTime);
@@ -120,7 +120,7 @@ public class RestConfig implements ServletConfig {
 	Object logger = RestLogger.Normal.class;
 	Object callHandler = RestCallHandler.class;
 	Object infoProvider = RestInfoProvider.class;
-	Object allowHeaderParams, allowMethodParam, allowBodyParam, renderResponseStackTraces, useStackTraceHashes, defaultCharset, paramFormat;
+	Object allowHeaderParams, allowMethodParam, allowBodyParam, renderResponseStackTraces, useStackTraceHashes, parallelInit, defaultCharset, paramFormat;
 
 	Class<?> resourceClass;
 
@@ -242,6 +242,8 @@ public class RestConfig implements ServletConfig {
 					setRenderResponseStackTraces(Boolean.valueOf(vr.resolve(r.renderResponseStackTraces())));
 				if (! r.useStackTraceHashes().isEmpty())
 					setUseStackTraceHashes(Boolean.valueOf(vr.resolve(r.useStackTraceHashes())));
+				if (! r.parallelInit().isEmpty())
+					setParallelInit(Boolean.valueOf(vr.resolve(r.parallelInit())));
 				if (! r.defaultCharset().isEmpty())
 					setDefaultCharset(vr.resolve(r.defaultCharset()));
 				if (! r.paramFormat().isEmpty())
@@ -272,16 +274,7 @@ public class RestConfig implements ServletConfig {
 	 * Calls all @RestHook(INIT) methods on the specified resource object.
 	 */
 	void init(Object resource) throws ServletException {
-		Map<String,Method> map = new LinkedHashMap<>();
-		for (Method m : ClassUtils.getAllMethods(this.resourceClass, true)) {
-			if (m.isAnnotationPresent(RestHook.class) && m.getAnnotation(RestHook.class).value() == HookEvent.INIT) {
-				Visibility.setAccessible(m);
-				String sig = ClassUtils.getMethodSignature(m);
-				if (! map.containsKey(sig))
-					map.put(sig, m);
-			}
-		}
-		for (Method m : map.values()) {
+		for (Method m : RestResourceMeta.get(this.resourceClass).getHooks(HookEvent.INIT)) {
 			ClassUtils.assertArgsOfType(m, RestConfig.class, ServletConfig.class);
 			Class<?>[] argTypes = m.getParameterTypes();
 			Object[] args = new Object[argTypes.length];
@@ -628,6 +621,24 @@ public class RestConfig implements ServletConfig {
 		return this;
 	}
 
+	/**
+	 * Sets the minimum response size in bytes before encoders are applied.
+	 *
+	 * <p>
+	 * Responses that are smaller than this size are sent unencoded even if the client accepts an encoding such as
+	 * <code>gzip</code>, since compressing small payloads costs CPU time and often makes them larger.
+	 *
+	 * <p>
+	 * The default value is <code>0</code> (always encode).
+	 *
+	 * @param minCompressionSize The minimum response size in bytes.
+	 * @return This object (for method chaining).
+	 */
+	public RestConfig setMinCompressionSize(int minCompressionSize) {
+		this.encoders.minCompressionSize(minCompressionSize);
+		return this;
+	}
+
 	/**
 	 * Adds class-level converters to this resource.
 	 *
@@ -1122,6 +1133,20 @@ public class RestConfig implements ServletConfig {
 		return this;
 	}
 
+	/**
+	 * Sets the <code>parallelInit</code> setting on this resource.
+	 *
+	 * <p>
+	 * This is the programmatic equivalent to the {@link RestResource#parallelInit() RestResource.parallelInit()} annotation.
+	 *
+	 * @param value The new value for this setting.
+	 * @return This object (for method chaining).
+	 */
+	public RestConfig setParallelInit(boolean value) {
+		this.parallelInit = value;
+		return this;
+	}
+
 	/**
 	 * Sets the <code>defaultCharset</code> setting on this resource.
 	 *
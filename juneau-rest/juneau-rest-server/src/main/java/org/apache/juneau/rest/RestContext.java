@@ -23,9 +23,11 @@ import java.io.*;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.lang.reflect.Method;
+import java.net.*;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
+import java.util.logging.*;
 
 import javax.activation.*;
 import javax.servlet.*;
@@ -95,8 +97,10 @@ public final class RestContext extends Context {
 	private final RestGuard[] guards;
 	private final ResponseHandler[] responseHandlers;
 	private final MimetypesFileTypeMap mimetypesFileTypeMap;
-	private final Map<String,String> staticFilesMap;
-	private final String[] staticFilesPrefixes;
+	private final List<String> staticFilesSources;
+	private final VarResolver staticFilesResolver;
+	private volatile Map<String,String> staticFilesMap;
+	private volatile String[] staticFilesPrefixes;
 	private final MessageBundle msgs;
 	private final ConfigFile configFile;
 	private final VarResolver varResolver;
@@ -129,12 +133,26 @@ public final class RestContext extends Context {
 		endCallMethodParams,
 		destroyMethodParams;
 
-	// In-memory cache of images and stylesheets in the org.apache.juneau.rest.htdocs package.
-	private final Map<String,StreamResource> staticFilesCache = new ConcurrentHashMap<>();
+	// Bounded LRU cache of resolved static files (e.g. images and stylesheets in the htdocs package).
+	private static final int STATIC_FILES_CACHE_MAX_ENTRIES = 1000;
+	private static final long STATIC_FILES_CACHE_MAX_BYTES = 32 * 1024 * 1024;
+	private final LinkedHashMap<String,StaticFile> staticFilesCache = new LinkedHashMap<>(16, 0.75f, true);
+	private long staticFilesCacheBytes;
 
 	private final ResourceFinder resourceFinder;
+	private final RestMetrics metrics = new RestMetrics();
 	private final ConcurrentHashMap<Integer,AtomicInteger> stackTraceHashes = new ConcurrentHashMap<>();
 
+	// Static file mappings, cached Swagger documents and responses may contain values resolved from the config file.
+	// Removed from the config file when this context is destroyed.
+	private final ConfigFileListener configFileListener = new ConfigFileListener() {
+		@Override /* ConfigFileListener */
+		public void onChange(ConfigFile cf, Set<String> changes) {
+			reloadStaticFiles();
+			clearCaches();
+		}
+	};
+
 
 	/**
 	 * Constructor.
@@ -147,7 +165,7 @@ public final class RestContext extends Context {
 	 * @throws Exception If any initialization problems were encountered.
 	 */
 	@SuppressWarnings("unchecked")
-	public RestContext(Object resource, ServletContext servletContext, RestConfig config) throws Exception {
+	public RestContext(Object resource, final ServletContext servletContext, final RestConfig config) throws Exception {
 		super(null);
 		RestException _initException = null;
 		try {
@@ -185,6 +203,8 @@ public final class RestContext extends Context {
 			this.guards = b.guards.toArray(new RestGuard[b.guards.size()]);
 			this.responseHandlers = toObjectArray(b.responseHandlers, ResponseHandler.class);
 			this.mimetypesFileTypeMap = b.mimetypesFileTypeMap;
+			this.staticFilesSources = b.staticFilesSources;
+			this.staticFilesResolver = b.staticFilesResolver;
 			this.staticFilesMap = Collections.unmodifiableMap(b.staticFilesMap);
 			this.staticFilesPrefixes = b.staticFilesPrefixes;
 			this.msgs = b.messageBundle;
@@ -219,148 +239,110 @@ public final class RestContext extends Context {
 				_postInitChildFirstMethodParams = new ArrayList<>(),
 				_destroyMethodParams = new ArrayList<>();
 
-			for (java.lang.reflect.Method method : resource.getClass().getMethods()) {
-				if (method.isAnnotationPresent(RestMethod.class)) {
-					RestMethod a = method.getAnnotation(RestMethod.class);
-					methodsFound.add(method.getName() + "," + a.name() + "," + a.path());
-					try {
-						if (! Modifier.isPublic(method.getModifiers()))
-							throw new RestServletException("@RestMethod method {0}.{1} must be defined as public.", this.getClass().getName(), method.getName());
-
-						CallMethod sm = new CallMethod(resource, method, this);
-						String httpMethod = sm.getHttpMethod();
-
-						// PROXY is a special case where a method returns an interface that we
-						// can perform REST calls against.
-						// We override the CallMethod.invoke() method to insert our logic.
-						if ("PROXY".equals(httpMethod)) {
-
-							final ClassMeta<?> interfaceClass = beanContext.getClassMeta(method.getGenericReturnType());
-							final Map<String,Method> remoteableMethods = interfaceClass.getRemoteableMethods();
-							if (remoteableMethods.isEmpty())
-								throw new RestException(SC_INTERNAL_SERVER_ERROR, "Method {0} returns an interface {1} that doesn't define any remoteable methods.", getMethodSignature(method), interfaceClass.getReadableName());
-
-							sm = new CallMethod(resource, method, this) {
-
-								@Override
-								int invoke(String pathInfo, RestRequest req, RestResponse res) throws RestException {
-
-									int rc = super.invoke(pathInfo, req, res);
-									if (rc != SC_OK)
-										return rc;
-
-									final Object o = res.getOutput();
-
-									if ("GET".equals(req.getMethod())) {
-										res.setOutput(getMethodInfo(remoteableMethods.values()));
-										return SC_OK;
-
-									} else if ("POST".equals(req.getMethod())) {
-										if (pathInfo.indexOf('/') != -1)
-											pathInfo = pathInfo.substring(pathInfo.lastIndexOf('/')+1);
-										pathInfo = urlDecode(pathInfo);
-										java.lang.reflect.Method m = remoteableMethods.get(pathInfo);
-										if (m != null) {
-											try {
-												// Parse the args and invoke the method.
-												Parser p = req.getBody().getParser();
-												try (Closeable in = p.isReaderParser() ? req.getReader() : req.getInputStream()) {
-													Object output = m.invoke(o, p.parseArgs(in, m.getGenericParameterTypes()));
-													res.setOutput(output);
-												}
-												return SC_OK;
-											} catch (Exception e) {
-												throw new RestException(SC_INTERNAL_SERVER_ERROR, e);
+			RestResourceMeta rrm = RestResourceMeta.get(resource.getClass());
+			for (java.lang.reflect.Method method : rrm.restMethods) {
+				RestMethod a = method.getAnnotation(RestMethod.class);
+				methodsFound.add(method.getName() + "," + a.name() + "," + a.path());
+				try {
+					if (! Modifier.isPublic(method.getModifiers()))
+						throw new RestServletException("@RestMethod method {0}.{1} must be defined as public.", this.getClass().getName(), method.getName());
+
+					CallMethod sm = new CallMethod(resource, method, this);
+					String httpMethod = sm.getHttpMethod();
+
+					// PROXY is a special case where a method returns an interface that we
+					// can perform REST calls against.
+					// We override the CallMethod.invoke() method to insert our logic.
+					if ("PROXY".equals(httpMethod)) {
+
+						final ClassMeta<?> interfaceClass = beanContext.getClassMeta(method.getGenericReturnType());
+						final Map<String,Method> remoteableMethods = interfaceClass.getRemoteableMethods();
+						if (remoteableMethods.isEmpty())
+							throw new RestException(SC_INTERNAL_SERVER_ERROR, "Method {0} returns an interface {1} that doesn't define any remoteable methods.", getMethodSignature(method), interfaceClass.getReadableName());
+
+						sm = new CallMethod(resource, method, this) {
+
+							@Override
+							int invoke(String pathInfo, RestRequest req, RestResponse res) throws RestException {
+
+								int rc = super.invoke(pathInfo, req, res);
+								if (rc != SC_OK)
+									return rc;
+
+								final Object o = res.getOutput();
+
+								if ("GET".equals(req.getMethod())) {
+									res.setOutput(getMethodInfo(remoteableMethods.values()));
+									return SC_OK;
+
+								} else if ("POST".equals(req.getMethod())) {
+									if (pathInfo.indexOf('/') != -1)
+										pathInfo = pathInfo.substring(pathInfo.lastIndexOf('/')+1);
+									pathInfo = urlDecode(pathInfo);
+									java.lang.reflect.Method m = remoteableMethods.get(pathInfo);
+									if (m != null) {
+										try {
+											// Parse the args and invoke the method.
+											Parser p = req.getBody().getParser();
+											try (Closeable in = p.isReaderParser() ? req.getReader() : req.getInputStream()) {
+												Object output = m.invoke(o, p.parseArgs(in, m.getGenericParameterTypes()));
+												res.setOutput(output);
 											}
+											return SC_OK;
+										} catch (Exception e) {
+											throw new RestException(SC_INTERNAL_SERVER_ERROR, e);
 										}
 									}
-									return SC_NOT_FOUND;
 								}
-							};
+								return SC_NOT_FOUND;
+							}
+						};
 
-							_javaRestMethods.put(method.getName(), sm);
-							addToRouter(routers, "GET", sm);
-							addToRouter(routers, "POST", sm);
+						_javaRestMethods.put(method.getName(), sm);
+						addToRouter(routers, "GET", sm);
+						addToRouter(routers, "POST", sm);
 
-						} else {
-							_javaRestMethods.put(method.getName(), sm);
-							addToRouter(routers, httpMethod, sm);
-						}
-					} catch (RestServletException e) {
-						throw new RestServletException("Problem occurred trying to serialize methods on class {0}, methods={1}", this.getClass().getName(), JsonSerializer.DEFAULT_LAX.serialize(methodsFound)).initCause(e);
+					} else {
+						_javaRestMethods.put(method.getName(), sm);
+						addToRouter(routers, httpMethod, sm);
 					}
+				} catch (RestServletException e) {
+					throw new RestServletException("Problem occurred trying to serialize methods on class {0}, methods={1}", this.getClass().getName(), JsonSerializer.DEFAULT_LAX.serialize(methodsFound)).initCause(e);
 				}
 			}
 
-			for (Method m : ClassUtils.getAllMethods(resource.getClass(), true)) {
-				if (ClassUtils.isPublic(m) && m.isAnnotationPresent(RestHook.class)) {
-					HookEvent he = m.getAnnotation(RestHook.class).value();
-					String sig = ClassUtils.getMethodSignature(m);
-					switch(he) {
-						case PRE_CALL: {
-							if (! _preCallMethods.containsKey(sig)) {
-								Visibility.setAccessible(m);
-								_preCallMethods.put(sig, m);
-								_preCallMethodParams.add(findParams(m, false, null, true));
-							}
-							break;
-						}
-						case POST_CALL: {
-							if (! _postCallMethods.containsKey(sig)) {
-								Visibility.setAccessible(m);
-								_postCallMethods.put(sig, m);
-								_postCallMethodParams.add(findParams(m, false, null, true));
-							}
-							break;
-						}
-						case START_CALL: {
-							if (! _startCallMethods.containsKey(sig)) {
-								Visibility.setAccessible(m);
-								_startCallMethods.put(sig, m);
-								_startCallMethodParams.add(m.getParameterTypes());
-								ClassUtils.assertArgsOfType(m, HttpServletRequest.class, HttpServletResponse.class);
-							}
-							break;
-						}
-						case END_CALL: {
-							if (! _endCallMethods.containsKey(sig)) {
-								Visibility.setAccessible(m);
-								_endCallMethods.put(sig, m);
-								_endCallMethodParams.add(m.getParameterTypes());
-								ClassUtils.assertArgsOfType(m, HttpServletRequest.class, HttpServletResponse.class);
-							}
-							break;
-						}
-						case POST_INIT: {
-							if (! _postInitMethods.containsKey(sig)) {
-								Visibility.setAccessible(m);
-								_postInitMethods.put(sig, m);
-								_postInitMethodParams.add(m.getParameterTypes());
-								ClassUtils.assertArgsOfType(m, RestContext.class);
-							}
-							break;
-						}
-						case POST_INIT_CHILD_FIRST: {
-							if (! _postInitChildFirstMethods.containsKey(sig)) {
-								Visibility.setAccessible(m);
-								_postInitChildFirstMethods.put(sig, m);
-								_postInitChildFirstMethodParams.add(m.getParameterTypes());
-								ClassUtils.assertArgsOfType(m, RestContext.class);
-							}
-							break;
-						}
-						case DESTROY: {
-							if (! _destroyMethods.containsKey(sig)) {
-								Visibility.setAccessible(m);
-								_destroyMethods.put(sig, m);
-								_destroyMethodParams.add(m.getParameterTypes());
-								ClassUtils.assertArgsOfType(m, RestContext.class);
-							}
-							break;
-						}
-						default: // Ignore INIT
-					}
-				}
+			for (Method m : rrm.getHooks(HookEvent.PRE_CALL)) {
+				_preCallMethods.put(getMethodSignature(m), m);
+				_preCallMethodParams.add(findParams(m, false, null, true));
+			}
+			for (Method m : rrm.getHooks(HookEvent.POST_CALL)) {
+				_postCallMethods.put(getMethodSignature(m), m);
+				_postCallMethodParams.add(findParams(m, false, null, true));
+			}
+			for (Method m : rrm.getHooks(HookEvent.START_CALL)) {
+				_startCallMethods.put(getMethodSignature(m), m);
+				_startCallMethodParams.add(m.getParameterTypes());
+				ClassUtils.assertArgsOfType(m, HttpServletRequest.class, HttpServletResponse.class);
+			}
+			for (Method m : rrm.getHooks(HookEvent.END_CALL)) {
+				_endCallMethods.put(getMethodSignature(m), m);
+				_endCallMethodParams.add(m.getParameterTypes());
+				ClassUtils.assertArgsOfType(m, HttpServletRequest.class, HttpServletResponse.class);
+			}
+			for (Method m : rrm.getHooks(HookEvent.POST_INIT)) {
+				_postInitMethods.put(getMethodSignature(m), m);
+				_postInitMethodParams.add(m.getParameterTypes());
+				ClassUtils.assertArgsOfType(m, RestContext.class);
+			}
+			for (Method m : rrm.getHooks(HookEvent.POST_INIT_CHILD_FIRST)) {
+				_postInitChildFirstMethods.put(getMethodSignature(m), m);
+				_postInitChildFirstMethodParams.add(m.getParameterTypes());
+				ClassUtils.assertArgsOfType(m, RestContext.class);
+			}
+			for (Method m : rrm.getHooks(HookEvent.DESTROY)) {
+				_destroyMethods.put(getMethodSignature(m), m);
+				_destroyMethodParams.add(m.getParameterTypes());
+				ClassUtils.assertArgsOfType(m, RestContext.class);
 			}
 
 			this.callMethods = Collections.unmodifiableMap(_javaRestMethods);
@@ -386,47 +368,32 @@ public final class RestContext extends Context {
 
 			// Initialize our child resources.
 			resourceResolver = resolve(resource, RestResourceResolver.class, b.resourceResolver);
-			for (Object o : config.childResources) {
-				String path = null;
-				Object r = null;
-				if (o instanceof Pair) {
-					Pair<String,Object> p = (Pair<String,Object>)o;
-					path = p.first();
-					r = p.second();
-				} else if (o instanceof Class<?>) {
-					Class<?> c = (Class<?>)o;
-					// Don't allow specifying yourself as a child.  Causes an infinite loop.
-					if (c == config.resourceClass)
-						continue;
-					r = c;
-				} else {
-					r = o;
-				}
-
-				RestConfig childConfig = null;
-
-				if (o instanceof Class) {
-					Class<?> oc = (Class<?>)o;
-					childConfig = new RestConfig(config.inner, oc, this);
-					r = resourceResolver.resolve(oc, childConfig);
-				} else {
-					r = o;
-					childConfig = new RestConfig(config.inner, o.getClass(), this);
-				}
-
-				childConfig.init(r);
-				if (r instanceof RestServlet)
-					((RestServlet)r).innerInit(childConfig);
-				RestContext rc2 = new RestContext(r, servletContext, childConfig);
-				if (r instanceof RestServlet)
-					((RestServlet)r).setContext(rc2);
-				path = childConfig.path;
-				childResources.put(path, rc2);
+			List<Callable<Pair<String,RestContext>>> childInits = new ArrayList<>();
+			for (final Object o : config.childResources) {
+				// Don't allow specifying yourself as a child.  Causes an infinite loop.
+				if ((o instanceof Pair ? ((Pair<?,?>)o).second() : o) == config.resourceClass)
+					continue;
+				childInits.add(new Callable<Pair<String,RestContext>>() {
+					@Override /* Callable */
+					public Pair<String,RestContext> call() throws Exception {
+						return createChildContext(o, config, servletContext);
+					}
+				});
 			}
+			for (Pair<String,RestContext> p : invokeAll(childInits, b.parallelInit))
+				childResources.put(p.first(), p.second());
 
 			callHandler = config.callHandler == null ? new RestCallHandler(this) : resolve(resource, RestCallHandler.class, config.callHandler, this);
 			infoProvider = config.infoProvider == null ? new RestInfoProvider(this) : resolve(resource, RestInfoProvider.class, config.infoProvider, this);
 
+			if (configFile != null) {
+				try {
+					configFile.addListener(configFileListener);
+				} catch (UnsupportedOperationException e) {
+					// Read-only config files don't change.
+				}
+			}
+
 		} catch (RestException e) {
 			_initException = e;
 			throw e;
@@ -438,15 +405,139 @@ public final class RestContext extends Context {
 		}
 	}
 
+	/*
+	 * Resolves the static file mappings, which may contain variables such as config file values.
+	 */
+	@SuppressWarnings("unchecked")
+	static Map<String,String> resolveStaticFilesMap(List<String> sources, VarResolver vr) throws ParseException {
+		Map<String,String> m = new LinkedHashMap<>();
+		for (String s : sources)
+			m.putAll(JsonParser.DEFAULT.parse(vr.resolve(s), LinkedHashMap.class));
+		return m;
+	}
+
 	private static void addToRouter(Map<String, CallRouter.Builder> routers, String httpMethodName, CallMethod cm) throws RestServletException {
 		if (! routers.containsKey(httpMethodName))
 			routers.put(httpMethodName, new CallRouter.Builder(httpMethodName));
 		routers.get(httpMethodName).add(cm);
 	}
 
+	/*
+	 * Creates the context of a child resource.
+	 * Children added through RestConfig.addChildResource(String,Object) are Pairs of a path and a resource.
+	 * Returns the path of the child resource and its context.
+	 */
+	private Pair<String,RestContext> createChildContext(Object o, RestConfig config, ServletContext servletContext) throws Exception {
+		Object r;
+		RestConfig childConfig;
+		String path = null;
+		if (o instanceof Pair) {
+			Pair<?,?> p = (Pair<?,?>)o;
+			path = (String)p.first();
+			o = p.second();
+		}
+		if (o instanceof Class) {
+			Class<?> oc = (Class<?>)o;
+			childConfig = new RestConfig(config.inner, oc, this);
+			r = resourceResolver.resolve(oc, childConfig);
+		} else {
+			r = o;
+			childConfig = new RestConfig(config.inner, o.getClass(), this);
+		}
+
+		if (path != null)
+			childConfig.setPath(path);
+		childConfig.init(r);
+		if (r instanceof RestServlet)
+			((RestServlet)r).innerInit(childConfig);
+		RestContext rc2 = new RestContext(r, servletContext, childConfig);
+		if (r instanceof RestServlet)
+			((RestServlet)r).setContext(rc2);
+		return new Pair<String,RestContext>(childConfig.path, rc2);
+	}
+
+	private static volatile ExecutorService initPool;
+
+	/*
+	 * Returns the bounded pool used to initialize child resources in parallel.
+	 */
+	private static ExecutorService getInitPool() {
+		if (initPool == null) {
+			synchronized(RestContext.class) {
+				if (initPool == null) {
+					int n = Runtime.getRuntime().availableProcessors();
+					ThreadPoolExecutor tpe = new ThreadPoolExecutor(n, n, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+						new ThreadFactory() {
+							private final AtomicInteger count = new AtomicInteger();
+							@Override /* ThreadFactory */
+							public Thread newThread(Runnable r) {
+								Thread t = new Thread(r, "RestContext.init-" + count.incrementAndGet());
+								t.setDaemon(true);
+								return t;
+							}
+						}
+					);
+					tpe.allowCoreThreadTimeOut(true);
+					initPool = tpe;
+				}
+			}
+		}
+		return initPool;
+	}
+
+	/*
+	 * Runs the specified tasks and returns their results in order.
+	 *
+	 * When running in parallel, the calling thread also runs any tasks that haven't been picked up by the pool yet.
+	 * This keeps the pool from deadlocking when child resources initialize their own children in parallel.
+	 */
+	private static <T> List<T> invokeAll(List<Callable<T>> tasks, boolean parallel) throws Exception {
+		List<T> l = new ArrayList<>(tasks.size());
+		if (! parallel || tasks.size() < 2) {
+			for (Callable<T> c : tasks)
+				l.add(c.call());
+			return l;
+		}
+		final ClassLoader cl = Thread.currentThread().getContextClassLoader();
+		List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+		for (final Callable<T> c : tasks) {
+			FutureTask<T> f = new FutureTask<>(new Callable<T>() {
+				@Override /* Callable */
+				public T call() throws Exception {
+					Thread t = Thread.currentThread();
+					ClassLoader cl2 = t.getContextClassLoader();
+					t.setContextClassLoader(cl);
+					try {
+						return c.call();
+					} finally {
+						t.setContextClassLoader(cl2);
+					}
+				}
+			});
+			futures.add(f);
+			getInitPool().execute(f);
+		}
+		try {
+			for (FutureTask<T> f : futures) {
+				f.run();
+				l.add(f.get());
+			}
+		} catch (ExecutionException e) {
+			for (FutureTask<T> f : futures)
+				f.cancel(false);
+			Throwable t = e.getCause();
+			if (t instanceof Exception)
+				throw (Exception)t;
+			if (t instanceof Error)
+				throw (Error)t;
+			throw e;
+		}
+		return l;
+	}
+
 	private static final class Builder {
 
-		boolean allowHeaderParams, allowBodyParam, renderResponseStackTraces, useStackTraceHashes;
+		boolean allowHeaderParams, allowBodyParam, renderResponseStackTraces, useStackTraceHashes, parallelInit;
 		VarResolver varResolver;
 		ConfigFile configFile;
 		ObjectMap properties;
@@ -468,6 +559,8 @@ public final class RestContext extends Context {
 		List<RestGuard> guards = new ArrayList<>();
 		List<ResponseHandler> responseHandlers = new ArrayList<>();
 		MimetypesFileTypeMap mimetypesFileTypeMap;
+		List<String> staticFilesSources;
+		VarResolver staticFilesResolver;
 		Map<String,String> staticFilesMap;
 		String[] staticFilesPrefixes;
 		MessageBundle messageBundle;
@@ -489,6 +582,7 @@ public final class RestContext extends Context {
 			allowBodyParam = getBoolean(sc.allowBodyParam, "juneau.allowBodyParam", true);
 			renderResponseStackTraces = getBoolean(sc.renderResponseStackTraces, "juneau.renderResponseStackTraces", false);
 			useStackTraceHashes = getBoolean(sc.useStackTraceHashes, "juneau.useStackTraceHashes", true);
+			parallelInit = getBoolean(sc.parallelInit, "juneau.parallelInit", false);
 			defaultCharset = getString(sc.defaultCharset, "juneau.defaultCharset", "utf-8");
 			paramFormat = getString(sc.paramFormat, "juneau.paramFormat", "UON");
 			resourceResolver = sc.resourceResolver;
@@ -558,20 +652,21 @@ public final class RestContext extends Context {
 
 			mimetypesFileTypeMap = sc.mimeTypes;
 
-			VarResolver vr = sc.getVarResolverBuilder().build();
+			staticFilesResolver = sc.getVarResolverBuilder().build();
 
-			staticFilesMap = new LinkedHashMap<>();
+			staticFilesSources = new ArrayList<>();
 			if (sc.staticFiles != null) {
 				for (Object o : sc.staticFiles) {
 					if (o instanceof Pair) {
 						Pair<Class<?>,String> p = (Pair<Class<?>,String>)o;
 						// TODO - Currently doesn't take parent class location into account.
-						staticFilesMap.putAll(JsonParser.DEFAULT.parse(vr.resolve(p.second()), LinkedHashMap.class));
+						staticFilesSources.add(p.second());
 					} else {
 						throw new RuntimeException("TODO");
 					}
 				}
 			}
+			staticFilesMap = resolveStaticFilesMap(staticFilesSources, staticFilesResolver);
 			staticFilesPrefixes = staticFilesMap.keySet().toArray(new String[0]);
 
 			logger = sc.logger == null ? new RestLogger.NoOp() : resolve(resource, RestLogger.class, sc.logger);
@@ -728,36 +823,84 @@ public final class RestContext extends Context {
 	 * 	<li>{@link RestConfig#addStaticFiles(Class, String)} method.
 	 * </ul>
 	 *
+	 * <p>
+	 * Resolved files are kept in a bounded LRU cache.
+	 * Files residing on the file system are reloaded when they change.
+	 *
 	 * @param pathInfo The unencoded path info.
 	 * @return The resource, or <jk>null</jk> if the resource could not be resolved.
 	 * @throws IOException
 	 */
 	public StreamResource resolveStaticFile(String pathInfo) throws IOException {
-		if (! staticFilesCache.containsKey(pathInfo)) {
-			String p = urlDecode(trimSlashes(pathInfo));
-			if (p.indexOf("..") != -1)
-				throw new RestException(SC_NOT_FOUND, "Invalid path");
-			for (Map.Entry<String,String> e : staticFilesMap.entrySet()) {
-				String key = trimSlashes(e.getKey());
-				if (p.startsWith(key)) {
-					String remainder = (p.equals(key) ? "" : p.substring(key.length()));
-					if (remainder.isEmpty() || remainder.startsWith("/")) {
-						String p2 = trimSlashes(e.getValue()) + remainder;
-						try (InputStream is = getResource(p2, null)) {
-							if (is != null) {
-								int i = p2.lastIndexOf('/');
-								String name = (i == -1 ? p2 : p2.substring(i+1));
-								String mediaType = mimetypesFileTypeMap.getContentType(name);
-								ObjectMap headers = new ObjectMap().append("Cache-Control", "max-age=86400, public");
-								staticFilesCache.put(pathInfo, new StreamResource(MediaType.forString(mediaType), headers, is));
-								return staticFilesCache.get(pathInfo);
-							}
-						}
+		StaticFile sf;
+		synchronized(staticFilesCache) {
+			sf = staticFilesCache.get(pathInfo);
+		}
+		if (sf != null && ! sf.isStale())
+			return sf;
+
+		String p = urlDecode(trimSlashes(pathInfo));
+		if (p.indexOf("..") != -1)
+			throw new RestException(SC_NOT_FOUND, "Invalid path");
+		for (Map.Entry<String,String> e : staticFilesMap.entrySet()) {
+			String key = trimSlashes(e.getKey());
+			if (p.startsWith(key)) {
+				String remainder = (p.equals(key) ? "" : p.substring(key.length()));
+				if (remainder.isEmpty() || remainder.startsWith("/")) {
+					String p2 = trimSlashes(e.getValue()) + remainder;
+					URL url = resourceFinder.getResourceUrl(p2);
+					if (url != null) {
+						int i = p2.lastIndexOf('/');
+						String name = (i == -1 ? p2 : p2.substring(i+1));
+						String mediaType = mimetypesFileTypeMap.getContentType(name);
+						ObjectMap headers = new ObjectMap().append("Cache-Control", "max-age=86400, public");
+						sf = StaticFile.create(MediaType.forString(mediaType), headers, url);
+						cacheStaticFile(pathInfo, sf);
+						return sf;
 					}
 				}
 			}
 		}
-		return staticFilesCache.get(pathInfo);
+		return null;
+	}
+
+	/*
+	 * Re-resolves the static file mappings and discards the cached static files if the mappings have changed.
+	 * The existing mappings are kept if the new ones cannot be parsed.
+	 */
+	void reloadStaticFiles() {
+		Map<String,String> m;
+		try {
+			m = resolveStaticFilesMap(staticFilesSources, staticFilesResolver);
+		} catch (ParseException e) {
+			logger.log(Level.WARNING, e, "Could not reload static file mappings.  Keeping previous mappings.");
+			return;
+		}
+		if (m.equals(staticFilesMap))
+			return;
+		synchronized(staticFilesCache) {
+			staticFilesMap = Collections.unmodifiableMap(m);
+			staticFilesPrefixes = m.keySet().toArray(new String[0]);
+			staticFilesCache.clear();
+			staticFilesCacheBytes = 0;
+		}
+	}
+
+	/*
+	 * Adds a static file to the cache, evicting the least-recently-used entries if the cache limits are exceeded.
+	 */
+	private void cacheStaticFile(String pathInfo, StaticFile sf) {
+		synchronized(staticFilesCache) {
+			StaticFile old = staticFilesCache.put(pathInfo, sf);
+			if (old != null)
+				staticFilesCacheBytes -= old.getMemorySize();
+			staticFilesCacheBytes += sf.getMemorySize();
+			Iterator<StaticFile> i = staticFilesCache.values().iterator();
+			while (i.hasNext() && (staticFilesCache.size() > STATIC_FILES_CACHE_MAX_ENTRIES || staticFilesCacheBytes > STATIC_FILES_CACHE_MAX_BYTES)) {
+				staticFilesCacheBytes -= i.next().getMemorySize();
+				i.remove();
+			}
+		}
 	}
 
 	/**
@@ -1065,6 +1208,29 @@ public final class RestContext extends Context {
 		return Collections.unmodifiableMap(childResources);
 	}
 
+	/**
+	 * Returns the latency, throughput and error metrics for calls handled by this resource.
+	 *
+	 * @return The metrics for this resource.  Never <jk>null</jk>.
+	 */
+	public RestMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Clears the cached Swagger documents and the cached responses of all Java methods on this resource.
+	 *
+	 * <p>
+	 * Called automatically whenever the config file associated with this resource is modified.
+	 * Can also be called after changing any other state that affects the documentation or cached responses of this
+	 * resource.
+	 */
+	public void clearCaches() {
+		infoProvider.clearCache();
+		for (CallMethod cm : callMethods.values())
+			cm.clearResponseCache();
+	}
+
 	/**
 	 * Returns the number of times this exception was thrown based on a hash of its stacktrace.
 	 *
@@ -1144,6 +1310,16 @@ public final class RestContext extends Context {
 		return clientVersionHeader;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the <code>method</code> GET parameter can be used to override the method name in the
+	 * HTTP header for any method.
+	 *
+	 * @return <jk>true</jk> if this resource allows at least one method to be overridden.
+	 */
+	protected boolean isAllowMethodParams() {
+		return ! allowMethodParams.isEmpty();
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the specified <code>Method</code> GET parameter value can be used to override
 	 * the method name in the HTTP header.
@@ -1601,9 +1777,13 @@ public final class RestContext extends Context {
 	}
 
 	/**
-	 * Calls {@link Servlet#destroy()} on any child resources defined on this resource.
+	 * Calls {@link Servlet#destroy()} on any child resources defined on this resource, and stops listening for changes
+	 * to the config file.
 	 */
 	protected void destroy() {
+		if (configFile != null)
+			configFile.removeListener(configFileListener);
+
 		for (int i = 0; i < destroyMethods.length; i++) {
 			try {
 				postInitOrDestroy(resource, destroyMethods[i], destroyMethodParams[i]);
@@ -54,6 +54,7 @@ public class RestInfoProvider {
 		tags,
 		externalDocs;
 	private final ConcurrentHashMap<Locale,Swagger> swaggers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String,Swagger> swaggerCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor.
@@ -118,11 +119,77 @@ public class RestInfoProvider {
 	/**
 	 * Returns the localized swagger for this REST resource.
 	 *
+	 * <p>
+	 * Documents are built by {@link #createSwagger(RestRequest)} and cached using the key returned by
+	 * {@link #getSwaggerCacheKey(RestRequest)}.
+	 * Documents that resolved request-dependent variables (e.g. <js>"$R{Header.x}"</js>) while being built are not
+	 * cached (see {@link VarResolverSession#isRequestDependent()}).
+	 * The returned object may be shared between requests and must be treated as read-only.
+	 *
 	 * @param req The incoming HTTP request.
-	 * @return A new Swagger instance.
+	 * @return The Swagger instance.
 	 * @throws RestException
 	 */
 	protected Swagger getSwagger(RestRequest req) throws RestException {
+		String key = getSwaggerCacheKey(req);
+		if (key == null)
+			return createSwagger(req);
+		Swagger s = swaggerCache.get(key);
+		if (s == null) {
+			s = createSwagger(req);
+			if (req.getVarResolverSession().isRequestDependent())
+				return s;
+			Swagger s2 = swaggerCache.putIfAbsent(key, s);
+			if (s2 != null)
+				s = s2;
+		}
+		return s;
+	}
+
+	/**
+	 * Returns the key used for caching the Swagger document for the specified request.
+	 *
+	 * <p>
+	 * The default implementation returns a key consisting of the request locale and the set of Java methods that
+	 * pass their guards.
+	 * Documents that depend on other parts of the request through variables such as <js>"$R{...}"</js> are detected
+	 * while they're being built and are not cached.
+	 *
+	 * <p>
+	 * Subclasses that generate documents based on other parts of the request should override this method to include
+	 * them in the key, or return <jk>null</jk> to disable caching.
+	 *
+	 * @param req The incoming HTTP request.
+	 * @return The cache key, or <jk>null</jk> if the document should not be cached.
+	 */
+	protected String getSwaggerCacheKey(RestRequest req) {
+		StringBuilder sb = new StringBuilder().append(req.getLocale()).append('|');
+		java.lang.reflect.Method m = req.getJavaMethod();
+		for (CallMethod sm : context.getCallMethods().values())
+			sb.append(sm.isRequestAllowed(req) ? '1' : '0');
+		req.setJavaMethod(m);  // isRequestAllowed() changes the java method on the request.
+		return sb.toString();
+	}
+
+	/**
+	 * Clears all cached Swagger documents.
+	 *
+	 * <p>
+	 * Called by {@link RestContext#clearCaches()}.
+	 */
+	public void clearCache() {
+		swaggerCache.clear();
+		swaggers.clear();
+	}
+
+	/**
+	 * Creates the localized swagger for this REST resource.
+	 *
+	 * @param req The incoming HTTP request.
+	 * @return A new Swagger instance.
+	 * @throws RestException
+	 */
+	protected Swagger createSwagger(RestRequest req) throws RestException {
 		try {
 			// If a file is defined, use that.
 			Swagger s = req.getSwaggerFromFile();
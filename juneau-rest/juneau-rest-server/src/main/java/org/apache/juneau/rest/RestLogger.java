@@ -250,8 +250,11 @@ public abstract class RestLogger {
 
 		@Override /* RestLogger */
 		protected void log(Level level, Throwable cause, String msg, Object...args) {
+			Logger l = getLogger();
+			if (! l.isLoggable(level))
+				return;
 			msg = format(msg, args);
-			getLogger().log(level, msg, cause);
+			l.log(level, msg, cause);
 		}
 	}
 }
@@ -0,0 +1,136 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Aggregated latency, throughput and error metrics for a REST resource.
+ *
+ * <p>
+ * Every call handled by a resource is recorded in the {@link #getTotals() totals}, and calls matched to a Java
+ * method are also recorded in the per-method {@link CallMetrics} returned by {@link #getMethods()}.
+ * Calls that are routed to child resources are recorded only by the child resource.
+ *
+ * <p>
+ * Metrics are always collected.
+ * Recording a call consists of a handful of atomic counter increments, so the overhead is negligible compared to
+ * the cost of the call itself.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	RestMetrics m = req.getContext().getMetrics();
+ * 	<jk>long</jk> p99 = m.getTotals().getTotal().getPercentile(99);
+ * 	<jk>for</jk> (CallMetrics cm : m.getMethods().values())
+ * 		System.<jsf>out</jsf>.println(cm.getName() + <js>": "</js> + cm.getCalls());
+ * </p>
+ *
+ * <p>
+ * The <code>MetricsResource</code> class in the microservice module exposes these metrics over REST.
+ */
+public final class RestMetrics {
+
+	private final CallMetrics totals = new CallMetrics("*");
+	private final ConcurrentHashMap<String,CallMetrics> methods = new ConcurrentHashMap<>();
+
+	RestMetrics() {}
+
+	/**
+	 * Returns the metrics for the specified Java method, creating them if necessary.
+	 *
+	 * <p>
+	 * Java methods sharing the same HTTP method and path share the same metrics.
+	 *
+	 * @param httpMethod The HTTP method name.
+	 * @param path The path pattern.
+	 * @return The metrics for the method.
+	 */
+	CallMetrics forMethod(String httpMethod, String path) {
+		String name = httpMethod + ' ' + path;
+		CallMetrics m = methods.get(name);
+		if (m == null) {
+			methods.putIfAbsent(name, new CallMetrics(name));
+			m = methods.get(name);
+		}
+		return m;
+	}
+
+	/**
+	 * Records a completed call.
+	 *
+	 * @param req The HTTP request, or <jk>null</jk> if the call failed before the request was created.
+	 * @param start The value of {@link System#nanoTime()} when the call started.
+	 * @param status The HTTP response status.
+	 */
+	void record(RestRequest req, long start, int status) {
+		long end = System.nanoTime();
+		boolean error = status >= 400;
+		if (req == null || req.callMetrics == null) {
+			totals.record(start, 0, 0, 0, end, error);
+			return;
+		}
+		totals.record(start, req.routedTime, req.resolvedTime, req.invokedTime, end, error);
+		req.callMetrics.record(start, req.routedTime, req.resolvedTime, req.invokedTime, end, error);
+	}
+
+	/**
+	 * Returns the metrics for all calls handled by this resource.
+	 *
+	 * @return The metrics for all calls handled by this resource.
+	 */
+	public CallMetrics getTotals() {
+		return totals;
+	}
+
+	/**
+	 * Returns the metrics for each Java method on this resource.
+	 *
+	 * @return
+	 * 	An unmodifiable map of metrics sorted by name.
+	 * 	Keys are the HTTP method and path pattern (e.g. <js>"GET /foo/{bar}"</js>).
+	 */
+	public Map<String,CallMetrics> getMethods() {
+		return Collections.unmodifiableMap(new TreeMap<>(methods));
+	}
+
+	/**
+	 * Clears all metrics on this resource.
+	 */
+	public void reset() {
+		totals.reset();
+		for (CallMetrics m : methods.values())
+			m.reset();
+	}
+
+	/**
+	 * Returns a summary of these metrics.
+	 *
+	 * @return A map containing <js>"totals"</js> and <js>"methods"</js> entries suitable for serialization.
+	 */
+	public ObjectMap toMap() {
+		ObjectMap m = new ObjectMap();
+		for (CallMetrics cm : getMethods().values())
+			m.put(cm.getName(), cm.toMap());
+		return new ObjectMap()
+			.append("totals", totals.toMap())
+			.append("methods", m);
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return toMap().toString();
+	}
+}
@@ -96,6 +96,10 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	private Swagger swagger, fileSwagger;
 	private Map<String,Widget> widgets;
 
+	// Phase timings (System.nanoTime() values) recorded by CallMethod and consumed by RestMetrics.
+	CallMetrics callMetrics;
+	long routedTime, resolvedTime, invokedTime;
+
 	/**
 	 * Constructor.
 	 */
@@ -106,30 +110,24 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		try {
 			isPost = req.getMethod().equalsIgnoreCase("POST");
 
+			// Query parameters and headers are only retrieved from the servlet request when they're accessed.
 			// If this is a POST, we want to parse the query parameters ourselves to prevent
 			// the servlet code from processing the HTTP body as URL-Encoded parameters.
-			queryParams = new RequestQuery();
-			if (isPost)
-				context.getUrlEncodingParser().parseIntoSimpleMap(getQueryString(), queryParams);
-			else
-				queryParams.putAll(req.getParameterMap());
-
+			queryParams = new RequestQuery(req, isPost ? context.getUrlEncodingParser() : null);
 
 			// Get the HTTP method.
 			// Can be overridden through a "method" GET attribute.
 			String _method = super.getMethod();
 
-			String m = getQuery().getString("method");
-			if (context.allowMethodParam(m))
-				_method = m;
+			if (context.isAllowMethodParams()) {
+				String m = getQuery().getString("method");
+				if (context.allowMethodParam(m))
+					_method = m;
+			}
 
 			method = _method;
 
-			headers = new RequestHeaders();
-			for (Enumeration<String> e = getHeaderNames(); e.hasMoreElements();) {
-				String name = e.nextElement();
-				headers.put(name, super.getHeaders(name));
-			}
+			headers = new RequestHeaders(req);
 
 			body = new RequestBody(this);
 
@@ -193,7 +191,9 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		String stylesheet = getQuery().getString("stylesheet");
 		if (stylesheet != null)
 			getSession().setAttribute("stylesheet", stylesheet.replace(' ', '$'));  // Prevent SVL insertion.
-		stylesheet = (String)getSession().getAttribute("stylesheet");
+		// Don't create a session just to look for a stylesheet, or every response would set a cookie.
+		HttpSession session = getSession(false);
+		stylesheet = session == null ? null : (String)session.getAttribute("stylesheet");
 		if (stylesheet != null)
 			properties.put(HTMLDOC_stylesheet, new String[]{stylesheet});
 
@@ -1030,9 +1030,19 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		return cf;
 	}
 
+	/*
+	 * Returns true if any variable resolved during this request depends on the contents of the request.
+	 */
+	boolean isRequestDependent() {
+		return varSession != null && varSession.isRequestDependent();
+	}
+
 	/**
 	 * Returns the localized swagger associated with the servlet.
 	 *
+	 * <p>
+	 * The returned object may be shared with other requests and must be treated as read-only.
+	 *
 	 * @return
 	 * 	The swagger associated with the servlet.
 	 * 	Never <jk>null</jk>.
@@ -1124,4 +1134,4 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	void setJavaMethod(Method method) {
 		this.javaMethod = method;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
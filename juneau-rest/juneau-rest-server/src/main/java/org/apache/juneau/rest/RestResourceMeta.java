@@ -0,0 +1,101 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.internal.ClassUtils.*;
+
+import java.lang.reflect.*;
+import java.lang.reflect.Method;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * Reflection metadata of a REST resource class.
+ *
+ * <p>
+ * Holds the {@link RestMethod @RestMethod} and {@link RestHook @RestHook} methods found on a resource class so that
+ * the class hierarchy is only scanned the first time a resource class is initialized.
+ * Subsequent initializations of the same class in the same JVM (e.g. a resource used as a child of several
+ * resources, or a server restarted after a config change) reuse the cached metadata.
+ *
+ * <p>
+ * The metadata is attached to the resource class through a {@link ClassValue}, so it doesn't keep the class or its
+ * class loader from being unloaded when a web application is redeployed.
+ */
+final class RestResourceMeta {
+
+	private static final ClassValue<RestResourceMeta> CACHE = new ClassValue<RestResourceMeta>() {
+		@Override /* ClassValue */
+		protected RestResourceMeta computeValue(Class<?> c) {
+			return new RestResourceMeta(c);
+		}
+	};
+
+	/** The public methods annotated with {@link RestMethod @RestMethod}. */
+	final Method[] restMethods;
+
+	private final Map<HookEvent,Method[]> hooks = new EnumMap<>(HookEvent.class);
+
+	/**
+	 * Returns the metadata of the specified resource class.
+	 *
+	 * @param c The resource class.
+	 * @return The metadata of the resource class.  Never <jk>null</jk>.
+	 */
+	static RestResourceMeta get(Class<?> c) {
+		return CACHE.get(c);
+	}
+
+	private RestResourceMeta(Class<?> c) {
+		List<Method> l = new ArrayList<>();
+		for (Method m : c.getMethods())
+			if (m.isAnnotationPresent(RestMethod.class))
+				l.add(m);
+		this.restMethods = l.toArray(new Method[l.size()]);
+
+		// Methods are looked up parent-first and the first method with a given signature wins.
+		Map<HookEvent,Map<String,Method>> hm = new EnumMap<>(HookEvent.class);
+		for (Method m : getAllMethods(c, true)) {
+			RestHook rh = m.getAnnotation(RestHook.class);
+			if (rh == null)
+				continue;
+			HookEvent he = rh.value();
+			// INIT methods are the only hooks that don't need to be public.
+			if (he != HookEvent.INIT && ! isPublic(m))
+				continue;
+			Map<String,Method> mm = hm.get(he);
+			if (mm == null)
+				hm.put(he, mm = new LinkedHashMap<>());
+			String sig = getMethodSignature(m);
+			if (! mm.containsKey(sig)) {
+				Visibility.setAccessible(m);
+				mm.put(sig, m);
+			}
+		}
+		for (Map.Entry<HookEvent,Map<String,Method>> e : hm.entrySet())
+			hooks.put(e.getKey(), e.getValue().values().toArray(new Method[e.getValue().size()]));
+	}
+
+	/**
+	 * Returns the methods annotated with {@link RestHook @RestHook} for the specified event.
+	 *
+	 * @param he The hook event.
+	 * @return The hook methods in parent-first order.  Never <jk>null</jk>.
+	 */
+	Method[] getHooks(HookEvent he) {
+		Method[] m = hooks.get(he);
+		return m == null ? new Method[0] : m;
+	}
+}
@@ -64,6 +64,10 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	private ServletOutputStream os;
 	private PrintWriter w;
 	private HtmlDocBuilder htmlDocBuilder;
+	private ResponseCache cache;                 // The cache to store the response in (if caching is enabled).
+	private String cacheKey;
+	private ByteArrayOutputStream captured;      // Buffers the encoded response body while caching.
+	private Set<String> uncachedHeaders;         // Headers set before the method was invoked.
 
 	/**
 	 * Constructor.
@@ -277,6 +281,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	public ServletOutputStream getNegotiatedOutputStream() throws IOException {
 		if (os == null) {
 			Encoder encoder = null;
+			String encoding = null;
 
 			String ae = request.getHeader("Accept-Encoding");
 			if (! (ae == null || ae.isEmpty())) {
@@ -291,17 +296,24 @@ public final class RestResponse extends HttpServletResponseWrapper {
 					}
 				} else {
 					encoder = match.getEncoder();
-					String encoding = match.getEncoding().toString();
+					encoding = match.getEncoding().toString();
 
 					// Some clients don't recognize identity as an encoding, so don't set it.
-					if (! encoding.equals("identity"))
-						setHeader("content-encoding", encoding);
+					if (encoding.equals("identity"))
+						encoding = null;
 				}
 			}
 			os = getOutputStream();
 			if (encoder != null) {
-				@SuppressWarnings("resource")
-				final OutputStream os2 = encoder.getOutputStream(os);
+				final OutputStream os2;
+				int minSize = encoders.getMinCompressionSize();
+				if (encoding != null && minSize > 0) {
+					os2 = new ThresholdOutputStream(os, encoder, encoding, minSize);
+				} else {
+					if (encoding != null)
+						setHeader("content-encoding", encoding);
+					os2 = encoder.getOutputStream(os);
+				}
 				os = new ServletOutputStream(){
 					@Override /* OutputStream */
 					public final void write(byte[] b, int off, int len) throws IOException {
@@ -336,7 +348,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	@Override /* ServletResponse */
 	public ServletOutputStream getOutputStream() throws IOException {
 		if (os == null)
-			os = super.getOutputStream();
+			os = (captured == null ? super.getOutputStream() : new CaptureOutputStream(captured));
 		return os;
 	}
 
@@ -453,6 +465,135 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	}
 
 
+	/*
+	 * Called from CallMethod on a cache miss.
+	 * Causes the response body to be buffered so that it can be stored in the specified cache.
+	 */
+	final void startCapture(ResponseCache cache, String cacheKey) {
+		if (os != null || w != null)
+			return;
+		this.cache = cache;
+		this.cacheKey = cacheKey;
+		this.captured = new ByteArrayOutputStream();
+		this.uncachedHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		uncachedHeaders.addAll(getHeaderNames());
+		uncachedHeaders.addAll(Arrays.asList("Content-Type", "Content-Length", "ETag", "Last-Modified"));
+	}
+
+	/*
+	 * Called from RestCallHandler after the response has been serialized.
+	 * If the response body was being buffered, stores it in the cache and writes it to the underlying stream.
+	 */
+	final void commitCapture() throws IOException {
+		if (captured == null)
+			return;
+		ByteArrayOutputStream baos = captured;
+		captured = null;
+
+		// Close the negotiated stream so that encoders write their trailers.
+		if (w != null)
+			w.close();
+		else if (os != null)
+			os.close();
+		w = null;
+		os = null;
+
+		// Don't cache responses that resolved variables from parts of the request that aren't in the key.
+		if (getStatus() != SC_OK || request.isRequestDependent()) {
+			baos.writeTo(getOutputStream());
+			return;
+		}
+
+		Map<String,String> headers = new LinkedHashMap<>();
+		for (String h : getHeaderNames())
+			if (! uncachedHeaders.contains(h))
+				headers.put(h, getHeader(h));
+
+		cache.put(cacheKey, getContentType(), headers, baos.toByteArray()).send(request, this);
+	}
+
+	/*
+	 * Buffers output until the encoder group's minimum compression size is reached.
+	 * If the output ends before then, it's sent unencoded.
+	 */
+	private final class ThresholdOutputStream extends OutputStream {
+		private final OutputStream raw;
+		private final Encoder encoder;
+		private final String encoding;
+		private final int threshold;
+		private ByteArrayOutputStream buffer;
+		private OutputStream out;
+
+		ThresholdOutputStream(OutputStream raw, Encoder encoder, String encoding, int threshold) {
+			this.raw = raw;
+			this.encoder = encoder;
+			this.encoding = encoding;
+			this.threshold = threshold;
+			this.buffer = new ByteArrayOutputStream(Math.min(threshold, 8192));
+		}
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (out != null) {
+				out.write(b, off, len);
+			} else {
+				buffer.write(b, off, len);
+				if (buffer.size() >= threshold)
+					startEncoding();
+			}
+		}
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte)b}, 0, 1);
+		}
+		@Override /* OutputStream */
+		public void flush() throws IOException {
+			if (out != null)
+				out.flush();
+		}
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			if (out == null) {
+				buffer.writeTo(raw);
+				buffer = null;
+				out = raw;
+			}
+			out.close();
+		}
+		private void startEncoding() throws IOException {
+			setHeader("content-encoding", encoding);
+			out = encoder.getOutputStream(raw);
+			buffer.writeTo(out);
+			buffer = null;
+		}
+	}
+
+	/*
+	 * Buffers output in memory while response caching is active.
+	 */
+	private static final class CaptureOutputStream extends ServletOutputStream {
+		private final ByteArrayOutputStream baos;
+
+		CaptureOutputStream(ByteArrayOutputStream baos) {
+			this.baos = baos;
+		}
+		@Override /* OutputStream */
+		public final void write(byte[] b, int off, int len) {
+			baos.write(b, off, len);
+		}
+		@Override /* OutputStream */
+		public final void write(int b) {
+			baos.write(b);
+		}
+		@Override /* ServletOutputStream */
+		public boolean isReady() {
+			return true;
+		}
+		@Override /* ServletOutputStream */
+		public void setWriteListener(WriteListener arg0) {
+			throw new NoSuchMethodError();
+		}
+	}
+
 	@Override /* ServletResponse */
 	public void flushBuffer() throws IOException {
 		if (w != null)
@@ -461,4 +602,4 @@ public final class RestResponse extends HttpServletResponseWrapper {
 			os.flush();
 		super.flushBuffer();
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -54,6 +54,11 @@ import org.apache.juneau.xml.*;
  * 		<td>{@link JsonSchemaSerializer}</td>
  * 	</tr>
  * 	<tr>
+ * 		<td class='code'>application/jsonl<br>application/x-ndjson</td>
+ * 		<td class='code'>application/jsonl</td>
+ * 		<td>{@link JsonLinesSerializer}</td>
+ * 	</tr>
+ * 	<tr>
  * 		<td class='code'>text/xml</td>
  * 		<td class='code'>text/xml</td>
  * 		<td>{@link XmlDocSerializer}</td>
@@ -107,6 +112,10 @@ import org.apache.juneau.xml.*;
  * 		<td>{@link JsonParser}</td>
  * 	</tr>
  * 	<tr>
+ * 		<td class='code'>application/jsonl<br>application/x-ndjson</td>
+ * 		<td>{@link JsonLinesParser}</td>
+ * 	</tr>
+ * 	<tr>
  * 		<td class='code'>text/xml<br>application/xml</td>
  * 		<td>{@link XmlParser}</td>
  * 	</tr>
@@ -166,6 +175,7 @@ import org.apache.juneau.xml.*;
 		JsonSerializer.class,
 		JsonSerializer.Simple.class,
 		JsonSchemaSerializer.class,
+		JsonLinesSerializer.class,
 		XmlDocSerializer.class,
 		XmlSchemaDocSerializer.class,
 		UonSerializer.class,
@@ -176,6 +186,7 @@ import org.apache.juneau.xml.*;
 	},
 	parsers={
 		JsonParser.class,
+		JsonLinesParser.class,
 		XmlParser.class,
 		HtmlParser.class,
 		UonParser.class,
@@ -221,7 +232,8 @@ public abstract class RestServletDefault extends RestServlet {
 			aside="NONE"
 		),
 		summary="Swagger documentation",
-		description="Auto-generated swagger documentation for this resource"
+		description="Auto-generated swagger documentation for this resource",
+		cacheTtl=3600
 	)
 	public Swagger getOptions(RestRequest req) {
 		return req.getSwagger();
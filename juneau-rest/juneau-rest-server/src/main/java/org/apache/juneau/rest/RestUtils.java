@@ -14,12 +14,14 @@ package org.apache.juneau.rest;
 
 import static org.apache.juneau.internal.StringUtils.*;
 
+import java.security.*;
 import java.util.*;
 import java.util.regex.*;
 
 import javax.servlet.http.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.http.*;
 import org.apache.juneau.utils.*;
 
 /**
@@ -169,6 +171,45 @@ public final class RestUtils {
 		return new String[]{name,val};
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the conditional headers on a request indicate the client already has the entity
+	 * identified by the specified validators.
+	 *
+	 * <p>
+	 * Per RFC 7232, <code>If-Modified-Since</code> is ignored if <code>If-None-Match</code> is present.
+	 *
+	 * @param h The request headers.
+	 * @param etag The unquoted entity tag of the entity.
+	 * @param lastModified The last-modified time of the entity in milliseconds.
+	 */
+	static boolean isNotModified(RequestHeaders h, String etag, long lastModified) {
+		IfNoneMatch inm = h.getIfNoneMatch();
+		if (inm != null) {
+			for (EntityValidator v : inm.asValidators())
+				if (v.isAny() || v.asString().equals(etag))
+					return true;
+			return false;
+		}
+		IfModifiedSince ims = h.getIfModifiedSince();
+		if (ims != null && ims.asDate() != null)
+			return lastModified <= ims.asDate().getTime();
+		return false;
+	}
+
+	/**
+	 * Computes a strong entity tag value (without quotes) from the specified entity contents.
+	 *
+	 * @param b The entity contents.
+	 * @return The hex-encoded MD5 digest of the contents.
+	 */
+	static String getEntityTag(byte[] b) {
+		try {
+			return toHex(MessageDigest.getInstance("MD5").digest(b));
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	/**
 	 * Parses key/value pairs separated by either : or =
 	 */
@@ -0,0 +1,271 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.response.*;
+
+/**
+ * A static file resolved through {@link RestResource#staticFiles() @RestResource.staticFiles()}.
+ *
+ * <p>
+ * Small files are held in memory along with a precompressed <code>gzip</code> variant for compressible media types.
+ * Large files residing on the file system are not held in memory and are streamed directly from disk using
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+ *
+ * <p>
+ * When handled by the {@link StreamableHandler} class, responses are sent with strong <code>ETag</code> and
+ * <code>Last-Modified</code> validators, conditional requests are answered with <code>304 Not Modified</code>, and
+ * single byte ranges specified through the <code>Range</code> header are supported.
+ */
+public final class StaticFile extends StreamResource {
+
+	/** Files larger than this many bytes residing on the file system are streamed from disk. */
+	static final int MAX_IN_MEMORY_SIZE = 1024 * 1024;
+
+	/** Files smaller than this many bytes are not compressed. */
+	static final int MIN_COMPRESS_SIZE = 256;
+
+	private static final String[] GZIP = {"gzip"};
+
+	private final File file;
+	private final byte[] content, gzipped;
+	private final long length, lastModified;
+	private final String etag, gzipEtag, lastModifiedString;
+
+	private StaticFile(MediaType mediaType, Map<String,Object> headers, byte[] content, File file, long length, long lastModified) throws IOException {
+		super(mediaType, headers, content);
+		this.file = file;
+		this.content = content;
+		this.length = length;
+		this.lastModified = lastModified / 1000 * 1000;
+		this.lastModifiedString = DateUtils.formatDate(new java.util.Date(this.lastModified));
+		if (content != null) {
+			this.etag = RestUtils.getEntityTag(content);
+			this.gzipped = isCompressible(mediaType, length) ? compress(content) : null;
+		} else {
+			this.etag = Long.toHexString(length) + '-' + Long.toHexString(this.lastModified);
+			this.gzipped = null;
+		}
+		this.gzipEtag = etag + "-gzip";
+	}
+
+	/**
+	 * Creates a static file from the resource at the specified location.
+	 *
+	 * @param mediaType The media type of the file.
+	 * @param headers The HTTP response headers to send with the file.
+	 * @param url The location of the file.
+	 * @return A new static file.
+	 * @throws IOException
+	 */
+	static StaticFile create(MediaType mediaType, Map<String,Object> headers, URL url) throws IOException {
+		if ("file".equals(url.getProtocol())) {
+			try {
+				File f = new File(url.toURI());
+				long length = f.length(), lastModified = f.lastModified();
+				if (length > MAX_IN_MEMORY_SIZE)
+					return new StaticFile(mediaType, headers, null, f, length, lastModified);
+				return new StaticFile(mediaType, headers, readBytes(f), f, length, lastModified);
+			} catch (URISyntaxException e) {
+				// Fall through and read it as a stream.
+			}
+		}
+		URLConnection c = url.openConnection();
+		long lastModified = c.getLastModified();
+		try (InputStream is = c.getInputStream()) {
+			byte[] b = readBytes(is, 1024);
+			return new StaticFile(mediaType, headers, b, null, b.length, lastModified == 0 ? System.currentTimeMillis() : lastModified);
+		}
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this file resides on the file system and has been modified since it was loaded.
+	 *
+	 * @return <jk>true</jk> if this file should be reloaded.
+	 */
+	boolean isStale() {
+		return file != null && (file.lastModified() / 1000 * 1000 != lastModified || file.length() != length);
+	}
+
+	/**
+	 * Returns the number of bytes of heap held by this file.
+	 *
+	 * @return The number of bytes of heap held by this file.
+	 */
+	long getMemorySize() {
+		return (content == null ? 0 : content.length) + (gzipped == null ? 0 : gzipped.length);
+	}
+
+	/**
+	 * Sends this file to the specified response.
+	 *
+	 * @param req The HTTP request.
+	 * @param res The HTTP response.
+	 * @throws IOException
+	 */
+	public void send(RestRequest req, RestResponse res) throws IOException {
+		String range = req.getHeader("Range");
+		boolean gzip = false;
+		if (gzipped != null && range == null) {
+			String ae = req.getHeader("Accept-Encoding");
+			gzip = ae != null && AcceptEncoding.forString(ae).findMatch(GZIP) == 0;
+		}
+
+		MediaType mediaType = getMediaType();
+		if (mediaType != null)
+			res.setContentType(mediaType.toString());
+		for (Map.Entry<String,String> h : getHeaders().entrySet())
+			res.setHeader(h.getKey(), h.getValue());
+		res.setHeader("ETag", '"' + (gzip ? gzipEtag : etag) + '"');
+		res.setHeader("Last-Modified", lastModifiedString);
+		res.setHeader("Accept-Ranges", "bytes");
+		if (gzipped != null)
+			res.setHeader("Vary", "Accept-Encoding");
+
+		if (RestUtils.isNotModified(req.getHeaders(), gzip ? gzipEtag : etag, lastModified)) {
+			res.setStatus(SC_NOT_MODIFIED);
+			return;
+		}
+
+		long start = 0, end = length - 1;
+		if (range != null && isIfRangeMatch(req.getHeader("If-Range"))) {
+			long[] r = parseRange(range, length);
+			if (r == null) {
+				res.setStatus(SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+				res.setHeader("Content-Range", "bytes */" + length);
+				return;
+			}
+			if (r.length == 2) {
+				start = r[0];
+				end = r[1];
+				res.setStatus(SC_PARTIAL_CONTENT);
+				res.setHeader("Content-Range", "bytes " + start + '-' + end + '/' + length);
+			}
+		}
+
+		try (OutputStream os = res.getOutputStream()) {
+			if (gzip) {
+				res.setHeader("Content-Encoding", "gzip");
+				res.setContentLength(gzipped.length);
+				os.write(gzipped);
+			} else {
+				long len = end - start + 1;
+				res.setHeader("Content-Length", String.valueOf(len));
+				write(os, start, len);
+			}
+		}
+	}
+
+	@Override /* Streamable */
+	public void streamTo(OutputStream os) throws IOException {
+		write(os, 0, length);
+	}
+
+	private void write(OutputStream os, long start, long len) throws IOException {
+		if (content != null) {
+			os.write(content, (int)start, (int)len);
+			return;
+		}
+		try (FileChannel fc = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			WritableByteChannel out = Channels.newChannel(os);
+			while (len > 0) {
+				long n = fc.transferTo(start, len, out);
+				if (n <= 0)
+					throw new EOFException("File truncated while being sent: " + file);
+				start += n;
+				len -= n;
+			}
+		}
+	}
+
+	/*
+	 * The range applies only if the If-Range header is absent or matches the current identity entity.
+	 */
+	private boolean isIfRangeMatch(String ifRange) {
+		if (ifRange == null)
+			return true;
+		ifRange = ifRange.trim();
+		if (ifRange.startsWith("\""))
+			return ifRange.equals('"' + etag + '"');
+		java.util.Date d = DateUtils.parseDate(ifRange);
+		return d != null && d.getTime() == lastModified;
+	}
+
+	/*
+	 * Parses a Range header value.
+	 * Returns an empty array if the header should be ignored (unsupported unit or multiple ranges),
+	 * null if the range is not satisfiable, or [start,end] inclusive offsets.
+	 */
+	static long[] parseRange(String range, long length) {
+		range = range.trim();
+		if (! range.startsWith("bytes=") || range.indexOf(',') != -1)
+			return new long[0];
+		String r = range.substring(6).trim();
+		int i = r.indexOf('-');
+		if (i == -1)
+			return new long[0];
+		try {
+			String s1 = r.substring(0, i).trim(), s2 = r.substring(i+1).trim();
+			long start, end;
+			if (s1.isEmpty()) {
+				long suffix = Long.parseLong(s2);
+				if (suffix <= 0)
+					return null;
+				start = Math.max(0, length - suffix);
+				end = length - 1;
+			} else {
+				start = Long.parseLong(s1);
+				if (start >= length)
+					return null;
+				end = s2.isEmpty() ? length - 1 : Math.min(Long.parseLong(s2), length - 1);
+				if (end < start)
+					return new long[0];
+			}
+			if (start > end)
+				return null;
+			return new long[]{start, end};
+		} catch (NumberFormatException e) {
+			return new long[0];
+		}
+	}
+
+	private static boolean isCompressible(MediaType mediaType, long length) {
+		if (mediaType == null || length < MIN_COMPRESS_SIZE)
+			return false;
+		String st = mediaType.getSubType();
+		return mediaType.getType().equals("text") || st.contains("json") || st.contains("xml")
+			|| st.contains("javascript") || st.contains("svg");
+	}
+
+	private static byte[] compress(byte[] b) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream(b.length/2);
+		try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+			gos.write(b);
+		}
+		// Only keep the compressed form if it's worth it.
+		return baos.size() < b.length * 9 / 10 ? baos.toByteArray() : null;
+	}
+}
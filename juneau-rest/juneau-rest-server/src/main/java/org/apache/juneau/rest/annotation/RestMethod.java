@@ -680,4 +680,65 @@ public @interface RestMethod {
 	 * </ul>
 	 */
 	String paramFormat() default "";
+
+	/**
+	 * Response cache time-to-live in seconds.
+	 *
+	 * <p>
+	 * When set to a positive value on a <js>"GET"</js> or <js>"OPTIONS"</js> method, the serialized and encoded
+	 * response body is cached and served to subsequent requests with the same URI, query string, and
+	 * <code>Accept</code>, <code>Accept-Encoding</code>, <code>Accept-Charset</code> and <code>Accept-Language</code>
+	 * headers without invoking the Java method.
+	 * On <js>"OPTIONS"</js> methods, responses are also keyed on the set of Java methods visible to the user through
+	 * {@link RestInfoProvider#getSwaggerCacheKey(RestRequest)}.
+	 *
+	 * <p>
+	 * Cached responses are sent with generated <code>ETag</code> and <code>Last-Modified</code> headers, and requests
+	 * containing matching <code>If-None-Match</code> or <code>If-Modified-Since</code> headers are answered with a
+	 * <code>304 Not Modified</code>.
+	 *
+	 * <p>
+	 * Guards and {@link RestHook @RestHook(POST_CALL)} methods are still evaluated before a cached response is sent.
+	 * Only responses with a <code>200</code> status are cached.
+	 * Cached responses are sent with a <code>Vary</code> header listing the request headers that are part of the key.
+	 * Requests containing <code>Authorization</code> or <code>Cookie</code> headers bypass the cache unless
+	 * {@link #cacheAuthenticated()} is enabled, and responses that resolved variables depending on other parts of the
+	 * request (e.g. <js>"$R{Header.x}"</js>) are not stored.
+	 * Cached responses are cleared when the config file of the resource is modified, or through
+	 * {@link RestContext#clearCaches()}.
+	 *
+	 * <h6 class='topic'>Example:</h6>
+	 * <p class='bcode'>
+	 * 	<jc>// Cache responses for 60 seconds.</jc>
+	 * 	<ja>@RestMethod</ja>(name=<jsf>GET</jsf>, path=<js>"/catalog"</js>, cacheTtl=60)
+	 * 	<jk>public</jk> Catalog getCatalog() {
+	 * 		...
+	 * 	}
+	 * </p>
+	 *
+	 * <ul>
+	 * 	<li>The default value <code>0</code> disables caching.
+	 * 	<li>Ignored on methods other than <js>"GET"</js> and <js>"OPTIONS"</js>.
+	 * </ul>
+	 */
+	int cacheTtl() default 0;
+
+	/**
+	 * Maximum number of cached responses.
+	 *
+	 * <p>
+	 * When the limit is reached, the least-recently-used response is evicted.
+	 * Only used when {@link #cacheTtl()} is enabled.
+	 */
+	int cacheMaxEntries() default 100;
+
+	/**
+	 * Allow responses to requests containing <code>Authorization</code> or <code>Cookie</code> headers to be cached.
+	 *
+	 * <p>
+	 * Those headers are not part of the cache key, so a response cached for one user is served to every other user.
+	 * Only enable this when the response does not depend on the identity of the caller.
+	 * Only used when {@link #cacheTtl()} is enabled.
+	 */
+	boolean cacheAuthenticated() default false;
 }
@@ -814,6 +814,26 @@ public @interface RestResource {
 	 */
 	String useStackTraceHashes() default "";
 
+	/**
+	 * Initialize child resources in parallel.
+	 *
+	 * <p>
+	 * When enabled, the child resources of this resource are initialized concurrently on a shared pool bounded by the
+	 * number of available processors, which reduces startup time of resources with many children.
+	 * Children are still added in the order they're defined, and {@link HookEvent#POST_INIT POST_INIT} hooks are still
+	 * called after all children have been initialized.
+	 *
+	 * <p>
+	 * Only enable this if the {@link HookEvent#INIT INIT} hooks of the child resources don't depend on each other.
+	 *
+	 * <ul>
+	 * 	<li>Boolean value.
+	 * 	<li>Defaults to system property <js>"juneau.parallelInit"</js>, or <js>"false"</js> if not specified.
+	 * 	<li>Can contain variables.
+	 * </ul>
+	 */
+	String parallelInit() default "";
+
 	/**
 	 * Default character encoding.
 	 *
@@ -14,9 +14,12 @@ package org.apache.juneau.rest.remoteable;
 
 import static javax.servlet.http.HttpServletResponse.*;
 import static org.apache.juneau.http.HttpMethodName.*;
+import static org.apache.juneau.internal.ClassUtils.*;
 
+import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.logging.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.dto.LinkString;
@@ -34,12 +37,19 @@ import org.apache.juneau.rest.annotation.*;
  * To implement a remoteable service, developers must simply subclass from this class and implement the
  * {@link #getServiceMap()} method that maps java interfaces to POJO instances.
  *
+ * <p>
+ * The service map is read once, on the first request, and cached together with the remoteable methods of each
+ * interface.
+ * Subclasses whose service map changes at runtime must call {@link #resetServiceMap()} after each change, or the
+ * changes won't be seen.
+ *
  * See <a class='doclink' href='package-summary.html#TOC'>org.apache.juneau.rest.remoteable</a> for details.
  */
 @SuppressWarnings("serial")
 public abstract class RemoteableServlet extends RestServletDefault {
 
-	private final Map<String,Class<?>> classNameMap = new ConcurrentHashMap<>();
+	// Dispatch table built from the service map on first use.
+	private volatile Map<String,ServiceMeta> services;
 
 	//--------------------------------------------------------------------------------
 	// Abstract methods
@@ -49,13 +59,44 @@ public abstract class RemoteableServlet extends RestServletDefault {
 	 * Returns the list of interfaces to their implementation objects.
 	 *
 	 * <p>
-	 * This class is called often and not cached, so any caching should occur in the subclass if necessary.
+	 * This method is called once on the first request, and the interfaces, service objects, and methods are cached
+	 * in a dispatch table used by all subsequent requests.
+	 * <br>Call {@link #resetServiceMap()} if the service map changes.
 	 *
 	 * @return The service map.
 	 * @throws Exception
 	 */
 	protected abstract Map<Class<?>,Object> getServiceMap() throws Exception;
 
+	/**
+	 * Returns the executor service used to run the calls of a batch request in parallel.
+	 *
+	 * <p>
+	 * The default implementation returns <jk>null</jk>, meaning calls in a batch are run sequentially in the order they
+	 * were made.
+	 *
+	 * @return The executor service, or <jk>null</jk> to run batched calls sequentially.
+	 */
+	protected ExecutorService getBatchExecutorService() {
+		return null;
+	}
+
+	/**
+	 * Returns the maximum number of calls allowed in a single batch request.
+	 *
+	 * @return The maximum number of calls allowed in a single batch request.
+	 */
+	protected int getMaxBatchSize() {
+		return 1000;
+	}
+
+	/**
+	 * Discards the cached dispatch table so that {@link #getServiceMap()} is called again on the next request.
+	 */
+	protected void resetServiceMap() {
+		services = null;
+	}
+
 	//--------------------------------------------------------------------------------
 	// REST methods
 	//--------------------------------------------------------------------------------
@@ -70,11 +111,9 @@ public abstract class RemoteableServlet extends RestServletDefault {
 	@RestMethod(name=GET, path="/")
 	public List<LinkString> getInterfaces(RestRequest req) throws Exception {
 		List<LinkString> l = new LinkedList<>();
-		boolean useAll = ! useOnlyAnnotated();
-		for (Class<?> c : getServiceMap().keySet()) {
-			if (useAll || getContext().getBeanContext().getClassMeta(c).isRemoteable())
-				l.add(new LinkString(c.getName(), "{0}/{1}", req.getRequestURI(), c.getName()));
-		}
+		for (ServiceMeta sm : getServices().values())
+			if (sm.exposed)
+				l.add(new LinkString(sm.name, "{0}/{1}", req.getRequestURI(), sm.name));
 		return l;
 	}
 
@@ -87,12 +126,17 @@ public abstract class RemoteableServlet extends RestServletDefault {
 	 */
 	@RestMethod(name=GET, path="/{javaInterface}")
 	public Collection<String> listMethods(@Path String javaInterface) throws Exception {
-		return getMethods(javaInterface).keySet();
+		return getServiceMeta(javaInterface).methodNames;
 	}
 
 	/**
 	 * [POST /{javaInterface}/{javaMethod}] - Invoke the specified service method.
 	 *
+	 * <p>
+	 * The arguments can be sent in any format supported by the parsers of this servlet.
+	 * Binary formats such as MessagePack (<code>octal/msgpack</code>) are parsed directly from the request input stream,
+	 * and the result is serialized in the format negotiated through the <code>Accept</code> header.
+	 *
 	 * @param req The HTTP request.
 	 * @param javaInterface The Java interface name.
 	 * @param javaMethod The Java method name or signature.
@@ -103,24 +147,110 @@ public abstract class RemoteableServlet extends RestServletDefault {
 	public Object invoke(RestRequest req, @Path String javaInterface, @Path String javaMethod) throws Exception {
 
 		// Find the parser.
-		ReaderParser p = req.getBody().getReaderParser();
-		if (p == null)
-			throw new RestException(SC_UNSUPPORTED_MEDIA_TYPE, "Could not find parser for media type ''{0}''", req.getHeaders().getContentType());
-		Class<?> c = getInterfaceClass(javaInterface);
+		Parser p = getParser(req);
 
-		// Find the service.
-		Object service = getServiceMap().get(c);
-		if (service == null)
-			throw new RestException(SC_NOT_FOUND, "Service not found");
-
-		// Find the method.
-		java.lang.reflect.Method m = getMethods(javaInterface).get(javaMethod);
-		if (m == null)
-			throw new RestException(SC_NOT_FOUND, "Method not found");
+		// Find the service and method.
+		ServiceMeta sm = getServiceMeta(javaInterface);
+		Object service = sm.getService();
+		MethodMeta mm = sm.getMethodMeta(javaMethod);
 
 		// Parse the args and invoke the method.
-		Object[] params = p.parseArgs(req.getReader(), m.getGenericParameterTypes());
-		return m.invoke(service, params);
+		Object[] params = p.parseArgs(p.isReaderParser() ? req.getReader() : req.getInputStream(), mm.getArgsMeta(p.getBeanContext()));
+		return mm.method.invoke(service, params);
+	}
+
+
+	/**
+	 * [POST /] - Invoke a batch of service methods in a single request.
+	 *
+	 * <p>
+	 * The request body is a list of calls of the form
+	 * <code>{'interface':<js>'javaInterface'</js>,'method':<js>'javaMethod'</js>,'args':[...]}</code>.
+	 * <br>The response body is a list containing the result of each call in the same order, either of the form
+	 * <code>{'result':...}</code> or <code>{'error':{'status':500,'exceptionName':<js>'...'</js>,'message':<js>'...'</js>}}</code>.
+	 *
+	 * <p>
+	 * A failure of one call does not affect the others.
+	 * Calls are run in parallel if {@link #getBatchExecutorService()} returns an executor service.
+	 *
+	 * @param req The HTTP request.
+	 * @return The results of the individual calls.
+	 * @throws Exception
+	 */
+	@RestMethod(name=POST, path="/")
+	public List<ObjectMap> invokeBatch(RestRequest req) throws Exception {
+
+		Parser p = getParser(req);
+
+		List<ObjectMap> calls = p.parse(p.isReaderParser() ? req.getReader() : req.getInputStream(), List.class, ObjectMap.class);
+		if (calls == null)
+			calls = Collections.emptyList();
+		if (calls.size() > getMaxBatchSize())
+			throw new RestException(SC_REQUEST_ENTITY_TOO_LARGE, "Batch contains {0} calls, but only {1} are allowed.", calls.size(), getMaxBatchSize());
+
+		List<ObjectMap> results = new ArrayList<>(calls.size());
+		ExecutorService es = getBatchExecutorService();
+
+		if (es == null || calls.size() < 2) {
+			for (ObjectMap call : calls)
+				results.add(invokeBatchCall(call));
+			return results;
+		}
+
+		List<Future<ObjectMap>> futures = new ArrayList<>(calls.size());
+		for (final ObjectMap call : calls) {
+			futures.add(es.submit(new Callable<ObjectMap>() {
+				@Override /* Callable */
+				public ObjectMap call() throws Exception {
+					return invokeBatchCall(call);
+				}
+			}));
+		}
+		for (Future<ObjectMap> f : futures)
+			results.add(f.get());
+		return results;
+	}
+
+	/*
+	 * Invokes a single call of a batch, converting any failure into an error result.
+	 * Each call gets its own bean session since calls may run in parallel and sessions aren't thread-safe.
+	 */
+	private ObjectMap invokeBatchCall(ObjectMap call) {
+		try {
+			String javaInterface = call.getString("interface"), javaMethod = call.getString("method");
+			if (javaInterface == null || javaMethod == null)
+				throw new RestException(SC_BAD_REQUEST, "Batch call is missing the 'interface' or 'method' entry.");
+			ServiceMeta sm = getServiceMeta(javaInterface);
+			Object service = sm.getService();
+
+			// Batched calls identify methods by signature, but the interface may expose them by name.
+			MethodMeta mm = sm.getMethodMeta(javaMethod);
+
+			ClassMeta<?>[] pt = mm.getArgsMeta(getContext().getBeanContext()).getArgs();
+			ObjectList args = call.getObjectList("args");
+			int argCount = args == null ? 0 : args.size();
+			if (argCount != pt.length)
+				throw new RestException(SC_BAD_REQUEST, "Method ''{0}'' expects {1} arguments, but {2} were specified.", javaMethod, pt.length, argCount);
+			Object[] params = new Object[pt.length];
+			BeanSession session = getContext().getBeanContext().createSession();
+			for (int i = 0; i < pt.length; i++)
+				params[i] = session.convertToType(args.get(i), pt[i]);
+
+			return new ObjectMap().append("result", mm.method.invoke(service, params));
+
+		} catch (Throwable t) {
+			if (t instanceof InvocationTargetException && t.getCause() != null)
+				t = t.getCause();
+			int status = t instanceof RestException ? ((RestException)t).getStatus() : SC_INTERNAL_SERVER_ERROR;
+			if (status >= 500)
+				log(Level.WARNING, t, "Batched call to ''{0}'' failed.", call.getString("method"));
+			return new ObjectMap().append("error",
+				new ObjectMap()
+					.append("status", status)
+					.append("exceptionName", t.getClass().getName())
+					.append("message", t.getMessage())
+			);
+		}
 	}
 
 
@@ -132,25 +262,115 @@ public abstract class RemoteableServlet extends RestServletDefault {
 		return getProperties().getBoolean(RemoteableServiceProperties.REMOTEABLE_includeOnlyRemotableMethods, false);
 	}
 
-	private Map<String,java.lang.reflect.Method> getMethods(String javaInterface) throws Exception {
-		Class<?> c = getInterfaceClass(javaInterface);
-		ClassMeta<?> cm = getContext().getBeanContext().getClassMeta(c);
-		return (useOnlyAnnotated() ? cm.getRemoteableMethods() : cm.getPublicMethods());
+	/*
+	 * Returns the parser for the request body, or throws a 415 if there isn't one.
+	 */
+	private static Parser getParser(RestRequest req) throws Exception {
+		Parser p = req.getBody().getParser();
+		if (p == null)
+			throw new RestException(SC_UNSUPPORTED_MEDIA_TYPE, "Could not find parser for media type ''{0}''", req.getHeaders().getContentType());
+		return p;
 	}
 
-	/**
-	 * Return the <code>Class</code> given it's name if it exists in the services map.
+	/*
+	 * Returns the dispatch table, building it from the service map on the first call.
 	 */
-	private Class<?> getInterfaceClass(String javaInterface) throws Exception {
-		Class<?> c = classNameMap.get(javaInterface);
-		if (c == null) {
-			for (Class<?> c2 : getServiceMap().keySet())
-				if (c2.getName().equals(javaInterface)) {
-					classNameMap.put(javaInterface, c2);
-					return c2;
+	private Map<String,ServiceMeta> getServices() throws Exception {
+		Map<String,ServiceMeta> m = services;
+		if (m == null) {
+			synchronized (this) {
+				m = services;
+				if (m == null) {
+					BeanContext bc = getContext().getBeanContext();
+					boolean useOnlyAnnotated = useOnlyAnnotated();
+					m = new LinkedHashMap<>();
+					for (Map.Entry<Class<?>,Object> e : getServiceMap().entrySet())
+						m.put(e.getKey().getName(), new ServiceMeta(bc, e.getKey(), e.getValue(), useOnlyAnnotated));
+					services = m = Collections.unmodifiableMap(m);
 				}
+			}
+		}
+		return m;
+	}
+
+	/*
+	 * Returns the entry for the specified interface name, or throws a 404 if it isn't in the services map.
+	 */
+	private ServiceMeta getServiceMeta(String javaInterface) throws Exception {
+		ServiceMeta sm = getServices().get(javaInterface);
+		if (sm == null)
 			throw new RestException(SC_NOT_FOUND, "Interface class not found");
+		return sm;
+	}
+
+	/*
+	 * An entry in the dispatch table.
+	 */
+	private static final class ServiceMeta {
+		final String name;
+		final boolean exposed;
+		final Collection<String> methodNames;
+
+		// Methods keyed by both their exposed names and their signatures.
+		private final Map<String,MethodMeta> methods = new HashMap<>();
+		private final Object service;
+
+		ServiceMeta(BeanContext bc, Class<?> c, Object service, boolean useOnlyAnnotated) {
+			ClassMeta<?> cm = bc.getClassMeta(c);
+			Map<String,java.lang.reflect.Method> mm = useOnlyAnnotated ? cm.getRemoteableMethods() : cm.getPublicMethods();
+			this.name = c.getName();
+			this.service = service;
+			this.exposed = ! useOnlyAnnotated || cm.isRemoteable();
+			this.methodNames = Collections.unmodifiableCollection(new ArrayList<>(mm.keySet()));
+			for (Map.Entry<String,java.lang.reflect.Method> e : mm.entrySet()) {
+				MethodMeta m = new MethodMeta(bc, e.getValue());
+				methods.put(e.getKey(), m);
+				if (! methods.containsKey(m.signature))
+					methods.put(m.signature, m);
+			}
+		}
+
+		Object getService() throws RestException {
+			if (service == null)
+				throw new RestException(SC_NOT_FOUND, "Service not found");
+			return service;
+		}
+
+		MethodMeta getMethodMeta(String javaMethod) throws RestException {
+			MethodMeta m = methods.get(javaMethod);
+			if (m == null)
+				throw new RestException(SC_NOT_FOUND, "Method not found");
+			return m;
+		}
+	}
+
+	/*
+	 * A method in the dispatch table with its precomputed argument types.
+	 */
+	private static final class MethodMeta {
+		final java.lang.reflect.Method method;
+		final String signature;
+		private final Type[] argTypes;
+
+		// Args class metas are specific to a bean context.  There's normally only the one shared by the servlet and
+		// its parsers.
+		private final ConcurrentHashMap<BeanContext,ClassMeta<Object[]>> argsMetas = new ConcurrentHashMap<>();
+
+		MethodMeta(BeanContext bc, java.lang.reflect.Method method) {
+			Visibility.setAccessible(method);
+			this.method = method;
+			this.signature = getMethodSignature(method);
+			this.argTypes = method.getGenericParameterTypes();
+			getArgsMeta(bc);
+		}
+
+		ClassMeta<Object[]> getArgsMeta(BeanContext bc) {
+			ClassMeta<Object[]> cm = argsMetas.get(bc);
+			if (cm == null) {
+				cm = bc.createSession().getArgsClassMeta(argTypes);
+				argsMetas.putIfAbsent(bc, cm);
+			}
+			return cm;
 		}
-		return c;
 	}
 }
@@ -31,6 +31,10 @@ public final class StreamableHandler implements ResponseHandler {
 	@Override /* ResponseHandler */
 	public boolean handle(RestRequest req, RestResponse res, Object output) throws IOException, RestException {
 		if (output instanceof Streamable) {
+			if (output instanceof StaticFile) {
+				((StaticFile)output).send(req, res);
+				return true;
+			}
 			if (output instanceof StreamResource) {
 				StreamResource r = (StreamResource)output;
 				MediaType mediaType = r.getMediaType();
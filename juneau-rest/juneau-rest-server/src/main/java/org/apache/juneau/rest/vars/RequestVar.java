@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.vars;
 
+import java.util.*;
+
 import javax.servlet.http.*;
 
 import org.apache.juneau.*;
@@ -47,6 +49,10 @@ import org.apache.juneau.svl.*;
  * 	<li><js>"Query.x"</js> = Value returned by {@link RestRequest#getQuery(String)}.
  * </ul>
  * <p>
+ * Values other than the servlet and method level values above (e.g. <js>"requestURI"</js> or <js>"Header.x"</js>)
+ * mark the session as {@link VarResolverSession#markRequestDependent() request-dependent}.
+ *
+ * <p>
  * This variable resolver requires that a {@link RestRequest} object be set as a context object on the resolver or a
  * session object on the resolver session.
  *
@@ -67,6 +73,11 @@ public class RequestVar extends DefaultingVar {
 	/** The name of this variable. */
 	public static final String NAME = "R";
 
+	private static final Set<String> REQUEST_INDEPENDENT = new HashSet<>(Arrays.asList(
+		"contextPath", "method", "methodDescription", "methodSummary", "servletDescription", "servletParentURI",
+		"servletPath", "servletTitle", "servletURI", "siteName"
+	));
+
 	/**
 	 * Constructor.
 	 */
@@ -88,6 +99,8 @@ public class RequestVar extends DefaultingVar {
 	public String resolve(VarResolverSession session, String key) {
 		RestRequest req = session.getSessionObject(RestRequest.class, SESSION_req);
 		if (key.length() > 0) {
+				if (! REQUEST_INDEPENDENT.contains(key))
+					session.markRequestDependent();
 				String k = key.toString();
 				int i = k.indexOf('.');
 				if (i != -1) {
@@ -49,4 +49,9 @@ public class UrlEncodeVar extends SimpleVar {
 	public String resolve(VarResolverSession session, String key) {
 		return urlEncode(key);
 	}
-}
\ No newline at end of file
+
+	@Override /* Var */
+	protected boolean isConstant() {
+		return true;
+	}
+}
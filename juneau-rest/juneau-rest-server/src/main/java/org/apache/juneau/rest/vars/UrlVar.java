@@ -36,6 +36,7 @@ import org.apache.juneau.svl.*;
  * <p>
  * Uses the URI resolver returned by {@link RestRequest#getUriResolver(UriResolution, UriRelativity)} with resolution
  * {@link UriResolution#ROOT_RELATIVE} and relativity {@link UriRelativity#RESOURCE}.
+ * <js>"request:/"</js> URIs mark the session as {@link VarResolverSession#markRequestDependent() request-dependent}.
  *
  * @see org.apache.juneau.svl
  */
@@ -56,6 +57,8 @@ public class UrlVar extends SimpleVar {
 	@Override /* Parameter */
 	public String resolve(VarResolverSession session, String key) {
 		RestRequest req = session.getSessionObject(RestRequest.class, SESSION_req);
+		if (key.startsWith("request:"))
+			session.markRequestDependent();
 		return req.getUriResolver().resolve(key);
 	}
 }
\ No newline at end of file